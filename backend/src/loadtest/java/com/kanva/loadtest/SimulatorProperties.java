@@ -0,0 +1,43 @@
+package com.kanva.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 시뮬레이터 공통 애플리케이션 설정
+ * - H2 인메모리 DB(PostgreSQL 모드) + 시뮬레이터 전용 JWT 설정
+ * - 각 시뮬레이터가 스텁 주소와 튜닝 값을 덧붙인 뒤 명령행 인자로 넘겨 환경 변수보다 우선 적용
+ */
+public final class SimulatorProperties {
+
+    // JwtTokenProvider가 base64로 디코딩 (256비트 이상)
+    public static final String JWT_SECRET = "a2FudmEtbG9hZC1zaW11bGF0b3Itc2VjcmV0LWtleS1ub3QtZm9yLXByb2R1Y3Rpb24tdXNl";
+
+    private SimulatorProperties() {
+    }
+
+    /**
+     * @param database H2 인메모리 DB 이름
+     */
+    public static Map<String, String> h2Application(String database) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.open-in-view", "false");
+        properties.put("jwt.secret", JWT_SECRET);
+        properties.put("jwt.access-token-expiration", "3600000");
+        properties.put("jwt.refresh-token-expiration", "1209600000");
+        properties.put("logging.level.com.kanva", "WARN");
+        return properties;
+    }
+
+    public static String[] toCommandLine(Map<String, String> properties) {
+        return properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,430 @@
+package com.kanva.loadtest.gemini;
+
+import com.kanva.KanvaApplication;
+import com.kanva.loadtest.SimulatorProperties;
+import com.kanva.domain.dailynote.DailyNote;
+import com.kanva.domain.dailynote.DailyNoteRepository;
+import com.kanva.domain.report.AIReportRepository;
+import com.kanva.domain.report.ReportPeriodType;
+import com.kanva.domain.report.ReportStatus;
+import com.kanva.domain.task.Task;
+import com.kanva.domain.task.TaskCategory;
+import com.kanva.domain.task.TaskStatus;
+import com.kanva.domain.user.User;
+import com.kanva.domain.user.UserRepository;
+import com.kanva.loadtest.slack.StubOptions;
+import com.kanva.service.AIReportService;
+import com.kanva.service.parsing.AIParsingService.ParsingContext;
+import com.kanva.service.parsing.GeminiAIParsingService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 파이프라인(리포트 생성, 노트 파싱) 종단 간 부하 시뮬레이터
+ * - 임베디드 Gemini API 스텁(지연 분포/에러 주입 설정 가능)을 띄우고 애플리케이션을 H2로 실행
+ * - 가상 사용자 N명에게 이번 주 노트와 Task를 적재한 뒤, 동시성 concurrency로
+ *   AIReportService.generateReport(완료될 때까지 상태 조회)와 GeminiAIParsingService.parsing을 섞어 호출
+ * - 스텁 기본 지연을 단계별로 올려가며(--latency-steps) 같은 부하를 반복해 Gemini가 느려질 때의 저하를 비교
+ * - 단계마다 처리량, 리포트/파싱 p50·p99, 결과 분포, gemini.calls 결과별 수, 커넥션 풀·bulkhead 최대 사용량 출력
+ *
+ * 실행: ./gradlew aiSimulation -PsimArgs="--users=200 --concurrency=32 --latency-steps=200,1000,3000,8000"
+ *
+ * 인자 (모두 선택)
+ * - --users / --reports / --parses: 사용자 수, 단계별 리포트 요청 수, 파싱 요청 수 (reports > users면 같은 사용자 중복 요청)
+ * - --concurrency: 동시 요청 수, --latency-steps: 단계별 스텁 기본 지연(ms, 쉼표 구분, 없으면 --latency-ms 한 단계)
+ * - --latency-ms / --jitter-ms / --slow-rate / --slow-ms / --error-rate / --error-status / --chunk-chars /
+ *   --chunk-delay-ms: 스텁 동작 (GeminiStubOptions)
+ * - --max-connections / --max-concurrent-calls / --call-timeout / --worker-threads / --queue-capacity:
+ *   gemini.* / report.* 설정
+ * - --max-wait-seconds: 단계별 대기 상한
+ *
+ * 단계마다 ai_token_usage에 기록된 호출 수를 Gemini 성공 호출 수와 함께 출력 (사용량 기록 누락 확인)
+ */
+public class AiPipelineLoadSimulator {
+
+    private static final String NOTE_CONTENT =
+            "내일 오후 2시 디자인 리뷰 미팅, 금요일까지 주간 보고서 작성해서 공유하기. 저녁에는 러닝 5km 완료!";
+    private static final long POLL_MILLIS = 50;
+    private static final long SAMPLE_MILLIS = 50;
+
+    private final ConfigurableApplicationContext context;
+    private final GeminiApiStubServer stub;
+    private final Clock clock;
+
+    private AiPipelineLoadSimulator(ConfigurableApplicationContext context, GeminiApiStubServer stub) {
+        this.context = context;
+        this.stub = stub;
+        this.clock = context.getBean(Clock.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = StubOptions.parseArgs(args);
+        int users = Integer.parseInt(arguments.getOrDefault("users", "200"));
+        int reports = Integer.parseInt(arguments.getOrDefault("reports", String.valueOf(users)));
+        int parses = Integer.parseInt(arguments.getOrDefault("parses", String.valueOf(users)));
+        int concurrency = Integer.parseInt(arguments.getOrDefault("concurrency", "32"));
+        Duration maxWait = Duration.ofSeconds(Long.parseLong(arguments.getOrDefault("max-wait-seconds", "600")));
+        GeminiStubOptions stubOptions = GeminiStubOptions.fromArgs(arguments);
+        List<Long> latencySteps = arguments.containsKey("latency-steps")
+                ? Arrays.stream(arguments.get("latency-steps").split(",")).map(String::trim).map(Long::parseLong).toList()
+                : List.of(stubOptions.latency().toMillis());
+
+        try (GeminiApiStubServer stub = new GeminiApiStubServer(0, stubOptions)) {
+            stub.start();
+
+            try (ConfigurableApplicationContext context = startApplication(stub, arguments)) {
+                AiPipelineLoadSimulator simulator = new AiPipelineLoadSimulator(context, stub);
+                List<SeededUser> seeded = simulator.seed(users);
+
+                List<PhaseResult> results = new ArrayList<>();
+                for (long latencyMillis : latencySteps) {
+                    stub.setOptions(stubOptions.withLatency(Duration.ofMillis(latencyMillis)));
+                    PhaseResult result = simulator.runPhase(seeded, reports, parses, concurrency, maxWait);
+                    result.print();
+                    results.add(result);
+                }
+                printSummary(users, concurrency, stubOptions, results);
+            }
+        }
+    }
+
+    /**
+     * 스텁을 바라보는 애플리케이션을 H2 인메모리 DB로 실행
+     * - 명령행 인자로 넘겨 환경 변수보다 우선 적용
+     */
+    private static ConfigurableApplicationContext startApplication(GeminiApiStubServer stub,
+                                                                   Map<String, String> arguments) {
+        Map<String, String> properties = SimulatorProperties.h2Application("kanva-ai-sim");
+        properties.put("gemini.enabled", "true");
+        properties.put("gemini.api-key", "stub");
+        properties.put("gemini.base-url", stub.getBaseUrl());
+        properties.put("gemini.max-connections", arguments.getOrDefault("max-connections", "20"));
+        properties.put("gemini.max-concurrent-calls", arguments.getOrDefault("max-concurrent-calls", "8"));
+        properties.put("gemini.call-timeout", arguments.getOrDefault("call-timeout", "120s"));
+        properties.put("report.worker-threads", arguments.getOrDefault("worker-threads", "4"));
+        properties.put("report.queue-capacity", arguments.getOrDefault("queue-capacity", "100"));
+
+        String[] commandLine = SimulatorProperties.toCommandLine(properties);
+
+        return new SpringApplicationBuilder(KanvaApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(commandLine);
+    }
+
+    /**
+     * 가상 사용자 적재: 이번 주 월~일 노트마다 Task 4개, 오늘 노트에는 파싱할 내용
+     */
+    private List<SeededUser> seed(int users) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        DailyNoteRepository dailyNoteRepository = context.getBean(DailyNoteRepository.class);
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        LocalDate today = LocalDate.now(clock);
+        LocalDate monday = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        TaskCategory[] categories = TaskCategory.values();
+
+        return transactionTemplate.execute(status -> {
+            List<SeededUser> seeded = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                User user = userRepository.save(User.builder()
+                        .email("ai-sim-" + i + "@kanva.local")
+                        .name("ai-sim-user-" + i)
+                        .build());
+
+                DailyNote todayNote = null;
+                for (int day = 0; day < 7; day++) {
+                    LocalDate date = monday.plusDays(day);
+                    DailyNote note = DailyNote.builder()
+                            .user(user)
+                            .date(date)
+                            .content(date.equals(today) ? NOTE_CONTENT : "메모 " + date)
+                            .build();
+                    for (int t = 0; t < 4; t++) {
+                        note.addTask(Task.builder()
+                                .title("Simulated task " + (t + 1))
+                                .position(t)
+                                .category(categories[(i + t) % categories.length])
+                                .status(date.isBefore(today) && t % 2 == 0 ? TaskStatus.COMPLETED : TaskStatus.PENDING)
+                                .build());
+                    }
+                    dailyNoteRepository.save(note);
+                    if (date.equals(today)) {
+                        todayNote = note;
+                    }
+                }
+
+                seeded.add(new SeededUser(user.getId(), ParsingContext.builder()
+                        .dailyNote(todayNote)
+                        .registeredTasks(List.copyOf(todayNote.getTasks()))
+                        .build()));
+            }
+            return seeded;
+        });
+    }
+
+    /**
+     * 한 단계 실행: 이전 단계 리포트를 지워 캐시 없이 같은 부하를 다시 보냄
+     */
+    private PhaseResult runPhase(List<SeededUser> users, int reports, int parses, int concurrency,
+                                 Duration maxWait) throws InterruptedException {
+        context.getBean(JdbcTemplate.class).update("DELETE FROM ai_reports");
+
+        AIReportService aiReportService = context.getBean(AIReportService.class);
+        AIReportRepository aiReportRepository = context.getBean(AIReportRepository.class);
+        GeminiAIParsingService parsingService = context.getBean(GeminiAIParsingService.class);
+        MeterRegistry appRegistry = context.getBean(MeterRegistry.class);
+
+        PhaseResult result = new PhaseResult(stub.getOptions());
+        Map<String, Double> geminiCallsBefore = geminiCallCounts(appRegistry);
+        long stubCallsBefore = stub.getCallCount();
+        long stubErrorsBefore = stub.getInjectedErrorCount();
+        long recordedCallsBefore = recordedUsageCalls();
+        long deadline = System.nanoTime() + maxWait.toNanos();
+
+        GaugeSampler sampler = new GaugeSampler(appRegistry);
+        Thread samplerThread = Thread.ofPlatform().name("ai-sim-sampler").daemon(true).start(sampler);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, concurrency));
+        long start = System.nanoTime();
+        for (int i = 0; i < Math.max(reports, parses); i++) {
+            if (i < reports) {
+                Long userId = users.get(i % users.size()).userId();
+                executor.execute(() -> result.time("report", () -> {
+                    Long reportId = aiReportService.generateReport(
+                            userId, ReportPeriodType.WEEKLY, null, null, "ENCOURAGING").getId();
+                    return awaitReport(aiReportRepository, reportId, deadline);
+                }));
+            }
+            if (i < parses) {
+                ParsingContext parsingContext = users.get(i % users.size()).parsingContext();
+                executor.execute(() -> result.time("parse", () -> {
+                    parsingService.parsing(parsingContext);
+                    return "success";
+                }));
+            }
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(Math.max(1, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            executor.shutdownNow();
+        }
+        result.elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        sampler.stop();
+        samplerThread.join();
+        result.maxPoolLeased = sampler.maxLeased;
+        result.maxPoolPending = sampler.maxPending;
+        result.maxInFlight = sampler.maxInFlight;
+
+        geminiCallCounts(appRegistry).forEach((outcome, count) ->
+                result.geminiCalls.put(outcome, Math.round(count - geminiCallsBefore.getOrDefault(outcome, 0.0))));
+        result.stubCalls = stub.getCallCount() - stubCallsBefore;
+        result.stubErrors = stub.getInjectedErrorCount() - stubErrorsBefore;
+        result.recordedCalls = recordedUsageCalls() - recordedCallsBefore;
+        return result;
+    }
+
+    // ai_token_usage에 누적된 호출 수 (모든 사용자/기능 합계)
+    private long recordedUsageCalls() {
+        Long calls = context.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT COALESCE(SUM(call_count), 0) FROM ai_token_usage", Long.class);
+        return calls != null ? calls : 0;
+    }
+
+    /**
+     * 리포트가 GENERATING을 벗어날 때까지 조회 (클라이언트가 상세 조회로 기다리는 것과 같음)
+     */
+    private static String awaitReport(AIReportRepository repository, Long reportId, long deadline)
+            throws InterruptedException {
+        while (System.nanoTime() < deadline) {
+            ReportStatus status = repository.findStatusById(reportId).orElse(ReportStatus.FAILED);
+            if (status != ReportStatus.GENERATING) {
+                return status.name().toLowerCase();
+            }
+            Thread.sleep(POLL_MILLIS);
+        }
+        return "timeout";
+    }
+
+    private static Map<String, Double> geminiCallCounts(MeterRegistry registry) {
+        Map<String, Double> counts = new TreeMap<>();
+        for (Timer timer : registry.find("gemini.calls").timers()) {
+            counts.merge(timer.getId().getTag("outcome"), (double) timer.count(), Double::sum);
+        }
+        return counts;
+    }
+
+    private static void printSummary(int users, int concurrency, GeminiStubOptions stubOptions,
+                                     List<PhaseResult> results) {
+        System.out.println();
+        System.out.println("=== AI pipeline load simulation summary ===");
+        System.out.printf("users=%d, concurrency=%d, stub=%s%n", users, concurrency, stubOptions);
+        System.out.printf("%10s %10s %12s %12s %12s %12s %8s %8s %8s%n",
+                "latency", "req/s", "report p50", "report p99", "parse p50", "parse p99",
+                "leased", "pending", "inFlight");
+        for (PhaseResult result : results) {
+            System.out.printf("%8d ms %10.1f %9.0f ms %9.0f ms %9.0f ms %9.0f ms %8d %8d %8d%n",
+                    result.options.latency().toMillis(), result.throughput(),
+                    result.percentile("report", 0.5), result.percentile("report", 0.99),
+                    result.percentile("parse", 0.5), result.percentile("parse", 0.99),
+                    result.maxPoolLeased, result.maxPoolPending, result.maxInFlight);
+        }
+    }
+
+    private record SeededUser(Long userId, ParsingContext parsingContext) {
+    }
+
+    @FunctionalInterface
+    private interface TimedCall {
+        String call() throws Exception;
+    }
+
+    /**
+     * 단계별 측정값 (요청 지연은 단계마다 새 레지스트리에 기록)
+     */
+    private static final class PhaseResult {
+
+        private final GeminiStubOptions options;
+        private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        private final Map<String, AtomicLong> outcomes = new ConcurrentHashMap<>();
+        private final Map<String, Long> geminiCalls = new TreeMap<>();
+        private Duration elapsed = Duration.ZERO;
+        private long stubCalls;
+        private long stubErrors;
+        private long recordedCalls;
+        private long maxPoolLeased;
+        private long maxPoolPending;
+        private long maxInFlight;
+
+        private PhaseResult(GeminiStubOptions options) {
+            this.options = options;
+        }
+
+        private void time(String kind, TimedCall call) {
+            long started = System.nanoTime();
+            String outcome;
+            try {
+                outcome = call.call();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                outcome = "interrupted";
+            } catch (Exception e) {
+                outcome = e.getClass().getSimpleName();
+            }
+            timer(kind).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            outcomes.computeIfAbsent(kind + "." + outcome, key -> new AtomicLong()).incrementAndGet();
+        }
+
+        private Timer timer(String kind) {
+            return Timer.builder("ai.sim." + kind)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(registry);
+        }
+
+        private double percentile(String kind, double percentile) {
+            for (ValueAtPercentile value : timer(kind).takeSnapshot().percentileValues()) {
+                if (value.percentile() == percentile) {
+                    return value.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            return 0;
+        }
+
+        private double throughput() {
+            long completed = timer("report").count() + timer("parse").count();
+            double seconds = elapsed.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? completed / seconds : 0.0;
+        }
+
+        private void print() {
+            Map<String, Long> outcomeCounts = new TreeMap<>();
+            outcomes.forEach((key, count) -> outcomeCounts.put(key, count.get()));
+
+            System.out.println();
+            System.out.printf("=== Phase: stub latency %d ms ===%n", options.latency().toMillis());
+            System.out.printf("elapsed: %.2f s, throughput: %.1f req/s%n", elapsed.toMillis() / 1000.0, throughput());
+            System.out.printf("outcomes: %s%n", outcomeCounts);
+            System.out.printf("gemini.calls: %s%n", geminiCalls);
+            System.out.printf("stub: calls=%d, injectedErrors=%d%n", stubCalls, stubErrors);
+            System.out.printf("ai_token_usage: recorded calls=%d%n", recordedCalls);
+            System.out.printf("max pool leased=%d, pending=%d, bulkhead in-flight=%d%n",
+                    maxPoolLeased, maxPoolPending, maxInFlight);
+            for (String kind : List.of("report", "parse")) {
+                HistogramSnapshot snapshot = timer(kind).takeSnapshot();
+                StringBuilder line = new StringBuilder(kind).append(": count=").append(snapshot.count());
+                for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                    line.append(String.format(", p%.0f=%.1f ms",
+                            percentile.percentile() * 100, percentile.value(TimeUnit.MILLISECONDS)));
+                }
+                line.append(String.format(", max=%.1f ms", snapshot.max(TimeUnit.MILLISECONDS)));
+                System.out.println(line);
+            }
+        }
+    }
+
+    /**
+     * 커넥션 풀, bulkhead 게이지를 주기적으로 읽어 최대값 기록
+     */
+    private static final class GaugeSampler implements Runnable {
+
+        private final MeterRegistry registry;
+        private volatile boolean running = true;
+        private long maxLeased;
+        private long maxPending;
+        private long maxInFlight;
+
+        private GaugeSampler(MeterRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                maxLeased = Math.max(maxLeased, read("gemini.pool.leased"));
+                maxPending = Math.max(maxPending, read("gemini.pool.pending"));
+                maxInFlight = Math.max(maxInFlight, read("gemini.bulkhead.in_flight"));
+                try {
+                    Thread.sleep(SAMPLE_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void stop() {
+            running = false;
+        }
+
+        private long read(String name) {
+            Gauge gauge = registry.find(name).gauge();
+            return gauge != null ? Math.round(gauge.value()) : 0;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.kanva.loadtest.gemini;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanva.loadtest.slack.StubOptions;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 Gemini API 스텁 (오프라인 테스트용)
+ * - POST /models/{model}:generateContent: 요청 responseSchema에 맞는 JSON을 한 번에 응답
+ *   (ARRAY면 노트 파싱 결과, 그 외는 리포트 분석 결과)
+ * - POST /models/{model}:streamGenerateContent?alt=sse: 같은 JSON을 chunkChars 글자씩 나눠 chunkDelay 간격으로 SSE 전송
+ * - 응답마다 usageMetadata 포함 (요청/응답 길이로 추정한 토큰 수)
+ * - POST /cachedContents, PATCH /cachedContents/{id}: 컨텍스트 캐시 생성/TTL 연장,
+ *   cachedContent를 지정한 요청은 캐시된 지시문 토큰을 cachedContentTokenCount로 응답
+ * - 지연 분포, 에러 주입은 GeminiStubOptions, 실행 중 setOptions로 변경 가능
+ * - GET /stub/stats: 메서드별 호출 수, 주입한 에러 수
+ *
+ * 실행: ./gradlew geminiStub -PstubArgs="--port=8090 --latency-ms=800 --jitter-ms=400 --error-rate=0.02"
+ * 애플리케이션 연결: gemini.enabled=true, gemini.api-key=stub, gemini.base-url=http://localhost:8090
+ */
+@Slf4j
+public class GeminiApiStubServer implements AutoCloseable {
+
+    private static final int DEFAULT_PORT = 8090;
+
+    private static final String REPORT_JSON = """
+            {"summary":"이번 주는 꾸준함이 돋보인 한 주였네요! 매일 조금씩이라도 할 일을 끝내면서 흐름을 잘 유지했어요. \
+            특히 주 초반에 중요한 항목을 먼저 처리한 점이 좋았습니다.",\
+            "insights":"• 월~수에 완료가 집중되는 패턴이 보여요\\n• 반복 항목은 빠짐없이 달성했어요\\n\
+            • 큰 작업은 하루에 몰아서 하다가 미완료로 남는 경우가 있어요",\
+            "recommendations":"• 큰 작업은 2~3일에 나눠 배치해보는 건 어때요?\\n\
+            • 에너지가 떨어지는 목금에는 가벼운 항목을 두면 좋겠어요\\n\
+            • 노트에 그날 컨디션을 한 줄씩 적어보세요"}""";
+
+    private static final String PARSE_JSON = """
+            [{"type":"WORK","title":"주간 보고서 작성","description":"금요일까지 팀장님께 공유",\
+            "dueDate":"2026-03-06","category":"WORK","status":"PENDING"},\
+            {"type":"SCHEDULE","title":"디자인 리뷰 미팅","startDateTime":"2026-03-04T14:00:00",\
+            "category":"WORK","status":"PENDING"},\
+            {"type":"WORK","title":"저녁 러닝 5km","category":"EXERCISE","status":"COMPLETED"}]""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private volatile GeminiStubOptions options;
+
+    private final Map<String, AtomicLong> calls = new ConcurrentHashMap<>();
+    private final Map<String, Integer> cachedContentTokens = new ConcurrentHashMap<>();
+    private final AtomicLong cachedContentIds = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    /**
+     * @param port 0이면 임의의 빈 포트
+     */
+    public GeminiApiStubServer(int port, GeminiStubOptions options) throws IOException {
+        this.options = options;
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+
+        server.createContext("/models/", this::handle);
+        server.createContext("/cachedContents", this::handleCachedContents);
+        server.createContext("/stub/stats", exchange -> respond(exchange, 200, stats()));
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> arguments = StubOptions.parseArgs(args);
+        GeminiApiStubServer stub = new GeminiApiStubServer(
+                Integer.parseInt(arguments.getOrDefault("port", String.valueOf(DEFAULT_PORT))),
+                GeminiStubOptions.fromArgs(arguments));
+        stub.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+        log.info("Gemini API stub listening on {} ({})", stub.getBaseUrl(), stub.options);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    /**
+     * gemini.base-url에 넣을 값
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public GeminiStubOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * 이후 요청부터 적용 (Gemini가 느려지는 상황 재현 등)
+     */
+    public void setOptions(GeminiStubOptions options) {
+        this.options = options;
+    }
+
+    public long getCallCount() {
+        return calls.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = path.substring(path.lastIndexOf(':') + 1);
+        calls.computeIfAbsent(method, key -> new AtomicLong()).incrementAndGet();
+        byte[] requestBody = exchange.getRequestBody().readAllBytes();
+
+        GeminiStubOptions current = options;
+        sleep(current.sampleLatencyMillis());
+        if (current.shouldFail()) {
+            injectedErrors.incrementAndGet();
+            respond(exchange, current.errorStatus(), error(current.errorStatus()));
+            return;
+        }
+
+        JsonNode request = readTree(requestBody);
+        String json = cannedJson(request);
+        int cachedTokens = cachedContentTokens.getOrDefault(request.path("cachedContent").asText(), 0);
+        int promptTokens = Math.max(1, requestBody.length / 4) + cachedTokens;
+        switch (method) {
+            case "generateContent" ->
+                    respond(exchange, 200, response(json, "STOP", usage(promptTokens, cachedTokens, json)));
+            case "streamGenerateContent" -> stream(exchange, json, promptTokens, cachedTokens, current);
+            default -> respond(exchange, 404, Map.of("error", Map.of("code", 404, "message", "Unknown method")));
+        }
+    }
+
+    /**
+     * 컨텍스트 캐시 생성 (POST /cachedContents), TTL 연장 (PATCH /cachedContents/{id})
+     * - 캐시된 지시문 토큰 수는 생성 요청 길이로 추정
+     */
+    private void handleCachedContents(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        calls.computeIfAbsent("cachedContents." + method, key -> new AtomicLong()).incrementAndGet();
+        byte[] requestBody = exchange.getRequestBody().readAllBytes();
+        Instant expireTime = Instant.now().plusSeconds(ttlSeconds(readTree(requestBody)));
+
+        if ("POST".equals(method)) {
+            String name = "cachedContents/stub-" + cachedContentIds.incrementAndGet();
+            cachedContentTokens.put(name, Math.max(1, requestBody.length / 4));
+            respond(exchange, 200, Map.of("name", name, "expireTime", expireTime.toString()));
+        } else if ("PATCH".equals(method)) {
+            String name = exchange.getRequestURI().getPath().substring(1);
+            if (!cachedContentTokens.containsKey(name)) {
+                respond(exchange, 404, Map.of("error", Map.of("code", 404, "message", "CachedContent not found")));
+                return;
+            }
+            respond(exchange, 200, Map.of("name", name, "expireTime", expireTime.toString()));
+        } else {
+            respond(exchange, 405, Map.of("error", Map.of("code", 405, "message", "Method not allowed")));
+        }
+    }
+
+    // "3600s" 형식, 없으면 1시간
+    private static long ttlSeconds(JsonNode request) {
+        String ttl = request.path("ttl").asText("");
+        try {
+            return ttl.endsWith("s") ? (long) Double.parseDouble(ttl.substring(0, ttl.length() - 1)) : 3600;
+        } catch (NumberFormatException e) {
+            return 3600;
+        }
+    }
+
+    private JsonNode readTree(byte[] requestBody) {
+        try {
+            return objectMapper.readTree(requestBody);
+        } catch (IOException e) {
+            return objectMapper.missingNode();
+        }
+    }
+
+    /**
+     * 요청 responseSchema에 맞는 응답 (ARRAY면 노트 파싱, 그 외는 리포트)
+     */
+    private static String cannedJson(JsonNode request) {
+        JsonNode schemaType = request.path("generationConfig").path("responseSchema").path("type");
+        return "ARRAY".equals(schemaType.asText()) ? PARSE_JSON : REPORT_JSON;
+    }
+
+    /**
+     * 응답 JSON을 조각내 SSE로 전송 (마지막 조각에 finishReason=STOP, usageMetadata)
+     */
+    private void stream(HttpExchange exchange, String json, int promptTokens, int cachedTokens,
+                        GeminiStubOptions current) throws IOException {
+        int chunkChars = Math.max(1, current.chunkChars());
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < json.length(); i += chunkChars) {
+            chunks.add(json.substring(i, Math.min(i + chunkChars, json.length())));
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < chunks.size(); i++) {
+                sleep(current.chunkDelay().toMillis());
+                boolean last = i == chunks.size() - 1;
+                Map<String, Object> chunk = last
+                        ? response(chunks.get(i), "STOP", usage(promptTokens, cachedTokens, json))
+                        : response(chunks.get(i), null, null);
+                String data = objectMapper.writeValueAsString(chunk);
+                out.write(("data: " + data + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        }
+    }
+
+    private Map<String, Object> response(String text, String finishReason, Map<String, Object> usage) {
+        Map<String, Object> candidate = new LinkedHashMap<>();
+        candidate.put("content", Map.of("role", "model", "parts", List.of(Map.of("text", text))));
+        candidate.put("index", 0);
+        if (finishReason != null) {
+            candidate.put("finishReason", finishReason);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("candidates", List.of(candidate));
+        if (usage != null) {
+            response.put("usageMetadata", usage);
+        }
+        return response;
+    }
+
+    // 토큰 수 추정: 요청은 4바이트당 1토큰 (캐시된 지시문 포함), 응답은 2글자당 1토큰
+    private static Map<String, Object> usage(int promptTokens, int cachedTokens, String text) {
+        int candidatesTokens = Math.max(1, text.length() / 2);
+        Map<String, Object> usage = new LinkedHashMap<>();
+        usage.put("promptTokenCount", promptTokens);
+        usage.put("candidatesTokenCount", candidatesTokens);
+        usage.put("totalTokenCount", promptTokens + candidatesTokens);
+        if (cachedTokens > 0) {
+            usage.put("cachedContentTokenCount", cachedTokens);
+        }
+        return usage;
+    }
+
+    private static Map<String, Object> error(int status) {
+        String reason = switch (status) {
+            case 429 -> "RESOURCE_EXHAUSTED";
+            case 503 -> "UNAVAILABLE";
+            case 504 -> "DEADLINE_EXCEEDED";
+            default -> "INTERNAL";
+        };
+        return Map.of("error", Map.of("code", status, "message", "Injected by stub", "status", reason));
+    }
+
+    private Map<String, Object> stats() {
+        Map<String, Long> callCounts = new HashMap<>();
+        calls.forEach((method, count) -> callCounts.put(method, count.get()));
+        return Map.of("calls", callCounts, "injectedErrors", injectedErrors.get());
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
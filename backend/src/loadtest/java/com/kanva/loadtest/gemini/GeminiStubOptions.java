@@ -0,0 +1,83 @@
+package com.kanva.loadtest.gemini;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Gemini API 스텁 동작 설정
+ *
+ * 응답 지연 = latency + (0 ~ latencyJitter 무작위) + (slowRate 확률로 slowLatency)
+ * - 스트리밍은 이 지연 뒤에 헤더를 보내고, 이후 조각마다 chunkDelay
+ *
+ * @param latency       모든 응답의 기본 지연 (첫 바이트까지)
+ * @param latencyJitter 0 ~ latencyJitter 사이 무작위 추가 지연
+ * @param slowRate      느린 응답 비율 (0.0 ~ 1.0, 꼬리 지연 재현)
+ * @param slowLatency   느린 응답에 더하는 지연
+ * @param errorRate     에러 응답을 주입할 비율 (0.0 ~ 1.0)
+ * @param errorStatus   주입할 HTTP 상태 (503 과부하, 429 할당량 초과, 500 등)
+ * @param chunkChars    스트리밍 조각 크기 (글자 수)
+ * @param chunkDelay    스트리밍 조각 간격
+ */
+public record GeminiStubOptions(
+        Duration latency,
+        Duration latencyJitter,
+        double slowRate,
+        Duration slowLatency,
+        double errorRate,
+        int errorStatus,
+        int chunkChars,
+        Duration chunkDelay
+) {
+
+    public static GeminiStubOptions defaults() {
+        return new GeminiStubOptions(Duration.ZERO, Duration.ZERO, 0.0, Duration.ZERO, 0.0, 503,
+                24, Duration.ofMillis(80));
+    }
+
+    /**
+     * --latency-ms=800 --jitter-ms=400 --slow-rate=0.05 --slow-ms=8000 --error-rate=0.02 --error-status=503
+     * --chunk-chars=24 --chunk-delay-ms=80
+     */
+    public static GeminiStubOptions fromArgs(Map<String, String> args) {
+        GeminiStubOptions defaults = defaults();
+        return new GeminiStubOptions(
+                Duration.ofMillis(Long.parseLong(args.getOrDefault("latency-ms", "0"))),
+                Duration.ofMillis(Long.parseLong(args.getOrDefault("jitter-ms", "0"))),
+                Double.parseDouble(args.getOrDefault("slow-rate", "0")),
+                Duration.ofMillis(Long.parseLong(args.getOrDefault("slow-ms", "0"))),
+                Double.parseDouble(args.getOrDefault("error-rate", "0")),
+                Integer.parseInt(args.getOrDefault("error-status", String.valueOf(defaults.errorStatus()))),
+                Integer.parseInt(args.getOrDefault("chunk-chars", String.valueOf(defaults.chunkChars()))),
+                Duration.ofMillis(Long.parseLong(args.getOrDefault("chunk-delay-ms",
+                        String.valueOf(defaults.chunkDelay().toMillis()))))
+        );
+    }
+
+    /**
+     * 기본 지연만 바꾼 설정 (단계별 부하 실행용)
+     */
+    public GeminiStubOptions withLatency(Duration newLatency) {
+        return new GeminiStubOptions(newLatency, latencyJitter, slowRate, slowLatency, errorRate, errorStatus,
+                chunkChars, chunkDelay);
+    }
+
+    /**
+     * 이번 응답의 첫 바이트 지연 (밀리초)
+     */
+    long sampleLatencyMillis() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long millis = latency.toMillis();
+        if (latencyJitter.toMillis() > 0) {
+            millis += random.nextLong(latencyJitter.toMillis() + 1);
+        }
+        if (slowRate > 0 && random.nextDouble() < slowRate) {
+            millis += slowLatency.toMillis();
+        }
+        return millis;
+    }
+
+    boolean shouldFail() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+}
@@ -0,0 +1,289 @@
+package com.kanva.loadtest.notification;
+
+import com.kanva.KanvaApplication;
+import com.kanva.loadtest.SimulatorProperties;
+import com.kanva.domain.dailynote.DailyNote;
+import com.kanva.domain.dailynote.DailyNoteRepository;
+import com.kanva.domain.notification.NotificationSlot;
+import com.kanva.domain.slack.SlackConnection;
+import com.kanva.domain.slack.SlackConnectionRepository;
+import com.kanva.domain.task.Task;
+import com.kanva.domain.user.User;
+import com.kanva.domain.user.UserRepository;
+import com.kanva.loadtest.slack.SlackApiStubServer;
+import com.kanva.loadtest.slack.StubOptions;
+import com.kanva.service.notification.NotificationService;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 파이프라인 종단 간 부하 시뮬레이터
+ * - 임베디드 Slack API 스텁(지연/에러/속도 제한 설정 가능)을 띄우고 애플리케이션을 H2로 실행
+ * - 가상 사용자 N명 + SlackConnection + 오늘 Task를 적재한 뒤 MORNING 슬롯을 outbox에 넣고 모두 처리될 때까지 구동
+ * - 처리량, 사용자별 발송 시간 / Slack 호출 시간 p50·p99, 슬롯 전체 처리 시간 출력
+ * - 모든 대상이 종료 상태(SENT/FAILED)에 도달하지 못하면 요약 출력 후 실패 (대기 상한 초과 = 측정값 무효)
+ *
+ * 실행: ./gradlew notificationSimulation -PsimArgs="--users=10000 --teams=20 --latency-ms=40 --rate-limit=50"
+ *
+ * 인자 (모두 선택)
+ * - --users / --tasks / --teams: 사용자 수, 사용자당 Task 수, 워크스페이스 수
+ * - --latency-ms / --jitter-ms / --error-rate / --error-code / --rate-limit / --retry-after: 스텁 동작 (StubOptions)
+ * - --max-concurrency / --team-rate / --batch-size / --async / --base-backoff: notification.* / slack.client.* 설정
+ * - --max-wait-seconds: 슬롯 처리 대기 상한
+ */
+public class NotificationLoadSimulator {
+
+    private static final int SEED_CHUNK = 500;
+
+    private final ConfigurableApplicationContext context;
+    private final Clock clock;
+
+    private NotificationLoadSimulator(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.clock = context.getBean(Clock.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = StubOptions.parseArgs(args);
+        int users = Integer.parseInt(arguments.getOrDefault("users", "5000"));
+        int tasksPerUser = Integer.parseInt(arguments.getOrDefault("tasks", "5"));
+        int teams = Integer.parseInt(arguments.getOrDefault("teams", "10"));
+        Duration maxWait = Duration.ofSeconds(Long.parseLong(arguments.getOrDefault("max-wait-seconds", "900")));
+        StubOptions stubOptions = StubOptions.fromArgs(arguments);
+
+        try (SlackApiStubServer stub = new SlackApiStubServer(0, stubOptions)) {
+            stub.start();
+
+            try (ConfigurableApplicationContext context = startApplication(stub, arguments)) {
+                NotificationLoadSimulator simulator = new NotificationLoadSimulator(context);
+
+                long seedStart = System.nanoTime();
+                List<Long> userIds = simulator.seed(users, tasksPerUser, teams);
+                Duration seedTime = Duration.ofNanos(System.nanoTime() - seedStart);
+
+                Duration slotTime = simulator.runMorningSlot(userIds, maxWait);
+                simulator.report(users, tasksPerUser, teams, stubOptions, stub, seedTime, slotTime);
+                simulator.assertAllTerminal(users);
+            }
+        }
+    }
+
+    /**
+     * 스텁을 바라보는 애플리케이션을 H2 인메모리 DB로 실행
+     * - 명령행 인자로 넘겨 환경 변수보다 우선 적용
+     * - outbox 주기 처리는 끄고 시뮬레이터가 직접 processOutbox 호출
+     */
+    private static ConfigurableApplicationContext startApplication(SlackApiStubServer stub, Map<String, String> arguments) {
+        Map<String, String> properties = SimulatorProperties.h2Application("kanva-sim");
+        properties.put("slack.client.methods-endpoint-url-prefix", stub.getMethodsEndpointUrlPrefix());
+        properties.put("slack.client.async-enabled", arguments.getOrDefault("async", "false"));
+        properties.put("notification.outbox-poll-delay", "1h");
+        properties.put("notification.max-concurrency", arguments.getOrDefault("max-concurrency", "32"));
+        properties.put("notification.team-rate-per-second", arguments.getOrDefault("team-rate", "10"));
+        properties.put("notification.batch-size", arguments.getOrDefault("batch-size", "500"));
+        properties.put("notification.outbox-base-backoff", arguments.getOrDefault("base-backoff", "5s"));
+        properties.put("notification.slot-deadline", "1h");
+
+        String[] commandLine = SimulatorProperties.toCommandLine(properties);
+
+        return new SpringApplicationBuilder(KanvaApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(context -> context.getBeanFactory()
+                        .registerSingleton("simulatorPercentileFilter", percentileFilter()))
+                .run(commandLine);
+    }
+
+    /**
+     * 알림 지표에 p50 / p99 계산 추가
+     */
+    private static MeterFilter percentileFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().startsWith("notification.")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentiles(0.5, 0.99)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    /**
+     * 가상 사용자 적재
+     * - 선호 시각을 지금과 12시간 떨어진 시각으로 두어 타이밍 휠이 적재하지 않도록 함 (시뮬레이터가 직접 outbox에 넣음)
+     *   자정을 넘겨도 어제/오늘/내일 발송분 모두 적재 구간(-slotDeadline ~ +loadAhead)에서 12시간 이상 떨어짐
+     */
+    private List<Long> seed(int users, int tasksPerUser, int teams) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        SlackConnectionRepository slackConnectionRepository = context.getBean(SlackConnectionRepository.class);
+        DailyNoteRepository dailyNoteRepository = context.getBean(DailyNoteRepository.class);
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        LocalDate today = LocalDate.now(clock);
+        LocalTime notificationTime = LocalTime.now(clock).plusHours(12).withSecond(0).withNano(0);
+        List<Long> userIds = new ArrayList<>(users);
+
+        for (int from = 0; from < users; from += SEED_CHUNK) {
+            int start = from;
+            int end = Math.min(from + SEED_CHUNK, users);
+
+            userIds.addAll(transactionTemplate.execute(status -> {
+                List<Long> ids = new ArrayList<>(end - start);
+                for (int i = start; i < end; i++) {
+                    User user = userRepository.save(User.builder()
+                            .email("sim-" + i + "@kanva.local")
+                            .name("sim-user-" + i)
+                            .build());
+
+                    int team = i % teams;
+                    slackConnectionRepository.save(SlackConnection.builder()
+                            .user(user)
+                            .slackUserId("U" + i)
+                            .teamId("T" + team)
+                            .teamName("sim-team-" + team)
+                            .botToken("xoxb-sim-" + team)
+                            .morningTime(notificationTime)
+                            .eveningTime(notificationTime)
+                            .build());
+
+                    DailyNote dailyNote = DailyNote.builder()
+                            .user(user)
+                            .date(today)
+                            .build();
+                    for (int t = 0; t < tasksPerUser; t++) {
+                        dailyNote.addTask(Task.builder()
+                                .title("Simulated task " + (t + 1))
+                                .position(t)
+                                .build());
+                    }
+                    dailyNoteRepository.save(dailyNote);
+
+                    ids.add(user.getId());
+                }
+                return ids;
+            }));
+        }
+
+        return userIds;
+    }
+
+    /**
+     * MORNING 슬롯 구동: 전원을 outbox에 넣고 재시도까지 모두 끝날 때까지 처리
+     *
+     * @return 적재부터 마지막 행 완료까지 걸린 시간
+     */
+    private Duration runMorningSlot(List<Long> userIds, Duration maxWait) throws InterruptedException {
+        NotificationService notificationService = context.getBean(NotificationService.class);
+        LocalDate today = LocalDate.now(clock);
+
+        long start = System.nanoTime();
+        long deadline = start + maxWait.toNanos();
+
+        Instant dueAt = clock.instant();
+        Map<Long, Instant> dueAtByUser = new LinkedHashMap<>();
+        userIds.forEach(userId -> dueAtByUser.put(userId, dueAt));
+        notificationService.enqueueNotifications(NotificationSlot.MORNING, today, dueAtByUser);
+        while (true) {
+            notificationService.processOutbox();
+            if (remainingRows() == 0 || System.nanoTime() > deadline) {
+                break;
+            }
+            // 재시도 예약(nextAttemptAt)이 돌아올 때까지 짧게 대기
+            Thread.sleep(100);
+        }
+
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private long remainingRows() {
+        Long count = context.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT COUNT(*) FROM notification_outbox WHERE status IN ('PENDING', 'PROCESSING')", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 모든 대상 행이 적재되어 종료 상태에 도달했는지 확인
+     */
+    private void assertAllTerminal(int users) {
+        Long terminal = context.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT COUNT(*) FROM notification_outbox WHERE status IN ('SENT', 'FAILED')", Long.class);
+        long reached = terminal != null ? terminal : 0;
+        if (reached != users) {
+            throw new IllegalStateException(String.format(
+                    "Only %d of %d targets reached a terminal state (%d still PENDING/PROCESSING); "
+                            + "the numbers above are not a valid measurement", reached, users, remainingRows()));
+        }
+        System.out.printf("all %d targets reached a terminal state%n", users);
+    }
+
+    private void report(int users, int tasksPerUser, int teams, StubOptions stubOptions, SlackApiStubServer stub,
+                        Duration seedTime, Duration slotTime) {
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        context.getBean(JdbcTemplate.class).query(
+                "SELECT status, COUNT(*) AS cnt FROM notification_outbox GROUP BY status ORDER BY status",
+                rs -> {
+                    statusCounts.put(rs.getString("status"), rs.getLong("cnt"));
+                });
+
+        long sent = statusCounts.getOrDefault("SENT", 0L);
+        double seconds = slotTime.toNanos() / 1_000_000_000.0;
+
+        System.out.println();
+        System.out.println("=== Notification load simulation ===");
+        System.out.printf("users=%d, tasks/user=%d, teams=%d%n", users, tasksPerUser, teams);
+        System.out.printf("stub: %s%n", stubOptions);
+        System.out.printf("seed time: %.1f s%n", seedTime.toMillis() / 1000.0);
+        System.out.printf("slot time: %.2f s%n", seconds);
+        System.out.printf("outbox: %s%n", statusCounts);
+        System.out.printf("throughput: %.1f sends/s%n", seconds > 0 ? sent / seconds : 0.0);
+        System.out.printf("stub: posted=%d, rateLimited=%d, injectedErrors=%d%n",
+                stub.getPostedCount(), stub.getRateLimitedCount(), stub.getInjectedErrorCount());
+
+        MeterRegistry registry = context.getBean(MeterRegistry.class);
+        printTimers(registry, "notification.send");
+        printTimers(registry, "notification.slack.call");
+        printTimers(registry, "notification.target.discovery");
+    }
+
+    private void printTimers(MeterRegistry registry, String name) {
+        for (Timer timer : registry.find(name).timers()) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            StringBuilder line = new StringBuilder()
+                    .append(name)
+                    .append(timer.getId().getTags())
+                    .append(": count=").append(snapshot.count());
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                line.append(String.format(", p%.0f=%.1f ms",
+                        percentile.percentile() * 100, percentile.value(TimeUnit.MILLISECONDS)));
+            }
+            line.append(String.format(", max=%.1f ms", snapshot.max(TimeUnit.MILLISECONDS)));
+            System.out.println(line);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.kanva.loadtest.report;
+
+import com.kanva.domain.dailynote.DailyNote;
+import com.kanva.domain.task.Task;
+import com.kanva.domain.task.TaskCategory;
+import com.kanva.domain.task.TaskStatus;
+import com.kanva.domain.task.TaskType;
+import com.kanva.domain.taskseries.TaskSeries;
+import com.kanva.service.report.ReportStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 월간 리포트 통계 계산 벤치마크
+ * - legacyMultiPass: 분석 서비스가 예전에 하던 방식 (항목마다 stream 재순회, 주차마다 전체 재스캔)
+ * - singlePass: ReportStatistics 한 번 순회 + 주차별 조회
+ *
+ * 실행: ./gradlew reportStatisticsBenchmark -PjmhArgs="-p taskCount=3000 -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportStatisticsBenchmark {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2026, 3, 1);
+    private static final int DAYS = 31;
+
+    @Param({"3000"})
+    private int taskCount;
+
+    private List<Task> tasks;
+    private List<Task> previousTasks;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        today = MONTH_START.plusDays(DAYS);
+        tasks = generate(MONTH_START, random);
+        previousTasks = generate(MONTH_START.minusMonths(1), random);
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        ReportStatistics statistics = ReportStatistics.ofTasks(tasks, today);
+        ReportStatistics previous = ReportStatistics.ofTasks(previousTasks, today);
+
+        blackhole.consume(statistics.trendAgainst(previous, null));
+        blackhole.consume(statistics.getPendingTasks() + statistics.getInProgressTasks() + statistics.getOverdueTasks());
+        for (ReportStatistics.WeekStatistics week : statistics.getWeeks()) {
+            blackhole.consume(week.completionRate());
+        }
+        for (Task task : tasks) {
+            blackhole.consume(statistics.isOverdue(task.getDueDate(), task.getStatus()));
+        }
+    }
+
+    @Benchmark
+    public void legacyMultiPass(Blackhole blackhole) {
+        int total = tasks.size();
+        int completed = countCompleted(tasks);
+        int rate = rate(completed, total);
+
+        // calculateTrend (현재 기간을 다시 집계)
+        int currentRate = rate(countCompleted(tasks), tasks.size());
+        int previousRate = rate(countCompleted(previousTasks), previousTasks.size());
+        blackhole.consume(currentRate - previousRate + rate);
+
+        blackhole.consume(tasks.stream().filter(t -> t.getStatus() == TaskStatus.PENDING).count());
+        blackhole.consume(tasks.stream().filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS).count());
+        blackhole.consume(tasks.stream().filter(this::isOverdue).count());
+
+        Map<LocalDate, List<Task>> tasksByDate = tasks.stream()
+                .collect(Collectors.groupingBy(t -> ReportStatistics.dateOf(t, today)));
+
+        // 주차마다 전체 목록 재스캔
+        LocalDate earliest = tasksByDate.keySet().stream().min(LocalDate::compareTo).orElse(today);
+        LocalDate latest = tasksByDate.keySet().stream().max(LocalDate::compareTo).orElse(today);
+        LocalDate weekStart = earliest;
+        while (!weekStart.isAfter(latest)) {
+            LocalDate weekEnd = weekStart.plusDays(6).isAfter(latest) ? latest : weekStart.plusDays(6);
+            LocalDate ws = weekStart;
+            LocalDate we = weekEnd;
+            List<Task> weekTasks = tasks.stream()
+                    .filter(t -> {
+                        LocalDate d = ReportStatistics.dateOf(t, today);
+                        return !d.isBefore(ws) && !d.isAfter(we);
+                    })
+                    .toList();
+            blackhole.consume(rate(countCompleted(weekTasks), weekTasks.size()));
+            weekStart = weekEnd.plusDays(1);
+        }
+
+        tasksByDate.keySet().stream().sorted().forEach(date -> {
+            for (Task task : tasksByDate.get(date)) {
+                blackhole.consume(isOverdue(task));
+            }
+        });
+    }
+
+    private List<Task> generate(LocalDate start, Random random) {
+        TaskCategory[] categories = TaskCategory.values();
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskSeries series = TaskSeries.builder().title("알고리즘 1문제").startDate(start).build();
+
+        List<DailyNote> notes = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            notes.add(DailyNote.builder().date(start.plusDays(day)).build());
+        }
+
+        List<Task> generated = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            DailyNote note = notes.get(random.nextInt(DAYS));
+            generated.add(Task.builder()
+                    .dailyNote(note)
+                    .series(i % 5 == 0 ? series : null)
+                    .title("할 일 " + i)
+                    .dueDate(i % 3 == 0 ? note.getDate().plusDays(random.nextInt(7)) : null)
+                    .status(statuses[random.nextInt(statuses.length)])
+                    .category(categories[random.nextInt(categories.length)])
+                    .type(i % 4 == 0 ? TaskType.SCHEDULE : TaskType.WORK)
+                    .build());
+        }
+        return generated;
+    }
+
+    private boolean isOverdue(Task task) {
+        return task.getDueDate() != null && today.isAfter(task.getDueDate())
+                && task.getStatus() != TaskStatus.COMPLETED;
+    }
+
+    private static int countCompleted(List<Task> tasks) {
+        return (int) tasks.stream().filter(t -> t.getStatus() == TaskStatus.COMPLETED).count();
+    }
+
+    private static int rate(int completed, int total) {
+        return total > 0 ? (int) Math.round((double) completed / total * 100) : 0;
+    }
+}
@@ -0,0 +1,327 @@
+package com.kanva.loadtest.slack;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 Slack Web API 스텁 (오프라인 테스트용)
+ * - conversations.open / chat.postMessage / chat.scheduleMessage / chat.deleteScheduledMessage 응답 흉내
+ * - auth.test 응답 (teamId 없이 만든 SDK 클라이언트가 TeamIdCache로 호출, 없으면 404로 호출마다 실패/지연)
+ * - 예약 메시지는 post_at이 지나면 게시된 것으로 보고 삭제 요청에 invalid_scheduled_message_id 응답
+ * - StubOptions로 응답 지연, 에러 코드 주입 비율, 토큰(워크스페이스)별 초당 요청 한도(초과 시 HTTP 429 + Retry-After) 설정
+ * - GET /stub/stats: 메서드별 호출 수, 예약/게시 현황, 주입한 에러/429 수
+ *
+ * 실행: ./gradlew slackStub -PstubArgs="--port=8089 --latency-ms=50 --error-rate=0.01 --rate-limit=50"
+ * 애플리케이션 연결: slack.client.methods-endpoint-url-prefix=http://localhost:8089/api/
+ */
+@Slf4j
+public class SlackApiStubServer implements AutoCloseable {
+
+    private static final int DEFAULT_PORT = 8089;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StubOptions options;
+    private final HttpServer server;
+    private final ScheduledExecutorService poster;
+
+    private final Map<String, ScheduledMessage> scheduledMessages = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> calls = new ConcurrentHashMap<>();
+    private final AtomicLong posted = new AtomicLong();
+    private final AtomicLong scheduledPosted = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+
+    // 토큰별 1초 고정 창 요청 수
+    private final Map<String, RateWindow> rateWindows = new ConcurrentHashMap<>();
+
+    public SlackApiStubServer(int port) throws IOException {
+        this(port, StubOptions.defaults());
+    }
+
+    /**
+     * @param port 0이면 임의의 빈 포트
+     */
+    public SlackApiStubServer(int port, StubOptions options) throws IOException {
+        this.options = options;
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.poster = Executors.newSingleThreadScheduledExecutor();
+
+        server.createContext("/api/auth.test",
+                exchange -> handle(exchange, params -> authTest(token(exchange, params))));
+        server.createContext("/api/conversations.open", exchange -> handle(exchange, this::conversationsOpen));
+        server.createContext("/api/chat.postMessage", exchange -> handle(exchange, this::chatPostMessage));
+        server.createContext("/api/chat.scheduleMessage", exchange -> handle(exchange, this::chatScheduleMessage));
+        server.createContext("/api/chat.deleteScheduledMessage",
+                exchange -> handle(exchange, this::chatDeleteScheduledMessage));
+        server.createContext("/stub/stats", exchange -> respond(exchange, 200, stats()));
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> arguments = StubOptions.parseArgs(args);
+        int port = Integer.parseInt(arguments.getOrDefault("port", String.valueOf(DEFAULT_PORT)));
+        StubOptions options = StubOptions.fromArgs(arguments);
+
+        SlackApiStubServer stub = new SlackApiStubServer(port, options);
+        stub.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+        log.info("Slack API stub listening on {} ({})", stub.getMethodsEndpointUrlPrefix(), options);
+    }
+
+    public void start() {
+        server.start();
+        // 게시 시각이 지난 예약 메시지를 게시 처리
+        poster.scheduleWithFixedDelay(this::postDueMessages, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void close() {
+        poster.shutdownNow();
+        server.stop(0);
+    }
+
+    /**
+     * slack.client.methods-endpoint-url-prefix에 넣을 값
+     */
+    public String getMethodsEndpointUrlPrefix() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/";
+    }
+
+    // 토큰(워크스페이스)마다 고정된 team_id
+    private Map<String, Object> authTest(String token) {
+        if (token.isBlank()) {
+            return error("not_authed");
+        }
+        String teamId = "T" + Integer.toHexString(token.hashCode()).toUpperCase();
+        return ok(Map.of("team_id", teamId, "team", "stub-" + teamId, "user_id", "UBOT" + teamId.substring(1),
+                "bot_id", "B" + teamId.substring(1)));
+    }
+
+    private Map<String, Object> conversationsOpen(Map<String, String> params) {
+        String users = params.get("users");
+        if (users == null || users.isBlank()) {
+            return error("users_not_found");
+        }
+        return ok(Map.of("channel", Map.of("id", dmChannelId(users))));
+    }
+
+    private Map<String, Object> chatPostMessage(Map<String, String> params) {
+        String channel = params.get("channel");
+        if (channel == null || channel.isBlank()) {
+            return error("channel_not_found");
+        }
+        posted.incrementAndGet();
+        return ok(Map.of("channel", channel, "ts", nextTs()));
+    }
+
+    private Map<String, Object> chatScheduleMessage(Map<String, String> params) {
+        String channel = params.get("channel");
+        if (channel == null || channel.isBlank()) {
+            return error("channel_not_found");
+        }
+
+        long postAt;
+        try {
+            postAt = Long.parseLong(params.getOrDefault("post_at", ""));
+        } catch (NumberFormatException e) {
+            return error("invalid_time");
+        }
+        if (postAt <= Instant.now().getEpochSecond()) {
+            return error("time_in_past");
+        }
+
+        String id = "Q" + sequence.incrementAndGet();
+        scheduledMessages.put(id, new ScheduledMessage(channel, postAt, params.get("text")));
+        return ok(Map.of("channel", channel, "scheduled_message_id", id, "post_at", postAt));
+    }
+
+    private Map<String, Object> chatDeleteScheduledMessage(Map<String, String> params) {
+        String id = params.get("scheduled_message_id");
+        if (id == null || scheduledMessages.remove(id) == null) {
+            return error("invalid_scheduled_message_id");
+        }
+        return ok(Map.of());
+    }
+
+    private void postDueMessages() {
+        long now = Instant.now().getEpochSecond();
+        scheduledMessages.entrySet().removeIf(entry -> {
+            if (entry.getValue().postAt() <= now) {
+                scheduledPosted.incrementAndGet();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private Map<String, Object> stats() {
+        Map<String, Long> callCounts = new HashMap<>();
+        calls.forEach((method, count) -> callCounts.put(method, count.get()));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("calls", callCounts);
+        stats.put("posted", posted.get());
+        stats.put("scheduledPending", scheduledMessages.size());
+        stats.put("scheduledPosted", scheduledPosted.get());
+        stats.put("injectedErrors", injectedErrors.get());
+        stats.put("rateLimited", rateLimited.get());
+        return stats;
+    }
+
+    public long getPostedCount() {
+        return posted.get();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimited.get();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    private void handle(HttpExchange exchange, SlackMethod method) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        calls.computeIfAbsent(path.substring(path.lastIndexOf('/') + 1), key -> new AtomicLong()).incrementAndGet();
+
+        Map<String, String> params = parseForm(new String(exchange.getRequestBody().readAllBytes(),
+                StandardCharsets.UTF_8));
+        if (exchange.getRequestURI().getRawQuery() != null) {
+            params.putAll(parseForm(exchange.getRequestURI().getRawQuery()));
+        }
+
+        simulateLatency();
+
+        if (isRateLimited(token(exchange, params))) {
+            rateLimited.incrementAndGet();
+            exchange.getResponseHeaders().set("Retry-After", String.valueOf(options.retryAfterSeconds()));
+            respond(exchange, HTTP_TOO_MANY_REQUESTS, error("ratelimited"));
+            return;
+        }
+
+        if (options.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < options.errorRate()) {
+            injectedErrors.incrementAndGet();
+            respond(exchange, 200, error(options.errorCode()));
+            return;
+        }
+
+        respond(exchange, 200, method.handle(params));
+    }
+
+    private void simulateLatency() {
+        long millis = options.latency().toMillis();
+        if (options.latencyJitter().toMillis() > 0) {
+            millis += ThreadLocalRandom.current().nextLong(options.latencyJitter().toMillis() + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isRateLimited(String token) {
+        if (options.rateLimitPerSecond() <= 0) {
+            return false;
+        }
+        long second = System.currentTimeMillis() / 1000;
+        RateWindow window = rateWindows.computeIfAbsent(token, key -> new RateWindow());
+        synchronized (window) {
+            if (window.second != second) {
+                window.second = second;
+                window.count = 0;
+            }
+            return ++window.count > options.rateLimitPerSecond();
+        }
+    }
+
+    private String token(HttpExchange exchange, Map<String, String> params) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            return authorization.substring("Bearer ".length());
+        }
+        return params.getOrDefault("token", "");
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private Map<String, String> parseForm(String body) {
+        Map<String, String> params = new HashMap<>();
+        if (body == null || body.isBlank()) {
+            return params;
+        }
+        for (String pair : body.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.put(key, value);
+        }
+        return params;
+    }
+
+    private String dmChannelId(String users) {
+        return "D" + Integer.toHexString(users.hashCode()).toUpperCase();
+    }
+
+    private String nextTs() {
+        long millis = System.currentTimeMillis();
+        return (millis / 1000) + "." + String.format("%06d", sequence.incrementAndGet() % 1_000_000);
+    }
+
+    private Map<String, Object> ok(Map<String, Object> fields) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("ok", true);
+        body.putAll(fields);
+        return body;
+    }
+
+    private Map<String, Object> error(String error) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("ok", false);
+        body.put("error", error);
+        return body;
+    }
+
+    @FunctionalInterface
+    private interface SlackMethod {
+        Map<String, Object> handle(Map<String, String> params);
+    }
+
+    private record ScheduledMessage(String channel, long postAt, String text) {
+    }
+
+    private static class RateWindow {
+        long second;
+        int count;
+    }
+}
@@ -0,0 +1,63 @@
+package com.kanva.loadtest.slack;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Slack API 스텁 동작 설정
+ *
+ * @param latency            모든 응답에 더하는 지연
+ * @param latencyJitter      0 ~ latencyJitter 사이 무작위 추가 지연
+ * @param errorRate          ok=false 응답을 주입할 비율 (0.0 ~ 1.0)
+ * @param errorCode          주입할 Slack 에러 코드
+ * @param rateLimitPerSecond 토큰(워크스페이스)별 초당 허용 요청 수, 0이면 제한 없음
+ * @param retryAfterSeconds  429 응답의 Retry-After
+ */
+public record StubOptions(
+        Duration latency,
+        Duration latencyJitter,
+        double errorRate,
+        String errorCode,
+        int rateLimitPerSecond,
+        int retryAfterSeconds
+) {
+
+    public static StubOptions defaults() {
+        return new StubOptions(Duration.ZERO, Duration.ZERO, 0.0, "internal_error", 0, 1);
+    }
+
+    /**
+     * --latency-ms=50 --jitter-ms=20 --error-rate=0.01 --error-code=internal_error --rate-limit=50 --retry-after=1
+     */
+    public static StubOptions fromArgs(Map<String, String> args) {
+        StubOptions defaults = defaults();
+        return new StubOptions(
+                Duration.ofMillis(Long.parseLong(args.getOrDefault("latency-ms", "0"))),
+                Duration.ofMillis(Long.parseLong(args.getOrDefault("jitter-ms", "0"))),
+                Double.parseDouble(args.getOrDefault("error-rate", "0")),
+                args.getOrDefault("error-code", defaults.errorCode()),
+                Integer.parseInt(args.getOrDefault("rate-limit", "0")),
+                Integer.parseInt(args.getOrDefault("retry-after", String.valueOf(defaults.retryAfterSeconds())))
+        );
+    }
+
+    /**
+     * --key=value 형식 인자 파싱
+     */
+    public static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> parsed = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                parsed.put(arg.substring(2), "true");
+            } else {
+                parsed.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return parsed;
+    }
+}
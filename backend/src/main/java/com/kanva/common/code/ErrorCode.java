@@ -23,12 +23,17 @@ public enum ErrorCode {
     USER_NOT_FOUND(404, "사용자를 찾을 수 없습니다."),
     DAILY_NOTE_NOT_FOUND(404, "노트를 찾을 수 없습니다."),
     TASK_NOT_FOUND(404, "할 일을 찾을 수 없습니다."),
+    TASK_SERIES_NOT_FOUND(404, "반복 시리즈를 찾을 수 없습니다."),
     REPORT_NOT_FOUND(404, "리포트를 찾을 수 없습니다."),
+    SLACK_CONNECTION_NOT_FOUND(404, "Slack 연동 정보를 찾을 수 없습니다."),
 
     // 409 Conflict
     DUPLICATE_EMAIL(409, "이미 사용 중인 이메일입니다."),
     DUPLICATE_NAME(409, "이미 사용 중인 닉네임입니다."),
 
+    // 429 Too Many Requests
+    AI_BUDGET_EXCEEDED(429, "오늘 사용할 수 있는 AI 사용량을 모두 사용했습니다."),
+
     // 500 Internal Server Error
     INTERNAL_ERROR(500, "서버 내부 오류가 발생했습니다."),
     REPORT_GENERATION_FAILED(500, "리포트 생성에 실패했습니다.");
@@ -0,0 +1,27 @@
+package com.kanva.common.hash;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 hex 해시 (입력 fingerprint, 캐시/single-flight 키 계산용)
+ */
+public final class Sha256 {
+
+    private Sha256() {
+    }
+
+    /**
+     * UTF-8로 인코딩한 문자열의 SHA-256 (소문자 hex 64자)
+     */
+    public static String hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
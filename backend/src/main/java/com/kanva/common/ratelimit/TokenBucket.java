@@ -0,0 +1,66 @@
+package com.kanva.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 기반 속도 제한기
+ * - 초당 permitsPerSecond 만큼 토큰 충전, 최대 burst 개까지 누적
+ * - 토큰이 없으면 다음 토큰이 충전될 때까지 대기 (가상 스레드에서 사용 전제)
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNanos;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.capacity = burst;
+        this.refillPerNanos = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 획득 (없으면 대기)
+     *
+     * @throws InterruptedException 대기 중 인터럽트 (슬롯 마감 등)
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = reserve()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 토큰 1개 즉시 획득 시도
+     *
+     * @return 획득했으면 true
+     */
+    public boolean tryAcquire() {
+        return reserve() == 0;
+    }
+
+    /**
+     * 토큰이 있으면 소비 후 0 반환, 없으면 다음 토큰까지 남은 시간(ns) 반환
+     */
+    private synchronized long reserve() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNanos);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNanos);
+        lastRefillNanos = now;
+    }
+}
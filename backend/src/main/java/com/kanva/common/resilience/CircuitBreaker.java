@@ -0,0 +1,136 @@
+package com.kanva.common.resilience;
+
+import java.time.Duration;
+
+/**
+ * 횟수 기반 서킷 브레이커
+ * - CLOSED: 최근 windowSize번 호출 중 실패율이 failureRateThreshold(%) 이상이면 OPEN (최소 minimumCalls번 이후)
+ * - OPEN: openDuration 동안 호출 차단, 이후 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls번까지만 시험 호출 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    private State state = State.CLOSED;
+
+    // 최근 호출 결과 (true = 실패), 원형 버퍼
+    private final boolean[] outcomes;
+    private int nextIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                          Duration openDuration, int halfOpenCalls) {
+        if (windowSize <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("windowSize and halfOpenCalls must be positive");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 지금 호출하면 허용될지 (허용 슬롯은 소비하지 않음)
+     */
+    public synchronized boolean isCallPermitted() {
+        refreshState();
+        return state == State.CLOSED || (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls);
+    }
+
+    /**
+     * 호출 허용 획득, 허용되면 결과를 onSuccess/onFailure로 반드시 알려야 함
+     *
+     * @return 차단 상태면 false
+     */
+    public synchronized boolean tryAcquirePermission() {
+        refreshState();
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (halfOpenPermits >= halfOpenCalls) {
+                    yield false;
+                }
+                halfOpenPermits++;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumCalls && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        refreshState();
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == windowSize) {
+            if (outcomes[nextIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        nextIndex = (nextIndex + 1) % windowSize;
+    }
+
+    private void refreshState() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+        if (next == State.CLOSED) {
+            nextIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
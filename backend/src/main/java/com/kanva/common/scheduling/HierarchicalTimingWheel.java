@@ -0,0 +1,126 @@
+package com.kanva.common.scheduling;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 2단계 계층형 타이밍 휠
+ * - 분 휠: 60칸, 앞으로 60분 이내 항목을 분 단위 칸에 보관
+ * - 시 휠: 24칸, 그 이후 24시간 이내 항목을 시 단위 칸에 보관하다가 해당 시각이 되면 분 휠로 내림
+ * - advanceTo 호출 시 지나간 분 칸의 항목을 순서대로 꺼냄
+ *
+ * 추가/꺼내기는 칸 수와 무관하게 O(1) (꺼낸 항목 수에만 비례)
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final long HOUR_MILLIS = 60 * MINUTE_MILLIS;
+    private static final int MINUTE_SLOTS = 60;
+    private static final int HOUR_SLOTS = 24;
+
+    private final List<List<Entry<T>>> minuteWheel = new ArrayList<>(MINUTE_SLOTS);
+    private final List<List<Entry<T>>> hourWheel = new ArrayList<>(HOUR_SLOTS);
+    private final List<T> overdue = new ArrayList<>();
+
+    // 마지막으로 꺼낸 분 (epoch millis, 분 단위 내림)
+    private long currentMinute;
+    private int size;
+
+    public HierarchicalTimingWheel(Instant start) {
+        for (int i = 0; i < MINUTE_SLOTS; i++) {
+            minuteWheel.add(new ArrayList<>());
+        }
+        for (int i = 0; i < HOUR_SLOTS; i++) {
+            hourWheel.add(new ArrayList<>());
+        }
+        this.currentMinute = floor(start.toEpochMilli(), MINUTE_MILLIS);
+    }
+
+    /**
+     * 항목 추가
+     * - 이미 지난 시각이면 다음 advanceTo에서 바로 꺼냄
+     *
+     * @return 24시간 범위를 넘어 추가하지 못했으면 false
+     */
+    public synchronized boolean add(Instant due, T item) {
+        if (!place(new Entry<>(due.toEpochMilli(), item))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * now가 속한 분까지 휠을 진행하고 만기된 항목 반환
+     */
+    public synchronized List<T> advanceTo(Instant now) {
+        long nowMinute = floor(now.toEpochMilli(), MINUTE_MILLIS);
+        List<T> expired = new ArrayList<>(overdue);
+        overdue.clear();
+
+        while (currentMinute < nowMinute) {
+            currentMinute += MINUTE_MILLIS;
+
+            // 정시가 되면 해당 시 칸의 항목을 분 휠로 내림
+            if (currentMinute % HOUR_MILLIS == 0) {
+                List<Entry<T>> bucket = hourWheel.get(hourSlot(currentMinute));
+                List<Entry<T>> cascading = new ArrayList<>(bucket);
+                bucket.clear();
+                for (Entry<T> entry : cascading) {
+                    place(entry);
+                }
+                expired.addAll(overdue);
+                overdue.clear();
+            }
+
+            List<Entry<T>> bucket = minuteWheel.get(minuteSlot(currentMinute));
+            for (Entry<T> entry : bucket) {
+                expired.add(entry.item());
+            }
+            bucket.clear();
+        }
+
+        size -= expired.size();
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private boolean place(Entry<T> entry) {
+        long dueMinute = floor(entry.dueMillis(), MINUTE_MILLIS);
+
+        if (dueMinute <= currentMinute) {
+            overdue.add(entry.item());
+            return true;
+        }
+        if (dueMinute < currentMinute + MINUTE_SLOTS * MINUTE_MILLIS) {
+            minuteWheel.get(minuteSlot(dueMinute)).add(entry);
+            return true;
+        }
+
+        long dueHour = floor(entry.dueMillis(), HOUR_MILLIS);
+        if (dueHour < floor(currentMinute, HOUR_MILLIS) + HOUR_SLOTS * HOUR_MILLIS) {
+            hourWheel.get(hourSlot(dueHour)).add(entry);
+            return true;
+        }
+        return false;
+    }
+
+    private int minuteSlot(long epochMillis) {
+        return (int) Math.floorMod(epochMillis / MINUTE_MILLIS, (long) MINUTE_SLOTS);
+    }
+
+    private int hourSlot(long epochMillis) {
+        return (int) Math.floorMod(epochMillis / HOUR_MILLIS, (long) HOUR_SLOTS);
+    }
+
+    private static long floor(long epochMillis, long unit) {
+        return Math.floorDiv(epochMillis, unit) * unit;
+    }
+
+    private record Entry<T>(long dueMillis, T item) {
+    }
+}
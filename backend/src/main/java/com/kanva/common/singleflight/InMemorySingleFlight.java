@@ -0,0 +1,88 @@
+package com.kanva.common.singleflight;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 단일 노드 single-flight
+ * - 진행 중인 호출을 키별 CompletableFuture로 보관, follower는 같은 future를 기다림
+ * - leader가 실패하면 기다리던 follower도 같은 예외를 받음
+ * - waitTimeout 안에 leader가 끝나지 않으면 follower가 직접 호출
+ */
+@Slf4j
+public class InMemorySingleFlight implements SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final long waitTimeoutNanos;
+
+    public InMemorySingleFlight(MeterRegistry registry, Duration waitTimeout) {
+        this.registry = registry;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String key, TypeReference<T> type, Supplier<T> call) {
+        String flightKey = operation + ":" + key;
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, mine);
+
+        if (existing != null) {
+            record(operation, "follower");
+            return (T) await(operation, flightKey, existing, call);
+        }
+
+        record(operation, "leader");
+        try {
+            T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private Object await(String operation, String flightKey, CompletableFuture<Object> leader, Supplier<?> call) {
+        try {
+            return leader.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("Single-flight wait timed out, calling directly: key={}", flightKey);
+            record(operation, "timeout");
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight call: " + flightKey, e);
+        }
+    }
+
+    void record(String operation, String role) {
+        Counter.builder("single_flight.calls")
+                .description("Calls coalesced by single-flight (role=leader|follower|remote_follower|timeout)")
+                .tag("operation", operation)
+                .tag("role", role)
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,137 @@
+package com.kanva.common.singleflight;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 여러 노드 single-flight (Redis)
+ * - 노드 안에서는 InMemorySingleFlight로 먼저 합치고, 노드별 leader끼리 Redis 잠금(SET NX PX)으로 한 번 더 합침
+ * - 잠금 값은 호출(flight)마다 새 토큰, leader 노드는 결과를 그 토큰의 키에 JSON으로 저장한 뒤 잠금을 풂
+ * - 다른 노드는 기다리기 시작할 때 잠금의 토큰을 기억하고 pollInterval마다 그 토큰의 결과만 확인
+ *   (잠금이 풀린 뒤 들어온 호출은 이전 결과를 볼 수 없고 새로 호출하므로 결과 캐시가 아님)
+ * - resultTtl은 기다리던 노드가 결과를 가져갈 시간 (이후 자동 삭제)
+ * - 결과 없이 잠금이 풀리면 (leader 실패) 기다리던 노드 중 하나가 잠금을 잡고 다시 호출
+ * - lockLease는 호출 최대 시간보다 길어야 함 (leader 노드가 죽으면 lease 만료로 풀림)
+ * - Redis 오류 시에는 노드 안에서만 합치고 그대로 호출
+ */
+@Slf4j
+public class RedisSingleFlight implements SingleFlight {
+
+    private static final String KEY_PREFIX = "single-flight:";
+
+    // 자기 토큰일 때만 삭제 (lease가 만료된 뒤 다른 노드가 잡은 잠금을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final InMemorySingleFlight local;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration lockLease;
+    private final Duration resultTtl;
+    private final Duration pollInterval;
+    private final long waitTimeoutNanos;
+
+    public RedisSingleFlight(InMemorySingleFlight local, StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                             Duration lockLease, Duration resultTtl, Duration pollInterval, Duration waitTimeout) {
+        this.local = local;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.lockLease = lockLease;
+        this.resultTtl = resultTtl;
+        this.pollInterval = pollInterval;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+    }
+
+    @Override
+    public <T> T execute(String operation, String key, TypeReference<T> type, Supplier<T> call) {
+        return local.execute(operation, key, type, () -> executeAcrossNodes(operation, key, type, call));
+    }
+
+    private <T> T executeAcrossNodes(String operation, String key, TypeReference<T> type, Supplier<T> call) {
+        String lockKey = KEY_PREFIX + operation + ":" + key + ":lock";
+        String resultKeyPrefix = KEY_PREFIX + operation + ":" + key + ":result:";
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+        boolean waited = false;
+        // 기다리고 있는 다른 노드 호출의 토큰 (그 호출의 결과만 받음)
+        String flight = null;
+
+        while (true) {
+            boolean acquired;
+            try {
+                if (flight != null) {
+                    String stored = redisTemplate.opsForValue().get(resultKeyPrefix + flight);
+                    if (stored != null) {
+                        local.record(operation, "remote_follower");
+                        return objectMapper.readValue(stored, type);
+                    }
+                }
+                acquired = Boolean.TRUE.equals(
+                        redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockLease));
+                if (!acquired) {
+                    String current = redisTemplate.opsForValue().get(lockKey);
+                    if (current != null) {
+                        flight = current;
+                    }
+                }
+            } catch (DataAccessException | JsonProcessingException e) {
+                log.warn("Single-flight via Redis unavailable, calling directly: key={}: {}", lockKey, e.getMessage());
+                return call.get();
+            }
+
+            if (acquired) {
+                return lead(lockKey, resultKeyPrefix + token, token, call);
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                log.warn("Single-flight wait timed out, calling directly: key={}", lockKey);
+                local.record(operation, "timeout");
+                return call.get();
+            }
+            if (!waited) {
+                log.debug("Waiting for in-flight call on another node: key={}", lockKey);
+                waited = true;
+            }
+            sleep(lockKey);
+        }
+    }
+
+    private <T> T lead(String lockKey, String resultKey, String token, Supplier<T> call) {
+        try {
+            T result = call.get();
+            try {
+                redisTemplate.opsForValue().set(resultKey, objectMapper.writeValueAsString(result), resultTtl);
+            } catch (DataAccessException | JsonProcessingException e) {
+                log.warn("Failed to share single-flight result: key={}: {}", resultKey, e.getMessage());
+            }
+            return result;
+        } finally {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+            } catch (DataAccessException e) {
+                log.warn("Failed to release single-flight lock, expires with lease: key={}", lockKey);
+            }
+        }
+    }
+
+    private void sleep(String lockKey) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight call: " + lockKey, e);
+        }
+    }
+}
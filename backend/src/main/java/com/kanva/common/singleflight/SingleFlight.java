@@ -0,0 +1,21 @@
+package com.kanva.common.singleflight;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 호출 합치기 (single-flight)
+ * - 키마다 하나의 호출(leader)만 실행하고, 그동안 들어온 같은 키의 호출(follower)은 그 결과를 함께 받음
+ * - 호출이 끝나면 키가 풀리므로 이후 호출은 다시 실행 (결과 캐시가 아님)
+ */
+public interface SingleFlight {
+
+    /**
+     * @param operation 호출 종류 (지표 태그, 키 네임스페이스)
+     * @param key       같은 입력이면 같은 값이 되는 키 (사용자, 입력 fingerprint 등)
+     * @param type      결과 타입 (노드 간 공유 시 직렬화에 사용)
+     * @param call      실제 호출, leader만 실행
+     */
+    <T> T execute(String operation, String key, TypeReference<T> type, Supplier<T> call);
+}
@@ -0,0 +1,26 @@
+package com.kanva.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * AI(Gemini) 사용량 설정
+ *
+ * - dailyTokenBudget: 사용자별 하루 토큰 상한 (모든 기능 합계, 0이면 제한 없음)
+ *   상한에 도달하면 이후 호출은 Gemini를 부르지 않음 (리포트는 Mock 분석으로 대체, 노트 파싱은 429)
+ *   진행 중인 호출은 끝까지 기록하므로 상한을 호출 1건만큼 넘을 수 있음
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.usage")
+@Getter
+@Setter
+public class AiUsageConfig {
+
+    private long dailyTokenBudget = 500_000;
+
+    public boolean isLimited() {
+        return dailyTokenBudget > 0;
+    }
+}
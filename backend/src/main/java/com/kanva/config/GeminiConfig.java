@@ -2,11 +2,46 @@ package com.kanva.config;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Gemini API 설정
+ *
+ * HTTP 클라이언트 (Gemini 전용 커넥션 풀)
+ * - maxConnections: 풀 크기, poolAcquireTimeout: 풀에서 연결을 기다리는 최대 시간
+ * - connectTimeout / readTimeout: 연결, 응답 대기(패킷 간격) 제한
+ * - callTimeout: 호출 전체 제한 (스트리밍 포함), 넘으면 GeminiClient가 요청을 중단
+ *
+ * 호출 보호
+ * - maxConcurrentCalls: 동시에 진행 중인 Gemini 호출 수 상한 (bulkhead), bulkheadWait 동안 자리가 안 나면 거절
+ * - circuit*: 최근 circuitWindowSize번 중 실패율이 circuitFailureRateThreshold(%) 이상이면
+ *   circuitOpenDuration 동안 호출을 차단하고 Mock 분석으로 대체
+ *
+ * 컨텍스트 캐시 (고정 지시문을 cachedContents로 등록해 요청마다 다시 보내지 않음)
+ * - contextCacheEnabled: 끄면 지시문을 매 요청 systemInstruction으로 전송
+ * - contextCacheTtl: 캐시 유지 시간, 사용 중인 캐시는 만료 contextCacheRefreshBefore 전에 TTL 연장
+ * - contextCacheRetryAfter: 캐시 생성 실패 후 다시 시도하기까지 인라인 전송
+ * - contextCacheMinTokens: 모델의 최소 캐시 토큰 수 (2.5 Flash 1024, 2.5 Pro 4096), 이보다 작은 지시문은 캐시하지 않음
+ */
 @Configuration
 @ConfigurationProperties(prefix = "gemini")
 @Getter
@@ -18,12 +53,94 @@ public class GeminiConfig {
     private String baseUrl = "https://generativelanguage.googleapis.com/v1beta";
     private boolean enabled = false;
 
+    private int maxConnections = 20;
+    private Duration poolAcquireTimeout = Duration.ofSeconds(2);
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    private Duration readTimeout = Duration.ofSeconds(60);
+    private Duration callTimeout = Duration.ofSeconds(120);
+
+    private int maxConcurrentCalls = 8;
+    private Duration bulkheadWait = Duration.ofMillis(500);
+    private int circuitWindowSize = 20;
+    private int circuitMinimumCalls = 10;
+    private int circuitFailureRateThreshold = 50;
+    private Duration circuitOpenDuration = Duration.ofSeconds(30);
+    private int circuitHalfOpenCalls = 3;
+
+    private boolean contextCacheEnabled = true;
+    private Duration contextCacheTtl = Duration.ofHours(1);
+    private Duration contextCacheRefreshBefore = Duration.ofMinutes(10);
+    private Duration contextCacheRetryAfter = Duration.ofMinutes(30);
+    private int contextCacheMinTokens = 1024;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager geminiConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+    }
+
     @Bean
-    public RestTemplate geminiRestTemplate() {
-        return new RestTemplate();
+    public CancellableRequestFactory geminiRequestFactory(PoolingHttpClientConnectionManager geminiConnectionManager) {
+        HttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(geminiConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolAcquireTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictIdleConnections(TimeValue.ofMinutes(1))
+                .disableAutomaticRetries()
+                .build();
+
+        return new CancellableRequestFactory(httpClient);
+    }
+
+    @Bean
+    public RestTemplate geminiRestTemplate(CancellableRequestFactory geminiRequestFactory) {
+        return new RestTemplate(geminiRequestFactory);
     }
 
     public boolean isConfigured() {
         return enabled && apiKey != null && !apiKey.isBlank();
     }
+
+    /**
+     * 생성한 HTTP 요청을 호출 스레드에 등록된 listener로 넘겨주는 요청 팩토리
+     * - 호출 측(GeminiClient)이 callTimeout이 지나면 진행 중인 요청을 cancel할 수 있도록 함
+     */
+    public static class CancellableRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+        private final ThreadLocal<Consumer<Cancellable>> listener = new ThreadLocal<>();
+
+        public CancellableRequestFactory(HttpClient httpClient) {
+            super(httpClient);
+        }
+
+        /**
+         * 현재 스레드에서 만드는 요청을 listener로 전달 (clear 전까지)
+         */
+        public void bind(Consumer<Cancellable> requestListener) {
+            listener.set(requestListener);
+        }
+
+        public void clear() {
+            listener.remove();
+        }
+
+        @Override
+        protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+            ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+            Consumer<Cancellable> requestListener = listener.get();
+            if (requestListener != null && request instanceof Cancellable cancellable) {
+                requestListener.accept(cancellable);
+            }
+            return request;
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package com.kanva.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Slack 알림 발송 설정
+ *
+ * - maxConcurrency: 동시에 발송 중인 사용자 수 상한 (가상 스레드 fan-out)
+ * - teamRatePerSecond / teamBurst: 워크스페이스(team_id)별 chat.postMessage 속도 제한
+ * - slotDeadline: 발송 시각으로부터의 마감 시간 (이후에는 재시도하지 않고 실패 처리)
+ * - slotSla: 발송 시각부터 실제 발송까지 목표 시간 (delivery.lag SLO 버킷, 디스패치 1회가 넘으면
+ *   notification.dispatch.sla.exceeded 증가)
+ * - dispatchLoadAhead: 타이밍 휠에 미리 적재하는 발송 구간 (매시 적재 주기보다 길어야 함)
+ * - dispatchLease: 발송 대상 적재를 맡은 인스턴스의 lease (매분 연장, 1분보다 길고 slotDeadline보다 짧아야
+ *   보유 인스턴스가 멈췄을 때 이어받은 인스턴스가 지난 발송분까지 다시 적재할 수 있음)
+ * - batchSize: 한 번에 선점하는 outbox 행 수 (Task 목록 일괄 조회 단위)
+ *   팀 속도 제한으로 outboxLease/4 안에 보낼 수 있는 수를 넘지 않도록 줄여서 사용
+ * - dmChannelCacheSize: DM 채널 ID 로컬 near-cache 최대 항목 수
+ * - logQueueCapacity / logBatchSize / logFlushInterval: 발송 이력 배치 기록 큐 크기, batch insert 단위, 최대 대기 시간
+ * - outboxPollDelay: 재시도 예약된 outbox 행을 확인하는 주기
+ * - outboxLease: 선점한 행의 처리 제한 시간 (만료 시 다른 워커가 다시 선점)
+ * - outboxMaxAttempts / outboxBaseBackoff / outboxMaxBackoff: 재시도 횟수와 지수 백오프 범위
+ * - preScheduleEnabled: 야간에 다음 MORNING 메시지를 chat.scheduleMessage로 미리 예약 (opt-in)
+ * - preScheduleCron: 사전 예약 실행 시각 (Asia/Seoul)
+ * - preScheduleAhead / preScheduleMinLead: 사전 예약 대상 발송 시각 범위 (now + minLead ~ now + ahead)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "notification")
+@Getter
+@Setter
+public class NotificationConfig {
+
+    private int maxConcurrency = 32;
+    private double teamRatePerSecond = 10;
+    private int teamBurst = 20;
+    private Duration slotDeadline = Duration.ofMinutes(10);
+    private Duration slotSla = Duration.ofMinutes(2);
+    private Duration dispatchLoadAhead = Duration.ofHours(2);
+    private Duration dispatchLease = Duration.ofMinutes(3);
+    private int batchSize = 500;
+    private int dmChannelCacheSize = 10_000;
+    private int logQueueCapacity = 10_000;
+    private int logBatchSize = 200;
+    private Duration logFlushInterval = Duration.ofMillis(500);
+    private Duration outboxPollDelay = Duration.ofSeconds(5);
+    private Duration outboxLease = Duration.ofMinutes(2);
+    private int outboxMaxAttempts = 5;
+    private Duration outboxBaseBackoff = Duration.ofSeconds(5);
+    private Duration outboxMaxBackoff = Duration.ofMinutes(5);
+    private boolean preScheduleEnabled = false;
+    private String preScheduleCron = "0 0 2 * * *";
+    private Duration preScheduleAhead = Duration.ofHours(24);
+    private Duration preScheduleMinLead = Duration.ofMinutes(5);
+}
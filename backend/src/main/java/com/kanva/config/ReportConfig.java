@@ -0,0 +1,52 @@
+package com.kanva.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * AI 리포트 생성 설정
+ *
+ * - workerThreads: 동시에 생성 중인 리포트 수 상한 (Gemini 호출 동안 DB 커넥션은 잡지 않음)
+ * - queueCapacity: 대기 가능한 생성 요청 수 (초과 시 해당 리포트를 FAILED 처리)
+ * - generatingTimeout: 마지막 시도 이후 이 시간이 지나도록 GENERATING인 리포트는 FAILED로 정리 (재시작으로 유실된 작업 등)
+ * - streamTimeout: 리포트 생성 SSE 연결 유지 시간
+ * - promptTaskLimit: 프롬프트에 나열할 Task 수 상한 (통계는 전체 Task를 DB에서 집계)
+ *
+ * 주간 리포트 야간 사전 생성 (preGenerateEnabled, 기본 비활성)
+ * - preGenerateCron: 실행 시각 (기본 월요일 03:00, 지난주 월~일 리포트 생성)
+ * - preGenerateConcurrency: 동시 생성 수
+ * - preGenerateRatePerSecond: 전체 AI 호출 속도 상한 (초당)
+ * - preGenerateMaxAttempts / preGenerateBaseBackoff: 사용자별 재시도 횟수와 지수 백오프 기준
+ * - preGeneratePageSize: 대상 사용자 조회 페이지 크기
+ *
+ * 월간 리포트 (monthlyRollupEnabled, 기본 활성)
+ * - 월에 걸친 주(월~일)의 COMPLETED 주간 리포트 통계/요약만 모아 분석 (일자별 Task/노트는 보내지 않음)
+ * - 주간 리포트가 없는 지난 주는 먼저 생성, 동시 생성 수는 monthlyRollupConcurrency
+ */
+@Configuration
+@ConfigurationProperties(prefix = "report")
+@Getter
+@Setter
+public class ReportConfig {
+
+    private int workerThreads = 4;
+    private int queueCapacity = 100;
+    private Duration generatingTimeout = Duration.ofMinutes(10);
+    private Duration streamTimeout = Duration.ofMinutes(3);
+    private int promptTaskLimit = 500;
+
+    private boolean preGenerateEnabled = false;
+    private String preGenerateCron = "0 0 3 * * MON";
+    private int preGenerateConcurrency = 4;
+    private double preGenerateRatePerSecond = 1.0;
+    private int preGenerateMaxAttempts = 3;
+    private Duration preGenerateBaseBackoff = Duration.ofSeconds(5);
+    private int preGeneratePageSize = 200;
+
+    private boolean monthlyRollupEnabled = true;
+    private int monthlyRollupConcurrency = 3;
+}
@@ -2,6 +2,7 @@ package com.kanva.config;
 
 import com.kanva.security.CustomUserDetailsService;
 import com.kanva.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -35,6 +36,10 @@ public class SecurityConfig {
     @Value("${kanva.security.permit-all:false}")
     private boolean permitAll;
 
+    // 관리 포트 (외부에 노출하지 않으며 Prometheus scrape 용도, -1이면 사용 안 함)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -43,9 +48,13 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> {
-                        authorize.requestMatchers("/", "/index.html", "/static/**", "/favicon.ico").permitAll()
+                        // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인증됨
+                        authorize.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                .requestMatchers("/", "/index.html", "/static/**", "/favicon.ico").permitAll()
                                 .requestMatchers("/api/auth/**").permitAll()
-                                .requestMatchers("/actuator/**").permitAll()
+                                .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                                .requestMatchers(request -> managementPort > 0
+                                        && request.getLocalPort() == managementPort).permitAll()
                                 .requestMatchers("/h2-console/**").permitAll();
                         if (permitAll) {
                             authorize.requestMatchers("/api/**").permitAll();
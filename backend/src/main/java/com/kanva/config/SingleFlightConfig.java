@@ -0,0 +1,54 @@
+package com.kanva.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanva.common.singleflight.InMemorySingleFlight;
+import com.kanva.common.singleflight.RedisSingleFlight;
+import com.kanva.common.singleflight.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 동일 AI 요청 합치기(single-flight) 설정
+ *
+ * - mode: MEMORY(단일 노드, 기본) / REDIS(여러 노드, Redis 잠금과 결과 공유)
+ * - waitTimeout: follower가 leader 결과를 기다리는 최대 시간 (넘으면 직접 호출)
+ * - lockLease: Redis 잠금 보유 기간 (gemini.callTimeout보다 길게)
+ * - resultTtl: 기다리던 다른 노드가 가져갈 수 있도록 결과를 Redis에 두는 시간
+ *   (결과는 호출마다 다른 키에 저장되어 이후 호출에는 재사용되지 않음, pollInterval보다 충분히 길면 됨)
+ * - pollInterval: 다른 노드의 결과 확인 간격
+ */
+@Configuration
+@ConfigurationProperties(prefix = "single-flight")
+@Getter
+@Setter
+public class SingleFlightConfig {
+
+    public enum Mode {
+        MEMORY, REDIS
+    }
+
+    private Mode mode = Mode.MEMORY;
+    private Duration waitTimeout = Duration.ofSeconds(150);
+    private Duration lockLease = Duration.ofSeconds(150);
+    private Duration resultTtl = Duration.ofSeconds(10);
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    @Bean
+    public SingleFlight singleFlight(MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                                     ObjectProvider<StringRedisTemplate> redisTemplate) {
+        InMemorySingleFlight local = new InMemorySingleFlight(meterRegistry, waitTimeout);
+        if (mode == Mode.MEMORY) {
+            return local;
+        }
+        return new RedisSingleFlight(local, redisTemplate.getObject(), objectMapper,
+                lockLease, resultTtl, pollInterval, waitTimeout);
+    }
+}
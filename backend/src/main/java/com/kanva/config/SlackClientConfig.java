@@ -0,0 +1,72 @@
+package com.kanva.config;
+
+import com.slack.api.Slack;
+import com.slack.api.SlackConfig;
+import com.slack.api.methods.MethodsConfig;
+import com.slack.api.util.http.SlackHttpClient;
+import lombok.Getter;
+import lombok.Setter;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slack API 클라이언트 설정
+ *
+ * - 모든 워크스페이스가 하나의 OkHttp 커넥션 풀을 공유 (08:00 발송 burst 동안 TLS 연결 재사용)
+ * - keepAlive는 한 슬롯 발송 시간보다 길게 유지해야 연결이 재사용됨
+ * - asyncEnabled: AsyncMethodsClient로 conversations.open / chat.postMessage 호출
+ *   (callTimeout을 넘긴 chat.postMessage는 게시 여부를 알 수 없어 재시도하지 않음)
+ * - methodsEndpointUrlPrefix: 로컬 stub 서버 등으로 API 주소 변경 시 사용 (기본값은 Slack 공식 주소)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "slack.client")
+@Getter
+@Setter
+public class SlackClientConfig {
+
+    private int maxIdleConnections = 64;
+    private Duration keepAlive = Duration.ofMinutes(15);
+    private int maxRequests = 256;
+    private int maxRequestsPerHost = 64;
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    private Duration writeTimeout = Duration.ofSeconds(10);
+    private Duration callTimeout = Duration.ofSeconds(20);
+    private boolean asyncEnabled = false;
+    private int asyncThreadPoolSize = 32;
+    private String methodsEndpointUrlPrefix;
+
+    @Bean
+    public Slack slack() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        OkHttpClient okHttpClient = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .writeTimeout(writeTimeout)
+                .callTimeout(callTimeout)
+                .build();
+
+        MethodsConfig methodsConfig = new MethodsConfig();
+        methodsConfig.setDefaultThreadPoolSize(asyncThreadPoolSize);
+
+        SlackConfig slackConfig = new SlackConfig();
+        slackConfig.setMethodsConfig(methodsConfig);
+        if (methodsEndpointUrlPrefix != null && !methodsEndpointUrlPrefix.isBlank()) {
+            slackConfig.setMethodsEndpointUrlPrefix(methodsEndpointUrlPrefix);
+        }
+
+        return Slack.getInstance(slackConfig, new SlackHttpClient(okHttpClient));
+    }
+}
@@ -0,0 +1,47 @@
+package com.kanva.controller.notification;
+
+import com.kanva.common.response.ApiResponse;
+import com.kanva.dto.notification.NotificationSettingsRequest;
+import com.kanva.dto.notification.NotificationSettingsResponse;
+import com.kanva.security.UserPrincipal;
+import com.kanva.service.notification.NotificationSettingsService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/notifications/settings")
+@RequiredArgsConstructor
+public class NotificationSettingsController {
+
+    private final NotificationSettingsService notificationSettingsService;
+
+    /**
+     * 알림 시각 설정 조회
+     * GET /api/notifications/settings
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<NotificationSettingsResponse>> getSettings(
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
+
+        NotificationSettingsResponse response = notificationSettingsService.getSettings(userId);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    /**
+     * 알림 시각/시간대/분산 발송 범위 수정
+     * PUT /api/notifications/settings
+     */
+    @PutMapping
+    public ResponseEntity<ApiResponse<NotificationSettingsResponse>> updateSettings(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody NotificationSettingsRequest request) {
+        Long userId = principal.getId();
+
+        NotificationSettingsResponse response = notificationSettingsService.updateSettings(userId, request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+}
@@ -1,6 +1,8 @@
 package com.kanva.controller.report;
 
+import com.kanva.common.code.SuccessCode;
 import com.kanva.common.response.ApiResponse;
+import com.kanva.domain.report.ReportStatus;
 import com.kanva.dto.report.*;
 import com.kanva.security.UserPrincipal;
 import com.kanva.service.AIReportService;
@@ -10,9 +12,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/reports")
@@ -22,8 +27,10 @@ public class AIReportController {
     private final AIReportService aiReportService;
 
     /**
-     * 새 리포트 생성 (온디맨드)
+     * 새 리포트 생성 요청 (온디맨드)
      * POST /api/reports
+     * - 입력이 같은 COMPLETED 리포트가 있으면 그대로 200 반환
+     * - 그 외에는 GENERATING 리포트(새로 접수했거나 이미 생성 중)로 202 반환, GET /api/reports/{id}로 완료 여부 확인
      */
     @PostMapping
     public ResponseEntity<ApiResponse<AIReportResponse>> generateReport(
@@ -37,7 +44,24 @@ public class AIReportController {
                 request.getPeriodEnd(),
                 request.getTone()
         );
-        return ResponseEntity.ok(ApiResponse.ok(response));
+        if (response.getStatus() != ReportStatus.GENERATING) {
+            return ResponseEntity.ok(ApiResponse.ok(response));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.of(response, SuccessCode.ACCEPTED));
+    }
+
+    /**
+     * 리포트 생성 스트림 (SSE)
+     * GET /api/reports/{id}/stream
+     * - fragment: {field, text} 생성 중인 summary/insights/recommendations 조각
+     * - done: {status} 생성 종료 후 연결 종료
+     */
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReport(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long id) {
+        return aiReportService.streamReport(principal.getId(), id);
     }
 
     /**
@@ -3,6 +3,8 @@ package com.kanva.controller.taskseries;
 import com.kanva.common.response.ApiResponse;
 import com.kanva.dto.taskseries.TaskSeriesRequest;
 import com.kanva.dto.taskseries.TaskSeriesResponse;
+import com.kanva.dto.taskseries.TaskSeriesUpdateRequest;
+import com.kanva.dto.taskseries.TaskSeriesUpdateResponse;
 import com.kanva.security.UserPrincipal;
 import com.kanva.service.TaskSeriesService;
 import jakarta.validation.Valid;
@@ -65,6 +67,21 @@ public class TaskSeriesController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    /**
+     * 시리즈 정보 수정 (미완료 미래 인스턴스에 일괄 반영)
+     * PUT /api/task-series/{id}
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<TaskSeriesUpdateResponse>> updateSeries(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long id,
+            @Valid @RequestBody TaskSeriesUpdateRequest request) {
+        Long userId = principal.getId();
+
+        TaskSeriesUpdateResponse response = taskSeriesService.updateSeries(userId, id, request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     /**
      * 시리즈에서 특정 날짜 제외
      * POST /api/task-series/{id}/exclude
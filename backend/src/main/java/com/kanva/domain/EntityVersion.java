@@ -0,0 +1,10 @@
+package com.kanva.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 엔티티 버전 (id + 마지막 수정 시각)
+ * - 엔티티 전체를 읽지 않고 데이터 변경 여부만 비교할 때 사용
+ */
+public record EntityVersion(Long id, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,13 @@
+package com.kanva.domain.aiusage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AiFeature {
+    REPORT("AI 리포트"),
+    PARSE("노트 파싱");
+
+    private final String description;
+}
@@ -0,0 +1,64 @@
+package com.kanva.domain.aiusage;
+
+import com.kanva.domain.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * AI 토큰 사용량 (사용자/날짜/기능/모델별 집계)
+ * - 호출마다 AiUsageService가 UPDATE 누적, 행이 없으면 INSERT (엔티티로 직접 저장하지 않음)
+ */
+@Entity
+@Table(
+    name = "ai_token_usage",
+    uniqueConstraints = @UniqueConstraint(
+            name = "uk_ai_token_usage_user_date_feature_model",
+            columnNames = {"user_id", "usage_date", "feature", "model"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AiTokenUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AiFeature feature;
+
+    @Column(nullable = false, length = 50)
+    private String model;
+
+    @Column(name = "call_count", nullable = false)
+    private int callCount;
+
+    @Column(name = "prompt_tokens", nullable = false)
+    private long promptTokens;
+
+    @Column(name = "candidate_tokens", nullable = false)
+    private long candidateTokens;
+
+    // promptTokens 중 컨텍스트 캐시에서 읽은 토큰
+    @Column(name = "cached_tokens", nullable = false)
+    private long cachedTokens;
+
+    @Column(name = "total_tokens", nullable = false)
+    private long totalTokens;
+
+    @Column(name = "total_latency_ms", nullable = false)
+    private long totalLatencyMs;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
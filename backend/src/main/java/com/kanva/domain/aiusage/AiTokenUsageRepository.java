@@ -0,0 +1,81 @@
+package com.kanva.domain.aiusage;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface AiTokenUsageRepository extends JpaRepository<AiTokenUsage, Long> {
+
+    /**
+     * 호출 1건 사용량을 기존 행에 누적 (행이 없으면 0 반환)
+     * - 호출 측 트랜잭션과 무관하게 바로 커밋
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("""
+        UPDATE AiTokenUsage u
+        SET u.callCount = u.callCount + 1,
+            u.promptTokens = u.promptTokens + :promptTokens,
+            u.candidateTokens = u.candidateTokens + :candidateTokens,
+            u.cachedTokens = u.cachedTokens + :cachedTokens,
+            u.totalTokens = u.totalTokens + :totalTokens,
+            u.totalLatencyMs = u.totalLatencyMs + :latencyMs,
+            u.updatedAt = :now
+        WHERE u.user.id = :userId
+          AND u.usageDate = :usageDate
+          AND u.feature = :feature
+          AND u.model = :model
+        """)
+    int accumulate(@Param("userId") Long userId,
+                   @Param("usageDate") LocalDate usageDate,
+                   @Param("feature") AiFeature feature,
+                   @Param("model") String model,
+                   @Param("promptTokens") long promptTokens,
+                   @Param("candidateTokens") long candidateTokens,
+                   @Param("cachedTokens") long cachedTokens,
+                   @Param("totalTokens") long totalTokens,
+                   @Param("latencyMs") long latencyMs,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 그날 첫 호출의 사용량 행 생성 (이미 있으면 0 반환, 동시 생성 시 unique 위반)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = """
+        INSERT INTO ai_token_usage
+            (user_id, usage_date, feature, model, call_count, prompt_tokens, candidate_tokens, cached_tokens,
+             total_tokens, total_latency_ms, updated_at)
+        SELECT :userId, :usageDate, :feature, :model, 1, :promptTokens, :candidateTokens, :cachedTokens,
+               :totalTokens, :latencyMs, :now
+        WHERE NOT EXISTS (
+            SELECT 1 FROM ai_token_usage
+            WHERE user_id = :userId AND usage_date = :usageDate AND feature = :feature AND model = :model
+        )
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("usageDate") LocalDate usageDate,
+                       @Param("feature") String feature,
+                       @Param("model") String model,
+                       @Param("promptTokens") long promptTokens,
+                       @Param("candidateTokens") long candidateTokens,
+                       @Param("cachedTokens") long cachedTokens,
+                       @Param("totalTokens") long totalTokens,
+                       @Param("latencyMs") long latencyMs,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자의 하루 토큰 사용량 (모든 기능/모델 합계)
+     */
+    @Query("""
+        SELECT COALESCE(SUM(u.totalTokens), 0) FROM AiTokenUsage u
+        WHERE u.user.id = :userId AND u.usageDate = :usageDate
+        """)
+    long sumTotalTokens(@Param("userId") Long userId, @Param("usageDate") LocalDate usageDate);
+}
@@ -0,0 +1,13 @@
+package com.kanva.domain.dailynote;
+
+import java.time.LocalDate;
+
+/**
+ * DailyNote 날짜/내용 프로젝션 (AI 리포트 프롬프트용, content는 앞부분만)
+ */
+public interface DailyNoteContentView {
+
+    LocalDate getDate();
+
+    String getContent();
+}
@@ -1,5 +1,6 @@
 package com.kanva.domain.dailynote;
 
+import com.kanva.domain.EntityVersion;
 import com.kanva.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -33,6 +34,36 @@ public interface DailyNoteRepository extends JpaRepository<DailyNote, Long> {
             @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * 기간 내 DailyNote 버전 (AI 리포트 캐시 fingerprint용)
+     */
+    @Query("""
+            SELECT new com.kanva.domain.EntityVersion(d.id, d.updatedAt) FROM DailyNote d
+            WHERE d.user.id = :userId
+            AND d.date BETWEEN :startDate AND :endDate
+            """)
+    List<EntityVersion> findVersionsByUserIdAndDateRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 기간 내 내용이 있는 DailyNote (AI 리포트 프롬프트용, content는 앞 501자만)
+     */
+    @Query("""
+            SELECT d.date AS date, SUBSTRING(d.content, 1, 501) AS content FROM DailyNote d
+            WHERE d.user.id = :userId
+            AND d.date BETWEEN :startDate AND :endDate
+            AND d.content IS NOT NULL
+            ORDER BY d.date ASC
+            """)
+    List<DailyNoteContentView> findContentsByUserIdAndDateRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     @Query("SELECT CASE WHEN COUNT(d) > 0 THEN true ELSE false END FROM DailyNote d WHERE d.user.id = :userId AND d.date = :date")
     boolean existsByUserIdAndDate(@Param("userId") Long userId, @Param("date") LocalDate date);
 }
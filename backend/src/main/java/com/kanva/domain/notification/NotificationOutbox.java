@@ -0,0 +1,163 @@
+package com.kanva.domain.notification;
+
+import com.kanva.domain.BaseEntity;
+import com.kanva.domain.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Slack 알림 발송 outbox
+ * - (user, slot, date)당 한 행, 여러 노드의 워커가 SKIP LOCKED로 나누어 처리
+ * - postAt이 있는 행은 chat.scheduleMessage로 Slack에 예약 (SCHEDULED), Task 변경 시 다시 PENDING으로 돌려 재예약
+ * - 알림 설정 변경 시 postAt을 새 발송 시각으로 바꾸고 재예약
+ */
+@Entity
+@Table(
+    name = "notification_outbox",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notification_outbox_user_slot_date",
+                columnNames = {"user_id", "slot", "notification_date"})
+    },
+    indexes = {
+        @Index(name = "idx_notification_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationSlot slot;
+
+    @Column(name = "notification_date", nullable = false)
+    private LocalDate notificationDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    // 선점할 때마다 새로 발급 (결과 반영 시 아직 이 워커의 선점인지 확인)
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    // 이 시각 이후에는 발송하지 않음 (지난 알림 방지)
+    @Column(name = "deadline_at", nullable = false)
+    private LocalDateTime deadlineAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // 사전 예약 발송 시각 (NULL이면 즉시 발송)
+    @Column(name = "post_at")
+    private LocalDateTime postAt;
+
+    // chat.scheduleMessage 결과 (재예약 시 삭제 대상)
+    @Column(name = "scheduled_message_id", length = 50)
+    private String scheduledMessageId;
+
+    // 한 번이라도 예약한 행이면 남아 있음 (예약 메시지를 삭제해도 유지)
+    @Column(name = "scheduled_channel_id", length = 30)
+    private String scheduledChannelId;
+
+    // 처리 중(PROCESSING)에 들어온 재예약 요청 (결과 반영 후 다시 PENDING으로)
+    @Builder.Default
+    @Column(name = "reschedule_requested", nullable = false)
+    private boolean rescheduleRequested = false;
+
+    public void claim(LocalDateTime lockedUntil, String claimToken) {
+        this.status = OutboxStatus.PROCESSING;
+        this.lockedUntil = lockedUntil;
+        this.claimToken = claimToken;
+    }
+
+    public void markSent() {
+        this.status = OutboxStatus.SENT;
+        this.attempts++;
+        this.lockedUntil = null;
+        this.lastError = null;
+        this.rescheduleRequested = false;
+    }
+
+    public void markScheduled(String channelId, String scheduledMessageId) {
+        this.status = OutboxStatus.SCHEDULED;
+        this.attempts++;
+        this.lockedUntil = null;
+        this.lastError = null;
+        this.scheduledChannelId = channelId;
+        this.scheduledMessageId = scheduledMessageId;
+    }
+
+    /**
+     * 처리 중 요청된 재예약 반영 (방금 예약한 메시지를 다음 outbox 처리에서 삭제 후 다시 예약)
+     * - 설정 변경으로 발송 시각이 미뤄진 행은 그 시각에 처리
+     */
+    public void reschedule(LocalDateTime now) {
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt.isAfter(now) ? nextAttemptAt : now;
+        this.rescheduleRequested = false;
+    }
+
+    /**
+     * 알림 설정 변경으로 바뀐 게시 시각 반영
+     * - 새 시각이 scheduleFrom 이후면 다음 outbox 처리에서 기존 예약을 삭제하고 새 시각으로 다시 예약
+     * - 그 이전이면 사전 예약을 풀고 새 시각에 즉시 발송 (기존 예약은 발송 전에 삭제)
+     * - 처리 중(PROCESSING)인 행은 결과 반영 후 다시 PENDING으로 돌리도록 표시
+     */
+    public void changePostAt(LocalDateTime postAt, LocalDateTime deadlineAt, LocalDateTime scheduleFrom,
+                             LocalDateTime now) {
+        boolean schedulable = postAt.isAfter(scheduleFrom);
+        this.postAt = schedulable ? postAt : null;
+        this.deadlineAt = deadlineAt;
+        this.nextAttemptAt = schedulable || !postAt.isAfter(now) ? now : postAt;
+
+        if (status == OutboxStatus.PROCESSING) {
+            this.rescheduleRequested = true;
+        } else {
+            this.status = OutboxStatus.PENDING;
+            this.attempts = 0;
+        }
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttemptAt, String error) {
+        this.status = OutboxStatus.PENDING;
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedUntil = null;
+        this.lastError = error;
+        // 다음 시도에서 Task 목록을 다시 읽으므로 재예약 요청도 함께 반영됨
+        this.rescheduleRequested = false;
+    }
+
+    public void markFailed(String error) {
+        this.status = OutboxStatus.FAILED;
+        this.attempts++;
+        this.lockedUntil = null;
+        this.lastError = error;
+        this.rescheduleRequested = false;
+    }
+}
@@ -0,0 +1,156 @@
+package com.kanva.domain.notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 처리 가능한 outbox 행 선점 조회
+     * - PENDING이면서 재시도 시각이 된 행, 또는 lease가 만료된 PROCESSING 행 (워커 비정상 종료)
+     * - 다른 노드가 잠근 행은 건너뛰어 노드 간 중복 처리 없음
+     */
+    @Query(value = """
+        SELECT * FROM notification_outbox
+        WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+           OR (status = 'PROCESSING' AND locked_until < :now)
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<NotificationOutbox> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 결과 반영할 행 잠금 조회
+     * - 같은 선점 토큰의 PROCESSING 행만 (lease 만료 후 다른 워커가 다시 선점한 행은 제외)
+     * - 잠금을 잡은 동안에는 다른 워커가 다시 선점할 수 없으므로 결과 반영까지 선점이 유지됨
+     */
+    @Query(value = """
+        SELECT * FROM notification_outbox
+        WHERE id IN (:ids)
+          AND claim_token = :claimToken
+          AND status = 'PROCESSING'
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<NotificationOutbox> findClaimedForUpdate(@Param("ids") Collection<Long> ids,
+                                                  @Param("claimToken") String claimToken);
+
+    /**
+     * 알림 설정 변경 시 게시 시각을 다시 계산할 사전 예약 행 잠금 조회
+     * - 게시 시각이 scheduleFrom 이후인 PENDING / SCHEDULED / PROCESSING 행
+     *   (곧 게시될 예약은 Slack이 이미 게시했을 수 있으므로 건드리지 않음)
+     * - 잠금을 잡은 동안에는 워커가 결과를 반영하지 못하므로 처리 중인 행의 결과와 덮어쓰지 않음
+     */
+    @Query(value = """
+        SELECT * FROM notification_outbox
+        WHERE user_id = :userId
+          AND post_at > :scheduleFrom
+          AND status IN ('PENDING', 'SCHEDULED', 'PROCESSING')
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<NotificationOutbox> findPreScheduledForUpdate(@Param("userId") Long userId,
+                                                       @Param("scheduleFrom") LocalDateTime scheduleFrom);
+
+    /**
+     * 특정 날짜의 예약 발송 재예약 요청
+     * - 아직 게시되지 않은 SCHEDULED 행을 PENDING으로 돌려 다음 outbox 처리에서 삭제 후 다시 예약
+     */
+    @Modifying
+    @Query("""
+        UPDATE NotificationOutbox o
+        SET o.status = com.kanva.domain.notification.OutboxStatus.PENDING,
+            o.attempts = 0,
+            o.nextAttemptAt = :now,
+            o.updatedAt = :now
+        WHERE o.user.id = :userId
+          AND o.notificationDate = :date
+          AND o.status = com.kanva.domain.notification.OutboxStatus.SCHEDULED
+          AND o.postAt > :now
+        """)
+    int requestReschedule(@Param("userId") Long userId,
+                          @Param("date") LocalDate date,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자의 모든 예약 발송 재예약 요청 (반복 Task 변경처럼 날짜를 특정할 수 없는 경우)
+     */
+    @Modifying
+    @Query("""
+        UPDATE NotificationOutbox o
+        SET o.status = com.kanva.domain.notification.OutboxStatus.PENDING,
+            o.attempts = 0,
+            o.nextAttemptAt = :now,
+            o.updatedAt = :now
+        WHERE o.user.id = :userId
+          AND o.status = com.kanva.domain.notification.OutboxStatus.SCHEDULED
+          AND o.postAt > :now
+        """)
+    int requestRescheduleAll(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 중인 특정 날짜 예약 발송에 재예약 요청 표시
+     * - 처리 중에 바뀐 Task가 이번 예약에 빠졌을 수 있으므로 결과 반영 후 다시 예약
+     */
+    @Modifying
+    @Query("""
+        UPDATE NotificationOutbox o
+        SET o.rescheduleRequested = true,
+            o.updatedAt = :now
+        WHERE o.user.id = :userId
+          AND o.notificationDate = :date
+          AND o.status = com.kanva.domain.notification.OutboxStatus.PROCESSING
+          AND o.postAt > :now
+        """)
+    int markRescheduleRequested(@Param("userId") Long userId,
+                                @Param("date") LocalDate date,
+                                @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 중인 사용자의 모든 예약 발송에 재예약 요청 표시
+     */
+    @Modifying
+    @Query("""
+        UPDATE NotificationOutbox o
+        SET o.rescheduleRequested = true,
+            o.updatedAt = :now
+        WHERE o.user.id = :userId
+          AND o.status = com.kanva.domain.notification.OutboxStatus.PROCESSING
+          AND o.postAt > :now
+        """)
+    int markRescheduleRequestedAll(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 삭제된 예약 메시지 ID 비우기 (재예약 도중 실패해도 삭제된 메시지를 예약된 것으로 남기지 않음)
+     */
+    @Modifying
+    @Query("""
+        UPDATE NotificationOutbox o
+        SET o.scheduledMessageId = NULL,
+            o.updatedAt = :now
+        WHERE o.id = :id
+          AND o.scheduledMessageId = :scheduledMessageId
+        """)
+    int clearScheduledMessage(@Param("id") Long id,
+                              @Param("scheduledMessageId") String scheduledMessageId,
+                              @Param("now") LocalDateTime now);
+
+    /**
+     * 게시 시각이 지난 예약 발송을 SENT로 정리
+     */
+    @Modifying
+    @Query("""
+        UPDATE NotificationOutbox o
+        SET o.status = com.kanva.domain.notification.OutboxStatus.SENT,
+            o.updatedAt = :now
+        WHERE o.status = com.kanva.domain.notification.OutboxStatus.SCHEDULED
+          AND o.postAt <= :now
+        """)
+    int markScheduledPosted(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,7 @@
+package com.kanva.domain.notification;
+
+/**
+ * 사용자의 알림 시각 설정(선호 시각, 시간대, jitter)이 바뀌었음을 알리는 이벤트 (트랜잭션 커밋 후 처리)
+ */
+public record NotificationPreferencesChangedEvent(Long userId) {
+}
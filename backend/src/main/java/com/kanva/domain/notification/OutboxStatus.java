@@ -0,0 +1,17 @@
+package com.kanva.domain.notification;
+
+/**
+ * 알림 outbox 처리 상태
+ */
+public enum OutboxStatus {
+    /** 발송 대기 (nextAttemptAt 이후 처리 가능) */
+    PENDING,
+    /** 워커가 선점하여 발송 중 (lockedUntil까지) */
+    PROCESSING,
+    /** chat.scheduleMessage로 Slack에 예약 완료 (postAt에 Slack이 게시) */
+    SCHEDULED,
+    /** 발송 완료 */
+    SENT,
+    /** 재시도 불가 또는 재시도 소진 */
+    FAILED
+}
@@ -14,7 +14,8 @@ import java.time.LocalDate;
 @Table(name = "ai_reports",
         indexes = {
                 @Index(name = "idx_ai_report_user_period", columnList = "user_id, period_start, period_end"),
-                @Index(name = "idx_ai_report_user_status", columnList = "user_id, status")
+                @Index(name = "idx_ai_report_user_status", columnList = "user_id, status"),
+                @Index(name = "idx_ai_report_user_fingerprint", columnList = "user_id, fingerprint")
         }
 )
 @Getter
@@ -43,6 +44,16 @@ public class AIReport extends BaseEntity {
     @Column(nullable = false, length = 20)
     private ReportStatus status;
 
+    @Column(nullable = false, length = 20)
+    private String tone;
+
+    // 분석 입력(기간, 톤, Task/DailyNote 버전 등) SHA-256, 같은 값의 COMPLETED 리포트는 재사용 (대체 결과는 NULL)
+    @Column(length = 64)
+    private String fingerprint;
+
+    // fingerprint 계산에 쓴 기한초과 기준일 (주간 리포트 재사용 시 같은 날짜로 다시 계산해 비교)
+    private LocalDate fingerprintDate;
+
     // 분석 결과 데이터
     private Integer totalTasks;
     private Integer completedTasks;
@@ -66,11 +77,15 @@ public class AIReport extends BaseEntity {
     private ReportFeedback feedback;
 
     @Builder
-    public AIReport(User user, ReportPeriodType periodType, LocalDate periodStart, LocalDate periodEnd) {
+    public AIReport(User user, ReportPeriodType periodType, LocalDate periodStart, LocalDate periodEnd,
+                    String tone, String fingerprint, LocalDate fingerprintDate) {
         this.user = user;
         this.periodType = periodType;
         this.periodStart = periodStart;
         this.periodEnd = periodEnd;
+        this.tone = tone;
+        this.fingerprint = fingerprint;
+        this.fingerprintDate = fingerprintDate;
         this.status = ReportStatus.GENERATING;
     }
 
@@ -86,6 +101,14 @@ public class AIReport extends BaseEntity {
         this.status = ReportStatus.COMPLETED;
     }
 
+    /**
+     * 실제 분석한 데이터 기준으로 fingerprint 갱신 (요청 이후 데이터가 바뀐 경우 대비)
+     */
+    public void updateFingerprint(String fingerprint, LocalDate fingerprintDate) {
+        this.fingerprint = fingerprint;
+        this.fingerprintDate = fingerprintDate;
+    }
+
     public void fail(String errorMessage) {
         this.errorMessage = errorMessage;
         this.status = ReportStatus.FAILED;
@@ -3,10 +3,13 @@ package com.kanva.domain.report;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface AIReportRepository extends JpaRepository<AIReport, Long> {
@@ -40,12 +43,72 @@ public interface AIReportRepository extends JpaRepository<AIReport, Long> {
             Long userId, ReportStatus status, Pageable pageable);
 
     /**
-     * 사용자의 특정 기간 타입 최신 완료 리포트 (트렌드 비교용)
+     * 사용자의 특정 기간 타입 최신 완료 리포트 중 before 이전에 끝난 기간 (트렌드 비교용)
+     * - 같은 기간 리포트는 제외 (자기 자신의 결과로 fingerprint가 바뀌지 않도록)
      */
     @Query("SELECT r FROM AIReport r WHERE r.user.id = :userId " +
             "AND r.periodType = :periodType AND r.status = 'COMPLETED' " +
+            "AND r.periodEnd < :before " +
             "ORDER BY r.createdAt DESC LIMIT 1")
     Optional<AIReport> findLatestCompletedByUserAndType(
             @Param("userId") Long userId,
-            @Param("periodType") ReportPeriodType periodType);
+            @Param("periodType") ReportPeriodType periodType,
+            @Param("before") LocalDate before);
+
+    /**
+     * 기간 안에 있는 COMPLETED 주간 리포트 요약 (월간 리포트 재료, 최근 갱신순)
+     * - fingerprint가 없는 대체 결과(와 기준일을 저장하기 전 리포트)는 제외
+     */
+    @Query("SELECT r.id AS id, r.periodStart AS periodStart, r.periodEnd AS periodEnd, r.tone AS tone, " +
+            "r.fingerprint AS fingerprint, r.fingerprintDate AS fingerprintDate, " +
+            "r.summary AS summary, r.insights AS insights, " +
+            "r.updatedAt AS updatedAt " +
+            "FROM AIReport r WHERE r.user.id = :userId " +
+            "AND r.periodType = 'WEEKLY' AND r.status = 'COMPLETED' " +
+            "AND r.fingerprint IS NOT NULL AND r.fingerprintDate IS NOT NULL " +
+            "AND r.periodStart >= :from AND r.periodEnd <= :to " +
+            "ORDER BY r.updatedAt DESC")
+    List<WeeklyReportDigestView> findCompletedWeeklyDigests(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * 리포트 상태만 조회 (영속성 컨텍스트를 거치지 않고 최신 커밋 값 확인)
+     */
+    @Query("SELECT r.status FROM AIReport r WHERE r.id = :id")
+    Optional<ReportStatus> findStatusById(@Param("id") Long id);
+
+    /**
+     * 같은 입력으로 생성된 최신 리포트 (fingerprint 캐시)
+     */
+    Optional<AIReport> findFirstByUserIdAndFingerprintAndStatusOrderByCreatedAtDesc(
+            Long userId, String fingerprint, ReportStatus status);
+
+    /**
+     * 같은 기간/톤으로 생성 중인 리포트 (uk_ai_report_generating 충돌 시 기존 리포트 조회)
+     */
+    Optional<AIReport> findFirstByUserIdAndPeriodTypeAndPeriodStartAndPeriodEndAndToneAndStatusOrderByCreatedAtDesc(
+            Long userId, ReportPeriodType periodType, LocalDate periodStart, LocalDate periodEnd, String tone,
+            ReportStatus status);
+
+    /**
+     * 오래 GENERATING 상태로 남은 리포트 실패 처리 (재시작 등으로 작업이 유실된 경우)
+     * - 마지막 시도 시각(updatedAt) 기준이므로 재시도 중인 리포트는 시도할 때마다 기한이 늘어남
+     */
+    @Modifying
+    @Query("UPDATE AIReport r SET r.status = com.kanva.domain.report.ReportStatus.FAILED, " +
+            "r.errorMessage = :errorMessage, r.updatedAt = :now " +
+            "WHERE r.status = com.kanva.domain.report.ReportStatus.GENERATING AND r.updatedAt < :before")
+    int failStaleGenerating(@Param("before") LocalDateTime before,
+                            @Param("errorMessage") String errorMessage,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * GENERATING 리포트의 마지막 시도 시각 갱신 (재시도 중에 시간 초과로 정리되지 않도록)
+     */
+    @Modifying
+    @Query("UPDATE AIReport r SET r.updatedAt = :now " +
+            "WHERE r.id = :id AND r.status = com.kanva.domain.report.ReportStatus.GENERATING")
+    int touchGenerating(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
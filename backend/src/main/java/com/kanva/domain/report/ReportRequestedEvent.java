@@ -0,0 +1,7 @@
+package com.kanva.domain.report;
+
+/**
+ * 리포트 생성 요청 이벤트 (GENERATING 리포트 저장 트랜잭션 커밋 후 처리)
+ */
+public record ReportRequestedEvent(Long reportId) {
+}
@@ -0,0 +1,29 @@
+package com.kanva.domain.report;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 월간 리포트 요약용 주간 리포트 프로젝션 (재사용 판단용 tone/fingerprint/fingerprintDate, summary, insights)
+ * - 통계는 월 범위 안의 날짜만 다시 집계하므로 포함하지 않음
+ */
+public interface WeeklyReportDigestView {
+
+    Long getId();
+
+    LocalDate getPeriodStart();
+
+    LocalDate getPeriodEnd();
+
+    String getTone();
+
+    String getFingerprint();
+
+    LocalDate getFingerprintDate();
+
+    String getSummary();
+
+    String getInsights();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,60 @@
+package com.kanva.domain.scheduler;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * 만료된 lease 갱신 (만료되지 않았으면 0 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE SchedulerLock l
+        SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :lockedBy
+        WHERE l.name = :name
+          AND l.lockedUntil <= :now
+        """)
+    int acquireExpired(@Param("name") String name,
+                       @Param("now") LocalDateTime now,
+                       @Param("lockedUntil") LocalDateTime lockedUntil,
+                       @Param("lockedBy") String lockedBy);
+
+    /**
+     * 보유 중인 lease 연장 (만료되었거나 다른 인스턴스가 보유 중이면 0 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE SchedulerLock l
+        SET l.lockedUntil = :lockedUntil
+        WHERE l.name = :name
+          AND l.lockedBy = :lockedBy
+          AND l.lockedUntil > :now
+        """)
+    int renew(@Param("name") String name,
+              @Param("now") LocalDateTime now,
+              @Param("lockedUntil") LocalDateTime lockedUntil,
+              @Param("lockedBy") String lockedBy);
+
+    /**
+     * lease 행 최초 생성 (이미 있으면 0 반환, 동시 생성 시 PK 위반)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO scheduler_locks (name, locked_until, locked_at, locked_by)
+        SELECT :name, :lockedUntil, :now, :lockedBy
+        WHERE NOT EXISTS (SELECT 1 FROM scheduler_locks WHERE name = :name)
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name,
+                       @Param("now") LocalDateTime now,
+                       @Param("lockedUntil") LocalDateTime lockedUntil,
+                       @Param("lockedBy") String lockedBy);
+}
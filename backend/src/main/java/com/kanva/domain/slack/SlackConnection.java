@@ -1,10 +1,15 @@
 package com.kanva.domain.slack;
 
+import com.kanva.config.ClockConfig;
 import com.kanva.domain.BaseEntity;
+import com.kanva.domain.notification.NotificationSlot;
 import com.kanva.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalTime;
+import java.time.ZoneId;
+
 @Entity
 @Table(name = "slack_connections")
 @Getter
@@ -13,6 +18,9 @@ import lombok.*;
 @Builder
 public class SlackConnection extends BaseEntity {
 
+    public static final LocalTime DEFAULT_MORNING_TIME = LocalTime.of(8, 0);
+    public static final LocalTime DEFAULT_EVENING_TIME = LocalTime.of(17, 0);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -36,6 +44,21 @@ public class SlackConnection extends BaseEntity {
     @Column(nullable = false)
     private boolean notificationsEnabled = true;
 
+    // conversations.open으로 얻은 봇-사용자 DM 채널 ID (발송 시마다 다시 열지 않기 위해 저장)
+    @Column(length = 30)
+    private String dmChannelId;
+
+    // 알림 선호 시각/시간대 (null이면 08:00 / 17:00, Asia/Seoul)
+    private LocalTime morningTime;
+
+    private LocalTime eveningTime;
+
+    @Column(length = 50)
+    private String timeZone;
+
+    // 선호 시각부터 최대 몇 분 뒤까지 분산 발송할지 (null이면 0)
+    private Integer jitterMinutes;
+
     public void updateBotToken(String botToken) {
         this.botToken = botToken;
     }
@@ -47,4 +70,27 @@ public class SlackConnection extends BaseEntity {
     public void disableNotifications() {
         this.notificationsEnabled = false;
     }
+
+    public void updateNotificationPreferences(LocalTime morningTime, LocalTime eveningTime,
+                                              String timeZone, int jitterMinutes) {
+        this.morningTime = morningTime;
+        this.eveningTime = eveningTime;
+        this.timeZone = timeZone;
+        this.jitterMinutes = jitterMinutes;
+    }
+
+    public LocalTime getNotificationTime(NotificationSlot slot) {
+        return switch (slot) {
+            case MORNING -> morningTime != null ? morningTime : DEFAULT_MORNING_TIME;
+            case EVENING -> eveningTime != null ? eveningTime : DEFAULT_EVENING_TIME;
+        };
+    }
+
+    public ZoneId getZoneIdOrDefault() {
+        return timeZone != null ? ZoneId.of(timeZone) : ClockConfig.SEOUL_ZONE;
+    }
+
+    public int getJitterMinutesOrDefault() {
+        return jitterMinutes != null ? jitterMinutes : 0;
+    }
 }
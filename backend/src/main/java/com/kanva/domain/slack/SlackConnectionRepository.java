@@ -1,12 +1,16 @@
 package com.kanva.domain.slack;
 
+import com.kanva.domain.notification.NotificationSlot;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 public interface SlackConnectionRepository extends JpaRepository<SlackConnection, Long> {
 
@@ -19,10 +23,11 @@ public interface SlackConnectionRepository extends JpaRepository<SlackConnection
     boolean existsByUserId(Long userId);
 
     /**
-     * 알림 발송 대상자 조회
+     * 알림 발송 대상자 페이지 조회 (keyset 페이지네이션)
      * - 알림 활성화된 사용자
      * - botToken과 slackUserId가 모두 존재
-     * - 제외할 사용자 ID 목록에 없는 사용자
+     * - 해당 날짜/시간대에 SUCCESS 이력이 없는 사용자 (anti-join)
+     * - id > afterId 순으로 limit건
      */
     @Query("""
         SELECT sc FROM SlackConnection sc
@@ -30,12 +35,23 @@ public interface SlackConnectionRepository extends JpaRepository<SlackConnection
         WHERE sc.notificationsEnabled = true
           AND sc.botToken IS NOT NULL
           AND sc.slackUserId IS NOT NULL
-          AND sc.user.id NOT IN :excludeUserIds
+          AND sc.id > :afterId
+          AND NOT EXISTS (
+              SELECT 1 FROM NotificationLog nl
+              WHERE nl.user.id = sc.user.id
+                AND nl.notificationDate = :date
+                AND nl.slot = :slot
+                AND nl.result = 'SUCCESS'
+          )
+        ORDER BY sc.id ASC
         """)
-    List<SlackConnection> findNotificationTargets(@Param("excludeUserIds") Set<Long> excludeUserIds);
+    List<SlackConnection> findNotificationTargetPage(@Param("afterId") Long afterId,
+                                                     @Param("slot") NotificationSlot slot,
+                                                     @Param("date") LocalDate date,
+                                                     Limit limit);
 
     /**
-     * 알림 발송 대상자 조회 (제외 목록 없음)
+     * 지정된 사용자들 중 알림 발송 가능한 대상자 조회 (outbox 처리용)
      */
     @Query("""
         SELECT sc FROM SlackConnection sc
@@ -43,6 +59,14 @@ public interface SlackConnectionRepository extends JpaRepository<SlackConnection
         WHERE sc.notificationsEnabled = true
           AND sc.botToken IS NOT NULL
           AND sc.slackUserId IS NOT NULL
+          AND sc.user.id IN :userIds
         """)
-    List<SlackConnection> findAllNotificationTargets();
+    List<SlackConnection> findNotificationTargetsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * DM 채널 ID 저장/삭제 (null이면 무효화)
+     */
+    @Modifying
+    @Query("UPDATE SlackConnection sc SET sc.dmChannelId = :dmChannelId WHERE sc.user.id = :userId")
+    int updateDmChannelId(@Param("userId") Long userId, @Param("dmChannelId") String dmChannelId);
 }
@@ -0,0 +1,19 @@
+package com.kanva.domain.task;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자의 Task 목록이 바뀌었음을 알리는 이벤트 (트랜잭션 커밋 후 처리)
+ *
+ * @param date 바뀐 날짜, 반복 Task처럼 여러 날짜에 걸친 변경이면 null
+ */
+public record TaskChangedEvent(Long userId, LocalDate date) {
+
+    public static TaskChangedEvent of(Long userId, LocalDate date) {
+        return new TaskChangedEvent(userId, date);
+    }
+
+    public static TaskChangedEvent allDates(Long userId) {
+        return new TaskChangedEvent(userId, null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.kanva.domain.task;
+
+import java.time.LocalDate;
+
+/**
+ * AI 리포트 프롬프트용 Task 프로젝션 (description은 앞부분만)
+ */
+public interface TaskPromptView {
+
+    LocalDate getDate();
+
+    String getTitle();
+
+    String getDescription();
+
+    TaskStatus getStatus();
+
+    LocalDate getDueDate();
+
+    boolean isSeries();
+}
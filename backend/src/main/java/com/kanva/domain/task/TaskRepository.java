@@ -1,13 +1,18 @@
 package com.kanva.domain.task;
 
+import com.kanva.domain.EntityVersion;
 import com.kanva.domain.dailynote.DailyNote;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
@@ -41,6 +46,71 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t FROM Task t JOIN FETCH t.dailyNote d WHERE d.user.id = :userId AND d.date BETWEEN :startDate AND :endDate ORDER BY d.date ASC, t.position ASC")
     List<Task> findByUserIdAndDateRange(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    // AI 리포트: 기간 내 Task 버전 (리포트 캐시 fingerprint용)
+    @Query("SELECT new com.kanva.domain.EntityVersion(t.id, t.updatedAt) FROM Task t JOIN t.dailyNote d WHERE d.user.id = :userId AND d.date BETWEEN :startDate AND :endDate")
+    List<EntityVersion> findVersionsByUserIdAndDateRange(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * AI 리포트 통계: 날짜/카테고리/유형/상태/반복 여부별 Task 수
+     * - Task 엔티티 대신 집계 행만 조회 (한 달이어도 수십~수백 행)
+     */
+    @Query("""
+            SELECT d.date AS date, t.category AS category, t.type AS type, t.status AS status,
+                   CASE WHEN t.series.id IS NULL THEN false ELSE true END AS series,
+                   COUNT(t) AS taskCount,
+                   SUM(CASE WHEN t.dueDate < :today AND t.status <> com.kanva.domain.task.TaskStatus.COMPLETED
+                            THEN 1 ELSE 0 END) AS overdueCount
+            FROM Task t JOIN t.dailyNote d
+            WHERE d.user.id = :userId
+            AND d.date BETWEEN :startDate AND :endDate
+            GROUP BY d.date, t.category, t.type, t.status, CASE WHEN t.series.id IS NULL THEN false ELSE true END
+            """)
+    List<TaskStatisticsView> findStatisticsByUserIdAndDateRange(@Param("userId") Long userId,
+                                                                @Param("startDate") LocalDate startDate,
+                                                                @Param("endDate") LocalDate endDate,
+                                                                @Param("today") LocalDate today);
+
+    /**
+     * AI 리포트 프롬프트용 Task (날짜/순서 정렬, description은 앞 201자만)
+     */
+    @Query("""
+            SELECT d.date AS date, t.title AS title, SUBSTRING(t.description, 1, 201) AS description,
+                   t.status AS status, t.dueDate AS dueDate,
+                   CASE WHEN t.series.id IS NULL THEN false ELSE true END AS series
+            FROM Task t JOIN t.dailyNote d
+            WHERE d.user.id = :userId
+            AND d.date BETWEEN :startDate AND :endDate
+            ORDER BY d.date ASC, t.position ASC
+            """)
+    List<TaskPromptView> findPromptTasksByUserIdAndDateRange(@Param("userId") Long userId,
+                                                             @Param("startDate") LocalDate startDate,
+                                                             @Param("endDate") LocalDate endDate,
+                                                             Limit limit);
+
+    /**
+     * AI 리포트 사전 생성 대상 사용자 (keyset 페이지네이션)
+     * - 기간 내 Task가 있는 사용자만 (집계 조인으로 Task 없는 사용자는 건너뜀)
+     * - 같은 기간의 주간 리포트가 이미 있으면 제외 (FAILED는 다시 생성)
+     */
+    @Query("""
+            SELECT d.user.id FROM Task t JOIN t.dailyNote d
+            WHERE d.date BETWEEN :startDate AND :endDate
+              AND d.user.id > :afterUserId
+              AND NOT EXISTS (
+                  SELECT 1 FROM AIReport r
+                  WHERE r.user.id = d.user.id
+                    AND r.periodType = com.kanva.domain.report.ReportPeriodType.WEEKLY
+                    AND r.periodStart = :startDate
+                    AND r.status <> com.kanva.domain.report.ReportStatus.FAILED
+              )
+            GROUP BY d.user.id
+            ORDER BY d.user.id ASC
+            """)
+    List<Long> findWeeklyReportTargetUserIds(@Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate,
+                                             @Param("afterUserId") Long afterUserId,
+                                             Limit limit);
+
     // Dashboard: 마감 임박 (today ~ today+7, not completed)
     @Query("SELECT t FROM Task t JOIN FETCH t.dailyNote d WHERE d.user.id = :userId AND t.dueDate BETWEEN :startDate AND :endDate AND t.status != 'COMPLETED' ORDER BY t.dueDate ASC")
     List<Task> findDueSoonTasks(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
@@ -51,6 +121,23 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     // TaskSeries: 해당 시리즈의 해당 날짜 인스턴스 존재 여부 확인
     boolean existsBySeries_IdAndTaskDate(Long seriesId, LocalDate taskDate);
 
+    // TaskSeries: 여러 시리즈 중 해당 날짜 인스턴스가 이미 존재하는 시리즈 ID
+    @Query("SELECT t.series.id FROM Task t WHERE t.taskDate = :taskDate AND t.series.id IN :seriesIds")
+    Set<Long> findSeriesIdsWithInstanceOn(@Param("seriesIds") Collection<Long> seriesIds, @Param("taskDate") LocalDate taskDate);
+
+    /**
+     * 알림용: 여러 사용자의 특정 날짜 Task 제목/상태 조회
+     * - 엔티티 대신 필요한 컬럼만 프로젝션으로 조회
+     */
+    @Query("""
+            SELECT d.user.id AS userId, t.title AS title, t.status AS status
+            FROM Task t JOIN t.dailyNote d
+            WHERE d.user.id IN :userIds
+            AND d.date = :date
+            ORDER BY d.user.id ASC, t.position ASC
+            """)
+    List<TaskTitleView> findTitlesByUserIdsAndDate(@Param("userIds") Collection<Long> userIds, @Param("date") LocalDate date);
+
     // TaskSeries: 해당 시리즈의 해당 날짜 인스턴스 삭제
     @Modifying
     @Query("DELETE FROM Task t WHERE t.series.id = :seriesId AND t.taskDate = :taskDate")
@@ -67,4 +154,33 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Modifying
     @Query("DELETE FROM Task t WHERE t.series.id = :seriesId AND t.taskDate > :cutoffDate")
     int deleteBySeries_IdAndTaskDateAfter(@Param("seriesId") Long seriesId, @Param("cutoffDate") LocalDate cutoffDate);
+
+    /**
+     * 시리즈 정보 변경을 미래 인스턴스에 일괄 반영
+     * - 완료되지 않은 인스턴스만 대상 (완료된 기록은 보존)
+     * - 벌크 연산은 Auditing을 거치지 않으므로 updatedAt을 직접 설정
+     * - 영속성 컨텍스트를 비워 이미 로딩된 Task가 이전 값을 보여주지 않도록 함
+     *
+     * @param seriesId 시리즈 ID
+     * @param cutoffDate 기준 날짜 (이 날짜 초과인 인스턴스 수정)
+     * @param category 바뀐 카테고리 (null이면 인스턴스의 기존 카테고리 유지)
+     * @return 수정된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Task t
+            SET t.title = :title,
+                t.description = :description,
+                t.category = COALESCE(:category, t.category),
+                t.updatedAt = :updatedAt
+            WHERE t.series.id = :seriesId
+            AND t.taskDate > :cutoffDate
+            AND t.status <> 'COMPLETED'
+            """)
+    int updateFutureInstancesBySeriesId(@Param("seriesId") Long seriesId,
+                                        @Param("cutoffDate") LocalDate cutoffDate,
+                                        @Param("title") String title,
+                                        @Param("description") String description,
+                                        @Param("category") TaskCategory category,
+                                        @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,24 @@
+package com.kanva.domain.task;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜/카테고리/유형/상태/반복 여부별 Task 집계 프로젝션 (AI 리포트 통계용)
+ */
+public interface TaskStatisticsView {
+
+    LocalDate getDate();
+
+    TaskCategory getCategory();
+
+    TaskType getType();
+
+    TaskStatus getStatus();
+
+    boolean isSeries();
+
+    long getTaskCount();
+
+    // 기준일에 마감일이 지났고 완료되지 않은 Task 수
+    long getOverdueCount();
+}
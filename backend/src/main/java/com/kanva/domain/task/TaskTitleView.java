@@ -0,0 +1,13 @@
+package com.kanva.domain.task;
+
+/**
+ * Task 제목/상태 프로젝션 (알림 메시지 구성용)
+ */
+public interface TaskTitleView {
+
+    Long getUserId();
+
+    String getTitle();
+
+    TaskStatus getStatus();
+}
@@ -1,6 +1,7 @@
 package com.kanva.domain.taskseries;
 
 import com.kanva.domain.BaseEntity;
+import com.kanva.domain.task.TaskCategory;
 import com.kanva.domain.user.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -43,6 +44,14 @@ public class TaskSeries extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    /**
+     * 인스턴스에 적용할 카테고리
+     * - 기존 데이터 호환을 위해 nullable (null이면 WORK로 취급)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private TaskCategory category;
+
     @Column(name = "start_date", nullable = false)
     private LocalDate startDate;
 
@@ -70,12 +79,13 @@ public class TaskSeries extends BaseEntity {
     private boolean stopOnComplete;
 
     @Builder
-    public TaskSeries(User user, String title, String description,
+    public TaskSeries(User user, String title, String description, TaskCategory category,
                       LocalDate startDate, LocalDate endDate,
                       CompletionPolicy completionPolicy) {
         this.user = user;
         this.title = title;
         this.description = description;
+        this.category = category != null ? category : TaskCategory.WORK;
         this.startDate = startDate;
         this.endDate = endDate;
         this.completionPolicy = completionPolicy != null ? completionPolicy : CompletionPolicy.PER_OCCURRENCE;
@@ -83,6 +93,25 @@ public class TaskSeries extends BaseEntity {
         this.stopOnComplete = this.completionPolicy == CompletionPolicy.COMPLETE_STOPS_SERIES;
     }
 
+    /**
+     * 시리즈 기본 정보 수정 (제목, 설명, 카테고리)
+     * category가 null이면 기존 값 유지
+     */
+    public void updateInfo(String title, String description, TaskCategory category) {
+        this.title = title;
+        this.description = description;
+        if (category != null) {
+            this.category = category;
+        }
+    }
+
+    /**
+     * 인스턴스에 적용할 카테고리 (기존 데이터는 WORK)
+     */
+    public TaskCategory getCategoryOrDefault() {
+        return this.category != null ? this.category : TaskCategory.WORK;
+    }
+
     /**
      * 시리즈 중단 (COMPLETE_STOPS_SERIES 정책에서 인스턴스 완료 시 호출)
      *
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
 
 public interface TaskSeriesExcludedDateRepository extends JpaRepository<TaskSeriesExcludedDate, TaskSeriesExcludedDateId> {
 
@@ -17,6 +19,9 @@ public interface TaskSeriesExcludedDateRepository extends JpaRepository<TaskSeri
 
     long countByIdTaskSeriesId(Long taskSeriesId);
 
+    @Query("SELECT e.id.taskSeriesId FROM TaskSeriesExcludedDate e WHERE e.id.date = :date AND e.id.taskSeriesId IN :taskSeriesIds")
+    Set<Long> findExcludedSeriesIds(@Param("taskSeriesIds") Collection<Long> taskSeriesIds, @Param("date") LocalDate date);
+
     @Modifying
     @Query("DELETE FROM TaskSeriesExcludedDate e WHERE e.id.taskSeriesId = :taskSeriesId")
     void deleteAllByTaskSeriesId(@Param("taskSeriesId") Long taskSeriesId);
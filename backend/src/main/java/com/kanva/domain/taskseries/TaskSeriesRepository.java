@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskSeriesRepository extends JpaRepository<TaskSeries, Long> {
@@ -37,6 +38,21 @@ public interface TaskSeriesRepository extends JpaRepository<TaskSeries, Long> {
             """)
     List<TaskSeries> findGeneratableSeriesForUserAndDate(@Param("userId") Long userId, @Param("date") LocalDate date);
 
+    /**
+     * 일괄 생성용: 여러 사용자의 특정 날짜에 대한 생성 가능 시리즈 조회
+     * - 알림 발송 전 대상자 페이지 단위로 한 번에 인스턴스를 생성하기 위함
+     */
+    @Query("""
+            SELECT ts FROM TaskSeries ts
+            JOIN FETCH ts.user
+            WHERE ts.user.id IN :userIds
+            AND ts.startDate <= :date
+            AND ts.endDate >= :date
+            AND (ts.stopDate IS NULL OR ts.stopDate >= :date)
+            """)
+    List<TaskSeries> findGeneratableSeriesForUsersAndDate(@Param("userIds") Collection<Long> userIds,
+                                                          @Param("date") LocalDate date);
+
     /**
      * 사용자의 시리즈 목록 조회 (전체)
      */
@@ -0,0 +1,59 @@
+package com.kanva.dto.notification;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * 알림 시각 설정 요청 DTO
+ *
+ * 시각은 timeZone 기준 현지 시각
+ */
+@Getter
+@NoArgsConstructor
+public class NotificationSettingsRequest {
+
+    @NotNull(message = "오전 알림 시각은 필수입니다")
+    private LocalTime morningTime;
+
+    @NotNull(message = "오후 알림 시각은 필수입니다")
+    private LocalTime eveningTime;
+
+    @NotBlank(message = "시간대는 필수입니다")
+    private String timeZone;
+
+    @Min(value = 0, message = "분산 발송 범위는 0분 이상이어야 합니다")
+    @Max(value = 60, message = "분산 발송 범위는 60분 이하여야 합니다")
+    private int jitterMinutes;
+
+    @Builder
+    public NotificationSettingsRequest(LocalTime morningTime, LocalTime eveningTime,
+                                       String timeZone, int jitterMinutes) {
+        this.morningTime = morningTime;
+        this.eveningTime = eveningTime;
+        this.timeZone = timeZone;
+        this.jitterMinutes = jitterMinutes;
+    }
+
+    @AssertTrue(message = "지원하지 않는 시간대입니다")
+    public boolean isValidTimeZone() {
+        if (timeZone == null || timeZone.isBlank()) {
+            return true;
+        }
+        try {
+            ZoneId.of(timeZone);
+            return true;
+        } catch (DateTimeException e) {
+            return false;
+        }
+    }
+}
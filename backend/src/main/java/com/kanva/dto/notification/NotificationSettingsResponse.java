@@ -0,0 +1,32 @@
+package com.kanva.dto.notification;
+
+import com.kanva.domain.notification.NotificationSlot;
+import com.kanva.domain.slack.SlackConnection;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+/**
+ * 알림 시각 설정 응답 DTO (미설정 항목은 기본값으로 채움)
+ */
+@Getter
+@Builder
+public class NotificationSettingsResponse {
+
+    private boolean notificationsEnabled;
+    private LocalTime morningTime;
+    private LocalTime eveningTime;
+    private String timeZone;
+    private int jitterMinutes;
+
+    public static NotificationSettingsResponse from(SlackConnection connection) {
+        return NotificationSettingsResponse.builder()
+                .notificationsEnabled(connection.isNotificationsEnabled())
+                .morningTime(connection.getNotificationTime(NotificationSlot.MORNING))
+                .eveningTime(connection.getNotificationTime(NotificationSlot.EVENING))
+                .timeZone(connection.getZoneIdOrDefault().getId())
+                .jitterMinutes(connection.getJitterMinutesOrDefault())
+                .build();
+    }
+}
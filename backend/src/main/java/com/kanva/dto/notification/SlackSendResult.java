@@ -3,6 +3,8 @@ package com.kanva.dto.notification;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Duration;
+
 /**
  * Slack 메시지 발송 결과
  */
@@ -14,6 +16,13 @@ public class SlackSendResult {
     private final String errorMessage;
     private final int retryCount;
     private final boolean retryable;
+    // Slack이 알려준 재시도 대기 시간 (Retry-After, 없으면 null)
+    private final Duration retryAfter;
+    // chat.scheduleMessage로 예약한 경우 예약 메시지 ID와 DM 채널 (즉시 발송이면 null)
+    private final String scheduledMessageId;
+    private final String channelId;
+    // 요청이 Slack에 도달했는지 알 수 없는 실패 (응답 대기 중 시간 초과 등), 중복 발송을 막기 위해 재시도/대체 발송하지 않음
+    private final boolean deliveryUnknown;
 
     public static SlackSendResult success() {
         return SlackSendResult.builder()
@@ -23,6 +32,20 @@ public class SlackSendResult {
                 .build();
     }
 
+    public static SlackSendResult scheduled(String channelId, String scheduledMessageId) {
+        return SlackSendResult.builder()
+                .success(true)
+                .retryCount(0)
+                .retryable(false)
+                .channelId(channelId)
+                .scheduledMessageId(scheduledMessageId)
+                .build();
+    }
+
+    public boolean isScheduled() {
+        return scheduledMessageId != null;
+    }
+
     public static SlackSendResult fail(String errorMessage, int retryCount, boolean retryable) {
         return SlackSendResult.builder()
                 .success(false)
@@ -31,4 +54,24 @@ public class SlackSendResult {
                 .retryable(retryable)
                 .build();
     }
+
+    public static SlackSendResult deliveryUnknown(String errorMessage) {
+        return SlackSendResult.builder()
+                .success(false)
+                .errorMessage(errorMessage)
+                .retryCount(0)
+                .retryable(false)
+                .deliveryUnknown(true)
+                .build();
+    }
+
+    public static SlackSendResult rateLimited(String errorMessage, Duration retryAfter) {
+        return SlackSendResult.builder()
+                .success(false)
+                .errorMessage(errorMessage)
+                .retryCount(0)
+                .retryable(true)
+                .retryAfter(retryAfter)
+                .build();
+    }
 }
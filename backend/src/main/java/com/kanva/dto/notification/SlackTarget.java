@@ -1,10 +1,18 @@
 package com.kanva.dto.notification;
 
+import com.kanva.domain.notification.NotificationSlot;
 import com.kanva.domain.slack.SlackConnection;
 import com.kanva.domain.user.User;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
 /**
  * Slack 알림 발송 대상자 정보
  */
@@ -17,6 +25,11 @@ public class SlackTarget {
     private final String slackUserId;
     private final String teamId;
     private final String botToken;
+    private final String dmChannelId;
+    private final LocalTime morningTime;
+    private final LocalTime eveningTime;
+    private final ZoneId zoneId;
+    private final int jitterMinutes;
 
     public static SlackTarget from(SlackConnection connection) {
         return SlackTarget.builder()
@@ -25,9 +38,32 @@ public class SlackTarget {
                 .slackUserId(connection.getSlackUserId())
                 .teamId(connection.getTeamId())
                 .botToken(connection.getBotToken())
+                .dmChannelId(connection.getDmChannelId())
+                .morningTime(connection.getNotificationTime(NotificationSlot.MORNING))
+                .eveningTime(connection.getNotificationTime(NotificationSlot.EVENING))
+                .zoneId(connection.getZoneIdOrDefault())
+                .jitterMinutes(connection.getJitterMinutesOrDefault())
                 .build();
     }
 
+    public LocalTime getNotificationTime(NotificationSlot slot) {
+        return slot == NotificationSlot.MORNING ? morningTime : eveningTime;
+    }
+
+    /**
+     * 발송 시각 = 사용자 현지 날짜의 선호 시각 + jitter
+     * - jitter는 (user, slot, date)로 고정하여 재적재/재시작해도 같은 시각 유지
+     */
+    public Instant getDueAt(NotificationSlot slot, LocalDate date) {
+        int jitter = jitterMinutes > 0
+                ? Math.floorMod(Objects.hash(userId, slot.ordinal(), date.toEpochDay()), jitterMinutes + 1)
+                : 0;
+
+        return ZonedDateTime.of(date, getNotificationTime(slot), zoneId)
+                .plusMinutes(jitter)
+                .toInstant();
+    }
+
     public boolean isValid() {
         return slackUserId != null && !slackUserId.isEmpty()
                 && botToken != null && !botToken.isEmpty();
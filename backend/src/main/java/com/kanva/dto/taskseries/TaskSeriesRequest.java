@@ -1,5 +1,6 @@
 package com.kanva.dto.taskseries;
 
+import com.kanva.domain.task.TaskCategory;
 import com.kanva.domain.taskseries.CompletionPolicy;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -21,6 +22,8 @@ public class TaskSeriesRequest {
 
     private String description;
 
+    private TaskCategory category;
+
     private LocalDate startDate;
 
     @NotNull(message = "종료일은 필수입니다")
@@ -34,10 +37,11 @@ public class TaskSeriesRequest {
     private Boolean stopOnComplete;
 
     @Builder
-    public TaskSeriesRequest(String title, String description, LocalDate startDate,
-                             LocalDate endDate, Boolean stopOnComplete) {
+    public TaskSeriesRequest(String title, String description, TaskCategory category,
+                             LocalDate startDate, LocalDate endDate, Boolean stopOnComplete) {
         this.title = title;
         this.description = description;
+        this.category = category;
         this.startDate = startDate;
         this.endDate = endDate;
         this.stopOnComplete = stopOnComplete;
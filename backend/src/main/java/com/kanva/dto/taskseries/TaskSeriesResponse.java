@@ -1,5 +1,6 @@
 package com.kanva.dto.taskseries;
 
+import com.kanva.domain.task.TaskCategory;
 import com.kanva.domain.taskseries.CompletionPolicy;
 import com.kanva.domain.taskseries.TaskSeries;
 import lombok.Builder;
@@ -15,6 +16,7 @@ public class TaskSeriesResponse {
     private Long id;
     private String title;
     private String description;
+    private TaskCategory category;
     private LocalDate startDate;
     private LocalDate endDate;
     private CompletionPolicy completionPolicy;
@@ -29,6 +31,7 @@ public class TaskSeriesResponse {
                 .id(series.getId())
                 .title(series.getTitle())
                 .description(series.getDescription())
+                .category(series.getCategoryOrDefault())
                 .startDate(series.getStartDate())
                 .endDate(series.getEndDate())
                 .completionPolicy(series.getCompletionPolicy())
@@ -0,0 +1,36 @@
+package com.kanva.dto.taskseries;
+
+import com.kanva.domain.task.TaskCategory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * TaskSeries 수정 요청 DTO
+ *
+ * 변경 내용은 시리즈와 미완료 미래 인스턴스에 함께 반영됨
+ */
+@Getter
+@NoArgsConstructor
+public class TaskSeriesUpdateRequest {
+
+    @NotBlank(message = "제목은 필수입니다")
+    @Size(max = 200, message = "제목은 200자 이내여야 합니다")
+    private String title;
+
+    private String description;
+
+    /**
+     * null이면 기존 카테고리 유지
+     */
+    private TaskCategory category;
+
+    @Builder
+    public TaskSeriesUpdateRequest(String title, String description, TaskCategory category) {
+        this.title = title;
+        this.description = description;
+        this.category = category;
+    }
+}
@@ -0,0 +1,23 @@
+package com.kanva.dto.taskseries;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * TaskSeries 수정 결과
+ * - updatedTaskCount: 변경이 반영된 미래 인스턴스 수
+ */
+@Getter
+@Builder
+public class TaskSeriesUpdateResponse {
+
+    private TaskSeriesResponse series;
+    private int updatedTaskCount;
+
+    public static TaskSeriesUpdateResponse of(TaskSeriesResponse series, int updatedTaskCount) {
+        return TaskSeriesUpdateResponse.builder()
+                .series(series)
+                .updatedTaskCount(updatedTaskCount)
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.kanva.exception;
+
+public class AiBudgetExceededException extends RuntimeException {
+
+    public AiBudgetExceededException() {
+        super("오늘 사용할 수 있는 AI 사용량을 모두 사용했습니다. 내일 다시 시도해주세요.");
+    }
+}
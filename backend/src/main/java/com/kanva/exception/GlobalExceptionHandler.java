@@ -34,6 +34,20 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.fail(ErrorCode.TASK_NOT_FOUND, e.getMessage()));
     }
 
+    @ExceptionHandler(TaskSeriesNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTaskSeriesNotFoundException(TaskSeriesNotFoundException e) {
+        log.error("TaskSeriesNotFoundException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.fail(ErrorCode.TASK_SERIES_NOT_FOUND, e.getMessage()));
+    }
+
+    @ExceptionHandler(SlackConnectionNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSlackConnectionNotFoundException(SlackConnectionNotFoundException e) {
+        log.error("SlackConnectionNotFoundException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.fail(ErrorCode.SLACK_CONNECTION_NOT_FOUND, e.getMessage()));
+    }
+
     @ExceptionHandler(DailyNoteNotFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleDailyNoteNotFoundException(DailyNoteNotFoundException e) {
         log.error("DailyNoteNotFoundException: {}", e.getMessage());
@@ -97,6 +111,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.fail(ErrorCode.REPORT_GENERATION_FAILED, e.getMessage()));
     }
 
+    @ExceptionHandler(AiBudgetExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAiBudgetExceededException(AiBudgetExceededException e) {
+        log.warn("AiBudgetExceededException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ApiResponse.fail(ErrorCode.AI_BUDGET_EXCEEDED, e.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
         log.error("MethodArgumentNotValidException: {}", e.getMessage());
@@ -0,0 +1,8 @@
+package com.kanva.exception;
+
+public class SlackConnectionNotFoundException extends RuntimeException {
+
+    public SlackConnectionNotFoundException(Long userId) {
+        super("Slack 연동 정보를 찾을 수 없습니다. 사용자 ID: " + userId);
+    }
+}
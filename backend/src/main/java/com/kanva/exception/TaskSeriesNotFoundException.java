@@ -0,0 +1,8 @@
+package com.kanva.exception;
+
+public class TaskSeriesNotFoundException extends RuntimeException {
+
+    public TaskSeriesNotFoundException(Long seriesId) {
+        super("반복 시리즈를 찾을 수 없습니다. ID: " + seriesId);
+    }
+}
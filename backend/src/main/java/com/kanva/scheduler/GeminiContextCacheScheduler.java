@@ -0,0 +1,33 @@
+package com.kanva.scheduler;
+
+import com.kanva.service.gemini.GeminiClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini 컨텍스트 캐시 스케줄러
+ * - 매분: 곧 만료될 캐시 중 최근 사용된 것은 TTL 연장, 사용되지 않은 것은 정리
+ */
+@Component
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class GeminiContextCacheScheduler {
+
+    private final GeminiClient geminiClient;
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void refreshContextCaches() {
+        try {
+            int refreshed = geminiClient.refreshContextCaches();
+            if (refreshed > 0) {
+                log.debug("GeminiContextCacheScheduler: {} context caches refreshed", refreshed);
+            }
+        } catch (Exception e) {
+            log.error("GeminiContextCacheScheduler: Context cache refresh failed", e);
+        }
+    }
+}
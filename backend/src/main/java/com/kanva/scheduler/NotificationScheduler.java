@@ -1,61 +1,131 @@
 package com.kanva.scheduler;
 
-import com.kanva.domain.notification.NotificationSlot;
+import com.kanva.config.NotificationConfig;
+import com.kanva.service.notification.NotificationDispatcher;
+import com.kanva.service.notification.NotificationPreScheduler;
 import com.kanva.service.notification.NotificationService;
+import com.kanva.service.scheduler.SchedulerLockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.Clock;
-import java.time.LocalDate;
+import java.time.Duration;
 
 /**
  * Slack 알림 스케줄러
- * - 08:00 AM: 오늘 할 일 알림
- * - 05:00 PM: 미완료 Task 리마인더
+ * - 사용자별 선호 시각(기본 08:00 오늘 할 일 / 17:00 미완료 리마인더, 사용자 시간대 기준)에 발송
+ * - 매시 55분: 앞으로 dispatchLoadAhead 이내 발송분을 타이밍 휠에 적재
+ * - 매분: 만기된 발송분을 outbox로 넘겨 발송
+ * - 적재는 dispatchLease를 보유한 한 인스턴스만 수행 (매분 연장, 노드 수와 무관하게 대상 조회는 한 번)
+ *   보유 인스턴스가 멈추면 다른 인스턴스가 lease를 이어받아 slotDeadline 이내 지난 발송분까지 다시 적재
+ * - outboxPollDelay마다: 재시도 예약된 outbox 행 처리
+ * - preScheduleCron (opt-in): 다음 MORNING 메시지를 Slack에 사전 예약 (lease를 얻은 한 인스턴스만)
+ *
+ * lease가 넘어가는 동안 두 인스턴스가 같은 발송분을 다뤄도 outbox 적재가 멱등이고 선점은 SKIP LOCKED라 중복 발송 없음
  */
 @Component
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationScheduler {
 
+    // 하루 한 번 실행, 다른 인스턴스의 같은 cron이 다시 실행하지 않도록 충분히 길게
+    private static final Duration PRE_SCHEDULE_LEASE = Duration.ofHours(1);
+    private static final String DISPATCH_LOCK = "notification:DISPATCH_LOAD";
+
+    private final NotificationDispatcher notificationDispatcher;
     private final NotificationService notificationService;
-    private final Clock clock;
+    private final NotificationPreScheduler notificationPreScheduler;
+    private final SchedulerLockService schedulerLockService;
+    private final NotificationConfig notificationConfig;
 
     /**
-     * 매일 오전 8시 (KST) - 오늘 할 일 알림
+     * 시작 시 적재 (재시작 중 지나간 발송분 포함, lease를 얻은 경우만)
      */
-    @Scheduled(cron = "0 0 8 * * *", zone = "Asia/Seoul")
-    public void sendMorningNotifications() {
-        log.info("NotificationScheduler: Starting morning notifications");
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            if (holdDispatchLease() != SchedulerLockService.LeaseStatus.HELD_BY_OTHER) {
+                notificationDispatcher.loadUpcoming(true);
+            }
+        } catch (Exception e) {
+            log.error("NotificationScheduler: Initial notification load failed", e);
+        }
+    }
 
+    /**
+     * 매시 55분 - 다가올 발송분 적재
+     */
+    @Scheduled(cron = "0 55 * * * *")
+    public void loadUpcomingNotifications() {
         try {
-            LocalDate today = LocalDate.now(clock);
-            notificationService.sendNotifications(NotificationSlot.MORNING, today);
+            SchedulerLockService.LeaseStatus status = holdDispatchLease();
+            if (status != SchedulerLockService.LeaseStatus.HELD_BY_OTHER) {
+                notificationDispatcher.loadUpcoming(status == SchedulerLockService.LeaseStatus.ACQUIRED);
+            }
         } catch (Exception e) {
             // 스케줄러 안정성: 예외가 스케줄러를 중단시키지 않도록 함
-            log.error("NotificationScheduler: Morning notification failed", e);
+            log.error("NotificationScheduler: Notification load failed", e);
         }
-
-        log.info("NotificationScheduler: Morning notifications completed");
     }
 
     /**
-     * 매일 오후 5시 (KST) - 미완료 Task 리마인더
+     * 매분 - 적재 lease 연장 후 발송 시각이 된 알림 발송
+     * - lease를 새로 얻었으면 이전 보유 인스턴스 대신 적재 (멈춘 사이 지나간 발송분 포함)
+     * - lease가 없어도 이 인스턴스 휠에 있는 발송분(설정 변경으로 다시 넣은 발송분 등)은 발송
      */
-    @Scheduled(cron = "0 0 17 * * *", zone = "Asia/Seoul")
-    public void sendEveningReminders() {
-        log.info("NotificationScheduler: Starting evening reminders");
+    @Scheduled(cron = "0 * * * * *")
+    public void dispatchDueNotifications() {
+        try {
+            if (holdDispatchLease() == SchedulerLockService.LeaseStatus.ACQUIRED) {
+                log.info("NotificationScheduler: Took over notification loading");
+                notificationDispatcher.loadUpcoming(true);
+            }
+            notificationDispatcher.dispatchDue();
+        } catch (Exception e) {
+            // 스케줄러 안정성: 예외가 스케줄러를 중단시키지 않도록 함
+            log.error("NotificationScheduler: Notification dispatch failed", e);
+        }
+    }
 
+    /**
+     * 재시도 시각이 된 outbox 행 처리 (다른 노드와 SKIP LOCKED로 분담)
+     */
+    @Scheduled(fixedDelayString = "#{@notificationConfig.outboxPollDelay.toMillis()}",
+            initialDelayString = "#{@notificationConfig.outboxPollDelay.toMillis()}")
+    public void processNotificationOutbox() {
         try {
-            LocalDate today = LocalDate.now(clock);
-            notificationService.sendNotifications(NotificationSlot.EVENING, today);
+            notificationService.processOutbox();
         } catch (Exception e) {
             // 스케줄러 안정성: 예외가 스케줄러를 중단시키지 않도록 함
-            log.error("NotificationScheduler: Evening reminder failed", e);
+            log.error("NotificationScheduler: Outbox processing failed", e);
         }
+    }
 
-        log.info("NotificationScheduler: Evening reminders completed");
+    private SchedulerLockService.LeaseStatus holdDispatchLease() {
+        return schedulerLockService.holdLease(DISPATCH_LOCK, notificationConfig.getDispatchLease());
+    }
+
+    /**
+     * 야간 - 다음 MORNING 알림 사전 예약
+     */
+    @Scheduled(cron = "#{@notificationConfig.preScheduleCron}", zone = "Asia/Seoul")
+    public void preScheduleMorningNotifications() {
+        if (!notificationConfig.isPreScheduleEnabled()) {
+            return;
+        }
+
+        try {
+            if (schedulerLockService.tryAcquire("notification:PRE_SCHEDULE", PRE_SCHEDULE_LEASE)) {
+                notificationPreScheduler.preScheduleMorning();
+            }
+        } catch (Exception e) {
+            // 스케줄러 안정성: 예외가 스케줄러를 중단시키지 않도록 함
+            log.error("NotificationScheduler: Notification pre-schedule failed", e);
+        }
     }
 }
@@ -0,0 +1,69 @@
+package com.kanva.scheduler;
+
+import com.kanva.config.ReportConfig;
+import com.kanva.service.report.ReportJobService;
+import com.kanva.service.report.WeeklyReportPreGenerator;
+import com.kanva.service.scheduler.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * AI 리포트 스케줄러
+ * - 매분: generatingTimeout이 지나도록 GENERATING인 리포트를 FAILED로 정리 (재시작으로 유실된 작업 등, lease를 얻은 한 인스턴스만)
+ * - preGenerateCron (opt-in): 지난주 주간 리포트 사전 생성 (lease를 얻은 한 인스턴스만)
+ */
+@Component
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ReportScheduler {
+
+    // 주 1회 실행, 다른 인스턴스의 같은 cron이 다시 실행하지 않도록 충분히 길게
+    private static final Duration PRE_GENERATE_LEASE = Duration.ofHours(6);
+    // 매분 실행, 한 인스턴스만 정리하도록 다음 실행 직전까지
+    private static final Duration FAIL_STALE_LEASE = Duration.ofSeconds(50);
+
+    private final ReportJobService reportJobService;
+    private final WeeklyReportPreGenerator weeklyReportPreGenerator;
+    private final SchedulerLockService schedulerLockService;
+    private final ReportConfig reportConfig;
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void failStaleReports() {
+        try {
+            if (!schedulerLockService.tryAcquire("report:FAIL_STALE", FAIL_STALE_LEASE)) {
+                return;
+            }
+            int failed = reportJobService.failStale();
+            if (failed > 0) {
+                log.warn("ReportScheduler: {} stale GENERATING reports marked as failed", failed);
+            }
+        } catch (Exception e) {
+            log.error("ReportScheduler: Stale report cleanup failed", e);
+        }
+    }
+
+    /**
+     * 야간 - 지난주 주간 리포트 사전 생성
+     */
+    @Scheduled(cron = "#{@reportConfig.preGenerateCron}", zone = "Asia/Seoul")
+    public void preGenerateWeeklyReports() {
+        if (!reportConfig.isPreGenerateEnabled()) {
+            return;
+        }
+
+        try {
+            if (schedulerLockService.tryAcquire("report:WEEKLY_PRE_GENERATE", PRE_GENERATE_LEASE)) {
+                weeklyReportPreGenerator.preGenerateLastWeek();
+            }
+        } catch (Exception e) {
+            // 스케줄러 안정성: 예외가 스케줄러를 중단시키지 않도록 함
+            log.error("ReportScheduler: Weekly report pre-generation failed", e);
+        }
+    }
+}
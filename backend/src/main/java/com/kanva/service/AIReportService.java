@@ -6,6 +6,7 @@ import com.kanva.dto.report.AIReportDetailResponse;
 import com.kanva.dto.report.AIReportResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 
@@ -23,6 +24,11 @@ public interface AIReportService {
      */
     AIReportDetailResponse getReportDetail(Long userId, Long reportId);
 
+    /**
+     * 리포트 생성 스트림 구독 (SSE)
+     */
+    SseEmitter streamReport(Long userId, Long reportId);
+
     /**
      * 리포트 히스토리 목록 (페이징)
      */
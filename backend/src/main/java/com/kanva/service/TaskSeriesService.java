@@ -5,8 +5,11 @@ import com.kanva.domain.taskseries.CompletionPolicy;
 import com.kanva.domain.taskseries.TaskSeries;
 import com.kanva.dto.taskseries.TaskSeriesRequest;
 import com.kanva.dto.taskseries.TaskSeriesResponse;
+import com.kanva.dto.taskseries.TaskSeriesUpdateRequest;
+import com.kanva.dto.taskseries.TaskSeriesUpdateResponse;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskSeriesService {
@@ -26,6 +29,14 @@ public interface TaskSeriesService {
      */
     TaskSeries createSeriesFromTask(Task task, LocalDate endDate, CompletionPolicy completionPolicy);
 
+    /**
+     * 시리즈 정보 수정 (제목, 설명, 카테고리)
+     * 오늘 이후의 미완료 인스턴스에 단일 UPDATE로 일괄 반영
+     *
+     * @return 수정된 시리즈와 반영된 인스턴스 수
+     */
+    TaskSeriesUpdateResponse updateSeries(Long userId, Long seriesId, TaskSeriesUpdateRequest request);
+
     /**
      * 사용자의 전체 시리즈 목록 조회
      */
@@ -43,6 +54,14 @@ public interface TaskSeriesService {
      */
     void generateTasksForDate(Long userId, LocalDate date);
 
+    /**
+     * 여러 사용자의 특정 날짜에 대한 시리즈 Task 일괄 생성
+     * 알림 발송 전 대상자 페이지 단위로 호출됨 (사용자별 조회 대신 집합 조회)
+     *
+     * @return 생성된 인스턴스 수
+     */
+    int generateTasksForUsersAndDate(Collection<Long> userIds, LocalDate date);
+
     /**
      * Task 완료 시 시리즈 처리
      * - COMPLETE_STOPS_SERIES: stopDate 설정 + 미래 인스턴스 삭제
@@ -0,0 +1,98 @@
+package com.kanva.service.aiusage;
+
+import com.kanva.config.AiUsageConfig;
+import com.kanva.domain.aiusage.AiTokenUsageRepository;
+import com.kanva.exception.AiBudgetExceededException;
+import com.kanva.service.gemini.AiCaller;
+import com.kanva.service.gemini.GeminiMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI(Gemini) 토큰 사용량 기록과 사용자별 일일 예산 확인
+ * - 사용량은 (사용자, 날짜, 기능, 모델) 행에 누적 (ai_token_usage)
+ * - 예산은 오늘 누적 total_tokens 합계로 판단, 날짜는 Clock(Asia/Seoul) 기준
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiUsageService {
+
+    private final AiTokenUsageRepository aiTokenUsageRepository;
+    private final AiUsageConfig aiUsageConfig;
+    private final GeminiMetrics geminiMetrics;
+    private final Clock clock;
+
+    /**
+     * 오늘 예산이 남아 있는지 (제한이 없거나 사용자를 알 수 없으면 true)
+     */
+    private boolean hasBudget(Long userId) {
+        if (!aiUsageConfig.isLimited() || userId == null) {
+            return true;
+        }
+        return aiTokenUsageRepository.sumTotalTokens(userId, LocalDate.now(clock))
+                < aiUsageConfig.getDailyTokenBudget();
+    }
+
+    /**
+     * 예산을 다 썼으면 AiBudgetExceededException
+     */
+    public void checkBudget(AiCaller caller) {
+        if (!hasBudget(caller.userId())) {
+            geminiMetrics.recordBudgetRejection(caller.feature());
+            throw new AiBudgetExceededException();
+        }
+    }
+
+    /**
+     * 호출 1건 사용량 기록
+     * - 기록 실패가 이미 끝난 AI 호출 결과를 버리게 하지 않도록 예외는 로그만 남김
+     *
+     * @param cachedTokens promptTokens 중 컨텍스트 캐시에서 읽은 토큰
+     */
+    public void record(AiCaller caller, String model, long promptTokens, long candidateTokens, long cachedTokens,
+                       long totalTokens, long latencyNanos) {
+        geminiMetrics.recordTokens(caller.feature(), model, promptTokens, candidateTokens, cachedTokens);
+        if (caller.userId() == null) {
+            return;
+        }
+        try {
+            accumulate(caller, model, promptTokens, candidateTokens, cachedTokens, totalTokens,
+                    TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+        } catch (RuntimeException e) {
+            log.error("Failed to record AI token usage: userId={}, feature={}", caller.userId(), caller.feature(), e);
+        }
+    }
+
+    /**
+     * 기존 행에 UPDATE로 누적하고, 그날 첫 호출이면 INSERT
+     * - 다른 호출이 먼저 행을 만들었으면 (0건 또는 unique 위반) 다시 UPDATE
+     */
+    private void accumulate(AiCaller caller, String model, long promptTokens, long candidateTokens,
+                            long cachedTokens, long totalTokens, long latencyMs) {
+        LocalDate today = LocalDate.now(clock);
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        if (aiTokenUsageRepository.accumulate(caller.userId(), today, caller.feature(), model,
+                promptTokens, candidateTokens, cachedTokens, totalTokens, latencyMs, now) == 1) {
+            return;
+        }
+        try {
+            if (aiTokenUsageRepository.insertIfAbsent(caller.userId(), today, caller.feature().name(), model,
+                    promptTokens, candidateTokens, cachedTokens, totalTokens, latencyMs, now) == 1) {
+                return;
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 호출이 동시에 생성
+        }
+        aiTokenUsageRepository.accumulate(caller.userId(), today, caller.feature(), model,
+                promptTokens, candidateTokens, cachedTokens, totalTokens, latencyMs, now);
+    }
+}
@@ -0,0 +1,17 @@
+package com.kanva.service.gemini;
+
+import com.kanva.domain.aiusage.AiFeature;
+
+/**
+ * Gemini 호출 주체 (토큰 사용량 기록, 일일 예산 확인 단위)
+ */
+public record AiCaller(Long userId, AiFeature feature) {
+
+    public static AiCaller report(Long userId) {
+        return new AiCaller(userId, AiFeature.REPORT);
+    }
+
+    public static AiCaller parse(Long userId) {
+        return new AiCaller(userId, AiFeature.PARSE);
+    }
+}
@@ -2,54 +2,351 @@ package com.kanva.service.gemini;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanva.common.resilience.CircuitBreaker;
 import com.kanva.config.GeminiConfig;
+import com.kanva.service.aiusage.AiUsageService;
+import jakarta.annotation.PreDestroy;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.concurrent.Cancellable;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Gemini API 클라이언트
+ * - generateContent: 응답 전체를 한 번에 받음
+ * - streamGenerateContent (alt=sse): 생성되는 텍스트를 조각 단위로 받음
+ * - 모든 호출은 bulkhead(동시 호출 수 제한)와 서킷 브레이커를 거침
+ *   서킷이 OPEN이면 isAvailable()이 false가 되어 호출 측이 Mock 분석으로 대체
+ * - 호출마다 AiCaller(사용자, 기능)를 받아 일일 토큰 예산을 확인하고 응답의 usageMetadata를 기록
+ * - 고정 지시문(SystemInstruction)은 GeminiContextCache의 캐시로 참조하고, 요청 본문에는 사용자 데이터만 담음
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GeminiClient {
 
     private final RestTemplate geminiRestTemplate;
+    private final GeminiConfig.CancellableRequestFactory geminiRequestFactory;
     private final GeminiConfig geminiConfig;
+    private final ObjectMapper objectMapper;
+    private final GeminiMetrics geminiMetrics;
+    private final AiUsageService aiUsageService;
+    private final GeminiContextCache contextCache;
+    private final Semaphore permits;
+    private final CircuitBreaker circuitBreaker;
+    // callTimeout이 지난 요청 중단 (호출이 끝나면 예약 취소)
+    private final ScheduledExecutorService deadlineScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("gemini-deadline").daemon(true).factory());
 
+    public GeminiClient(RestTemplate geminiRestTemplate, GeminiConfig.CancellableRequestFactory geminiRequestFactory,
+                        GeminiConfig geminiConfig, ObjectMapper objectMapper,
+                        GeminiMetrics geminiMetrics, AiUsageService aiUsageService,
+                        GeminiContextCache contextCache) {
+        this.geminiRestTemplate = geminiRestTemplate;
+        this.geminiRequestFactory = geminiRequestFactory;
+        this.geminiConfig = geminiConfig;
+        this.objectMapper = objectMapper;
+        this.geminiMetrics = geminiMetrics;
+        this.aiUsageService = aiUsageService;
+        this.contextCache = contextCache;
 
-    public String generateJsonContent(String prompt,Map<String, Object> responseSchema) {
-        String response = generateContent(prompt,responseSchema);
+        int maxConcurrentCalls = Math.max(1, geminiConfig.getMaxConcurrentCalls());
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = new CircuitBreaker(
+                geminiConfig.getCircuitWindowSize(),
+                geminiConfig.getCircuitMinimumCalls(),
+                geminiConfig.getCircuitFailureRateThreshold(),
+                geminiConfig.getCircuitOpenDuration(),
+                geminiConfig.getCircuitHalfOpenCalls());
+        geminiMetrics.registerBulkhead(permits, maxConcurrentCalls);
+        geminiMetrics.registerCircuitBreaker(circuitBreaker);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deadlineScheduler.shutdownNow();
+    }
+
+    /**
+     * @param instruction 고정 지시문 (컨텍스트 캐시로 전달)
+     * @param prompt      요청별 데이터
+     * @param caller      토큰 사용량 기록과 일일 예산 확인 대상 (사용자, 기능)
+     */
+    public String generateJsonContent(SystemInstruction instruction, String prompt,
+                                      Map<String, Object> responseSchema, AiCaller caller) {
+        String response = generateContent(instruction, prompt, responseSchema, caller);
         return extractJsonContent(response);
     }
+
+    /**
+     * 스트리밍 JSON 생성 (streamGenerateContent, SSE)
+     * - 조각이 도착할 때마다 onText로 전달하고, 완료되면 전체 JSON 반환
+     *
+     * @param onText 생성된 텍스트 조각 (도착 순서대로, 호출 스레드에서 실행)
+     */
+    public String streamJsonContent(SystemInstruction instruction, String prompt, Map<String, Object> responseSchema,
+                                    AiCaller caller, Consumer<String> onText) {
+        if (!geminiConfig.isConfigured()) {
+            throw new IllegalStateException("Gemini API is not configured");
+        }
+
+        String cacheName = contextCache.resolve(instruction, this::protect);
+        Map<String, Object> requestBody = buildRequestBody(instruction, cacheName, prompt, responseSchema);
+
+        try {
+            StreamedText response = guarded("streamGenerateContent", caller, () -> geminiRestTemplate.execute(
+                    url("streamGenerateContent") + "&alt=sse",
+                    HttpMethod.POST,
+                    request -> {
+                        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                        request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                        objectMapper.writeValue(request.getBody(), requestBody);
+                    },
+                    clientResponse -> readStream(clientResponse.getBody(), onText)
+            ), streamed -> streamed != null ? streamed.usage() : null);
+
+            if (response == null || response.text().isEmpty()) {
+                log.error("Gemini API returned empty stream");
+                throw new RuntimeException("Gemini API returned empty response");
+            }
+            return extractJsonContent(response.text());
+
+        } catch (RestClientException e) {
+            onRequestRejected(e, instruction, cacheName);
+            log.error("Gemini streaming call failed: {}", e.getMessage(), e);
+            throw new RuntimeException("Gemini API call failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * SSE 스트림 읽기: 이벤트마다 "data: {GeminiResponse}" 한 줄
+     * - usageMetadata는 마지막 조각의 값이 전체 사용량
+     */
+    private StreamedText readStream(InputStream body, Consumer<String> onText) throws IOException {
+        StringBuilder text = new StringBuilder();
+        UsageMetadata usage = null;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith("data:")) {
+                continue;
+            }
+            GeminiResponse chunk = objectMapper.readValue(line.substring(5).trim(), GeminiResponse.class);
+            if (chunk.getUsageMetadata() != null) {
+                usage = chunk.getUsageMetadata();
+            }
+            String chunkText = firstText(chunk);
+            if (chunkText != null && !chunkText.isEmpty()) {
+                text.append(chunkText);
+                onText.accept(chunkText);
+            }
+        }
+        return new StreamedText(text.toString(), usage);
+    }
+
     /**
      * Gemini API에 텍스트 생성 요청
      *
      * @param prompt 프롬프트
      * @return 생성된 텍스트
      */
-    private String generateContent(String prompt, Map<String, Object> responseSchema) {
+    private String generateContent(SystemInstruction instruction, String prompt, Map<String, Object> responseSchema,
+                                   AiCaller caller) {
         if (!geminiConfig.isConfigured()) {
             throw new IllegalStateException("Gemini API is not configured");
         }
 
-        String url = String.format("%s/models/%s:generateContent?key=%s",
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        String cacheName = contextCache.resolve(instruction, this::protect);
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(
+                buildRequestBody(instruction, cacheName, prompt, responseSchema), headers);
+
+        try {
+            ResponseEntity<GeminiResponse> response = guarded("generateContent", caller,
+                    () -> geminiRestTemplate.exchange(
+                            url("generateContent"),
+                            HttpMethod.POST,
+                            entity,
+                            GeminiResponse.class
+                    ),
+                    responseEntity -> responseEntity.getBody() != null
+                            ? responseEntity.getBody().getUsageMetadata() : null);
+
+            String text = firstText(response.getBody());
+            if (text != null) {
+                return text;
+            }
+
+            log.error("Gemini API returned empty response");
+            throw new RuntimeException("Gemini API returned empty response");
+
+        } catch (RestClientException e) {
+            onRequestRejected(e, instruction, cacheName);
+            log.error("Gemini API call failed: {}", e.getMessage(), e);
+            throw new RuntimeException("Gemini API call failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 곧 만료될 컨텍스트 캐시 TTL 연장 (캐시 API 호출도 bulkhead + 서킷 브레이커를 거침)
+     *
+     * @return 연장한 캐시 수
+     */
+    public int refreshContextCaches() {
+        return contextCache.refreshExpiring(this::protect);
+    }
+
+    /**
+     * 일일 예산 확인 후 보호된 호출, 성공하면 응답의 usageMetadata를 사용량으로 기록
+     * - 사용자의 오늘 토큰 사용량이 예산을 넘었으면 호출 없이 AiBudgetExceededException
+     */
+    private <T> T guarded(String method, AiCaller caller, Supplier<T> call, Function<T, UsageMetadata> usageOf) {
+        aiUsageService.checkBudget(caller);
+
+        long[] elapsed = new long[1];
+        T result = protect(method, () -> {
+            long callStarted = System.nanoTime();
+            T response = call.get();
+            elapsed[0] = System.nanoTime() - callStarted;
+            return response;
+        });
+
+        // 기록 실패가 서킷 실패로 세지지 않도록 보호 구간 밖에서 기록
+        UsageMetadata usage = usageOf.apply(result);
+        if (usage != null) {
+            aiUsageService.record(caller, geminiConfig.getModel(), usage.getPromptTokenCount(),
+                    usage.getCandidatesTokenCount(), usage.getCachedContentTokenCount(),
+                    usage.getTotalTokenCount(), elapsed[0]);
+        }
+        return result;
+    }
+
+    /**
+     * bulkhead + 서킷 브레이커 + callTimeout을 거쳐 호출 (생성 요청과 컨텍스트 캐시 API 공통)
+     * - 동시 호출 수가 가득 차 bulkheadWait 안에 자리가 나지 않거나 서킷이 OPEN이면 호출 없이 GeminiUnavailableException
+     * - 4xx(429 제외)는 요청 문제이므로 서킷 실패로 세지 않음
+     */
+    private <T> T protect(String method, Supplier<T> call) {
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(geminiConfig.getBulkheadWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeminiUnavailableException("Interrupted while waiting for a Gemini call slot");
+        }
+        if (!acquired) {
+            geminiMetrics.recordCall(method, "rejected", System.nanoTime() - started);
+            throw new GeminiUnavailableException("Too many concurrent Gemini calls");
+        }
+
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                geminiMetrics.recordCall(method, "short_circuited", System.nanoTime() - started);
+                throw new GeminiUnavailableException("Gemini circuit breaker is open");
+            }
+
+            try {
+                T result = withDeadline(call);
+                circuitBreaker.onSuccess();
+                geminiMetrics.recordCall(method, "success", System.nanoTime() - started);
+                return result;
+            } catch (HttpClientErrorException e) {
+                if (e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                    onCallFailure(method, started);
+                } else {
+                    circuitBreaker.onSuccess();
+                    geminiMetrics.recordCall(method, "failure", System.nanoTime() - started);
+                }
+                throw e;
+            } catch (RuntimeException e) {
+                onCallFailure(method, started);
+                throw e;
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * callTimeout이 지나면 진행 중인 요청을 cancel (스트리밍 포함)
+     * - 호출이 끝나면 예약을 취소하여 끝난 요청을 callTimeout 동안 붙잡지 않음
+     */
+    private <T> T withDeadline(Supplier<T> call) {
+        AtomicReference<Cancellable> request = new AtomicReference<>();
+        ScheduledFuture<?> deadline = deadlineScheduler.schedule(() -> {
+            Cancellable current = request.get();
+            if (current != null) {
+                current.cancel();
+            }
+        }, geminiConfig.getCallTimeout().toMillis(), TimeUnit.MILLISECONDS);
+
+        geminiRequestFactory.bind(request::set);
+        try {
+            return call.get();
+        } finally {
+            geminiRequestFactory.clear();
+            deadline.cancel(false);
+        }
+    }
+
+    private void onCallFailure(String method, long started) {
+        CircuitBreaker.State before = circuitBreaker.getState();
+        circuitBreaker.onFailure();
+        geminiMetrics.recordCall(method, "failure", System.nanoTime() - started);
+        if (before != CircuitBreaker.State.OPEN && circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            log.warn("Gemini circuit breaker opened, falling back for {}", geminiConfig.getCircuitOpenDuration());
+        }
+    }
+
+    private String url(String method) {
+        return String.format("%s/models/%s:%s?key=%s",
                 geminiConfig.getBaseUrl(),
                 geminiConfig.getModel(),
+                method,
                 geminiConfig.getApiKey());
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+    // 캐시를 참조한 요청이 4xx(429 제외)로 거절되면 만료/삭제된 캐시일 수 있으므로 다음 요청에서 다시 생성
+    private void onRequestRejected(RestClientException e, SystemInstruction instruction, String cacheName) {
+        if (cacheName != null && e instanceof HttpClientErrorException clientError
+                && clientError.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+            contextCache.invalidate(instruction, cacheName);
+        }
+    }
 
-        Map<String, Object> generationConfig = new java.util.HashMap<>();
+    /**
+     * 요청 본문
+     * - cacheName이 있으면 지시문 대신 캐시 이름만 보내고, 없으면 지시문을 systemInstruction으로 포함
+     */
+    private Map<String, Object> buildRequestBody(SystemInstruction instruction, String cacheName, String prompt,
+                                                 Map<String, Object> responseSchema) {
+        Map<String, Object> generationConfig = new HashMap<>();
         generationConfig.put("temperature", 0.7);
         generationConfig.put("maxOutputTokens", 8192);
         generationConfig.put("topP", 0.95);
@@ -57,41 +354,30 @@ public class GeminiClient {
 
         generationConfig.put("responseSchema", responseSchema);
 
-        Map<String, Object> requestBody = Map.of(
-                "contents", List.of(
-                        Map.of("parts", List.of(
-                                Map.of("text", prompt)
-                        ))
-                ),
-                "generationConfig", generationConfig
-        );
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+        Map<String, Object> body = new HashMap<>();
+        body.put("contents", List.of(
+                Map.of("role", "user", "parts", List.of(
+                        Map.of("text", prompt)
+                ))
+        ));
+        body.put("generationConfig", generationConfig);
+        if (cacheName != null) {
+            body.put("cachedContent", cacheName);
+        } else {
+            body.put("systemInstruction", Map.of("parts", List.of(Map.of("text", instruction.text()))));
+        }
+        return body;
+    }
 
-        try {
-            ResponseEntity<GeminiResponse> response = geminiRestTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    entity,
-                    GeminiResponse.class
-            );
-
-            if (response.getBody() != null && response.getBody().getCandidates() != null
-                    && !response.getBody().getCandidates().isEmpty()) {
-                Candidate candidate = response.getBody().getCandidates().get(0);
-                if (candidate.getContent() != null && candidate.getContent().getParts() != null
-                        && !candidate.getContent().getParts().isEmpty()) {
-                    return candidate.getContent().getParts().get(0).getText();
-                }
+    private String firstText(GeminiResponse response) {
+        if (response != null && response.getCandidates() != null && !response.getCandidates().isEmpty()) {
+            Candidate candidate = response.getCandidates().get(0);
+            if (candidate.getContent() != null && candidate.getContent().getParts() != null
+                    && !candidate.getContent().getParts().isEmpty()) {
+                return candidate.getContent().getParts().get(0).getText();
             }
-
-            log.error("Gemini API returned empty response");
-            throw new RuntimeException("Gemini API returned empty response");
-
-        } catch (RestClientException e) {
-            log.error("Gemini API call failed: {}", e.getMessage(), e);
-            throw new RuntimeException("Gemini API call failed: " + e.getMessage(), e);
         }
+        return null;
     }
 
     private String extractJsonContent(String response) {
@@ -130,10 +416,20 @@ public class GeminiClient {
         return cleaned.trim();
     }
 
-    public boolean isAvailable() {
+    public boolean isConfigured() {
         return geminiConfig.isConfigured();
     }
 
+    /**
+     * 설정되어 있고 서킷이 호출을 허용하는 상태인지
+     */
+    public boolean isAvailable() {
+        return geminiConfig.isConfigured() && circuitBreaker.isCallPermitted();
+    }
+
+    private record StreamedText(String text, UsageMetadata usage) {
+    }
+
     // Gemini API Response DTOs
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -172,5 +468,7 @@ public class GeminiClient {
         private int candidatesTokenCount;
         @JsonProperty("totalTokenCount")
         private int totalTokenCount;
+        @JsonProperty("cachedContentTokenCount")
+        private int cachedContentTokenCount;
     }
 }
@@ -0,0 +1,287 @@
+package com.kanva.service.gemini;
+
+import com.kanva.common.hash.Sha256;
+import com.kanva.config.GeminiConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 컨텍스트 캐시 (cachedContents)
+ * - SystemInstruction을 처음 사용할 때 캐시를 만들고, 이후 요청은 캐시 이름만 보냄 (지시문 토큰을 다시 보내지 않음)
+ * - 만료 callTimeout 전까지만 사용 (요청 도중 만료 방지), 최근에 쓰인 캐시는 스케줄러가 만료 전에 TTL 연장
+ * - 한동안 쓰이지 않은 캐시는 연장하지 않고 만료되게 둠 (보관 비용)
+ * - 생성에 실패하면 contextCacheRetryAfter 동안 지시문을 요청에 직접 포함 (systemInstruction)
+ * - 지시문이 모델의 최소 캐시 토큰 수(contextCacheMinTokens)보다 작으면 만들지 않고 항상 인라인 전송
+ *   생성 전에 countTokens로 한 번 확인하고, 결과는 모델과 지시문 해시별로 기억 (다시 세지 않음)
+ * - 캐시 API 호출도 GeminiClient의 bulkhead/서킷 브레이커(CallGuard)를 거치며, 거절되면 이번 요청만 인라인 전송
+ * - 다른 요청이 캐시를 만드는 중이면 기다리지 않고 인라인 전송 (생성 호출 동안 요청을 붙잡지 않음)
+ * - 캐시는 인스턴스마다 따로 만듦
+ */
+@Slf4j
+@Component
+public class GeminiContextCache {
+
+    private final RestTemplate geminiRestTemplate;
+    private final GeminiConfig geminiConfig;
+    private final GeminiMetrics geminiMetrics;
+    private final Clock clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> cacheable = new ConcurrentHashMap<>(); // model:지시문 SHA-256 → 최소 크기 이상
+    private final ReentrantLock createLock = new ReentrantLock();
+
+    public GeminiContextCache(RestTemplate geminiRestTemplate, GeminiConfig geminiConfig, GeminiMetrics geminiMetrics,
+                              Clock clock) {
+        this.geminiRestTemplate = geminiRestTemplate;
+        this.geminiConfig = geminiConfig;
+        this.geminiMetrics = geminiMetrics;
+        this.clock = clock;
+    }
+
+    /**
+     * 요청에 쓸 캐시 이름
+     *
+     * @param guard 캐시 생성 호출을 감쌀 보호 실행기
+     * @return cachedContents/... 또는 null (지시문을 요청에 직접 포함)
+     */
+    public String resolve(SystemInstruction instruction, CallGuard guard) {
+        if (!geminiConfig.isContextCacheEnabled()) {
+            return null;
+        }
+
+        Instant now = clock.instant();
+        Entry entry = entries.get(instruction.name());
+        if (entry == null || !entry.isUsable(now, geminiConfig)) {
+            entry = Boolean.FALSE.equals(cacheable.get(sizeKey(instruction)))
+                    ? Entry.inline(now)
+                    : createIfNeeded(instruction, guard);
+        }
+        entry.lastUsedAt = now;
+
+        geminiMetrics.recordContextCache(instruction.name(), entry.cacheName != null);
+        return entry.cacheName;
+    }
+
+    /**
+     * 캐시를 사용한 요청이 거절된 경우 (만료, 삭제 등) 다음 요청에서 다시 생성
+     */
+    public void invalidate(SystemInstruction instruction, String cacheName) {
+        entries.computeIfPresent(instruction.name(),
+                (name, entry) -> cacheName.equals(entry.cacheName) ? null : entry);
+    }
+
+    /**
+     * 만료가 contextCacheRefreshBefore 안으로 다가온 캐시 중 그 사이 쓰인 것만 TTL 연장
+     *
+     * @param guard TTL 연장 호출을 감쌀 보호 실행기
+     * @return 연장한 캐시 수
+     */
+    public int refreshExpiring(CallGuard guard) {
+        Instant now = clock.instant();
+        int refreshed = 0;
+        for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+            Entry entry = mapEntry.getValue();
+            Instant refreshAt = entry.expiresAt.minus(geminiConfig.getContextCacheRefreshBefore());
+            if (entry.cacheName == null || now.isBefore(refreshAt)) {
+                continue;
+            }
+            if (entry.lastUsedAt.isBefore(entry.expiresAt.minus(geminiConfig.getContextCacheTtl()))) {
+                // 지난 TTL 동안 쓰이지 않음, 만료되게 둠
+                entries.remove(mapEntry.getKey(), entry);
+                continue;
+            }
+            try {
+                Map<?, ?> response = guard.call("cachedContents.patch", () -> geminiRestTemplate.exchange(
+                        url(entry.cacheName) + "&updateMask=ttl",
+                        HttpMethod.PATCH,
+                        jsonEntity(Map.of("ttl", ttl())),
+                        Map.class).getBody());
+                entry.expiresAt = expireTime(response, now);
+                refreshed++;
+            } catch (RestClientException | GeminiUnavailableException e) {
+                log.warn("Failed to extend Gemini context cache {}: {}", entry.cacheName, e.getMessage());
+            }
+        }
+        return refreshed;
+    }
+
+    /**
+     * 캐시 생성 (한 번에 하나만, 생성 중이면 이번 요청은 인라인)
+     */
+    private Entry createIfNeeded(SystemInstruction instruction, CallGuard guard) {
+        if (!createLock.tryLock()) {
+            return Entry.inline(clock.instant());
+        }
+        try {
+            Instant now = clock.instant();
+            Entry current = entries.get(instruction.name());
+            if (current != null && current.isUsable(now, geminiConfig)) {
+                return current;
+            }
+            return create(instruction, guard, now);
+        } finally {
+            createLock.unlock();
+        }
+    }
+
+    private Entry create(SystemInstruction instruction, CallGuard guard, Instant now) {
+        Entry created;
+        try {
+            String sizeKey = sizeKey(instruction);
+            if (!cacheable.containsKey(sizeKey)) {
+                Integer tokens = countTokens(instruction, guard);
+                if (tokens != null && tokens < geminiConfig.getContextCacheMinTokens()) {
+                    return markTooSmall(instruction, now, tokens + " tokens");
+                }
+                if (tokens != null) {
+                    cacheable.put(sizeKey, true);
+                }
+            }
+
+            Map<String, Object> body = Map.of(
+                    "model", "models/" + geminiConfig.getModel(),
+                    "displayName", "kanva-" + instruction.name(),
+                    "systemInstruction", Map.of("parts", List.of(Map.of("text", instruction.text()))),
+                    "ttl", ttl());
+            Map<?, ?> response = guard.call("cachedContents.create", () -> geminiRestTemplate.exchange(
+                    url("cachedContents"), HttpMethod.POST, jsonEntity(body), Map.class).getBody());
+            Object name = response != null ? response.get("name") : null;
+            if (name == null) {
+                throw new IllegalStateException("cachedContents response has no name");
+            }
+            created = new Entry(name.toString(), expireTime(response, now), now);
+            log.info("Gemini context cache created: instruction={}, cache={}, expires={}",
+                    instruction.name(), created.cacheName, created.expiresAt);
+        } catch (GeminiUnavailableException e) {
+            // bulkhead 포화, 서킷 OPEN: 일시적이므로 실패로 기록하지 않고 이번 요청만 인라인
+            log.debug("Gemini context cache creation skipped for {}: {}", instruction.name(), e.getMessage());
+            return Entry.inline(now);
+        } catch (HttpClientErrorException.BadRequest e) {
+            if (e.getResponseBodyAsString().contains("min_total_token_count")) {
+                // countTokens가 실패해 확인 없이 생성했는데 모델 최소 토큰 수보다 작음
+                return markTooSmall(instruction, now, e.getMessage());
+            }
+            created = failed(instruction, now, e);
+        } catch (RestClientException | IllegalStateException e) {
+            created = failed(instruction, now, e);
+        }
+        entries.put(instruction.name(), created);
+        return created;
+    }
+
+    // 생성 실패: contextCacheRetryAfter 동안 인라인 전송
+    private Entry failed(SystemInstruction instruction, Instant now, RuntimeException e) {
+        Entry created = new Entry(null, now.plus(geminiConfig.getContextCacheRetryAfter()), now);
+        log.warn("Gemini context cache unavailable for {}, sending instruction inline until {}: {}",
+                instruction.name(), created.expiresAt, e.getMessage());
+        return created;
+    }
+
+    /**
+     * 지시문 토큰 수 (models.countTokens)
+     * - 실패하면 null (생성을 시도하고 결과로 판단), bulkhead/서킷 거절은 호출 측으로 전달
+     */
+    private Integer countTokens(SystemInstruction instruction, CallGuard guard) {
+        try {
+            Map<String, Object> body = Map.of(
+                    "contents", List.of(Map.of("role", "user", "parts", List.of(Map.of("text", instruction.text())))));
+            Map<?, ?> response = guard.call("models.countTokens", () -> geminiRestTemplate.exchange(
+                    url("models/" + geminiConfig.getModel() + ":countTokens"),
+                    HttpMethod.POST, jsonEntity(body), Map.class).getBody());
+            Object totalTokens = response != null ? response.get("totalTokens") : null;
+            return totalTokens instanceof Number number ? number.intValue() : null;
+        } catch (RestClientException e) {
+            log.debug("Gemini countTokens failed for {}: {}", instruction.name(), e.getMessage());
+            return null;
+        }
+    }
+
+    // 지시문과 모델이 바뀌지 않는 한 다시 시도하지 않음
+    private Entry markTooSmall(SystemInstruction instruction, Instant now, String detail) {
+        cacheable.put(sizeKey(instruction), false);
+        entries.remove(instruction.name());
+        log.info("Gemini context cache skipped for {} (below minimum cacheable size for {}): {}",
+                instruction.name(), geminiConfig.getModel(), detail);
+        return Entry.inline(now);
+    }
+
+    private String sizeKey(SystemInstruction instruction) {
+        return geminiConfig.getModel() + ":" + Sha256.hex(instruction.text());
+    }
+
+    private Instant expireTime(Map<?, ?> response, Instant now) {
+        Object expireTime = response != null ? response.get("expireTime") : null;
+        if (expireTime != null) {
+            try {
+                return Instant.parse(expireTime.toString());
+            } catch (DateTimeParseException e) {
+                // 아래 기본값 사용
+            }
+        }
+        return now.plus(geminiConfig.getContextCacheTtl());
+    }
+
+    private String ttl() {
+        return geminiConfig.getContextCacheTtl().toSeconds() + "s";
+    }
+
+    private String url(String resource) {
+        return String.format("%s/%s?key=%s", geminiConfig.getBaseUrl(), resource, geminiConfig.getApiKey());
+    }
+
+    private static HttpEntity<Map<String, Object>> jsonEntity(Map<String, Object> body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(body, headers);
+    }
+
+    /**
+     * 캐시 API 호출을 Gemini 생성 요청과 같은 bulkhead/서킷 브레이커/callTimeout으로 감싸는 실행기
+     */
+    @FunctionalInterface
+    public interface CallGuard {
+        Map<?, ?> call(String method, Supplier<Map<?, ?>> call);
+    }
+
+    private static final class Entry {
+
+        private final String cacheName; // null이면 생성 실패, expiresAt까지 인라인 전송
+        private volatile Instant expiresAt;
+        private volatile Instant lastUsedAt;
+
+        private Entry(String cacheName, Instant expiresAt, Instant lastUsedAt) {
+            this.cacheName = cacheName;
+            this.expiresAt = expiresAt;
+            this.lastUsedAt = lastUsedAt;
+        }
+
+        // 이번 요청만 인라인 전송 (저장하지 않음)
+        private static Entry inline(Instant now) {
+            return new Entry(null, now, now);
+        }
+
+        // 캐시는 요청 도중 만료되지 않도록 callTimeout만큼 여유를 둠
+        private boolean isUsable(Instant now, GeminiConfig config) {
+            if (cacheName == null) {
+                return now.isBefore(expiresAt);
+            }
+            return now.isBefore(expiresAt.minus(config.getCallTimeout()));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.kanva.service.gemini;
+
+import com.kanva.common.resilience.CircuitBreaker;
+import com.kanva.domain.aiusage.AiFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Gemini 호출 Micrometer 지표 (/actuator/prometheus로 노출)
+ *
+ * - gemini.calls: 호출 시간 (method, outcome=success|failure|rejected|short_circuited)
+ *   rejected는 bulkhead 초과, short_circuited는 서킷 OPEN으로 호출하지 않은 경우
+ * - gemini.circuit.state: 서킷 상태 (state=closed|open|half_open, 현재 상태만 1)
+ * - gemini.bulkhead.in_flight: 진행 중인 호출 수
+ * - gemini.pool.leased / available / pending / max: 커넥션 풀 사용 현황
+ * - ai.tokens: 사용 토큰 수 (feature, model, type=prompt|candidates|cached), cached는 prompt 중 컨텍스트 캐시 적중분
+ * - gemini.context_cache.requests: 고정 지시문 전송 방식 (instruction, result=cached|inline)
+ * - ai.budget.rejections: 일일 예산 초과로 호출하지 않은 수 (feature)
+ *
+ * 서킷 OPEN 알림 예: max(gemini_circuit_state{state="open"}) == 1
+ */
+@Component
+public class GeminiMetrics {
+
+    private final MeterRegistry registry;
+
+    public GeminiMetrics(MeterRegistry registry, PoolingHttpClientConnectionManager geminiConnectionManager) {
+        this.registry = registry;
+        poolGauge("gemini.pool.leased", "Gemini connections in use", geminiConnectionManager,
+                manager -> manager.getTotalStats().getLeased());
+        poolGauge("gemini.pool.available", "Idle Gemini connections", geminiConnectionManager,
+                manager -> manager.getTotalStats().getAvailable());
+        poolGauge("gemini.pool.pending", "Requests waiting for a Gemini connection", geminiConnectionManager,
+                manager -> manager.getTotalStats().getPending());
+        poolGauge("gemini.pool.max", "Gemini connection pool size", geminiConnectionManager,
+                manager -> manager.getTotalStats().getMax());
+    }
+
+    public void registerCircuitBreaker(CircuitBreaker circuitBreaker) {
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder("gemini.circuit.state", circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                    .description("Gemini circuit breaker state")
+                    .tag("state", state.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+
+    public void registerBulkhead(Semaphore permits, int maxConcurrentCalls) {
+        Gauge.builder("gemini.bulkhead.in_flight", permits,
+                        semaphore -> maxConcurrentCalls - semaphore.availablePermits())
+                .description("Gemini calls in flight")
+                .register(registry);
+    }
+
+    public void recordCall(String method, String outcome, long elapsedNanos) {
+        Timer.builder("gemini.calls")
+                .description("Gemini API call latency")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(Duration.ofNanos(elapsedNanos));
+    }
+
+    public void recordTokens(AiFeature feature, String model, long promptTokens, long candidateTokens,
+                             long cachedTokens) {
+        tokenCounter(feature, model, "prompt").increment(promptTokens);
+        tokenCounter(feature, model, "candidates").increment(candidateTokens);
+        tokenCounter(feature, model, "cached").increment(cachedTokens);
+    }
+
+    public void recordContextCache(String instruction, boolean cached) {
+        Counter.builder("gemini.context_cache.requests")
+                .description("Gemini requests by how the static instruction was sent")
+                .tag("instruction", instruction)
+                .tag("result", cached ? "cached" : "inline")
+                .register(registry)
+                .increment();
+    }
+
+    public void recordBudgetRejection(AiFeature feature) {
+        Counter.builder("ai.budget.rejections")
+                .description("AI calls skipped because the daily token budget was used up")
+                .tag("feature", feature.name().toLowerCase())
+                .register(registry)
+                .increment();
+    }
+
+    private Counter tokenCounter(AiFeature feature, String model, String type) {
+        return Counter.builder("ai.tokens")
+                .description("AI tokens used")
+                .tag("feature", feature.name().toLowerCase())
+                .tag("model", model)
+                .tag("type", type)
+                .register(registry);
+    }
+
+    private void poolGauge(String name, String description, PoolingHttpClientConnectionManager manager,
+                           ToDoubleFunction<PoolingHttpClientConnectionManager> value) {
+        Gauge.builder(name, manager, value)
+                .description(description)
+                .register(registry);
+    }
+}
@@ -0,0 +1,11 @@
+package com.kanva.service.gemini;
+
+/**
+ * Gemini를 호출하지 않고 거절한 경우 (동시 호출 수 초과, 서킷 OPEN)
+ */
+public class GeminiUnavailableException extends RuntimeException {
+
+    public GeminiUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,174 @@
+package com.kanva.service.gemini;
+
+/**
+ * 스트리밍 JSON 문자열 필드 파서
+ * - 조각으로 도착하는 최상위 JSON 객체를 이어 받으면서 문자열 필드 값을 디코딩된 조각 단위로 전달
+ * - 예: {"summary":"이번 주는 | 알찬 한 주"} → ("summary", "이번 주는 "), ("summary", "알찬 한 주")
+ * - 문자열이 아닌 값(숫자, 중첩 객체/배열)은 건너뜀
+ *
+ * 스레드 안전하지 않음 (스트림 하나당 인스턴스 하나)
+ */
+public class StreamingJsonFieldParser {
+
+    @FunctionalInterface
+    public interface FieldListener {
+        void onFragment(String field, String fragment);
+    }
+
+    private enum State {
+        BEFORE_OBJECT, EXPECT_KEY, IN_KEY, KEY_ESCAPE, EXPECT_COLON, EXPECT_VALUE,
+        IN_VALUE, VALUE_ESCAPE, VALUE_UNICODE, SKIP_VALUE, SKIP_STRING, SKIP_ESCAPE, DONE
+    }
+
+    private final FieldListener listener;
+
+    private State state = State.BEFORE_OBJECT;
+    private final StringBuilder key = new StringBuilder();
+    private final StringBuilder value = new StringBuilder();
+    private final StringBuilder unicode = new StringBuilder(4);
+    private String field;
+    // 건너뛰는 값의 중첩 깊이
+    private int skipDepth;
+
+    public StreamingJsonFieldParser(FieldListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 다음 조각 처리, 조각 안에서 디코딩된 값은 조각이 끝날 때 한 번에 전달
+     */
+    public void feed(String chunk) {
+        for (int i = 0; i < chunk.length(); i++) {
+            accept(chunk.charAt(i));
+        }
+        flush();
+    }
+
+    private void accept(char c) {
+        switch (state) {
+            case BEFORE_OBJECT -> {
+                if (c == '{') {
+                    state = State.EXPECT_KEY;
+                }
+            }
+            case EXPECT_KEY -> {
+                if (c == '"') {
+                    key.setLength(0);
+                    state = State.IN_KEY;
+                } else if (c == '}') {
+                    state = State.DONE;
+                }
+            }
+            case IN_KEY -> {
+                if (c == '\\') {
+                    state = State.KEY_ESCAPE;
+                } else if (c == '"') {
+                    state = State.EXPECT_COLON;
+                } else {
+                    key.append(c);
+                }
+            }
+            case KEY_ESCAPE -> {
+                key.append(c);
+                state = State.IN_KEY;
+            }
+            case EXPECT_COLON -> {
+                if (c == ':') {
+                    state = State.EXPECT_VALUE;
+                }
+            }
+            case EXPECT_VALUE -> {
+                if (Character.isWhitespace(c)) {
+                    return;
+                }
+                if (c == '"') {
+                    field = key.toString();
+                    state = State.IN_VALUE;
+                } else {
+                    skipDepth = (c == '{' || c == '[') ? 1 : 0;
+                    state = State.SKIP_VALUE;
+                }
+            }
+            case IN_VALUE -> {
+                if (c == '\\') {
+                    state = State.VALUE_ESCAPE;
+                } else if (c == '"') {
+                    flush();
+                    field = null;
+                    state = State.EXPECT_KEY;
+                } else {
+                    value.append(c);
+                }
+            }
+            case VALUE_ESCAPE -> {
+                state = State.IN_VALUE;
+                switch (c) {
+                    case 'n' -> value.append('\n');
+                    case 't' -> value.append('\t');
+                    case 'r' -> value.append('\r');
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'u' -> {
+                        unicode.setLength(0);
+                        state = State.VALUE_UNICODE;
+                    }
+                    default -> value.append(c);
+                }
+            }
+            case VALUE_UNICODE -> {
+                unicode.append(c);
+                if (unicode.length() == 4) {
+                    value.append((char) Integer.parseInt(unicode.toString(), 16));
+                    state = State.IN_VALUE;
+                }
+            }
+            case SKIP_VALUE -> {
+                if (c == '"') {
+                    state = State.SKIP_STRING;
+                } else if (c == '{' || c == '[') {
+                    skipDepth++;
+                } else if (c == '}' || c == ']') {
+                    if (skipDepth == 0) {
+                        // 최상위 객체의 끝
+                        state = State.DONE;
+                    } else {
+                        skipDepth--;
+                    }
+                } else if (c == ',' && skipDepth == 0) {
+                    state = State.EXPECT_KEY;
+                }
+            }
+            case SKIP_STRING -> {
+                if (c == '\\') {
+                    state = State.SKIP_ESCAPE;
+                } else if (c == '"') {
+                    state = State.SKIP_VALUE;
+                }
+            }
+            case SKIP_ESCAPE -> state = State.SKIP_STRING;
+            case DONE -> {
+                // 객체 이후 내용은 무시
+            }
+        }
+    }
+
+    private void flush() {
+        if (field == null || value.isEmpty()) {
+            return;
+        }
+
+        // 서로게이트 쌍이 조각 경계에서 나뉘지 않도록 상위 서로게이트는 다음 조각으로 미룸
+        int end = value.length();
+        if (state == State.IN_VALUE || state == State.VALUE_ESCAPE || state == State.VALUE_UNICODE) {
+            if (Character.isHighSurrogate(value.charAt(end - 1))) {
+                end--;
+            }
+        }
+        if (end == 0) {
+            return;
+        }
+
+        listener.onFragment(field, value.substring(0, end));
+        value.delete(0, end);
+    }
+}
@@ -0,0 +1,11 @@
+package com.kanva.service.gemini;
+
+/**
+ * 요청마다 같은 고정 지시문 (역할, 규칙, 출력 예시)
+ * - 애플리케이션 시작 시 한 번 만들어 두고, GeminiContextCache가 cachedContents로 등록
+ *
+ * @param name 캐시 구분용 이름 (지시문마다 고유)
+ * @param text 지시문 본문
+ */
+public record SystemInstruction(String name, String text) {
+}
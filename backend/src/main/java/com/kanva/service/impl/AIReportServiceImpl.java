@@ -1,83 +1,63 @@
 package com.kanva.service.impl;
 
-import com.kanva.domain.dailynote.DailyNote;
-import com.kanva.domain.dailynote.DailyNoteRepository;
 import com.kanva.domain.report.*;
-import com.kanva.domain.task.Task;
-import com.kanva.domain.task.TaskRepository;
-import com.kanva.domain.user.User;
 import com.kanva.domain.user.UserRepository;
 import com.kanva.dto.report.AIReportDetailResponse;
 import com.kanva.dto.report.AIReportResponse;
-import com.kanva.exception.ReportGenerationException;
 import com.kanva.exception.ReportNotFoundException;
 import com.kanva.exception.UserNotFoundException;
 import com.kanva.service.AIReportService;
-import com.kanva.service.report.AIAnalysisService;
-import com.kanva.service.gemini.GeminiClient;
+import com.kanva.service.report.ReportJobService;
+import com.kanva.service.report.ReportMetrics;
+import com.kanva.service.report.ReportStreamRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
-import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AIReportServiceImpl implements AIReportService {
 
     private final AIReportRepository aiReportRepository;
-    private final TaskRepository taskRepository;
-    private final DailyNoteRepository dailyNoteRepository;
     private final UserRepository userRepository;
-    private final AIAnalysisService geminiAnalysisService;
-    private final AIAnalysisService mockAnalysisService;
-    private final GeminiClient geminiClient;
+    private final ReportJobService reportJobService;
+    private final ReportMetrics reportMetrics;
+    private final ReportStreamRegistry reportStreamRegistry;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock;
 
-    public AIReportServiceImpl(
-            AIReportRepository aiReportRepository,
-            TaskRepository taskRepository,
-            DailyNoteRepository dailyNoteRepository,
-            UserRepository userRepository,
-            @Qualifier("geminiAIAnalysisService") AIAnalysisService geminiAnalysisService,
-            @Qualifier("mockAIAnalysisService") AIAnalysisService mockAnalysisService,
-            GeminiClient geminiClient,
-            Clock clock) {
-        this.aiReportRepository = aiReportRepository;
-        this.taskRepository = taskRepository;
-        this.dailyNoteRepository = dailyNoteRepository;
-        this.userRepository = userRepository;
-        this.geminiAnalysisService = geminiAnalysisService;
-        this.mockAnalysisService = mockAnalysisService;
-        this.geminiClient = geminiClient;
-        this.clock = clock;
-    }
-
-    private AIAnalysisService getAnalysisService() {
-        if (geminiClient.isAvailable()) {
-            log.info("Using Gemini AI Analysis Service");
-            return geminiAnalysisService;
-        }
-        log.info("Using Mock AI Analysis Service (Gemini not configured)");
-        return mockAnalysisService;
-    }
-
+    /**
+     * 리포트 생성 요청
+     * - 입력 fingerprint가 같은 COMPLETED 리포트가 있으면 AI 호출 없이 그대로 반환
+     * - 같은 입력으로 생성 중(GENERATING)인 리포트가 있으면 새로 만들지 않고 그 리포트를 반환 (중복 클릭, 여러 탭)
+     * - 같은 기간/톤의 GENERATING 리포트는 한 건만 저장 가능, 동시 요청이 충돌하면 먼저 저장된 리포트를 반환
+     * - 없으면 GENERATING 리포트만 저장하고 바로 반환, 실제 생성은 저장(커밋) 후 ReportGenerationWorker가 처리
+     * - 클라이언트는 status가 GENERATING이면 상세 조회로 상태를 확인
+     * - 요청 전체를 트랜잭션으로 묶지 않음 (조회는 각각 짧은 읽기, insert만 ReportJobService의 트랜잭션)
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AIReportResponse generateReport(Long userId, ReportPeriodType periodType,
                                            LocalDate periodStart, LocalDate periodEnd,
                                            String tone) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
 
         // 기간 계산 (periodType에 따라)
         LocalDate start = periodStart;
@@ -93,66 +73,41 @@ public class AIReportServiceImpl implements AIReportService {
             end = today.with(TemporalAdjusters.lastDayOfMonth());
         }
 
-        // 새 리포트 생성 (tone이 다를 수 있으므로 항상 새로 생성)
-        AIReport report = AIReport.builder()
-                .user(user)
-                .periodType(periodType)
-                .periodStart(start)
-                .periodEnd(end)
-                .build();
-
-        aiReportRepository.save(report);
+        // 입력(기간, 톤, Task/DailyNote 버전)이 같으면 기존 결과 재사용
+        String normalizedTone = ReportJobService.normalizeTone(tone);
+        String fingerprint = reportJobService.fingerprint(userId, periodType, start, end, normalizedTone);
+        Optional<AIReport> cached = aiReportRepository.findFirstByUserIdAndFingerprintAndStatusOrderByCreatedAtDesc(
+                userId, fingerprint, ReportStatus.COMPLETED);
+        reportMetrics.recordCacheLookup(cached.isPresent());
+        if (cached.isPresent()) {
+            log.debug("Report cache hit: userId={}, reportId={}", userId, cached.get().getId());
+            return AIReportResponse.from(cached.get());
+        }
+        Optional<AIReport> generating = aiReportRepository.findFirstByUserIdAndFingerprintAndStatusOrderByCreatedAtDesc(
+                userId, fingerprint, ReportStatus.GENERATING);
+        if (generating.isPresent()) {
+            log.debug("Report already generating: userId={}, reportId={}", userId, generating.get().getId());
+            return AIReportResponse.from(generating.get());
+        }
 
+        // 동시 요청은 uk_ai_report_generating(부분 unique 인덱스)으로 한 건만 저장됨
+        Long reportId;
         try {
-            // 현재 기간 Task 조회
-            List<Task> currentTasks = taskRepository.findByUserIdAndDateRange(userId, start, end);
-
-            // 이전 기간 Task 조회 (비교용)
-            LocalDate prevStart = start.minusDays(ChronoUnit.DAYS.between(start, end) + 1);
-            LocalDate prevEnd = start.minusDays(1);
-            List<Task> previousTasks = taskRepository.findByUserIdAndDateRange(userId, prevStart, prevEnd);
-
-            // DailyNote 조회
-            List<DailyNote> dailyNotes = dailyNoteRepository.findByUserIdAndDateRange(userId, start, end);
-
-            // 이전 기간 Task가 없으면 이전 리포트의 completionRate로 트렌드 비교
-            Integer previousReportCompletionRate = null;
-            if (previousTasks.isEmpty()) {
-                previousReportCompletionRate = aiReportRepository
-                        .findLatestCompletedByUserAndType(userId, periodType)
-                        .map(AIReport::getCompletionRate)
-                        .orElse(null);
-            }
-
-            // AnalysisContext 구성
-            AIAnalysisService.AnalysisContext context = AIAnalysisService.AnalysisContext.builder()
-                    .currentTasks(currentTasks)
-                    .previousPeriodTasks(previousTasks)
-                    .dailyNotes(dailyNotes)
-                    .periodType(periodType)
-                    .tone(tone != null ? tone : "ENCOURAGING")
-                    .previousReportCompletionRate(previousReportCompletionRate)
-                    .build();
-
-            // AI 분석 수행
-            AIAnalysisService.AnalysisResult result = getAnalysisService().analyze(context);
-
-            // 결과 저장
-            report.complete(
-                    result.getTotalTasks(),
-                    result.getCompletedTasks(),
-                    result.getCompletionRate(),
-                    result.getTrend(),
-                    result.getSummary(),
-                    result.getInsights(),
-                    result.getRecommendations()
-            );
-
-        } catch (Exception e) {
-            report.fail(e.getMessage());
-            throw new ReportGenerationException(e.getMessage(), e);
+            reportId = reportJobService.createReport(userId, periodType, start, end, normalizedTone, fingerprint);
+        } catch (DataIntegrityViolationException e) {
+            AIReport existing = aiReportRepository
+                    .findFirstByUserIdAndPeriodTypeAndPeriodStartAndPeriodEndAndToneAndStatusOrderByCreatedAtDesc(
+                            userId, periodType, start, end, normalizedTone, ReportStatus.GENERATING)
+                    .orElseThrow(() -> e);
+            log.debug("Report already generating (concurrent request): userId={}, reportId={}",
+                    userId, existing.getId());
+            return AIReportResponse.from(existing);
         }
 
+        eventPublisher.publishEvent(new ReportRequestedEvent(reportId));
+
+        AIReport report = aiReportRepository.findById(reportId)
+                .orElseThrow(() -> new ReportNotFoundException(reportId));
         return AIReportResponse.from(report);
     }
 
@@ -169,6 +124,29 @@ public class AIReportServiceImpl implements AIReportService {
         return AIReportDetailResponse.from(report);
     }
 
+    /**
+     * 리포트 생성 스트림 구독
+     * - 이미 생성이 끝났으면 done만 보내고 종료
+     * - 구독 직전에 끝난 경우를 놓치지 않도록 구독 후 상태를 다시 확인
+     */
+    @Override
+    public SseEmitter streamReport(Long userId, Long reportId) {
+        AIReport report = aiReportRepository.findById(reportId)
+                .orElseThrow(() -> new ReportNotFoundException(reportId));
+
+        // 본인 리포트인지 확인
+        if (!report.getUser().getId().equals(userId)) {
+            throw new ReportNotFoundException(reportId);
+        }
+
+        SseEmitter emitter = reportStreamRegistry.subscribe(reportId);
+        ReportStatus status = aiReportRepository.findStatusById(reportId).orElse(ReportStatus.FAILED);
+        if (status != ReportStatus.GENERATING) {
+            reportStreamRegistry.finish(reportId, emitter, status);
+        }
+        return emitter;
+    }
+
     @Override
     public Page<AIReportResponse> getReportHistory(Long userId, Pageable pageable) {
         return aiReportRepository.findByUserIdAndStatusOrderByCreatedAtDesc(
@@ -1,5 +1,8 @@
 package com.kanva.service.impl;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.kanva.common.hash.Sha256;
+import com.kanva.common.singleflight.SingleFlight;
 import com.kanva.domain.dailynote.DailyNote;
 import com.kanva.domain.dailynote.DailyNoteRepository;
 import com.kanva.domain.task.Task;
@@ -13,6 +16,7 @@ import com.kanva.service.parsing.AIParsingService;
 import com.kanva.service.parsing.GeminiAIParsingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import com.kanva.service.parsing.AIParsingService.ParsingContext;
 import com.kanva.service.parsing.AIParsingService.ParsingResult;
@@ -26,10 +30,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DailyNoteServiceImpl implements DailyNoteService {
 
+    private static final TypeReference<List<ParsingResult>> PARSING_RESULTS_TYPE = new TypeReference<>() {
+    };
+
     private final DailyNoteRepository dailyNoteRepository;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
     private final GeminiAIParsingService geminiAIParsingService;
+    private final SingleFlight singleFlight;
 
     @Override
     @Transactional
@@ -90,6 +98,13 @@ public class DailyNoteServiceImpl implements DailyNoteService {
         return dailyNoteRepository.save(dailyNote);
     }
 
+    /**
+     * 노트 내용을 AI로 파싱
+     * - 같은 노트, 같은 내용/등록 Task에 대한 파싱이 진행 중이면 그 결과를 함께 사용 (single-flight)
+     * - 트랜잭션 없이 실행 (노트/Task 조회는 각각 짧은 읽기 트랜잭션), Gemini 호출이나 single-flight 대기 동안
+     *   DB 커넥션을 잡고 있지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ParsingResult> parseDailyNote(Long dailyNoteId) {
         DailyNote dailyNote = dailyNoteRepository.findById(dailyNoteId)
                 .orElseThrow(() -> new RuntimeException("DailyNote Not found"));
@@ -101,6 +116,17 @@ public class DailyNoteServiceImpl implements DailyNoteService {
                 .registeredTasks(taskList)
                 .build();
 
-        return geminiAIParsingService.parsing(parsingContext);
+        String key = dailyNote.getUserId() + ":" + dailyNoteId + ":" + parsingFingerprint(dailyNote, taskList);
+        return singleFlight.execute("parse", key, PARSING_RESULTS_TYPE,
+                () -> geminiAIParsingService.parsing(parsingContext));
+    }
+
+    // 노트 내용과 등록된 Task의 (id, updatedAt)으로 계산한 SHA-256 hex
+    private static String parsingFingerprint(DailyNote dailyNote, List<Task> tasks) {
+        StringBuilder canonical = new StringBuilder().append(dailyNote.getContent()).append('|');
+        for (Task task : tasks) {
+            canonical.append(task.getId()).append('@').append(task.getUpdatedAt()).append(',');
+        }
+        return Sha256.hex(canonical.toString());
     }
 }
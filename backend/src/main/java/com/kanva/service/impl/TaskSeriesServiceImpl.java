@@ -3,6 +3,8 @@ package com.kanva.service.impl;
 import com.kanva.domain.dailynote.DailyNote;
 import com.kanva.domain.dailynote.DailyNoteRepository;
 import com.kanva.domain.task.Task;
+import com.kanva.domain.task.TaskCategory;
+import com.kanva.domain.task.TaskChangedEvent;
 import com.kanva.domain.task.TaskRepository;
 import com.kanva.domain.task.TaskStatus;
 import com.kanva.domain.taskseries.CompletionPolicy;
@@ -14,17 +16,24 @@ import com.kanva.domain.user.User;
 import com.kanva.domain.user.UserRepository;
 import com.kanva.dto.taskseries.TaskSeriesRequest;
 import com.kanva.dto.taskseries.TaskSeriesResponse;
+import com.kanva.dto.taskseries.TaskSeriesUpdateRequest;
+import com.kanva.dto.taskseries.TaskSeriesUpdateResponse;
+import com.kanva.exception.TaskSeriesNotFoundException;
 import com.kanva.exception.UserNotFoundException;
 import com.kanva.service.TaskSeriesService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * TaskSeries 비즈니스 로직
@@ -48,6 +57,7 @@ public class TaskSeriesServiceImpl implements TaskSeriesService {
     private final TaskRepository taskRepository;
     private final DailyNoteRepository dailyNoteRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock;
 
     @Override
@@ -63,6 +73,7 @@ public class TaskSeriesServiceImpl implements TaskSeriesService {
                 .user(user)
                 .title(request.getTitle())
                 .description(request.getDescription())
+                .category(request.getCategory())
                 .startDate(startDate)
                 .endDate(request.getEndDate())
                 .completionPolicy(request.getCompletionPolicy())
@@ -75,6 +86,7 @@ public class TaskSeriesServiceImpl implements TaskSeriesService {
             createTaskInstance(savedSeries, today);
         }
 
+        eventPublisher.publishEvent(TaskChangedEvent.allDates(userId));
         return TaskSeriesResponse.from(savedSeries);
     }
 
@@ -88,6 +100,7 @@ public class TaskSeriesServiceImpl implements TaskSeriesService {
                 .user(user)
                 .title(task.getTitle())
                 .description(task.getDescription())
+                .category(task.getCategory())
                 .startDate(startDate)
                 .endDate(endDate)
                 .completionPolicy(completionPolicy)
@@ -100,9 +113,39 @@ public class TaskSeriesServiceImpl implements TaskSeriesService {
 
         log.info("Created series {} from task {} with endDate {} and policy {}",
                 savedSeries.getId(), task.getId(), endDate, completionPolicy);
+        eventPublisher.publishEvent(TaskChangedEvent.allDates(user.getId()));
         return savedSeries;
     }
 
+    @Override
+    @Transactional
+    public TaskSeriesUpdateResponse updateSeries(Long userId, Long seriesId, TaskSeriesUpdateRequest request) {
+        TaskSeries series = findSeriesByIdAndUserId(seriesId, userId);
+
+        // 카테고리는 요청으로 바뀐 경우에만 인스턴스에 반영 (제목만 수정 시 인스턴스별 카테고리 보존)
+        TaskCategory previousCategory = series.getCategory();
+        series.updateInfo(request.getTitle(), request.getDescription(), request.getCategory());
+        TaskCategory changedCategory = series.getCategory() != previousCategory ? series.getCategory() : null;
+
+        // 오늘 이후 미완료 인스턴스 일괄 반영 (오늘 이전/완료 인스턴스는 기록으로 보존)
+        LocalDate today = LocalDate.now(clock);
+        int updatedCount = taskRepository.updateFutureInstancesBySeriesId(
+                seriesId,
+                today,
+                series.getTitle(),
+                series.getDescription(),
+                changedCategory,
+                LocalDateTime.now(clock));
+
+        log.info("Updated series {}. Propagated to {} future instances", seriesId, updatedCount);
+        eventPublisher.publishEvent(TaskChangedEvent.allDates(userId));
+
+        // 벌크 UPDATE 후 영속성 컨텍스트가 비워졌으므로 다시 조회하여 응답 구성
+        TaskSeries updated = taskSeriesRepository.findById(seriesId)
+                .orElseThrow(() -> new TaskSeriesNotFoundException(seriesId));
+        return TaskSeriesUpdateResponse.of(TaskSeriesResponse.from(updated), updatedCount);
+    }
+
     @Override
     public List<TaskSeriesResponse> getUserSeries(Long userId) {
         return taskSeriesRepository.findByUserIdOrderByCreatedAtDesc(userId)
@@ -147,6 +190,40 @@ public class TaskSeriesServiceImpl implements TaskSeriesService {
         }
     }
 
+    @Override
+    @Transactional
+    public int generateTasksForUsersAndDate(Collection<Long> userIds, LocalDate date) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        List<TaskSeries> seriesList = taskSeriesRepository.findGeneratableSeriesForUsersAndDate(userIds, date);
+        if (seriesList.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> seriesIds = seriesList.stream().map(TaskSeries::getId).toList();
+
+        // 제외 날짜 / 기존 인스턴스를 시리즈별로 확인하지 않고 한 번에 조회
+        Set<Long> excludedSeriesIds = excludedDateRepository.findExcludedSeriesIds(seriesIds, date);
+        Set<Long> existingSeriesIds = taskRepository.findSeriesIdsWithInstanceOn(seriesIds, date);
+
+        int created = 0;
+        for (TaskSeries series : seriesList) {
+            if (excludedSeriesIds.contains(series.getId())
+                    || existingSeriesIds.contains(series.getId())
+                    || !series.canGenerateFor(date)) {
+                continue;
+            }
+
+            createTaskInstance(series, date);
+            created++;
+        }
+
+        log.debug("Generated {} series tasks for {} users on date {}", created, userIds.size(), date);
+        return created;
+    }
+
     @Override
     @Transactional
     public int handleTaskCompletion(Task task) {
@@ -174,6 +251,7 @@ public class TaskSeriesServiceImpl implements TaskSeriesService {
             int deletedCount = taskRepository.deleteBySeries_IdAndTaskDateAfter(series.getId(), taskDate);
             log.info("Series {} stopped on {}. Deleted {} future instances",
                     series.getId(), taskDate, deletedCount);
+            eventPublisher.publishEvent(TaskChangedEvent.allDates(series.getUser().getId()));
             return deletedCount;
         }
 
@@ -195,6 +273,7 @@ public class TaskSeriesServiceImpl implements TaskSeriesService {
         int deleted = taskRepository.deleteBySeries_IdAndTaskDate(seriesId, date);
 
         log.info("Excluded date {} from series {}. Deleted {} task instances", date, seriesId, deleted);
+        eventPublisher.publishEvent(TaskChangedEvent.of(series.getUser().getId(), date));
 
         // 자동 정리 확인
         cleanupIfEligible(seriesId);
@@ -213,6 +292,7 @@ public class TaskSeriesServiceImpl implements TaskSeriesService {
         int deletedFuture = taskRepository.deleteBySeries_IdAndTaskDateAfter(seriesId, stopDate);
         log.info("Stopped series {} on {}. Deleted {} instances (current: {}, future: {})",
                 seriesId, stopDate, deletedCurrent + deletedFuture, deletedCurrent, deletedFuture);
+        eventPublisher.publishEvent(TaskChangedEvent.allDates(series.getUser().getId()));
 
         // 자동 정리 확인
         cleanupIfEligible(seriesId);
@@ -270,6 +350,7 @@ public class TaskSeriesServiceImpl implements TaskSeriesService {
                 .series(series)
                 .title(series.getTitle())
                 .description(series.getDescription())
+                .category(series.getCategoryOrDefault())
                 .dueDate(null)  // 시리즈 Task는 개별 dueDate 없음
                 .status(TaskStatus.PENDING)
                 .position(newPosition)
@@ -279,6 +360,18 @@ public class TaskSeriesServiceImpl implements TaskSeriesService {
         log.debug("Created task instance for series {} on date {}", series.getId(), date);
     }
 
+    private TaskSeries findSeriesByIdAndUserId(Long seriesId, Long userId) {
+        TaskSeries series = taskSeriesRepository.findById(seriesId)
+                .orElseThrow(() -> new TaskSeriesNotFoundException(seriesId));
+
+        // 해당 사용자의 시리즈인지 확인
+        if (!series.getUser().getId().equals(userId)) {
+            throw new TaskSeriesNotFoundException(seriesId);
+        }
+
+        return series;
+    }
+
     private DailyNote getOrCreateDailyNote(User user, LocalDate date) {
         return dailyNoteRepository.findByUserAndDate(user, date)
                 .orElseGet(() -> {
@@ -3,6 +3,7 @@ package com.kanva.service.impl;
 import com.kanva.domain.dailynote.DailyNote;
 import com.kanva.domain.dailynote.DailyNoteRepository;
 import com.kanva.domain.task.Task;
+import com.kanva.domain.task.TaskChangedEvent;
 import com.kanva.domain.task.TaskRepository;
 import com.kanva.domain.task.TaskStatus;
 import com.kanva.domain.taskseries.CompletionPolicy;
@@ -20,6 +21,7 @@ import com.kanva.service.TaskService;
 import com.kanva.service.parsing.AIParsingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,6 +46,7 @@ public class TaskServiceImpl implements TaskService {
     private final DailyNoteRepository dailyNoteRepository;
     private final UserRepository userRepository;
     private final TaskSeriesService taskSeriesService;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock;
 
     @Override
@@ -92,6 +95,7 @@ public class TaskServiceImpl implements TaskService {
             taskSeriesService.createSeriesFromTask(savedTask, request.getEndDate(), policy);
         }
 
+        eventPublisher.publishEvent(TaskChangedEvent.of(userId, date));
         return TaskResponse.from(savedTask);
     }
 
@@ -123,6 +127,7 @@ public class TaskServiceImpl implements TaskService {
             }
         }
 
+        publishTaskChanged(userId, task);
         return TaskResponse.from(task);
     }
 
@@ -140,6 +145,7 @@ public class TaskServiceImpl implements TaskService {
             taskSeriesService.handleTaskCompletion(task);
         }
 
+        publishTaskChanged(userId, task);
         return TaskResponse.from(task);
     }
 
@@ -157,6 +163,7 @@ public class TaskServiceImpl implements TaskService {
             taskSeriesService.handleTaskCompletion(task);
         }
 
+        publishTaskChanged(userId, task);
         return TaskResponse.from(task);
     }
 
@@ -165,7 +172,9 @@ public class TaskServiceImpl implements TaskService {
     public void deleteTask(Long userId, Long taskId) {
         Task task = findTaskByIdAndUserId(taskId, userId);
         Long seriesId = task.getSeriesId();
+        LocalDate date = task.getDailyNote().getDate();
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(userId, date));
 
         // 시리즈 Task인 경우 자동 정리 확인
         if (seriesId != null) {
@@ -183,6 +192,7 @@ public class TaskServiceImpl implements TaskService {
             Task task = findTaskByIdAndUserId(taskIds.get(i), userId);
             task.updatePosition(i);
         }
+        eventPublisher.publishEvent(TaskChangedEvent.of(userId, date));
 
         return taskRepository.findByUserIdAndDate(userId, date)
                 .stream()
@@ -227,10 +237,18 @@ public class TaskServiceImpl implements TaskService {
         }
 
         List<Task> savedTasks = taskRepository.saveAll(tasks);
+        eventPublisher.publishEvent(TaskChangedEvent.of(userId, dailyNote.getDate()));
         return savedTasks.stream().map(TaskResponse::from).toList();
     }
 
 
+    /**
+     * 알림 재예약 등 후속 처리를 위해 Task 변경 알림 (커밋 후 처리됨)
+     */
+    private void publishTaskChanged(Long userId, Task task) {
+        eventPublisher.publishEvent(TaskChangedEvent.of(userId, task.getDailyNote().getDate()));
+    }
+
     /**
      * 미래 날짜 Task 상태 변경 불가 검증 (Seoul Clock 기준)
      */
@@ -0,0 +1,203 @@
+package com.kanva.service.notification;
+
+import com.kanva.common.scheduling.HierarchicalTimingWheel;
+import com.kanva.config.NotificationConfig;
+import com.kanva.domain.notification.NotificationPreferencesChangedEvent;
+import com.kanva.domain.notification.NotificationSlot;
+import com.kanva.dto.notification.SlackTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 알림 시각 디스패처
+ * - 사용자의 선호 시각/시간대 + jitter로 발송 시각 계산
+ * - 앞으로 loadAhead 이내 발송분을 타이밍 휠에 분 단위로 적재하고, 매 분 만기된 발송분만 outbox로 넘김
+ * - 적재는 NotificationScheduler가 lease를 보유한 한 인스턴스에서만 호출 (노드 수만큼 대상 조회가 늘지 않음)
+ * - lease가 넘어가는 동안 두 인스턴스가 같은 발송분을 적재해도
+ *   outbox 적재가 (user, slot, date) 단위로 멱등이라 중복 발송 없음
+ * - 설정이 바뀌면 휠의 발송분을 새 시각으로 다시 넣고 (이전 항목은 꺼낼 때 무시),
+ *   다른 인스턴스에서 바뀐 설정은 매시 적재와 만기 시점의 설정 재확인으로 반영
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationTargetFinderService targetFinderService;
+    private final NotificationService notificationService;
+    private final NotificationConfig notificationConfig;
+    private final NotificationMetrics notificationMetrics;
+    private final Clock clock;
+
+    private final HierarchicalTimingWheel<ScheduledNotification> wheel;
+    // 휠에 들어 있는 발송분 → 현재 발송 시각 (중복 적재 방지, 시각이 다른 휠 항목은 이전 예약이므로 무시)
+    private final Map<NotificationKey, Instant> scheduled = new ConcurrentHashMap<>();
+
+    public NotificationDispatcher(NotificationTargetFinderService targetFinderService,
+                                  NotificationService notificationService,
+                                  NotificationConfig notificationConfig,
+                                  NotificationMetrics notificationMetrics,
+                                  Clock clock) {
+        this.targetFinderService = targetFinderService;
+        this.notificationService = notificationService;
+        this.notificationConfig = notificationConfig;
+        this.notificationMetrics = notificationMetrics;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(clock.instant());
+        notificationMetrics.registerGauge("notification.wheel.size", "Notifications waiting in the timing wheel",
+                wheel, HierarchicalTimingWheel::size);
+    }
+
+    /**
+     * 다가올 발송분 적재
+     *
+     * @param catchUp true면 slotDeadline 이내에 이미 지난 발송분도 적재 (재시작 직후 누락 방지)
+     */
+    public void loadUpcoming(boolean catchUp) {
+        Instant now = clock.instant();
+        Instant from = catchUp ? now.minus(notificationConfig.getSlotDeadline()) : now;
+        Instant to = now.plus(notificationConfig.getDispatchLoadAhead());
+
+        // 사용자 시간대에 따라 현지 날짜가 서울 기준 날짜와 하루 다를 수 있음
+        LocalDate today = LocalDate.now(clock);
+        AtomicInteger loaded = new AtomicInteger();
+
+        for (NotificationSlot slot : NotificationSlot.values()) {
+            for (LocalDate date = today.minusDays(1); !date.isAfter(today.plusDays(1)); date = date.plusDays(1)) {
+                LocalDate notificationDate = date;
+                targetFinderService.forEachTargetPage(slot, notificationDate, page -> {
+                    for (SlackTarget target : page) {
+                        Instant due = target.getDueAt(slot, notificationDate);
+                        if (due.isBefore(from) || !due.isBefore(to)) {
+                            continue;
+                        }
+
+                        if (schedule(new NotificationKey(target.getUserId(), slot, notificationDate), due)) {
+                            loaded.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+
+        log.info("Loaded {} upcoming notifications until {} ({} in wheel)", loaded.get(), to, wheel.size());
+    }
+
+    /**
+     * 알림 설정 변경 시 이 인스턴스 휠의 발송분을 새 시각으로 다시 적재
+     * - 이미 지난 시각으로 당겨진 대기 중 발송분은 다음 틱에 발송
+     * - 사전 예약된 발송분은 NotificationRescheduleListener가 outbox 행의 postAt을 바꿔 재예약
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPreferencesChanged(NotificationPreferencesChangedEvent event) {
+        try {
+            reschedule(event.userId());
+        } catch (Exception e) {
+            // 매시 적재와 만기 시점 재확인으로 반영되므로 설정 변경 요청은 실패시키지 않음
+            log.error("Failed to reschedule notifications for user {}: {}", event.userId(), e.getMessage());
+        }
+    }
+
+    private void reschedule(Long userId) {
+        SlackTarget target = targetFinderService.findTargetsByUserIds(List.of(userId)).get(userId);
+        Instant now = clock.instant();
+        Instant to = now.plus(notificationConfig.getDispatchLoadAhead());
+        LocalDate today = LocalDate.now(clock);
+
+        for (NotificationSlot slot : NotificationSlot.values()) {
+            for (LocalDate date = today.minusDays(1); !date.isAfter(today.plusDays(1)); date = date.plusDays(1)) {
+                NotificationKey key = new NotificationKey(userId, slot, date);
+                Instant due = target != null ? target.getDueAt(slot, date) : null;
+                if (due == null || !due.isBefore(to)) {
+                    // 알림 해제 또는 적재 범위 밖 (다음 적재에서 다시 판단)
+                    scheduled.remove(key);
+                } else if (due.isAfter(now)) {
+                    schedule(key, due);
+                } else if (scheduled.containsKey(key)) {
+                    schedule(key, now);
+                }
+            }
+        }
+    }
+
+    /**
+     * 만기된 발송분을 outbox에 적재하고 처리
+     * - 적재 이후 바뀐 설정을 다시 확인 (알림 해제는 건너뛰고, 늦춰진 발송분은 새 시각으로 다시 적재)
+     * - 마감은 발송 시각 + slotDeadline
+     * - 이번 디스패치부터 outbox 처리 완료까지 시간을 기록 (틱 단위, 슬롯 SLA는 delivery.lag)
+     */
+    public void dispatchDue() {
+        Instant dispatchedAt = clock.instant();
+        List<ScheduledNotification> due = wheel.advanceTo(dispatchedAt).stream()
+                .filter(notification -> scheduled.remove(notification.key(), notification.dueAt()))
+                .toList();
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<Long, SlackTarget> targets = targetFinderService.findTargetsByUserIds(
+                due.stream().map(notification -> notification.key().userId()).distinct().toList());
+
+        Map<SlotDate, Map<Long, Instant>> groups = new HashMap<>();
+        for (ScheduledNotification notification : due) {
+            NotificationKey key = notification.key();
+            SlackTarget target = targets.get(key.userId());
+            if (target == null) {
+                continue;
+            }
+            Instant current = target.getDueAt(key.slot(), key.date());
+            if (!current.equals(notification.dueAt()) && current.isAfter(dispatchedAt) && schedule(key, current)) {
+                continue;
+            }
+            groups.computeIfAbsent(new SlotDate(key.slot(), key.date()), k -> new HashMap<>())
+                    .put(key.userId(), notification.dueAt());
+        }
+
+        for (Map.Entry<SlotDate, Map<Long, Instant>> group : groups.entrySet()) {
+            notificationService.enqueueNotifications(group.getKey().slot(), group.getKey().date(), group.getValue());
+        }
+
+        notificationService.processOutbox();
+
+        Duration elapsed = Duration.between(dispatchedAt, clock.instant());
+        groups.keySet().stream()
+                .map(SlotDate::slot)
+                .distinct()
+                .forEach(slot -> notificationMetrics.recordDispatch(slot, elapsed));
+    }
+
+    /**
+     * 발송분을 due 시각으로 휠에 적재
+     *
+     * @return 새로 적재했으면 true (같은 시각으로 이미 적재되어 있으면 false)
+     */
+    private boolean schedule(NotificationKey key, Instant due) {
+        if (due.equals(scheduled.put(key, due))) {
+            return false;
+        }
+        if (!wheel.add(due, new ScheduledNotification(key, due))) {
+            scheduled.remove(key, due);
+            return false;
+        }
+        return true;
+    }
+
+    private record NotificationKey(Long userId, NotificationSlot slot, LocalDate date) {
+    }
+
+    private record ScheduledNotification(NotificationKey key, Instant dueAt) {
+    }
+
+    private record SlotDate(NotificationSlot slot, LocalDate date) {
+    }
+}
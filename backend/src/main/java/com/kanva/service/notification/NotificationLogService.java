@@ -1,67 +1,73 @@
 package com.kanva.service.notification;
 
-import com.kanva.domain.notification.NotificationLog;
-import com.kanva.domain.notification.NotificationLogRepository;
+import com.kanva.domain.notification.NotificationResult;
 import com.kanva.domain.notification.NotificationSlot;
 import com.kanva.dto.notification.SlackSendResult;
 import com.kanva.dto.notification.SlackTarget;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * 알림 발송 이력 기록 서비스
+ * - 발송 스레드에서 트랜잭션을 열지 않고 NotificationLogWriter 큐에 넣어 배치 저장
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationLogService {
 
-    private final NotificationLogRepository notificationLogRepository;
+    private final NotificationLogWriter notificationLogWriter;
 
     /**
      * 발송 결과 기록
-     * - 별도 트랜잭션으로 실행하여 발송 실패와 무관하게 로그 저장
+     * - 저장은 비동기로 이루어지며 발송 실패와 무관하게 기록됨
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logResult(SlackTarget target, NotificationSlot slot, LocalDate date,
                           SlackSendResult result) {
-        try {
-            NotificationLog logEntry;
+        NotificationLogWriter.Entry entry = new NotificationLogWriter.Entry(
+                target.getUserId(),
+                slot,
+                date,
+                target.getSlackUserId(),
+                target.getTeamId(),
+                result.isSuccess() ? NotificationResult.SUCCESS : NotificationResult.FAIL,
+                result.isSuccess() ? null : truncateErrorMessage(result.getErrorMessage()),
+                result.isSuccess() ? 0 : result.getRetryCount(),
+                LocalDateTime.now()
+        );
 
-            if (result.isSuccess()) {
-                logEntry = NotificationLog.success(
-                        target.getUser(),
-                        slot,
-                        date,
-                        target.getSlackUserId(),
-                        target.getTeamId()
-                );
-            } else {
-                logEntry = NotificationLog.fail(
-                        target.getUser(),
-                        slot,
-                        date,
-                        target.getSlackUserId(),
-                        target.getTeamId(),
-                        truncateErrorMessage(result.getErrorMessage()),
-                        result.getRetryCount()
-                );
-            }
+        try {
+            notificationLogWriter.enqueue(entry);
+        } catch (InterruptedException e) {
+            // 인터럽트(슬롯 마감 취소)되어도 이력은 남김
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while queueing notification log for user {}, saving directly",
+                    target.getUserId());
+            saveDirectly(entry);
+        }
 
-            notificationLogRepository.save(logEntry);
+        log.debug("Notification log queued: userId={}, slot={}, date={}, result={}",
+                target.getUserId(), slot, date, entry.result());
+    }
 
-            log.debug("Notification log saved: userId={}, slot={}, date={}, result={}",
-                    target.getUserId(), slot, date, result.isSuccess() ? "SUCCESS" : "FAIL");
+    /**
+     * 쌓인 이력 즉시 저장 (슬롯 발송 종료 시 호출)
+     */
+    public void flush() {
+        notificationLogWriter.flush();
+    }
 
+    private void saveDirectly(NotificationLogWriter.Entry entry) {
+        try {
+            notificationLogWriter.writeNow(entry);
         } catch (Exception e) {
             // 로그 저장 실패해도 전체 프로세스에 영향 주지 않음
             log.error("Failed to save notification log for user {}: {}",
-                    target.getUserId(), e.getMessage());
+                    entry.userId(), e.getMessage());
         }
     }
 
@@ -0,0 +1,226 @@
+package com.kanva.service.notification;
+
+import com.kanva.config.NotificationConfig;
+import com.kanva.domain.notification.NotificationResult;
+import com.kanva.domain.notification.NotificationSlot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 알림 발송 이력 비동기 배치 기록기
+ * - 발송 스레드는 큐에 넣기만 하고, 전용 스레드가 batchSize건 또는 flushInterval마다 JDBC batch insert
+ * - 큐가 가득 차면 enqueue가 대기 (버리지 않음)
+ * - 종료 시 남은 이력을 동기 flush
+ * - SUCCESS 이력은 발송 대상 조회(findNotificationTargetPage)에서 이미 발송된 사용자를 제외하는 데 쓰이므로
+ *   저장 실패 시 다음 flush에서 재시도
+ */
+@Slf4j
+@Component
+public class NotificationLogWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_logs
+                (user_id, slot, notification_date, slack_user_id, team_id, result, error_message, sent_at, retry_count)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final BlockingQueue<Entry> queue;
+
+    // 저장에 실패한 SUCCESS 이력 (writeLock 안에서만 접근)
+    private final List<Entry> retryEntries = new ArrayList<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile boolean running = false;
+    private volatile Thread writerThread;
+
+    public NotificationLogWriter(JdbcTemplate jdbcTemplate, NotificationConfig notificationConfig,
+                                 NotificationMetrics notificationMetrics) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, notificationConfig.getLogBatchSize());
+        this.flushIntervalNanos = notificationConfig.getLogFlushInterval().toNanos();
+        this.queue = new ArrayBlockingQueue<>(notificationConfig.getLogQueueCapacity());
+        notificationMetrics.registerGauge("notification.log.queue.size", "Notification logs waiting to be written",
+                queue, BlockingQueue::size);
+    }
+
+    /**
+     * 이력 기록 요청
+     * - 기록기가 중지된 뒤(종료 중)에는 호출 스레드에서 바로 저장
+     */
+    public void enqueue(Entry entry) throws InterruptedException {
+        if (!running) {
+            writeNow(entry);
+            return;
+        }
+
+        queue.put(entry);
+
+        if (queue.size() >= batchSize) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * 큐를 거치지 않고 호출 스레드에서 바로 저장
+     */
+    public void writeNow(Entry entry) {
+        writeLock.lock();
+        try {
+            writeBatch(List.of(entry));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 큐에 쌓인 이력을 호출 스레드에서 즉시 저장
+     * - 진행 중인 배치가 있으면 끝날 때까지 대기하므로, 반환 후에는 이전에 넣은 이력이 모두 반영됨
+     */
+    public void flush() {
+        writeLock.lock();
+        try {
+            List<Entry> batch = new ArrayList<>(retryEntries);
+            retryEntries.clear();
+            queue.drainTo(batch);
+
+            for (int from = 0; from < batch.size(); from += batchSize) {
+                writeBatch(batch.subList(from, Math.min(from + batchSize, batch.size())));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void runWriter() {
+        while (running) {
+            if (queue.size() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            try {
+                flush();
+            } catch (Exception e) {
+                log.error("Notification log writer failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 배치 저장, 실패 시 건별 저장으로 대체
+     * - 건별 저장도 실패한 SUCCESS 이력은 재시도 목록에 보관
+     */
+    private void writeBatch(List<Entry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch.stream().map(Entry::toParams).toList());
+            log.debug("Notification logs saved: {} rows", batch.size());
+            return;
+        } catch (Exception e) {
+            log.warn("Batch insert of {} notification logs failed, retrying row by row: {}",
+                    batch.size(), e.getMessage());
+        }
+
+        for (Entry entry : batch) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, entry.toParams());
+            } catch (Exception e) {
+                if (entry.result() == NotificationResult.SUCCESS) {
+                    retryEntries.add(entry);
+                    log.error("Failed to save SUCCESS notification log for user {}, will retry: {}",
+                            entry.userId(), e.getMessage());
+                } else {
+                    // 실패 이력은 다음 발송에 영향 없으므로 버림
+                    log.error("Failed to save notification log for user {}: {}",
+                            entry.userId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("notification-log-writer")
+                .daemon(true)
+                .start(this::runWriter);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        flush();
+
+        writeLock.lock();
+        try {
+            for (Entry entry : retryEntries) {
+                log.error("SUCCESS notification log not persisted on shutdown: userId={}, slot={}, date={}",
+                        entry.userId(), entry.slot(), entry.date());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 저장 대기 중인 발송 이력
+     */
+    public record Entry(
+            Long userId,
+            NotificationSlot slot,
+            LocalDate date,
+            String slackUserId,
+            String teamId,
+            NotificationResult result,
+            String errorMessage,
+            int retryCount,
+            LocalDateTime sentAt
+    ) {
+        private Object[] toParams() {
+            return new Object[]{
+                    userId,
+                    slot.name(),
+                    Date.valueOf(date),
+                    slackUserId,
+                    teamId,
+                    result.name(),
+                    errorMessage,
+                    Timestamp.valueOf(sentAt),
+                    retryCount
+            };
+        }
+    }
+}
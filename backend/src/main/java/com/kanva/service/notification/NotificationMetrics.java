@@ -0,0 +1,170 @@
+package com.kanva.service.notification;
+
+import com.kanva.config.NotificationConfig;
+import com.kanva.domain.notification.NotificationSlot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 알림 파이프라인 Micrometer 지표 (/actuator/prometheus로 노출)
+ *
+ * - notification.target.discovery: 발송 대상 조회 시간 (query=page|by_user_ids)
+ * - notification.slack.call: Slack API 호출 시간 (method, outcome)
+ * - notification.slack.errors: Slack 에러 수 (method, error, team)
+ * - notification.slack.delivery.unknown: 요청을 보낸 뒤 응답을 받지 못한 발송/예약 수 (cause, team)
+ *   게시 여부를 알 수 없어 재시도하지 않으므로 이 수만큼 DM이 누락되었을 수 있음
+ * - notification.send: 사용자별 발송 시간, 속도 제한 대기 포함 (slot, outcome)
+ * - notification.outbox.results: outbox 처리 결과 수 (slot, result=sent|scheduled|retry|failed)
+ * - notification.delivery.lag: 발송 시각부터 실제 발송까지 지연 (slot)
+ * - notification.dm_channel.lookups: DM 채널 캐시 조회 수 (result=near_cache|stored|miss)
+ * - notification.dispatch.duration: 디스패치 1회(매 분)에서 만기분 적재부터 outbox 처리 완료까지 시간 (slot)
+ *   슬롯 전체가 아니라 틱 단위이므로 슬롯 SLA는 delivery.lag로 감시
+ * - notification.dispatch.sla.exceeded: dispatch.duration이 slotSla를 넘은 횟수 (slot)
+ * - notification.wheel.size / notification.log.queue.size: 타이밍 휠 적재 수, 이력 기록 대기 수
+ *
+ * SLA 알림 예: 1 - rate(notification_delivery_lag_seconds_bucket{le="120.0"}[10m])
+ *              / rate(notification_delivery_lag_seconds_count[10m]) > 0.01
+ */
+@Slf4j
+@Component
+public class NotificationMetrics {
+
+    private final MeterRegistry registry;
+    private final Duration slotSla;
+
+    private final Counter dmChannelNearCacheHits;
+    private final Counter dmChannelStoredHits;
+    private final Counter dmChannelMisses;
+
+    public NotificationMetrics(MeterRegistry registry, NotificationConfig notificationConfig) {
+        this.registry = registry;
+        this.slotSla = notificationConfig.getSlotSla();
+        this.dmChannelNearCacheHits = dmChannelLookupCounter("near_cache");
+        this.dmChannelStoredHits = dmChannelLookupCounter("stored");
+        this.dmChannelMisses = dmChannelLookupCounter("miss");
+    }
+
+    /**
+     * 상태 객체를 읽는 게이지 등록 (휠 크기, 이력 큐 길이 등)
+     */
+    public <T> void registerGauge(String name, String description, T stateObject, ToDoubleFunction<T> valueFunction) {
+        Gauge.builder(name, stateObject, valueFunction)
+                .description(description)
+                .register(registry);
+    }
+
+    public Timer.Sample startTimer() {
+        return Timer.start(registry);
+    }
+
+    public void recordTargetDiscovery(String query, Timer.Sample sample) {
+        sample.stop(Timer.builder("notification.target.discovery")
+                .description("Notification target query duration")
+                .tag("query", query)
+                .register(registry));
+    }
+
+    public void recordSlackCall(String method, boolean ok, long elapsedNanos) {
+        Timer.builder("notification.slack.call")
+                .description("Slack Web API call latency")
+                .tag("method", method)
+                .tag("outcome", ok ? "ok" : "error")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(Duration.ofNanos(elapsedNanos));
+    }
+
+    public void recordSlackError(String method, String error, String teamId) {
+        Counter.builder("notification.slack.errors")
+                .description("Slack Web API errors by error code and workspace")
+                .tag("method", method)
+                .tag("error", error != null ? error : "unknown")
+                .tag("team", teamId != null ? teamId : "unknown")
+                .register(registry)
+                .increment();
+    }
+
+    public void recordDeliveryUnknown(String cause, String teamId) {
+        Counter.builder("notification.slack.delivery.unknown")
+                .description("Sends that failed after the request may have reached Slack (not retried)")
+                .tag("cause", cause)
+                .tag("team", teamId != null ? teamId : "unknown")
+                .register(registry)
+                .increment();
+    }
+
+    public void recordSend(NotificationSlot slot, boolean success, Timer.Sample sample) {
+        sample.stop(Timer.builder("notification.send")
+                .description("Per-user send duration including rate limit wait")
+                .tag("slot", slot.name())
+                .tag("outcome", success ? "success" : "fail")
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    public void recordOutboxResult(NotificationSlot slot, String result) {
+        Counter.builder("notification.outbox.results")
+                .description("Outbox row results")
+                .tag("slot", slot.name())
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordDeliveryLag(NotificationSlot slot, Duration lag) {
+        Timer.builder("notification.delivery.lag")
+                .description("Delay between due time and successful delivery")
+                .tag("slot", slot.name())
+                .serviceLevelObjectives(slotSla)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    public void recordDmChannelNearCacheHit() {
+        dmChannelNearCacheHits.increment();
+    }
+
+    public void recordDmChannelStoredHit() {
+        dmChannelStoredHits.increment();
+    }
+
+    public void recordDmChannelMiss() {
+        dmChannelMisses.increment();
+    }
+
+    /**
+     * 디스패치 1회 처리 시간 기록, slotSla 초과 시 카운터 증가 + 경고 로그
+     */
+    public void recordDispatch(NotificationSlot slot, Duration elapsed) {
+        Timer.builder("notification.dispatch.duration")
+                .description("Time from enqueueing one dispatch tick's due notifications until the outbox is drained")
+                .tag("slot", slot.name())
+                .serviceLevelObjectives(slotSla)
+                .register(registry)
+                .record(elapsed);
+
+        if (elapsed.compareTo(slotSla) > 0) {
+            Counter.builder("notification.dispatch.sla.exceeded")
+                    .description("Dispatch ticks slower than notification.slot-sla")
+                    .tag("slot", slot.name())
+                    .register(registry)
+                    .increment();
+            log.warn("{} notification dispatch took {} (SLA {})", slot, elapsed, slotSla);
+        }
+    }
+
+    private Counter dmChannelLookupCounter(String result) {
+        return Counter.builder("notification.dm_channel.lookups")
+                .description("DM channel cache lookups")
+                .tag("result", result)
+                .register(registry);
+    }
+}
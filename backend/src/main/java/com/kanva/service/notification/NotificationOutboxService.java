@@ -0,0 +1,346 @@
+package com.kanva.service.notification;
+
+import com.kanva.config.NotificationConfig;
+import com.kanva.domain.notification.NotificationOutbox;
+import com.kanva.domain.notification.NotificationOutboxRepository;
+import com.kanva.domain.notification.NotificationSlot;
+import com.kanva.dto.notification.SlackSendResult;
+import com.kanva.dto.notification.SlackTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 outbox 관리 서비스
+ * - 발송 대상을 (user, slot, date)당 한 행으로 적재
+ * - 워커는 SELECT ... FOR UPDATE SKIP LOCKED로 행을 선점하므로 여러 노드가 중복 없이 나누어 처리
+ * - 선점마다 토큰을 발급하고, 결과는 토큰이 같은 행에만 반영 (lease 만료 후 다시 선점된 행은 lost lease)
+ * - postAt이 있는 행은 Slack 예약(SCHEDULED)으로 끝나고, Task/알림 설정 변경 시 PENDING으로 돌려 재예약
+ * - 재시도는 스레드를 재우지 않고 nextAttemptAt을 미뤄 예약 (지수 백오프 + jitter, Retry-After 우선)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxService {
+
+    // 이미 적재된 (user, slot, date)는 건너뜀 (PostgreSQL/H2 공통 문법)
+    private static final String ENQUEUE_SQL = """
+            INSERT INTO notification_outbox
+                (user_id, slot, notification_date, status, attempts, next_attempt_at, deadline_at, post_at,
+                 reschedule_requested, created_at, updated_at)
+            SELECT ?, ?, ?, 'PENDING', 0, ?, ?, ?, FALSE, ?, ?
+            WHERE NOT EXISTS (
+                SELECT 1 FROM notification_outbox
+                WHERE user_id = ? AND slot = ? AND notification_date = ?
+            )
+            """;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationConfig notificationConfig;
+    private final Clock clock;
+
+    /**
+     * 발송 대상 적재
+     * - 마감은 사용자별 발송 시각 + slotDeadline (이후에는 발송하지 않음)
+     *
+     * @param dueAtByUser userId → 발송 시각
+     * @return 새로 적재된 행 수
+     */
+    public int enqueue(Map<Long, LocalDateTime> dueAtByUser, NotificationSlot slot, LocalDate date) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        Date notificationDate = Date.valueOf(date);
+
+        return insert(dueAtByUser.entrySet().stream()
+                .map(entry -> toParams(entry.getKey(), slot, notificationDate, now,
+                        Timestamp.valueOf(entry.getValue().plus(notificationConfig.getSlotDeadline())), null))
+                .toList());
+    }
+
+    /**
+     * 사전 예약 대상 적재
+     * - postAt에 게시되도록 chat.scheduleMessage로 예약하며, 마감은 postAt + slotDeadline
+     *
+     * @param postAtByUser userId → 게시 시각
+     * @return 새로 적재된 행 수
+     */
+    public int enqueueScheduled(Map<Long, LocalDateTime> postAtByUser, NotificationSlot slot, LocalDate date) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        Date notificationDate = Date.valueOf(date);
+
+        return insert(postAtByUser.entrySet().stream()
+                .map(entry -> toParams(entry.getKey(), slot, notificationDate, now,
+                        Timestamp.valueOf(entry.getValue().plus(notificationConfig.getSlotDeadline())),
+                        Timestamp.valueOf(entry.getValue())))
+                .toList());
+    }
+
+    private int insert(List<Object[]> params) {
+        if (params.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return sum(jdbcTemplate.batchUpdate(ENQUEUE_SQL, params));
+        } catch (DuplicateKeyException e) {
+            // 다른 노드와 동시에 적재한 경우: 건별로 다시 적재하며 중복은 무시
+            int inserted = 0;
+            for (Object[] row : params) {
+                try {
+                    inserted += jdbcTemplate.update(ENQUEUE_SQL, row);
+                } catch (DuplicateKeyException ignored) {
+                    // 이미 적재됨
+                }
+            }
+            return inserted;
+        }
+    }
+
+    private Object[] toParams(Long userId, NotificationSlot slot, Date notificationDate, Timestamp now,
+                              Timestamp deadline, Timestamp postAt) {
+        return new Object[]{
+                userId, slot.name(), notificationDate, now, deadline,
+                // NULL이어도 타입을 알려야 PostgreSQL이 SELECT 목록의 파라미터 타입을 추론
+                new SqlParameterValue(Types.TIMESTAMP, postAt), now, now,
+                userId, slot.name(), notificationDate
+        };
+    }
+
+    /**
+     * Task 변경 시 예약 발송 재예약 요청
+     * - 호출 측 트랜잭션 커밋 이후에 실행되므로 별도 트랜잭션 사용
+     * - SCHEDULED 행은 PENDING으로 돌리고, 처리 중(PROCESSING)인 행은 결과 반영 후 다시 예약하도록 표시
+     *
+     * @param date null이면 사용자의 모든 예약 발송
+     * @return 재예약 요청된 행 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int requestReschedule(Long userId, LocalDate date) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (date != null) {
+            return outboxRepository.requestReschedule(userId, date, now)
+                    + outboxRepository.markRescheduleRequested(userId, date, now);
+        }
+        return outboxRepository.requestRescheduleAll(userId, now)
+                + outboxRepository.markRescheduleRequestedAll(userId, now);
+    }
+
+    /**
+     * 알림 설정(선호 시각, 시간대, jitter) 변경 시 사전 예약 행의 게시 시각 재계산
+     * - 호출 측 트랜잭션 커밋 이후에 실행되므로 별도 트랜잭션 사용
+     * - 게시 시각이 바뀐 행만 새 시각으로 바꾸고 재예약 요청 (실제 delete + schedule은 outbox 처리에서 수행)
+     * - 게시 시각이 preScheduleMinLead 이내인 예약은 Slack이 곧 게시하므로 그대로 둠
+     *
+     * @return 재예약 요청된 행 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int reschedulePreScheduled(SlackTarget target) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime scheduleFrom = now.plus(notificationConfig.getPreScheduleMinLead());
+
+        int requested = 0;
+        for (NotificationOutbox row : outboxRepository.findPreScheduledForUpdate(target.getUserId(), scheduleFrom)) {
+            LocalDateTime postAt = LocalDateTime.ofInstant(
+                    target.getDueAt(row.getSlot(), row.getNotificationDate()), clock.getZone());
+            if (postAt.equals(row.getPostAt())) {
+                continue;
+            }
+            row.changePostAt(postAt, postAt.plus(notificationConfig.getSlotDeadline()), scheduleFrom, now);
+            requested++;
+        }
+        return requested;
+    }
+
+    /**
+     * 재예약을 위해 삭제한 예약 메시지 ID 비우기
+     * - 이후 예약이 실패해 재시도되면 기존 예약이 없는 것으로 보고 새로 예약하거나 즉시 발송
+     */
+    @Transactional
+    public void clearScheduledMessage(Long outboxId, String scheduledMessageId) {
+        outboxRepository.clearScheduledMessage(outboxId, scheduledMessageId, LocalDateTime.now(clock));
+    }
+
+    /**
+     * 게시 시각이 지난 예약 발송을 SENT로 정리
+     */
+    @Transactional
+    public int markScheduledPosted() {
+        return outboxRepository.markScheduledPosted(LocalDateTime.now(clock));
+    }
+
+    /**
+     * 처리 가능한 행 선점
+     * - 선점한 행은 PROCESSING + lease(lockedUntil) + 선점 토큰으로 표시 후 바로 커밋하여 잠금을 짧게 유지
+     */
+    @Transactional
+    public List<Claim> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime lockedUntil = now.plus(notificationConfig.getOutboxLease());
+        String claimToken = UUID.randomUUID().toString();
+
+        List<NotificationOutbox> rows = outboxRepository.findClaimable(now, limit);
+        for (NotificationOutbox row : rows) {
+            row.claim(lockedUntil, claimToken);
+        }
+
+        return rows.stream()
+                .map(Claim::from)
+                .toList();
+    }
+
+    /**
+     * 발송 결과 반영
+     * - 성공: SENT (예약한 경우 SCHEDULED, 처리 중 재예약 요청이 있었으면 다시 PENDING)
+     * - 재시도 가능 + 시도 횟수/마감 여유 있음: PENDING (nextAttemptAt 예약)
+     * - 그 외: FAILED
+     * - 선점 토큰이 달라졌거나 PROCESSING이 아닌 행(lease 만료 후 다른 워커가 다시 선점/처리)은 반영하지 않음
+     *
+     * @return 반영 결과 (FAILED로 확정된 ID, 선점을 잃어 반영하지 않은 ID)
+     */
+    @Transactional
+    public Completion complete(List<Claim> claims, Map<Long, SlackSendResult> results) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Set<Long> failedIds = new HashSet<>();
+        Set<Long> lostIds = new HashSet<>(results.keySet());
+
+        Map<String, List<Long>> idsByToken = claims.stream()
+                .filter(claim -> results.containsKey(claim.outboxId()))
+                .collect(Collectors.groupingBy(Claim::claimToken,
+                        Collectors.mapping(Claim::outboxId, Collectors.toList())));
+
+        List<NotificationOutbox> rows = new ArrayList<>();
+        idsByToken.forEach((claimToken, ids) -> rows.addAll(outboxRepository.findClaimedForUpdate(ids, claimToken)));
+
+        for (NotificationOutbox row : rows) {
+            lostIds.remove(row.getId());
+            SlackSendResult result = results.get(row.getId());
+            if (result.isSuccess()) {
+                if (result.isScheduled()) {
+                    row.markScheduled(result.getChannelId(), result.getScheduledMessageId());
+                    if (row.isRescheduleRequested()) {
+                        row.reschedule(now);
+                    }
+                } else {
+                    row.markSent();
+                }
+                continue;
+            }
+
+            String error = truncateErrorMessage(result.getErrorMessage());
+            LocalDateTime nextAttemptAt = now.plus(backoff(row.getAttempts() + 1, result.getRetryAfter()));
+
+            if (result.isRetryable()
+                    && row.getAttempts() + 1 < notificationConfig.getOutboxMaxAttempts()
+                    && nextAttemptAt.isBefore(row.getDeadlineAt())) {
+                row.scheduleRetry(nextAttemptAt, error);
+                log.debug("Outbox {} rescheduled at {} (attempt {}): {}",
+                        row.getId(), nextAttemptAt, row.getAttempts(), error);
+            } else {
+                row.markFailed(error);
+                failedIds.add(row.getId());
+            }
+        }
+
+        if (!lostIds.isEmpty()) {
+            log.warn("Outbox rows {} were re-claimed after their lease expired; results not applied", lostIds);
+        }
+        return new Completion(failedIds, lostIds);
+    }
+
+    /**
+     * 재시도 대기 시간
+     * - Retry-After가 있으면 그 값 + 최대 1초 jitter (같은 팀 행들이 동시에 다시 몰리지 않도록)
+     * - 없으면 base * 2^(attempt-1)을 max로 제한한 뒤 절반~전체 구간에서 무작위 선택
+     */
+    private Duration backoff(int attempt, Duration retryAfter) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (retryAfter != null) {
+            return retryAfter.plusMillis(random.nextLong(1000));
+        }
+
+        long baseMillis = notificationConfig.getOutboxBaseBackoff().toMillis();
+        long maxMillis = notificationConfig.getOutboxMaxBackoff().toMillis();
+        long exponential = Math.min(maxMillis, baseMillis << Math.min(attempt - 1, 20));
+        long half = Math.max(1, exponential / 2);
+
+        return Duration.ofMillis(half + random.nextLong(half));
+    }
+
+    private int sum(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            // 드라이버가 건수를 모르는 경우 SUCCESS_NO_INFO(-2)를 반환
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    private String truncateErrorMessage(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    /**
+     * 결과 반영 결과
+     *
+     * @param failedIds FAILED로 확정된 outbox ID
+     * @param lostIds   선점을 잃어 반영하지 않은 outbox ID (다른 워커가 처리)
+     */
+    public record Completion(Set<Long> failedIds, Set<Long> lostIds) {
+    }
+
+    /**
+     * 선점된 outbox 행 정보
+     */
+    public record Claim(
+            Long outboxId,
+            String claimToken,
+            Long userId,
+            NotificationSlot slot,
+            LocalDate date,
+            int attempts,
+            LocalDateTime deadlineAt,
+            LocalDateTime postAt,
+            String scheduledMessageId,
+            String scheduledChannelId
+    ) {
+        private static Claim from(NotificationOutbox row) {
+            return new Claim(
+                    row.getId(),
+                    row.getClaimToken(),
+                    row.getUser().getId(),
+                    row.getSlot(),
+                    row.getNotificationDate(),
+                    row.getAttempts(),
+                    row.getDeadlineAt(),
+                    row.getPostAt(),
+                    row.getScheduledMessageId(),
+                    row.getScheduledChannelId()
+            );
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.kanva.service.notification;
+
+import com.kanva.config.NotificationConfig;
+import com.kanva.domain.notification.NotificationSlot;
+import com.kanva.dto.notification.SlackTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MORNING 알림 야간 사전 예약 (notification.pre-schedule-enabled)
+ * - 한가한 야간에 다음 MORNING 메시지를 미리 만들어 chat.scheduleMessage로 발송 시각에 예약
+ * - 아침 발송 시각의 트래픽이 Slack 쪽으로 넘어가므로 우리 파이프라인은 야간에만 일함
+ * - 예약 이후 Task가 바뀌면 NotificationRescheduleListener가 재예약 요청
+ * - 예약된 사용자는 SUCCESS 이력이 있어 타이밍 휠 적재 대상에서 빠지고, outbox 적재도 (user, slot, date)로 멱등
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPreScheduler {
+
+    private final NotificationTargetFinderService targetFinderService;
+    private final NotificationService notificationService;
+    private final NotificationConfig notificationConfig;
+    private final Clock clock;
+
+    /**
+     * 앞으로 preScheduleAhead 이내 MORNING 발송분 예약
+     * - 발송 시각이 preScheduleMinLead 이내인 발송분은 타이밍 휠이 그대로 발송
+     *
+     * @return 새로 적재된 예약 수
+     */
+    public int preScheduleMorning() {
+        Instant now = clock.instant();
+        Instant from = now.plus(notificationConfig.getPreScheduleMinLead());
+        Instant to = now.plus(notificationConfig.getPreScheduleAhead());
+
+        // 사용자 시간대에 따라 현지 날짜가 서울 기준 날짜와 하루 다를 수 있음
+        LocalDate today = LocalDate.now(clock);
+        AtomicInteger enqueued = new AtomicInteger();
+
+        for (LocalDate date = today.minusDays(1); !date.isAfter(today.plusDays(1)); date = date.plusDays(1)) {
+            LocalDate notificationDate = date;
+            targetFinderService.forEachTargetPage(NotificationSlot.MORNING, notificationDate, page -> {
+                Map<Long, LocalDateTime> postAtByUser = new HashMap<>();
+                for (SlackTarget target : page) {
+                    Instant due = target.getDueAt(NotificationSlot.MORNING, notificationDate);
+                    if (due.isAfter(from) && !due.isAfter(to)) {
+                        postAtByUser.put(target.getUserId(), LocalDateTime.ofInstant(due, clock.getZone()));
+                    }
+                }
+                if (!postAtByUser.isEmpty()) {
+                    enqueued.addAndGet(notificationService.enqueuePreScheduled(
+                            NotificationSlot.MORNING, notificationDate, postAtByUser));
+                }
+            });
+        }
+
+        notificationService.processOutbox();
+
+        log.info("Pre-scheduled {} MORNING notifications until {}", enqueued.get(), to);
+        return enqueued.get();
+    }
+}
@@ -0,0 +1,73 @@
+package com.kanva.service.notification;
+
+import com.kanva.config.NotificationConfig;
+import com.kanva.domain.notification.NotificationPreferencesChangedEvent;
+import com.kanva.domain.task.TaskChangedEvent;
+import com.kanva.dto.notification.SlackTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Task 변경 / 알림 설정 변경 시 사전 예약된 알림 재예약 요청
+ * - 예약된 행을 PENDING으로 돌리는 UPDATE 한 번만 수행, 실제 delete + schedule은 outbox 처리에서 수행
+ * - 알림 설정 변경은 타이밍 휠만 옮겨서는 반영되지 않으므로 (outbox 적재가 멱등) 예약 행의 postAt도 새 시각으로 변경
+ * - 짧은 시간에 여러 번 바뀌어도 다음 outbox 처리에서 한 번만 재예약됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRescheduleListener {
+
+    private final NotificationOutboxService outboxService;
+    private final NotificationTargetFinderService targetFinderService;
+    private final NotificationConfig notificationConfig;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!notificationConfig.isPreScheduleEnabled()) {
+            return;
+        }
+
+        try {
+            int requested = outboxService.requestReschedule(event.userId(), event.date());
+            if (requested > 0) {
+                log.debug("Requested reschedule of {} notifications for user {} ({})",
+                        requested, event.userId(), event.date() != null ? event.date() : "all dates");
+            }
+        } catch (Exception e) {
+            // 재예약 실패가 Task 변경 요청을 실패시키지 않도록 함 (이전 내용으로 발송됨)
+            log.error("Failed to request notification reschedule for user {}: {}",
+                    event.userId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPreferencesChanged(NotificationPreferencesChangedEvent event) {
+        if (!notificationConfig.isPreScheduleEnabled()) {
+            return;
+        }
+
+        try {
+            SlackTarget target = targetFinderService.findTargetsByUserIds(List.of(event.userId()))
+                    .get(event.userId());
+            if (target == null) {
+                // 알림 해제: 남은 예약은 그대로 게시됨
+                return;
+            }
+
+            int requested = outboxService.reschedulePreScheduled(target);
+            if (requested > 0) {
+                log.debug("Requested reschedule of {} notifications for user {} (preferences changed)",
+                        requested, event.userId());
+            }
+        } catch (Exception e) {
+            // 재예약 실패가 설정 변경 요청을 실패시키지 않도록 함 (이전 시각으로 발송됨)
+            log.error("Failed to reschedule pre-scheduled notifications for user {}: {}",
+                    event.userId(), e.getMessage());
+        }
+    }
+}
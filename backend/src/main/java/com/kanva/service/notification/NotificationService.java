@@ -1,25 +1,47 @@
 package com.kanva.service.notification;
 
+import com.kanva.config.NotificationConfig;
 import com.kanva.domain.notification.NotificationSlot;
-import com.kanva.domain.task.TaskStatus;
 import com.kanva.dto.notification.SlackSendResult;
 import com.kanva.dto.notification.SlackTarget;
-import com.kanva.dto.task.TaskResponse;
-import com.kanva.service.TaskService;
-import lombok.RequiredArgsConstructor;
+import com.kanva.service.TaskSeriesService;
+import com.kanva.service.notification.NotificationOutboxService.Claim;
+import com.kanva.service.notification.NotificationOutboxService.Completion;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
  * 알림 발송 서비스
- * - 전체 발송 플로우 조율
+ * - 발송 시각이 된 사용자를 notification_outbox에 적재 (NotificationDispatcher가 호출)
+ * - outbox 행은 batchSize 단위로 선점하며, 페이지마다 Task 목록을 일괄 조회 (사용자별 조회 없음)
  * - 사용자별 독립 발송 (한 사용자 실패가 다른 사용자에 영향 없음)
+ * - 가상 스레드로 병렬 발송, 동시 발송 수는 maxConcurrency로 제한
+ * - 실패한 발송은 outbox가 재시도를 예약하고 주기적인 processOutbox 호출에서 다시 처리
+ * - 사전 예약 행(postAt)은 chat.scheduleMessage로 Slack에 예약하고, Task 변경 시 삭제 후 다시 예약
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
 
@@ -27,79 +49,380 @@ public class NotificationService {
     private final SlackDmSenderService slackDmSenderService;
     private final NotificationLogService notificationLogService;
     private final NotificationMessageBuilder messageBuilder;
-    private final TaskService taskService;
+    private final NotificationTaskFinderService taskFinderService;
+    private final TaskSeriesService taskSeriesService;
+    private final NotificationOutboxService outboxService;
+    private final NotificationConfig notificationConfig;
+    private final NotificationMetrics notificationMetrics;
+    private final Clock clock;
+
+    // 같은 노드에서 매분 디스패치와 주기 처리가 겹쳐도 동시 발송 수 상한을 공유
+    private final Semaphore permits;
+
+    public NotificationService(NotificationTargetFinderService targetFinderService,
+                               SlackDmSenderService slackDmSenderService,
+                               NotificationLogService notificationLogService,
+                               NotificationMessageBuilder messageBuilder,
+                               NotificationTaskFinderService taskFinderService,
+                               TaskSeriesService taskSeriesService,
+                               NotificationOutboxService outboxService,
+                               NotificationConfig notificationConfig,
+                               NotificationMetrics notificationMetrics,
+                               Clock clock) {
+        this.targetFinderService = targetFinderService;
+        this.slackDmSenderService = slackDmSenderService;
+        this.notificationLogService = notificationLogService;
+        this.messageBuilder = messageBuilder;
+        this.taskFinderService = taskFinderService;
+        this.taskSeriesService = taskSeriesService;
+        this.outboxService = outboxService;
+        this.notificationConfig = notificationConfig;
+        this.notificationMetrics = notificationMetrics;
+        this.clock = clock;
+        this.permits = new Semaphore(notificationConfig.getMaxConcurrency());
+    }
 
     /**
-     * 지정된 슬롯의 알림 발송
+     * 발송 시각이 된 사용자들을 outbox에 적재 (마감 = 사용자별 발송 시각 + slotDeadline)
+     *
+     * @param dueAtByUser userId → 발송 시각
+     * @return 새로 적재된 수 (이미 적재된 사용자는 제외)
      */
-    public void sendNotifications(NotificationSlot slot, LocalDate date) {
-        log.info("Starting {} notifications for {}", slot, date);
+    public int enqueueNotifications(NotificationSlot slot, LocalDate date, Map<Long, Instant> dueAtByUser) {
+        Map<Long, LocalDateTime> dueAt = new HashMap<>();
+        dueAtByUser.forEach((userId, due) -> dueAt.put(userId, LocalDateTime.ofInstant(due, clock.getZone())));
 
-        List<SlackTarget> targets = targetFinderService.findTargets(slot, date);
+        int enqueued = outboxService.enqueue(dueAt, slot, date);
+        log.info("Enqueued {} {} notifications for {}", enqueued, slot, date);
+        return enqueued;
+    }
 
-        if (targets.isEmpty()) {
-            log.info("No notification targets found for {} on {}", slot, date);
-            return;
-        }
+    /**
+     * 사전 예약 대상을 outbox에 적재 (NotificationPreScheduler가 호출)
+     *
+     * @param postAtByUser userId → 게시 시각
+     * @return 새로 적재된 수 (이미 적재된 사용자는 제외)
+     */
+    public int enqueuePreScheduled(NotificationSlot slot, LocalDate date, Map<Long, LocalDateTime> postAtByUser) {
+        int enqueued = outboxService.enqueueScheduled(postAtByUser, slot, date);
+        log.info("Enqueued {} {} notifications for {} to pre-schedule", enqueued, slot, date);
+        return enqueued;
+    }
+
+    /**
+     * 처리 가능한 outbox 행을 모두 처리
+     * - 재시도 시각이 되지 않은 행은 다음 호출에서 처리
+     */
+    public void processOutbox() {
+        int batchSize = pageSize();
 
-        int successCount = 0;
+        int sentCount = 0;
         int failCount = 0;
+        int rescheduledCount = 0;
 
-        for (SlackTarget target : targets) {
+        if (notificationConfig.isPreScheduleEnabled()) {
+            outboxService.markScheduledPosted();
+        }
+
+        try {
+            while (true) {
+                List<Claim> claims = outboxService.claim(batchSize);
+                if (claims.isEmpty()) {
+                    break;
+                }
+
+                Map<Long, SlackTarget> targets = targetFinderService.findTargetsByUserIds(
+                        claims.stream().map(Claim::userId).toList());
+
+                Map<Long, SlackSendResult> results = processClaims(claims, targets);
+                Completion completion = outboxService.complete(claims, results);
+                Set<Long> failedIds = completion.failedIds();
+                // 선점을 잃은 행은 다시 선점한 워커가 기록
+                results.keySet().removeAll(completion.lostIds());
+
+                logFinalResults(claims, targets, results, failedIds);
+                recordResults(claims, results, failedIds);
+
+                int pageSent = (int) results.values().stream().filter(SlackSendResult::isSuccess).count();
+                sentCount += pageSent;
+                failCount += failedIds.size();
+                rescheduledCount += results.size() - pageSent - failedIds.size();
+
+                if (claims.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Notification outbox processing interrupted");
+        } finally {
+            // 다음 실행의 중복 발송 방지 조회 전에 SUCCESS 이력이 반영되도록 즉시 저장
+            notificationLogService.flush();
+        }
+
+        if (sentCount + failCount + rescheduledCount > 0) {
+            log.info("Processed notification outbox: {} success, {} fail, {} rescheduled",
+                    sentCount, failCount, rescheduledCount);
+        }
+    }
+
+    /**
+     * 선점한 행 발송
+     *
+     * @return outboxId → 발송 결과
+     */
+    private Map<Long, SlackSendResult> processClaims(List<Claim> claims, Map<Long, SlackTarget> targets)
+            throws InterruptedException {
+        Map<Long, SlackSendResult> results = new HashMap<>();
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Claim> sendable = new ArrayList<>();
+        for (Claim claim : claims) {
+            if (!targets.containsKey(claim.userId())) {
+                // 연동 해제 또는 알림 비활성화
+                results.put(claim.outboxId(), SlackSendResult.fail("Notification target not found", 0, false));
+            } else if (now.isAfter(claim.deadlineAt())) {
+                results.put(claim.outboxId(), SlackSendResult.fail("Slot deadline exceeded", 0, false));
+            } else {
+                sendable.add(claim);
+            }
+        }
+
+        // 재시도 행이 섞일 수 있으므로 (slot, date)별로 Task 목록 일괄 조회
+        Map<SlotDate, List<Claim>> groups = sendable.stream()
+                .collect(Collectors.groupingBy(claim -> new SlotDate(claim.slot(), claim.date())));
+
+        // lease가 끝나기 전에 결과를 반영해야 다른 워커가 같은 행을 다시 선점하지 않음
+        // 마감 이후 차례가 온 행은 보내지 않고 재시도로 돌림 (발송 도중 취소되어 중복 발송되는 것 방지)
+        long timeoutMillis = pageTimeout().toMillis();
+        long sendDeadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis / 2);
+
+        List<Claim> sendClaims = new ArrayList<>();
+        List<AtomicBoolean> sendStarted = new ArrayList<>();
+        List<Callable<SlackSendResult>> sendTasks = new ArrayList<>();
+
+        for (Map.Entry<SlotDate, List<Claim>> group : groups.entrySet()) {
+            SlotDate slotDate = group.getKey();
+            Map<Long, List<String>> taskTitles;
             try {
-                boolean success = sendToTarget(target, slot, date);
-                if (success) {
-                    successCount++;
+                taskTitles = loadTaskTitles(group.getValue(), slotDate.slot(), slotDate.date());
+            } catch (Exception e) {
+                log.error("Failed to load tasks for {} notifications on {} ({} targets): {}",
+                        slotDate.slot(), slotDate.date(), group.getValue().size(), e.getMessage());
+                for (Claim claim : group.getValue()) {
+                    results.put(claim.outboxId(),
+                            SlackSendResult.fail("Task load failed: " + e.getMessage(), 0, true));
+                }
+                continue;
+            }
+
+            for (Claim claim : group.getValue()) {
+                SlackTarget target = targets.get(claim.userId());
+                List<String> titles = taskTitles.getOrDefault(claim.userId(), List.of());
+                AtomicBoolean started = new AtomicBoolean();
+                sendClaims.add(claim);
+                sendStarted.add(started);
+                sendTasks.add(() -> {
+                    permits.acquire();
+                    if (System.nanoTime() - sendDeadlineNanos >= 0) {
+                        permits.release();
+                        return SlackSendResult.rateLimited("Page send deadline exceeded", Duration.ZERO);
+                    }
+                    started.set(true);
+                    Timer.Sample sample = notificationMetrics.startTimer();
+                    SlackSendResult result;
+                    try {
+                        result = sendToTarget(target, claim, titles);
+                    } catch (Exception e) {
+                        // 개별 사용자 발송 실패가 다른 사용자에 영향 주지 않음
+                        log.error("Unexpected error sending notification to user {}: {}",
+                                target.getUserId(), e.getMessage());
+                        result = SlackSendResult.fail(e.getMessage(), 0, true);
+                    } finally {
+                        permits.release();
+                    }
+                    notificationMetrics.recordSend(claim.slot(), result.isSuccess(), sample);
+                    return result;
+                });
+            }
+        }
+
+        List<Future<SlackSendResult>> futures;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            futures = executor.invokeAll(sendTasks, timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            SlackSendResult result;
+            try {
+                result = futures.get(i).get();
+            } catch (CancellationException e) {
+                if (sendStarted.get(i).get()) {
+                    // 발송 도중 취소: Slack 호출이 이미 도달했을 수 있으므로 재시도하지 않음 (중복 DM 방지)
+                    Claim claim = sendClaims.get(i);
+                    notificationMetrics.recordDeliveryUnknown("page_timeout",
+                            targets.get(claim.userId()).getTeamId());
+                    log.warn("Notification send to user {} cancelled mid-call, delivery unknown (not retried)",
+                            claim.userId());
+                    result = SlackSendResult.deliveryUnknown("Send timed out");
                 } else {
-                    failCount++;
+                    result = SlackSendResult.rateLimited("Page send deadline exceeded", Duration.ZERO);
                 }
-            } catch (Exception e) {
-                // 개별 사용자 발송 실패가 다른 사용자에 영향 주지 않음
-                log.error("Unexpected error sending notification to user {}: {}",
-                        target.getUserId(), e.getMessage());
-                failCount++;
+            } catch (ExecutionException e) {
+                result = SlackSendResult.fail(e.getMessage(), 0, true);
             }
+            results.put(sendClaims.get(i).outboxId(), result);
         }
 
-        log.info("Completed {} notifications for {}: {} success, {} fail",
-                slot, date, successCount, failCount);
+        return results;
+    }
+
+    // 페이지 발송 제한 시간 (lease의 절반)
+    private Duration pageTimeout() {
+        return notificationConfig.getOutboxLease().dividedBy(2);
     }
 
     /**
-     * 단일 대상자에게 발송
+     * 한 번에 선점할 행 수
+     * - 페이지가 모두 한 팀이어도 속도 제한 대기가 발송 마감(제한 시간의 절반) 안에 끝나도록
+     *   batchSize를 teamBurst + teamRatePerSecond × 마감 이하로 제한
      */
-    private boolean sendToTarget(SlackTarget target, NotificationSlot slot, LocalDate date) {
-        log.debug("Sending {} notification to user {}", slot, target.getUserId());
+    private int pageSize() {
+        double sendSeconds = pageTimeout().toMillis() / 2 / 1000.0;
+        int byRate = (int) (notificationConfig.getTeamBurst()
+                + notificationConfig.getTeamRatePerSecond() * sendSeconds);
+        return Math.max(1, Math.min(notificationConfig.getBatchSize(), byRate));
+    }
 
-        // Task 목록 조회
-        List<String> taskTitles = getTaskTitlesForSlot(target.getUserId(), slot, date);
+    /**
+     * 대상자들의 Task 목록 일괄 조회
+     * - 시리즈 Task 인스턴스를 먼저 일괄 생성한 뒤 제목을 한 번에 조회
+     */
+    private Map<Long, List<String>> loadTaskTitles(List<Claim> claims, NotificationSlot slot,
+                                                   LocalDate date) {
+        List<Long> userIds = claims.stream()
+                .map(Claim::userId)
+                .toList();
+
+        taskSeriesService.generateTasksForUsersAndDate(userIds, date);
+        return taskFinderService.findTaskTitles(userIds, slot, date);
+    }
+
+    /**
+     * 단일 대상자에게 발송 (단일 시도)
+     * - postAt이 있거나 예약 메시지가 남아 있는 행은 Slack 예약으로 처리
+     */
+    private SlackSendResult sendToTarget(SlackTarget target, Claim claim, List<String> taskTitles) {
+        log.debug("Sending {} notification to user {}", claim.slot(), target.getUserId());
 
         // 메시지 생성
-        String message = messageBuilder.buildMessage(slot, date, taskTitles);
+        String message = messageBuilder.buildMessage(claim.slot(), claim.date(), taskTitles);
+
+        if (claim.postAt() != null || claim.scheduledMessageId() != null) {
+            return scheduleToTarget(target, claim, message);
+        }
+
+        // 발송
+        return slackDmSenderService.send(target, message);
+    }
+
+    /**
+     * 예약 또는 재예약 (delete + schedule)
+     * - 게시 시각이 minLead 이내로 다가온 기존 예약은 그대로 둠 (Slack이 곧 게시)
+     * - 예약 메시지가 없다고 응답하면 이전 시도에서 이미 삭제된 것이므로 새로 예약
+     * - 삭제가 끝나면 바로 예약 메시지 ID를 비움 (재시도 시 삭제된 메시지를 예약된 것으로 보지 않도록)
+     * - 기존 예약을 지운 뒤 예약이 영구 실패하면 즉시 발송으로 대체
+     * - 예약이 없는데 게시 시각이 minLead 이내면 즉시 발송
+     * - 설정 변경으로 사전 예약이 풀린 행(postAt 없음)은 기존 예약을 삭제하고 즉시 발송
+     */
+    private SlackSendResult scheduleToTarget(SlackTarget target, Claim claim, String message) {
+        Instant postAt = claim.postAt() != null ? claim.postAt().atZone(clock.getZone()).toInstant() : null;
+        Instant scheduleFrom = clock.instant().plus(notificationConfig.getPreScheduleMinLead());
+        boolean replacing = claim.scheduledMessageId() != null;
+
+        if (replacing) {
+            if (postAt != null && !postAt.isAfter(scheduleFrom)) {
+                return SlackSendResult.scheduled(claim.scheduledChannelId(), claim.scheduledMessageId());
+            }
 
-        // 발송 (재시도 포함)
-        SlackSendResult result = slackDmSenderService.sendWithRetry(target, message);
+            SlackSendResult deleted = slackDmSenderService.deleteScheduled(
+                    target, claim.scheduledChannelId(), claim.scheduledMessageId());
+            if (!deleted.isSuccess()
+                    && !SlackDmSenderService.SCHEDULED_MESSAGE_NOT_FOUND.equals(deleted.getErrorMessage())) {
+                return deleted;
+            }
+            outboxService.clearScheduledMessage(claim.outboxId(), claim.scheduledMessageId());
+        }
 
-        // 로그 기록
-        notificationLogService.logResult(target, slot, date, result);
+        if (postAt == null || !postAt.isAfter(scheduleFrom)) {
+            return slackDmSenderService.send(target, message);
+        }
 
-        return result.isSuccess();
+        SlackSendResult scheduled = slackDmSenderService.schedule(target, message, postAt);
+        if (replacing && !scheduled.isSuccess() && !scheduled.isRetryable() && !scheduled.isDeliveryUnknown()) {
+            log.warn("Reschedule failed for user {} after deleting the previous message, sending now: {}",
+                    target.getUserId(), scheduled.getErrorMessage());
+            return slackDmSenderService.send(target, message);
+        }
+        return scheduled;
     }
 
     /**
-     * 슬롯에 따른 Task 목록 조회
+     * 최종 결과(SENT / SCHEDULED / FAILED)만 발송 이력에 기록
+     * - 재시도 예약된 행은 이후 시도 결과로 기록
+     * - 재예약은 처음 예약할 때 이미 SUCCESS로 기록했으므로 다시 기록하지 않음
+     *   (예약 메시지를 지운 뒤에도 채널 ID는 남아 있으므로 채널 ID로 판단)
      */
-    private List<String> getTaskTitlesForSlot(Long userId, NotificationSlot slot, LocalDate date) {
-        List<TaskResponse> tasks = taskService.getTasksByDate(userId, date);
-
-        return switch (slot) {
-            case MORNING -> tasks.stream()
-                    .map(TaskResponse::getTitle)
-                    .toList();
-            case EVENING -> tasks.stream()
-                    .filter(task -> task.getStatus() != TaskStatus.COMPLETED)
-                    .map(TaskResponse::getTitle)
-                    .toList();
-        };
+    private void logFinalResults(List<Claim> claims, Map<Long, SlackTarget> targets,
+                                 Map<Long, SlackSendResult> results, Set<Long> failedIds) {
+        for (Claim claim : claims) {
+            SlackSendResult result = results.get(claim.outboxId());
+            SlackTarget target = targets.get(claim.userId());
+            if (result == null || target == null) {
+                continue;
+            }
+
+            if (result.isSuccess()) {
+                if (claim.scheduledChannelId() != null) {
+                    continue;
+                }
+                notificationLogService.logResult(target, claim.slot(), claim.date(), result);
+            } else if (failedIds.contains(claim.outboxId())) {
+                // retryCount = 이번 시도 이전의 시도 횟수
+                notificationLogService.logResult(target, claim.slot(), claim.date(),
+                        SlackSendResult.fail(result.getErrorMessage(), claim.attempts(), false));
+            }
+        }
+    }
+
+    /**
+     * outbox 처리 결과 / 발송 지연 지표 기록
+     * - 발송 지연은 즉시 발송 행만 (예약 행은 Slack이 postAt에 게시)
+     */
+    private void recordResults(List<Claim> claims, Map<Long, SlackSendResult> results, Set<Long> failedIds) {
+        Instant now = clock.instant();
+        for (Claim claim : claims) {
+            SlackSendResult result = results.get(claim.outboxId());
+            if (result == null) {
+                continue;
+            }
+
+            if (result.isSuccess()) {
+                notificationMetrics.recordOutboxResult(claim.slot(), result.isScheduled() ? "scheduled" : "sent");
+                if (claim.postAt() == null) {
+                    // 즉시 발송 행의 마감 = 발송 시각 + slotDeadline
+                    Instant dueAt = claim.deadlineAt().minus(notificationConfig.getSlotDeadline())
+                            .atZone(clock.getZone()).toInstant();
+                    notificationMetrics.recordDeliveryLag(claim.slot(), Duration.between(dueAt, now));
+                }
+            } else if (failedIds.contains(claim.outboxId())) {
+                notificationMetrics.recordOutboxResult(claim.slot(), "failed");
+            } else {
+                notificationMetrics.recordOutboxResult(claim.slot(), "retry");
+            }
+        }
+    }
+
+    private record SlotDate(NotificationSlot slot, LocalDate date) {
     }
 }
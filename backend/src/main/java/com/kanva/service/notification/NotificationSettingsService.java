@@ -0,0 +1,48 @@
+package com.kanva.service.notification;
+
+import com.kanva.domain.notification.NotificationPreferencesChangedEvent;
+import com.kanva.domain.slack.SlackConnection;
+import com.kanva.domain.slack.SlackConnectionRepository;
+import com.kanva.dto.notification.NotificationSettingsRequest;
+import com.kanva.dto.notification.NotificationSettingsResponse;
+import com.kanva.exception.SlackConnectionNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림 시각 설정 서비스
+ * - 변경 내용은 커밋 후 이 인스턴스의 타이밍 휠에 바로 반영하고,
+ *   다른 인스턴스는 다음 적재(매시) 또는 만기 시점의 설정 재확인으로 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationSettingsService {
+
+    private final SlackConnectionRepository slackConnectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public NotificationSettingsResponse getSettings(Long userId) {
+        return NotificationSettingsResponse.from(findConnection(userId));
+    }
+
+    @Transactional
+    public NotificationSettingsResponse updateSettings(Long userId, NotificationSettingsRequest request) {
+        SlackConnection connection = findConnection(userId);
+        connection.updateNotificationPreferences(
+                request.getMorningTime(),
+                request.getEveningTime(),
+                request.getTimeZone(),
+                request.getJitterMinutes()
+        );
+        eventPublisher.publishEvent(new NotificationPreferencesChangedEvent(userId));
+        return NotificationSettingsResponse.from(connection);
+    }
+
+    private SlackConnection findConnection(Long userId) {
+        return slackConnectionRepository.findByUserId(userId)
+                .orElseThrow(() -> new SlackConnectionNotFoundException(userId));
+    }
+}
@@ -1,19 +1,25 @@
 package com.kanva.service.notification;
 
-import com.kanva.domain.notification.NotificationLogRepository;
+import com.kanva.config.NotificationConfig;
 import com.kanva.domain.notification.NotificationSlot;
 import com.kanva.domain.slack.SlackConnection;
 import com.kanva.domain.slack.SlackConnectionRepository;
 import com.kanva.dto.notification.SlackTarget;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 알림 발송 대상자 조회 서비스
@@ -25,34 +31,66 @@ import java.util.Set;
 public class NotificationTargetFinderService {
 
     private final SlackConnectionRepository slackConnectionRepository;
-    private final NotificationLogRepository notificationLogRepository;
+    private final NotificationConfig notificationConfig;
+    private final NotificationMetrics notificationMetrics;
 
     /**
-     * 발송 대상자 조회
+     * 발송 대상자를 페이지 단위로 전달
+     * - slack_connections.id 기준 keyset 페이지네이션 + notification_logs anti-join
+     * - 페이지마다 별도 조회/트랜잭션이므로 사용자 수와 무관하게 메모리 사용량 일정
      *
-     * @param slot 발송 시간대 (MORNING/EVENING)
-     * @param date 발송 날짜
-     * @return 발송 대상자 목록
+     * @param slot         발송 시간대 (MORNING/EVENING)
+     * @param date         발송 날짜
+     * @param pageConsumer 대상자 페이지 처리
+     * @return 전체 대상자 수
      */
-    public List<SlackTarget> findTargets(NotificationSlot slot, LocalDate date) {
-        // 이미 성공적으로 발송된 사용자 ID 조회
-        Set<Long> alreadySentUserIds = notificationLogRepository.findSuccessfullySentUserIds(date, slot);
-
-        List<SlackConnection> connections;
-        if (alreadySentUserIds.isEmpty()) {
-            connections = slackConnectionRepository.findAllNotificationTargets();
-        } else {
-            connections = slackConnectionRepository.findNotificationTargets(alreadySentUserIds);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int forEachTargetPage(NotificationSlot slot, LocalDate date, Consumer<List<SlackTarget>> pageConsumer) {
+        Limit pageSize = Limit.of(Math.max(1, notificationConfig.getBatchSize()));
+        long afterId = 0L;
+        int total = 0;
+
+        while (true) {
+            Timer.Sample sample = notificationMetrics.startTimer();
+            List<SlackConnection> connections = slackConnectionRepository
+                    .findNotificationTargetPage(afterId, slot, date, pageSize);
+            notificationMetrics.recordTargetDiscovery("page", sample);
+            if (connections.isEmpty()) {
+                break;
+            }
+
+            List<SlackTarget> targets = connections.stream()
+                    .map(SlackTarget::from)
+                    .filter(SlackTarget::isValid)
+                    .toList();
+            if (!targets.isEmpty()) {
+                pageConsumer.accept(targets);
+                total += targets.size();
+            }
+
+            afterId = connections.get(connections.size() - 1).getId();
+            if (connections.size() < pageSize.max()) {
+                break;
+            }
         }
 
-        List<SlackTarget> targets = connections.stream()
-                .map(SlackTarget::from)
-                .filter(SlackTarget::isValid)
-                .toList();
+        log.debug("Found {} notification targets for {} on {}", total, slot, date);
+        return total;
+    }
 
-        log.info("Found {} notification targets for {} on {}",
-                targets.size(), slot, date);
+    /**
+     * 지정된 사용자들의 발송 대상자 정보 조회
+     *
+     * @return userId → 대상자 (알림 비활성화 등으로 발송 불가한 사용자는 포함되지 않음)
+     */
+    public Map<Long, SlackTarget> findTargetsByUserIds(Collection<Long> userIds) {
+        Timer.Sample sample = notificationMetrics.startTimer();
+        List<SlackConnection> connections = slackConnectionRepository.findNotificationTargetsByUserIds(userIds);
+        notificationMetrics.recordTargetDiscovery("by_user_ids", sample);
 
-        return targets;
+        return connections.stream()
+                .map(SlackTarget::from)
+                .filter(SlackTarget::isValid)
+                .collect(Collectors.toMap(SlackTarget::getUserId, Function.identity()));
     }
 }
@@ -0,0 +1,53 @@
+package com.kanva.service.notification;
+
+import com.kanva.domain.notification.NotificationSlot;
+import com.kanva.domain.task.TaskRepository;
+import com.kanva.domain.task.TaskStatus;
+import com.kanva.domain.task.TaskTitleView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 메시지용 Task 목록 조회 서비스
+ * - 대상자 페이지 전체의 Task 제목을 한 번의 쿼리로 조회하여 사용자별로 묶음
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationTaskFinderService {
+
+    private final TaskRepository taskRepository;
+
+    /**
+     * 사용자별 슬롯 Task 제목 조회
+     * - MORNING: 전체 Task
+     * - EVENING: 미완료 Task
+     *
+     * @return userId → Task 제목 목록 (Task가 없는 사용자는 포함되지 않음)
+     */
+    public Map<Long, List<String>> findTaskTitles(Collection<Long> userIds, NotificationSlot slot,
+                                                  LocalDate date) {
+        Map<Long, List<String>> titlesByUser = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return titlesByUser;
+        }
+
+        for (TaskTitleView task : taskRepository.findTitlesByUserIdsAndDate(userIds, date)) {
+            if (slot == NotificationSlot.EVENING && task.getStatus() == TaskStatus.COMPLETED) {
+                continue;
+            }
+            titlesByUser.computeIfAbsent(task.getUserId(), k -> new ArrayList<>())
+                    .add(task.getTitle());
+        }
+
+        return titlesByUser;
+    }
+}
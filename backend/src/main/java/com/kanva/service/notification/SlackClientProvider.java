@@ -0,0 +1,49 @@
+package com.kanva.service.notification;
+
+import com.slack.api.Slack;
+import com.slack.api.methods.AsyncMethodsClient;
+import com.slack.api.methods.MethodsClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * botToken별 Slack MethodsClient 캐시
+ * - 발송마다 클라이언트를 새로 만들지 않고 재사용 (HTTP 커넥션 풀은 Slack 빈이 공유)
+ */
+@Component
+@RequiredArgsConstructor
+public class SlackClientProvider {
+
+    private final Slack slack;
+
+    private final ConcurrentHashMap<String, MethodsClient> methodsClients = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AsyncMethodsClient> asyncMethodsClients = new ConcurrentHashMap<>();
+
+    /**
+     * 동기 클라이언트 (teamId를 넘겨 SDK가 토큰마다 auth.test로 teamId를 조회하지 않도록 함)
+     */
+    public MethodsClient methods(String botToken, String teamId) {
+        return cached(methodsClients, botToken, () -> slack.methods(botToken, teamId));
+    }
+
+    /**
+     * 비동기 클라이언트 (teamId 단위로 SDK 내장 rate limit 적용)
+     */
+    public AsyncMethodsClient methodsAsync(String botToken, String teamId) {
+        return cached(asyncMethodsClients, botToken, () -> slack.methodsAsync(botToken, teamId));
+    }
+
+    // 클라이언트는 맵의 compute 밖에서 생성 (다른 토큰의 첫 사용을 막지 않음, 동시 생성 시 먼저 넣은 것 사용)
+    private static <T> T cached(ConcurrentHashMap<String, T> clients, String botToken, Supplier<T> factory) {
+        T client = clients.get(botToken);
+        if (client != null) {
+            return client;
+        }
+        T created = factory.get();
+        T existing = clients.putIfAbsent(botToken, created);
+        return existing != null ? existing : created;
+    }
+}
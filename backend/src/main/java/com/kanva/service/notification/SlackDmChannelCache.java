@@ -0,0 +1,93 @@
+package com.kanva.service.notification;
+
+import com.kanva.config.NotificationConfig;
+import com.kanva.domain.slack.SlackConnectionRepository;
+import com.kanva.dto.notification.SlackTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Slack DM 채널 ID 캐시
+ * - 원본은 slack_connections.dm_channel_id (재시작/배포 후에도 유지, 인스턴스 간 공유)
+ * - 앞단에 크기 제한이 있는 로컬 LRU near-cache
+ * - channel_not_found 응답 시 evict로 두 곳 모두 무효화
+ */
+@Slf4j
+@Component
+public class SlackDmChannelCache {
+
+    private final SlackConnectionRepository slackConnectionRepository;
+    private final NotificationMetrics notificationMetrics;
+    private final Map<String, String> nearCache;
+
+    public SlackDmChannelCache(SlackConnectionRepository slackConnectionRepository,
+                               NotificationMetrics notificationMetrics,
+                               NotificationConfig notificationConfig) {
+        this.slackConnectionRepository = slackConnectionRepository;
+        this.notificationMetrics = notificationMetrics;
+        int maxSize = notificationConfig.getDmChannelCacheSize();
+        this.nearCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 DM 채널 ID 조회 (near-cache → 대상자 조회 시 함께 로드된 저장값 순)
+     *
+     * @return 채널 ID, 없으면 null
+     */
+    public String get(SlackTarget target) {
+        String key = key(target);
+        synchronized (nearCache) {
+            String cached = nearCache.get(key);
+            if (cached != null) {
+                notificationMetrics.recordDmChannelNearCacheHit();
+                return cached;
+            }
+            if (target.getDmChannelId() != null) {
+                nearCache.put(key, target.getDmChannelId());
+            }
+        }
+
+        if (target.getDmChannelId() != null) {
+            notificationMetrics.recordDmChannelStoredHit();
+        } else {
+            notificationMetrics.recordDmChannelMiss();
+        }
+        return target.getDmChannelId();
+    }
+
+    /**
+     * conversations.open으로 얻은 채널 ID 저장
+     */
+    @Transactional
+    public void put(SlackTarget target, String channelId) {
+        synchronized (nearCache) {
+            nearCache.put(key(target), channelId);
+        }
+        slackConnectionRepository.updateDmChannelId(target.getUserId(), channelId);
+    }
+
+    /**
+     * 더 이상 유효하지 않은 채널 ID 제거
+     */
+    @Transactional
+    public void evict(SlackTarget target) {
+        synchronized (nearCache) {
+            nearCache.remove(key(target));
+        }
+        slackConnectionRepository.updateDmChannelId(target.getUserId(), null);
+        log.info("DM channel evicted: teamId={}, userId={}", target.getTeamId(), target.getSlackUserId());
+    }
+
+    private String key(SlackTarget target) {
+        return target.getTeamId() + ":" + target.getSlackUserId();
+    }
+}
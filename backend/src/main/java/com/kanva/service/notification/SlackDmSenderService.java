@@ -1,31 +1,62 @@
 package com.kanva.service.notification;
 
+import com.kanva.config.SlackClientConfig;
 import com.kanva.dto.notification.SlackSendResult;
 import com.kanva.dto.notification.SlackTarget;
-import com.slack.api.Slack;
+import com.slack.api.methods.AsyncMethodsClient;
 import com.slack.api.methods.MethodsClient;
 import com.slack.api.methods.SlackApiException;
+import com.slack.api.methods.SlackApiTextResponse;
+import com.slack.api.methods.response.chat.ChatDeleteScheduledMessageResponse;
 import com.slack.api.methods.response.chat.ChatPostMessageResponse;
+import com.slack.api.methods.response.chat.ChatScheduleMessageResponse;
 import com.slack.api.methods.response.conversations.ConversationsOpenResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import javax.net.ssl.SSLHandshakeException;
 import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Slack DM 발송 서비스
- * - 워크스페이스별 botToken으로 MethodsClient 생성
- * - 재시도 로직 포함
+ * - 워크스페이스별 botToken의 MethodsClient를 SlackClientProvider에서 재사용
+ * - slack.client.async-enabled 시 AsyncMethodsClient로 호출을 파이프라이닝
+ * - DM 채널 ID는 SlackDmChannelCache(DB 저장 + near-cache)에서 조회하여 conversations.open 생략
+ * - 사전 예약 모드에서는 chat.scheduleMessage / chat.deleteScheduledMessage로 예약·재예약
+ * - 단일 시도만 수행하고 재시도 여부(Retry-After 포함)를 결과로 반환
+ * - chat.postMessage / chat.scheduleMessage 요청을 보낸 뒤 응답을 받지 못하면 (읽기 시간 초과, 비동기 callTimeout 등)
+ *   게시 여부를 알 수 없으므로 재시도하지 않음 (중복 DM 방지), 연결 단계 실패만 재시도
+ * - 워크스페이스별 속도 제한 적용 (여러 가상 스레드에서 동시 호출됨)
  */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class SlackDmSenderService {
 
-    private static final int MAX_RETRY_COUNT = 1;
-    private static final long RETRY_DELAY_MS = 700; // 500~1000ms 사이
+    // 예약 메시지가 이미 게시되었거나 삭제됨
+    public static final String SCHEDULED_MESSAGE_NOT_FOUND = "invalid_scheduled_message_id";
+
+    private static final String CHANNEL_NOT_FOUND = "channel_not_found";
+    private static final String POST_MESSAGE = "chat.postMessage";
+    private static final String SCHEDULE_MESSAGE = "chat.scheduleMessage";
+
+    // 같은 요청을 다시 보내면 메시지가 중복 게시되는 메서드 (Slack은 멱등 키를 지원하지 않음)
+    private static final Set<String> NON_IDEMPOTENT_METHODS = Set.of(POST_MESSAGE, SCHEDULE_MESSAGE);
+    private static final String RATELIMITED = "ratelimited";
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
 
     // 재시도하지 않을 에러 코드 (인증/권한 관련)
     private static final Set<String> NON_RETRYABLE_ERRORS = Set.of(
@@ -37,105 +68,197 @@ public class SlackDmSenderService {
             "missing_scope",
             "not_authed",
             "user_not_found",
-            "channel_not_found"
+            "channel_not_found",
+            "invalid_scheduled_message_id",
+            "time_in_past",
+            "time_too_far"
     );
 
-    private final Slack slack = Slack.getInstance();
-
-    // teamId → (slackUserId → dmChannelId) 캐시
-    private final ConcurrentHashMap<String, ConcurrentHashMap<String, String>> dmChannelCache
-            = new ConcurrentHashMap<>();
-
-    /**
-     * 재시도 포함 메시지 발송
-     */
-    public SlackSendResult sendWithRetry(SlackTarget target, String message) {
-        int attempt = 0;
-        String lastError = null;
-
-        while (attempt <= MAX_RETRY_COUNT) {
-            try {
-                SendResult result = sendMessage(target, message);
-                if (result.success) {
-                    log.info("Slack DM sent successfully to user {} (attempt {})",
-                            target.getSlackUserId(), attempt + 1);
-                    return SlackSendResult.success();
-                }
-
-                lastError = result.errorCode;
-                log.warn("Slack API error for user {}: {} (attempt {})",
-                        target.getSlackUserId(), lastError, attempt + 1);
-
-                if (!isRetryable(lastError)) {
-                    log.error("Non-retryable Slack error: {}", lastError);
-                    return SlackSendResult.fail(lastError, attempt, false);
-                }
-
-                attempt++;
-                if (attempt <= MAX_RETRY_COUNT) {
-                    Thread.sleep(RETRY_DELAY_MS);
-                }
-
-            } catch (SlackApiException e) {
-                lastError = e.getMessage();
-                log.warn("Slack API exception for user {}: {} (attempt {})",
-                        target.getSlackUserId(), lastError, attempt + 1);
-
-                attempt++;
-                if (attempt <= MAX_RETRY_COUNT) {
-                    try {
-                        Thread.sleep(RETRY_DELAY_MS);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        return SlackSendResult.fail("Interrupted during retry", attempt, false);
-                    }
-                }
-
-            } catch (IOException e) {
-                lastError = "IO error: " + e.getMessage();
-                log.warn("IO error sending Slack DM to user {}: {} (attempt {})",
-                        target.getSlackUserId(), e.getMessage(), attempt + 1);
-
-                attempt++;
-                if (attempt <= MAX_RETRY_COUNT) {
-                    try {
-                        Thread.sleep(RETRY_DELAY_MS);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        return SlackSendResult.fail("Interrupted during retry", attempt, false);
-                    }
-                }
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return SlackSendResult.fail("Interrupted", attempt, false);
+    private final SlackTeamRateLimiter rateLimiter;
+    private final SlackClientProvider clientProvider;
+    private final SlackClientConfig slackClientConfig;
+
+    private final SlackDmChannelCache dmChannelCache;
+    private final NotificationMetrics notificationMetrics;
+
+    /**
+     * 메시지 발송 (단일 시도)
+     * - 재시도는 호출 측(outbox)이 결과의 retryable / retryAfter를 보고 예약
+     */
+    public SlackSendResult send(SlackTarget target, String message) {
+        return execute(target, "sent", () -> sendMessage(target, message));
+    }
+
+    /**
+     * postAt에 게시되도록 메시지 예약 (chat.scheduleMessage, 단일 시도)
+     * - 성공 시 결과에 예약 메시지 ID와 DM 채널 포함 (재예약 시 삭제에 사용)
+     */
+    public SlackSendResult schedule(SlackTarget target, String message, Instant postAt) {
+        return execute(target, "scheduled", () -> scheduleMessage(target, message, postAt));
+    }
+
+    /**
+     * 예약 메시지 삭제 (chat.deleteScheduledMessage, 단일 시도)
+     * - 이미 게시되었거나 삭제된 경우 SCHEDULED_MESSAGE_NOT_FOUND 에러로 실패
+     */
+    public SlackSendResult deleteScheduled(SlackTarget target, String channelId, String scheduledMessageId) {
+        return execute(target, "scheduled message deleted",
+                () -> deleteScheduledMessage(target, channelId, scheduledMessageId));
+    }
+
+    /**
+     * Slack 호출 결과를 SlackSendResult로 변환 (에러 코드별 재시도 여부, Retry-After 반영)
+     */
+    private SlackSendResult execute(SlackTarget target, String action, SlackCall call) {
+        try {
+            SendResult result = call.execute();
+            if (result.success) {
+                log.info("Slack DM {} for user {}", action, target.getSlackUserId());
+                return result.scheduledMessageId != null
+                        ? SlackSendResult.scheduled(result.channelId, result.scheduledMessageId)
+                        : SlackSendResult.success();
             }
-        }
 
-        log.error("Failed to send Slack DM to user {} after {} attempts: {}",
-                target.getSlackUserId(), attempt, lastError);
-        return SlackSendResult.fail(lastError, attempt, true);
+            String error = result.errorCode;
+            log.warn("Slack API error for user {}: {}", target.getSlackUserId(), error);
+
+            if (RATELIMITED.equals(error)) {
+                return SlackSendResult.rateLimited(error, null);
+            }
+            if (!isRetryable(error)) {
+                log.error("Non-retryable Slack error: {}", error);
+            }
+            return SlackSendResult.fail(error, 0, isRetryable(error));
+
+        } catch (SlackApiException e) {
+            if (e.getResponse() != null && e.getResponse().code() == HTTP_TOO_MANY_REQUESTS) {
+                Duration retryAfter = parseRetryAfter(e.getResponse().header("Retry-After"));
+                log.warn("Slack rate limited for team {} (Retry-After {})", target.getTeamId(), retryAfter);
+                return SlackSendResult.rateLimited(RATELIMITED, retryAfter);
+            }
+
+            log.warn("Slack API exception for user {}: {}", target.getSlackUserId(), e.getMessage());
+            return SlackSendResult.fail(e.getMessage(), 0, true);
+
+        } catch (DeliveryUnknownException e) {
+            // 요청이 이미 게시되었을 수 있으므로 (future 취소나 읽기 시간 초과로 Slack 쪽 처리가 중단되지 않음)
+            // 재시도하면 같은 DM이 중복 게시될 수 있어 실패로 확정
+            notificationMetrics.recordDeliveryUnknown(e.method, target.getTeamId());
+            log.warn("Slack {} for user {} failed after sending, delivery unknown (not retried): {}",
+                    e.method, target.getSlackUserId(), e.getMessage());
+            return SlackSendResult.deliveryUnknown(e.getMessage());
+
+        } catch (IOException e) {
+            log.warn("IO error sending Slack DM to user {}: {}", target.getSlackUserId(), e.getMessage());
+            return SlackSendResult.fail("IO error: " + e.getMessage(), 0, true);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SlackSendResult.fail("Interrupted", 0, true);
+        }
     }
 
     /**
      * 메시지 발송 (단일 시도)
+     * - 저장된 DM 채널이 channel_not_found이면 캐시를 무효화하고 한 번만 다시 열어 발송
      */
     private SendResult sendMessage(SlackTarget target, String message)
-            throws SlackApiException, IOException {
+            throws SlackApiException, IOException, InterruptedException {
+
+        if (slackClientConfig.isAsyncEnabled()) {
+            return sendMessageAsync(target, message);
+        }
 
-        MethodsClient client = slack.methods(target.getBotToken());
+        MethodsClient client = clientProvider.methods(target.getBotToken(), target.getTeamId());
 
-        // DM 채널 열기 또는 캐시에서 조회
-        ChannelResult channelResult = getOrOpenDmChannel(client, target);
-        if (!channelResult.success) {
-            return SendResult.fail(channelResult.errorCode);
+        // DM 채널 캐시 조회, 없으면 열기
+        String channelId = dmChannelCache.get(target);
+        boolean cached = channelId != null;
+        if (!cached) {
+            ChannelResult channelResult = openDmChannel(client, target);
+            if (!channelResult.success) {
+                return SendResult.fail(channelResult.errorCode);
+            }
+            channelId = channelResult.channelId;
         }
 
-        // 메시지 발송
-        ChatPostMessageResponse response = client.chatPostMessage(req -> req
-                .channel(channelResult.channelId)
+        ChatPostMessageResponse response = postMessage(client, target, channelId, message);
+
+        if (!response.isOk() && cached && CHANNEL_NOT_FOUND.equals(response.getError())) {
+            dmChannelCache.evict(target);
+            ChannelResult channelResult = openDmChannel(client, target);
+            if (!channelResult.success) {
+                return SendResult.fail(channelResult.errorCode);
+            }
+            response = postMessage(client, target, channelResult.channelId, message);
+        }
+
+        if (!response.isOk()) {
+            return SendResult.fail(response.getError());
+        }
+
+        return SendResult.success();
+    }
+
+    /**
+     * 메시지 예약 (동기 MethodsClient 사용, 야간 사전 예약은 트래픽이 적어 파이프라이닝 불필요)
+     * - 저장된 DM 채널이 channel_not_found이면 캐시를 무효화하고 한 번만 다시 열어 예약
+     */
+    private SendResult scheduleMessage(SlackTarget target, String message, Instant postAt)
+            throws SlackApiException, IOException, InterruptedException {
+
+        MethodsClient client = clientProvider.methods(target.getBotToken(), target.getTeamId());
+
+        String channelId = dmChannelCache.get(target);
+        boolean cached = channelId != null;
+        if (!cached) {
+            ChannelResult channelResult = openDmChannel(client, target);
+            if (!channelResult.success) {
+                return SendResult.fail(channelResult.errorCode);
+            }
+            channelId = channelResult.channelId;
+        }
+
+        ChatScheduleMessageResponse response = postScheduledMessage(client, target, channelId, message, postAt);
+
+        if (!response.isOk() && cached && CHANNEL_NOT_FOUND.equals(response.getError())) {
+            dmChannelCache.evict(target);
+            ChannelResult channelResult = openDmChannel(client, target);
+            if (!channelResult.success) {
+                return SendResult.fail(channelResult.errorCode);
+            }
+            response = postScheduledMessage(client, target, channelResult.channelId, message, postAt);
+        }
+
+        if (!response.isOk()) {
+            return SendResult.fail(response.getError());
+        }
+
+        return SendResult.scheduled(response.getChannel(), response.getScheduledMessageId());
+    }
+
+    private ChatScheduleMessageResponse postScheduledMessage(MethodsClient client, SlackTarget target,
+                                                             String channelId, String message, Instant postAt)
+            throws SlackApiException, IOException, InterruptedException {
+        rateLimiter.acquire(target.getTeamId());
+        return call(SCHEDULE_MESSAGE, target, () -> client.chatScheduleMessage(req -> req
+                .channel(channelId)
                 .text(message)
-        );
+                .postAt((int) postAt.getEpochSecond())
+        ));
+    }
+
+    private SendResult deleteScheduledMessage(SlackTarget target, String channelId, String scheduledMessageId)
+            throws SlackApiException, IOException, InterruptedException {
+
+        MethodsClient client = clientProvider.methods(target.getBotToken(), target.getTeamId());
+
+        rateLimiter.acquire(target.getTeamId());
+        ChatDeleteScheduledMessageResponse response = call("chat.deleteScheduledMessage", target,
+                () -> client.chatDeleteScheduledMessage(req -> req
+                        .channel(channelId)
+                        .scheduledMessageId(scheduledMessageId)
+                ));
 
         if (!response.isOk()) {
             return SendResult.fail(response.getError());
@@ -145,25 +268,91 @@ public class SlackDmSenderService {
     }
 
     /**
-     * DM 채널 ID 조회 또는 생성
+     * 워크스페이스별 속도 제한 대기 후 메시지 발송
+     */
+    private ChatPostMessageResponse postMessage(MethodsClient client, SlackTarget target,
+                                                String channelId, String message)
+            throws SlackApiException, IOException, InterruptedException {
+        rateLimiter.acquire(target.getTeamId());
+        return call(POST_MESSAGE, target, () -> client.chatPostMessage(req -> req
+                .channel(channelId)
+                .text(message)
+        ));
+    }
+
+    /**
+     * DM 채널 열기 (conversations.open) 후 캐시에 저장
      */
-    private ChannelResult getOrOpenDmChannel(MethodsClient client, SlackTarget target)
-            throws SlackApiException, IOException {
+    private ChannelResult openDmChannel(MethodsClient client, SlackTarget target)
+            throws SlackApiException, IOException, InterruptedException {
+
+        ConversationsOpenResponse response = call("conversations.open", target,
+                () -> client.conversationsOpen(req -> req
+                        .users(List.of(target.getSlackUserId()))
+                ));
 
-        // 캐시 확인
-        ConcurrentHashMap<String, String> teamCache = dmChannelCache
-                .computeIfAbsent(target.getTeamId(), k -> new ConcurrentHashMap<>());
+        return handleOpenResponse(target, response);
+    }
 
-        String cached = teamCache.get(target.getSlackUserId());
-        if (cached != null) {
-            return ChannelResult.success(cached);
+    /**
+     * 메시지 발송 (단일 시도, AsyncMethodsClient 사용)
+     * - conversations.open → chat.postMessage를 SDK 실행기에서 호출하여 HTTP 호출을 파이프라이닝
+     * - 호출 측(가상 스레드)은 callTimeout 동안 결과만 대기
+     */
+    private SendResult sendMessageAsync(SlackTarget target, String message)
+            throws SlackApiException, IOException, InterruptedException {
+
+        AsyncMethodsClient client = clientProvider.methodsAsync(target.getBotToken(), target.getTeamId());
+
+        String channelId = dmChannelCache.get(target);
+        boolean cached = channelId != null;
+        if (!cached) {
+            ChannelResult channelResult = openDmChannelAsync(client, target);
+            if (!channelResult.success) {
+                return SendResult.fail(channelResult.errorCode);
+            }
+            channelId = channelResult.channelId;
         }
 
-        // DM 채널 열기
-        ConversationsOpenResponse response = client.conversationsOpen(req -> req
-                .users(List.of(target.getSlackUserId()))
-        );
+        ChatPostMessageResponse response = postMessageAsync(client, target, channelId, message);
+
+        if (!response.isOk() && cached && CHANNEL_NOT_FOUND.equals(response.getError())) {
+            dmChannelCache.evict(target);
+            ChannelResult channelResult = openDmChannelAsync(client, target);
+            if (!channelResult.success) {
+                return SendResult.fail(channelResult.errorCode);
+            }
+            response = postMessageAsync(client, target, channelResult.channelId, message);
+        }
 
+        if (!response.isOk()) {
+            return SendResult.fail(response.getError());
+        }
+
+        return SendResult.success();
+    }
+
+    private ChatPostMessageResponse postMessageAsync(AsyncMethodsClient client, SlackTarget target,
+                                                     String channelId, String message)
+            throws SlackApiException, IOException, InterruptedException {
+        rateLimiter.acquire(target.getTeamId());
+        return call(POST_MESSAGE, target, () -> await(POST_MESSAGE, client.chatPostMessage(req -> req
+                .channel(channelId)
+                .text(message)
+        )));
+    }
+
+    private ChannelResult openDmChannelAsync(AsyncMethodsClient client, SlackTarget target)
+            throws SlackApiException, IOException, InterruptedException {
+        ConversationsOpenResponse response = call("conversations.open", target,
+                () -> await("conversations.open", client.conversationsOpen(req -> req
+                        .users(List.of(target.getSlackUserId()))
+                )));
+
+        return handleOpenResponse(target, response);
+    }
+
+    private ChannelResult handleOpenResponse(SlackTarget target, ConversationsOpenResponse response) {
         if (!response.isOk()) {
             log.error("Failed to open DM channel for user {}: {}",
                     target.getSlackUserId(), response.getError());
@@ -171,7 +360,7 @@ public class SlackDmSenderService {
         }
 
         String channelId = response.getChannel().getId();
-        teamCache.put(target.getSlackUserId(), channelId);
+        dmChannelCache.put(target, channelId);
 
         log.debug("DM channel opened: teamId={}, userId={}, channelId={}",
                 target.getTeamId(), target.getSlackUserId(), channelId);
@@ -179,6 +368,91 @@ public class SlackDmSenderService {
         return ChannelResult.success(channelId);
     }
 
+    /**
+     * Slack API 호출 시간 / 에러 코드별 지표 기록
+     * - 멱등하지 않은 메서드가 연결 이후 I/O 오류로 실패하면 DeliveryUnknownException으로 변환 (재시도 안 함)
+     */
+    private <T extends SlackApiTextResponse> T call(String method, SlackTarget target, SlackRequest<T> request)
+            throws SlackApiException, IOException, InterruptedException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            T response = request.execute();
+            ok = response.isOk();
+            if (!ok) {
+                notificationMetrics.recordSlackError(method, response.getError(), target.getTeamId());
+            }
+            return response;
+        } catch (SlackApiException e) {
+            String error = e.getResponse() != null ? "http_" + e.getResponse().code() : "api_exception";
+            notificationMetrics.recordSlackError(method, error, target.getTeamId());
+            throw e;
+        } catch (IOException e) {
+            notificationMetrics.recordSlackError(method,
+                    e instanceof CallTimeoutException ? "timeout" : "io_error", target.getTeamId());
+            if (NON_IDEMPOTENT_METHODS.contains(method) && !isConnectFailure(e)) {
+                throw new DeliveryUnknownException(method, e);
+            }
+            throw e;
+        } finally {
+            notificationMetrics.recordSlackCall(method, ok, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 비동기 호출 결과 대기 (SDK 예외는 동기 호출과 같은 타입으로 변환)
+     * - callTimeout이 지나면 CallTimeoutException (future만 취소되고 이미 보낸 HTTP 요청은 계속 처리될 수 있음)
+     */
+    private <T> T await(String method, CompletableFuture<T> future)
+            throws SlackApiException, IOException, InterruptedException {
+        try {
+            return future.get(slackClientConfig.getCallTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new CallTimeoutException(method, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SlackApiException slackApiException) {
+                throw slackApiException;
+            }
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(cause != null ? cause.getMessage() : e.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 요청을 보내기 전(연결 단계)에 실패했는지 확인 (다시 보내도 중복 게시되지 않음)
+     * - 비동기 callTimeout, 읽기/쓰기 시간 초과, 연결 이후 끊김은 요청이 Slack에 도달했을 수 있음
+     */
+    private static boolean isConnectFailure(IOException e) {
+        if (e instanceof ConnectException
+                || e instanceof UnknownHostException
+                || e instanceof NoRouteToHostException
+                || e instanceof SSLHandshakeException) {
+            return true;
+        }
+        // OkHttp 연결 시간 초과는 "connect timed out" 메시지의 SocketTimeoutException
+        return e instanceof SocketTimeoutException
+                && e.getMessage() != null
+                && e.getMessage().toLowerCase().contains("connect");
+    }
+
+    /**
+     * Retry-After 헤더(초 단위) 파싱
+     */
+    private Duration parseRetryAfter(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(header.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * 재시도 가능한 에러인지 확인
      */
@@ -190,21 +464,63 @@ public class SlackDmSenderService {
     private static class SendResult {
         final boolean success;
         final String errorCode;
+        final String channelId;
+        final String scheduledMessageId;
 
-        private SendResult(boolean success, String errorCode) {
+        private SendResult(boolean success, String errorCode, String channelId, String scheduledMessageId) {
             this.success = success;
             this.errorCode = errorCode;
+            this.channelId = channelId;
+            this.scheduledMessageId = scheduledMessageId;
         }
 
         static SendResult success() {
-            return new SendResult(true, null);
+            return new SendResult(true, null, null, null);
+        }
+
+        static SendResult scheduled(String channelId, String scheduledMessageId) {
+            return new SendResult(true, null, channelId, scheduledMessageId);
         }
 
         static SendResult fail(String errorCode) {
-            return new SendResult(false, errorCode);
+            return new SendResult(false, errorCode, null, null);
         }
     }
 
+    /**
+     * 비동기 호출 응답 대기 시간 초과 (요청이 Slack에서 처리되었는지 알 수 없음)
+     */
+    private static class CallTimeoutException extends IOException {
+        final String method;
+
+        CallTimeoutException(String method, Throwable cause) {
+            super("Slack API call timed out: " + method, cause);
+            this.method = method;
+        }
+    }
+
+    /**
+     * 요청을 보낸 뒤 실패하여 Slack에서 처리되었는지 알 수 없음
+     */
+    private static class DeliveryUnknownException extends IOException {
+        final String method;
+
+        DeliveryUnknownException(String method, IOException cause) {
+            super(method + " failed after sending: " + cause.getMessage(), cause);
+            this.method = method;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SlackRequest<T> {
+        T execute() throws SlackApiException, IOException, InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface SlackCall {
+        SendResult execute() throws SlackApiException, IOException, InterruptedException;
+    }
+
     private static class ChannelResult {
         final boolean success;
         final String channelId;
@@ -0,0 +1,31 @@
+package com.kanva.service.notification;
+
+import com.kanva.common.ratelimit.TokenBucket;
+import com.kanva.config.NotificationConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 워크스페이스(team_id)별 Slack API 호출 속도 제한
+ * - Slack rate limit은 워크스페이스 단위로 적용되므로 팀마다 독립된 버킷 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class SlackTeamRateLimiter {
+
+    private final NotificationConfig notificationConfig;
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 해당 팀의 호출 허가 획득 (없으면 대기)
+     */
+    public void acquire(String teamId) throws InterruptedException {
+        buckets.computeIfAbsent(teamId, k -> new TokenBucket(
+                notificationConfig.getTeamRatePerSecond(),
+                notificationConfig.getTeamBurst()
+        )).acquire();
+    }
+}
@@ -5,6 +5,7 @@ import com.kanva.domain.task.Task;
 import com.kanva.service.report.AIAnalysisService;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
@@ -19,6 +20,7 @@ public interface AIParsingService {
 
     @Getter
     @Builder
+    @Jacksonized
     class ParsingResult {
 
         String type;        // WORK, SCHEDULE
@@ -1,17 +1,20 @@
 package com.kanva.service.report;
 
-import com.kanva.domain.dailynote.DailyNote;
+import com.kanva.domain.dailynote.DailyNoteContentView;
 import com.kanva.domain.report.ReportPeriodType;
-import com.kanva.domain.task.Task;
+import com.kanva.domain.task.TaskPromptView;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AIAnalysisService {
 
         @Getter
         @Builder
+        @Jacksonized
         class AnalysisResult {
             private Integer totalTasks;
             private Integer completedTasks;
@@ -20,18 +23,61 @@ public interface AIAnalysisService {
             private String summary;
             private String insights;
             private String recommendations;
+            private boolean fallback; // AI 대신 대체 내용으로 만든 결과 (fingerprint 캐시에 올리지 않음)
         }
 
+        /**
+         * 분석 입력
+         * - 통계는 DB 집계로 계산, 프롬프트용 Task/노트는 필요한 컬럼만 일부 조회
+         */
         @Getter
         @Builder
         class AnalysisContext {
-            private List<Task> currentTasks;
-            private List<Task> previousPeriodTasks;
-            private List<DailyNote> dailyNotes;
+            private Long userId; // AI 사용량 기록/일일 예산 확인 대상
+            private ReportStatistics statistics;
+            private ReportStatistics previousStatistics; // 이전 기간 (비교용)
+            private List<TaskPromptView> tasks; // 날짜/순서 정렬, 최대 promptTaskLimit개
+            private List<DailyNoteContentView> dailyNotes; // 내용이 있는 노트만, 날짜순
             private ReportPeriodType periodType;
             private String tone; // ENCOURAGING or STRICT
             private Integer previousReportCompletionRate; // 이전 리포트의 완료율 (이전 기간 Task가 없을 때 사용)
+            private List<WeekDigest> weekDigests; // 월간 리포트: 주차별 요약 (있으면 일자별 Task/노트 대신 사용)
+            @Builder.Default
+            private boolean fallbackAllowed = true; // false면 AI 호출 실패 시 대체 결과 대신 예외 (배치 재시도용)
+    }
+
+    /**
+     * 월간 리포트용 주차 요약
+     * - 통계는 월 범위 안의 날짜만 (월 경계 주는 이웃 달 날짜 제외)
+     * - 주간 리포트가 있으면 그 summary/insights, 없으면 null
+     */
+    record WeekDigest(int weekNumber, LocalDate start, LocalDate end, int totalTasks, int completedTasks,
+                      int completionRate, String summary, String insights) {
+
+        public boolean hasReport() {
+            return summary != null;
+        }
+    }
+
+    /**
+     * 분석 중 생성되는 필드(summary, insights, recommendations) 조각 수신
+     */
+    @FunctionalInterface
+    interface FragmentListener {
+        void onFragment(String field, String fragment);
     }
 
     AnalysisResult analyze(AnalysisContext context);
+
+    /**
+     * 스트리밍 분석
+     * - 기본 구현은 분석이 끝난 뒤 각 필드를 한 조각으로 전달
+     */
+    default AnalysisResult analyze(AnalysisContext context, FragmentListener listener) {
+        AnalysisResult result = analyze(context);
+        listener.onFragment("summary", result.getSummary());
+        listener.onFragment("insights", result.getInsights());
+        listener.onFragment("recommendations", result.getRecommendations());
+        return result;
+    }
 }
@@ -1,11 +1,7 @@
 package com.kanva.service.report;
 
-import com.kanva.domain.task.Task;
-import com.kanva.domain.task.TaskStatus;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 /**
  * AI 분석 서비스 Mock 구현
  * Gemini API 미사용 시 또는 테스트용
@@ -15,23 +11,18 @@ public class MockAIAnalysisService implements AIAnalysisService {
 
     @Override
     public AnalysisResult analyze(AnalysisContext context) {
-        List<Task> tasks = context.getCurrentTasks();
-        List<Task> previousPeriodTasks = context.getPreviousPeriodTasks();
-
-        int totalTasks = tasks.size();
-        int completedTasks = (int) tasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.COMPLETED)
-                .count();
+        ReportStatistics statistics = context.getStatistics();
 
-        int completionRate = totalTasks > 0
-                ? (int) Math.round((double) completedTasks / totalTasks * 100)
-                : 0;
+        int totalTasks = statistics.getTotalTasks();
+        int completedTasks = statistics.getCompletedTasks();
+        int completionRate = statistics.getCompletionRate();
 
-        String trend = calculateTrend(tasks, previousPeriodTasks, context.getPreviousReportCompletionRate());
+        String trend = statistics.trendAgainst(context.getPreviousStatistics(),
+                context.getPreviousReportCompletionRate());
         boolean isStrict = "STRICT".equals(context.getTone());
         String summary = generateSummary(totalTasks, completedTasks, completionRate, trend, isStrict);
-        String insights = generateInsights(tasks);
-        String recommendations = generateRecommendations(tasks, completionRate, isStrict);
+        String insights = generateInsights(statistics);
+        String recommendations = generateRecommendations(statistics, completionRate, isStrict);
 
         return AnalysisResult.builder()
                 .totalTasks(totalTasks)
@@ -41,47 +32,10 @@ public class MockAIAnalysisService implements AIAnalysisService {
                 .summary(summary)
                 .insights(insights)
                 .recommendations(recommendations)
+                .fallback(true)
                 .build();
     }
 
-    private String calculateTrend(List<Task> currentTasks, List<Task> previousTasks,
-                                   Integer previousReportCompletionRate) {
-        int currentTotal = currentTasks.size();
-        int currentCompleted = (int) currentTasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.COMPLETED)
-                .count();
-        int currentRate = currentTotal > 0 ? (int) Math.round((double) currentCompleted / currentTotal * 100) : 0;
-
-        // 1. 이전 기간 Task 데이터가 있으면 직접 비교
-        if (previousTasks != null && !previousTasks.isEmpty()) {
-            int prevTotal = previousTasks.size();
-            int prevCompleted = (int) previousTasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.COMPLETED)
-                    .count();
-            int prevRate = prevTotal > 0 ? (int) Math.round((double) prevCompleted / prevTotal * 100) : 0;
-            return compareTrend(currentRate, prevRate);
-        }
-
-        // 2. 이전 리포트의 completionRate로 비교
-        if (previousReportCompletionRate != null) {
-            return compareTrend(currentRate, previousReportCompletionRate);
-        }
-
-        // 3. 비교 대상 없음
-        return "NEW";
-    }
-
-    private String compareTrend(int currentRate, int prevRate) {
-        int diff = currentRate - prevRate;
-        if (diff > 5) {
-            return "UP";
-        } else if (diff < -5) {
-            return "DOWN";
-        } else {
-            return "STABLE";
-        }
-    }
-
     private String generateSummary(int totalTasks, int completedTasks, int completionRate, String trend, boolean isStrict) {
         if (totalTasks == 0) {
             return isStrict
@@ -113,19 +67,15 @@ public class MockAIAnalysisService implements AIAnalysisService {
         return sb.toString();
     }
 
-    private String generateInsights(List<Task> tasks) {
-        if (tasks.isEmpty()) {
+    private String generateInsights(ReportStatistics statistics) {
+        if (statistics.isEmpty()) {
             return "분석할 데이터가 충분하지 않습니다.";
         }
 
         StringBuilder sb = new StringBuilder();
 
-        long pendingCount = tasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.PENDING)
-                .count();
-        long inProgressCount = tasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS)
-                .count();
+        int pendingCount = statistics.getPendingTasks();
+        int inProgressCount = statistics.getInProgressTasks();
 
         if (pendingCount > 0) {
             sb.append(String.format("• 시작하지 않은 할 일이 %d개 있습니다.\n", pendingCount));
@@ -134,9 +84,7 @@ public class MockAIAnalysisService implements AIAnalysisService {
             sb.append(String.format("• 진행 중인 할 일이 %d개 있습니다.\n", inProgressCount));
         }
 
-        long overdueCount = tasks.stream()
-                .filter(Task::isOverdue)
-                .count();
+        int overdueCount = statistics.getOverdueTasks();
         if (overdueCount > 0) {
             sb.append(String.format("• 마감일이 지난 할 일이 %d개 있습니다.\n", overdueCount));
         }
@@ -148,7 +96,7 @@ public class MockAIAnalysisService implements AIAnalysisService {
         return sb.toString().trim();
     }
 
-    private String generateRecommendations(List<Task> tasks, int completionRate, boolean isStrict) {
+    private String generateRecommendations(ReportStatistics statistics, int completionRate, boolean isStrict) {
         StringBuilder sb = new StringBuilder();
 
         if (isStrict) {
@@ -181,7 +129,7 @@ public class MockAIAnalysisService implements AIAnalysisService {
             }
         }
 
-        long overdueCount = tasks.stream().filter(Task::isOverdue).count();
+        int overdueCount = statistics.getOverdueTasks();
         if (overdueCount > 0) {
             sb.append(isStrict
                     ? String.format("• 지연된 할 일이 %d개입니다. 즉시 처리하거나 포기 선언하세요.\n", overdueCount)
@@ -0,0 +1,108 @@
+package com.kanva.service.report;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.kanva.common.singleflight.SingleFlight;
+import com.kanva.config.ReportConfig;
+import com.kanva.domain.report.ReportPeriodType;
+import com.kanva.service.gemini.GeminiClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 월간 리포트의 주간 단계 (map)
+ * - 월에 걸친 지난 주 중 재사용할 주간 리포트가 없는 주를 먼저 생성 (동시 monthlyRollupConcurrency개)
+ * - 생성된 주간 리포트는 COMPLETED 행으로 저장되어 히스토리와 다음 월간 리포트에서 재사용
+ * - 실패한 주는 FAILED로 남기고 월간 리포트는 그 주를 통계만으로 요약 (대체 결과를 주간 리포트로 저장하지 않음)
+ * - Gemini를 쓸 수 없으면 건너뜀
+ */
+@Slf4j
+@Service
+public class MonthlyReportRollup {
+
+    private static final TypeReference<AIAnalysisService.AnalysisResult> RESULT_TYPE = new TypeReference<>() {
+    };
+
+    private final ReportJobService reportJobService;
+    private final SingleFlight singleFlight;
+    private final GeminiClient geminiClient;
+    private final ReportConfig reportConfig;
+
+    public MonthlyReportRollup(ReportJobService reportJobService, SingleFlight singleFlight,
+                               GeminiClient geminiClient, ReportConfig reportConfig) {
+        this.reportJobService = reportJobService;
+        this.singleFlight = singleFlight;
+        this.geminiClient = geminiClient;
+        this.reportConfig = reportConfig;
+    }
+
+    /**
+     * 월간 리포트면 빠진 주간 리포트 생성 (그 외 리포트는 아무것도 하지 않음)
+     *
+     * @return 생성 완료된 주간 리포트 수
+     */
+    public int prepareWeeks(Long reportId) {
+        if (!geminiClient.isAvailable()) {
+            return 0;
+        }
+
+        ReportJobService.WeeklyRollupPlan plan = reportJobService.planWeeklyRollup(reportId).orElse(null);
+        if (plan == null || plan.missingWeeks().isEmpty()) {
+            return 0;
+        }
+
+        Semaphore permits = new Semaphore(Math.max(1, reportConfig.getMonthlyRollupConcurrency()));
+        AtomicInteger completed = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (LocalDate weekStart : plan.missingWeeks()) {
+                executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        if (generateWeek(plan, weekStart)) {
+                            completed.incrementAndGet();
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        log.info("Monthly report {}: {} of {} missing weekly reports generated",
+                reportId, completed.get(), plan.missingWeeks().size());
+        return completed.get();
+    }
+
+    /**
+     * 주간 리포트 한 개 생성 (같은 입력의 분석이 진행 중이면 그 결과를 함께 사용)
+     *
+     * @return 완료 여부
+     */
+    private boolean generateWeek(ReportJobService.WeeklyRollupPlan plan, LocalDate weekStart) {
+        Long weeklyReportId = null;
+        try {
+            weeklyReportId = reportJobService.createReport(plan.userId(), ReportPeriodType.WEEKLY,
+                    weekStart, weekStart.plusDays(6), plan.tone());
+            ReportJobService.LoadedReport loaded = reportJobService.loadContext(weeklyReportId, false).orElse(null);
+            if (loaded == null) {
+                return false;
+            }
+            String key = plan.userId() + ":" + loaded.fingerprint();
+            AIAnalysisService.AnalysisResult result = singleFlight.execute("report", key, RESULT_TYPE,
+                    () -> reportJobService.analyze(loaded.context()));
+            return reportJobService.complete(weeklyReportId, loaded, result);
+        } catch (Exception e) {
+            log.warn("Weekly report for monthly rollup failed: userId={}, week={}: {}",
+                    plan.userId(), weekStart, e.getMessage());
+            if (weeklyReportId != null) {
+                reportJobService.fail(weeklyReportId, e.getMessage());
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.kanva.service.report;
+
+import com.kanva.common.hash.Sha256;
+import com.kanva.domain.EntityVersion;
+import com.kanva.domain.report.ReportPeriodType;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * AI 리포트 입력 fingerprint (SHA-256 hex)
+ * - 기간, 톤, 기한초과 기준일(today), 이전 리포트 완료율, 현재/이전 기간 Task와 DailyNote의 (id, updatedAt)으로 계산
+ * - 주간 리포트로 요약하는 월간 리포트는 재사용한 주간 리포트의 (id, updatedAt)도 포함
+ * - 같은 fingerprint의 COMPLETED 리포트가 있으면 분석 결과가 같으므로 AI 호출 없이 재사용
+ */
+public final class ReportFingerprint {
+
+    private ReportFingerprint() {
+    }
+
+    /**
+     * @param today                        기한초과 판단 기준일 (날짜가 바뀌면 통계가 달라질 수 있음)
+     * @param previousReportCompletionRate 이전 기간 Task가 없을 때 트렌드 비교에 쓰는 이전 리포트 완료율 (없으면 null)
+     * @param weeklyReports                월간 리포트가 요약에 쓰는 주간 리포트 (그 외 리포트는 빈 목록)
+     */
+    public static String of(ReportPeriodType periodType, LocalDate start, LocalDate end, String tone,
+                            LocalDate today, Integer previousReportCompletionRate,
+                            Collection<EntityVersion> currentTasks,
+                            Collection<EntityVersion> previousTasks,
+                            Collection<EntityVersion> dailyNotes,
+                            Collection<EntityVersion> weeklyReports) {
+        StringBuilder canonical = new StringBuilder()
+                .append(periodType).append('|')
+                .append(start).append('|')
+                .append(end).append('|')
+                .append(tone).append('|')
+                .append(today).append('|')
+                .append(previousReportCompletionRate);
+        append(canonical, "T", currentTasks);
+        append(canonical, "P", previousTasks);
+        append(canonical, "N", dailyNotes);
+        append(canonical, "W", weeklyReports);
+
+        return Sha256.hex(canonical.toString());
+    }
+
+    // 조회 순서와 무관하도록 id 순으로 정렬
+    private static void append(StringBuilder canonical, String section, Collection<EntityVersion> versions) {
+        canonical.append('|').append(section).append(':');
+        versions.stream()
+                .sorted(Comparator.comparing(EntityVersion::id))
+                .forEach(version -> canonical.append(version.id()).append('@').append(version.updatedAt()).append(','));
+    }
+}
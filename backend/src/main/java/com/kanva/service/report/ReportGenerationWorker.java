@@ -0,0 +1,124 @@
+package com.kanva.service.report;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.kanva.common.singleflight.SingleFlight;
+import com.kanva.config.ReportConfig;
+import com.kanva.domain.report.ReportRequestedEvent;
+import com.kanva.domain.report.ReportStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 리포트 생성 워커
+ * - 요청 트랜잭션 커밋 후 고정 크기 스레드 풀에서 생성 (동시 생성 리포트 수 = workerThreads)
+ * - 로딩(읽기 트랜잭션) → 분석(트랜잭션 없음) → 결과 저장(쓰기 트랜잭션) 순서로 처리
+ * - 월간 리포트는 먼저 빠진 주간 리포트를 생성하고 (MonthlyReportRollup) 그 요약으로 분석
+ *   이때 워커 스레드 하나가 가상 스레드로 최대 monthlyRollupConcurrency개의 Gemini 호출을 더 시작하므로
+ *   전체 동시 Gemini 호출 수는 workerThreads보다 많을 수 있고, 실제 상한은 GeminiClient의 bulkhead(maxConcurrentCalls)
+ * - 분석 중 생성되는 조각은 ReportStreamRegistry로 SSE 구독자에게 중계
+ * - 같은 사용자, 같은 입력 fingerprint의 분석이 동시에 진행 중이면 그 결과를 함께 사용 (single-flight)
+ *   이때 조각은 먼저 시작한 리포트의 구독자에게만 전달되고, 나머지는 done만 받음
+ * - 대기열이 가득 차면 해당 리포트를 바로 FAILED 처리
+ * - 처리 전에 인스턴스가 종료되어 유실된 작업은 ReportScheduler가 시간 초과로 정리
+ */
+@Slf4j
+@Component
+public class ReportGenerationWorker {
+
+    private static final String BUSY_MESSAGE = "리포트 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+    private static final TypeReference<AIAnalysisService.AnalysisResult> RESULT_TYPE = new TypeReference<>() {
+    };
+
+    private final ReportJobService reportJobService;
+    private final MonthlyReportRollup monthlyReportRollup;
+    private final ReportStreamRegistry reportStreamRegistry;
+    private final ReportMetrics reportMetrics;
+    private final SingleFlight singleFlight;
+    private final ThreadPoolExecutor executor;
+
+    public ReportGenerationWorker(ReportJobService reportJobService, MonthlyReportRollup monthlyReportRollup,
+                                  ReportStreamRegistry reportStreamRegistry, ReportMetrics reportMetrics,
+                                  SingleFlight singleFlight, ReportConfig reportConfig) {
+        this.reportJobService = reportJobService;
+        this.monthlyReportRollup = monthlyReportRollup;
+        this.reportStreamRegistry = reportStreamRegistry;
+        this.reportMetrics = reportMetrics;
+        this.singleFlight = singleFlight;
+        int threads = Math.max(1, reportConfig.getWorkerThreads());
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, reportConfig.getQueueCapacity())),
+                Thread.ofPlatform().name("report-worker-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportRequested(ReportRequestedEvent event) {
+        try {
+            executor.execute(() -> generate(event.reportId()));
+        } catch (RejectedExecutionException e) {
+            log.warn("Report {} rejected: worker queue is full", event.reportId());
+            reportJobService.fail(event.reportId(), BUSY_MESSAGE);
+            reportStreamRegistry.finish(event.reportId(), ReportStatus.FAILED);
+        }
+    }
+
+    private void generate(Long reportId) {
+        long startedAt = System.nanoTime();
+        AtomicBoolean firstFragment = new AtomicBoolean(true);
+        AIAnalysisService.FragmentListener listener = (field, fragment) -> {
+            if (firstFragment.compareAndSet(true, false)) {
+                reportMetrics.recordFirstFragment(Duration.ofNanos(System.nanoTime() - startedAt));
+            }
+            reportStreamRegistry.publish(reportId, field, fragment);
+        };
+
+        try {
+            // 월간 리포트면 빠진 주간 리포트부터 생성 (map), 이후 그 요약만으로 분석 (reduce)
+            monthlyReportRollup.prepareWeeks(reportId);
+            Optional<ReportJobService.LoadedReport> loaded = reportJobService.loadContext(reportId);
+            if (loaded.isPresent()) {
+                ReportJobService.LoadedReport report = loaded.get();
+                String key = report.context().getUserId() + ":" + report.fingerprint();
+                AIAnalysisService.AnalysisResult result = singleFlight.execute("report", key, RESULT_TYPE,
+                        () -> reportJobService.analyze(report.context(), listener));
+                boolean saved = reportJobService.complete(reportId, report, result);
+                reportStreamRegistry.finish(reportId, saved ? ReportStatus.COMPLETED : ReportStatus.FAILED);
+            } else {
+                // 삭제되었거나 이미 끝난 리포트 (failStale 등), 구독자가 streamTimeout까지 기다리지 않도록 종료
+                reportStreamRegistry.finish(reportId, reportJobService.currentStatus(reportId));
+            }
+        } catch (Exception e) {
+            log.error("Report {} generation failed: {}", reportId, e.getMessage(), e);
+            try {
+                reportJobService.fail(reportId, e.getMessage());
+            } catch (Exception failError) {
+                log.error("Failed to mark report {} as failed: {}", reportId, failError.getMessage());
+            }
+            reportStreamRegistry.finish(reportId, ReportStatus.FAILED);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
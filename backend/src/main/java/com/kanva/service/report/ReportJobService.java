@@ -0,0 +1,448 @@
+package com.kanva.service.report;
+
+import com.kanva.config.ReportConfig;
+import com.kanva.domain.EntityVersion;
+import com.kanva.domain.dailynote.DailyNoteContentView;
+import com.kanva.domain.dailynote.DailyNoteRepository;
+import com.kanva.domain.report.AIReport;
+import com.kanva.domain.report.AIReportRepository;
+import com.kanva.domain.report.ReportPeriodType;
+import com.kanva.domain.report.ReportStatus;
+import com.kanva.domain.report.WeeklyReportDigestView;
+import com.kanva.domain.task.TaskPromptView;
+import com.kanva.domain.task.TaskRepository;
+import com.kanva.domain.user.UserRepository;
+import com.kanva.service.gemini.GeminiClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 리포트 생성 작업 단계별 처리
+ * - 데이터 로딩 / 결과 저장은 각각 짧은 트랜잭션으로 처리
+ * - AI 분석(Gemini 호출)은 트랜잭션 밖에서 수행하여 호출 동안 DB 커넥션을 잡지 않음
+ */
+@Slf4j
+@Service
+public class ReportJobService {
+
+    private static final String STALE_MESSAGE = "리포트 생성 시간이 초과되었습니다. 다시 시도해주세요.";
+
+    private final AIReportRepository aiReportRepository;
+    private final TaskRepository taskRepository;
+    private final DailyNoteRepository dailyNoteRepository;
+    private final UserRepository userRepository;
+    private final AIAnalysisService geminiAnalysisService;
+    private final AIAnalysisService mockAnalysisService;
+    private final GeminiClient geminiClient;
+    private final ReportConfig reportConfig;
+    private final Clock clock;
+
+    public ReportJobService(
+            AIReportRepository aiReportRepository,
+            TaskRepository taskRepository,
+            DailyNoteRepository dailyNoteRepository,
+            UserRepository userRepository,
+            @Qualifier("geminiAIAnalysisService") AIAnalysisService geminiAnalysisService,
+            @Qualifier("mockAIAnalysisService") AIAnalysisService mockAnalysisService,
+            GeminiClient geminiClient,
+            ReportConfig reportConfig,
+            Clock clock) {
+        this.aiReportRepository = aiReportRepository;
+        this.taskRepository = taskRepository;
+        this.dailyNoteRepository = dailyNoteRepository;
+        this.userRepository = userRepository;
+        this.geminiAnalysisService = geminiAnalysisService;
+        this.mockAnalysisService = mockAnalysisService;
+        this.geminiClient = geminiClient;
+        this.reportConfig = reportConfig;
+        this.clock = clock;
+    }
+
+    /**
+     * 요청 시점의 입력 fingerprint
+     * - Task/DailyNote 전체 대신 (id, updatedAt)만 조회
+     */
+    @Transactional(readOnly = true)
+    public String fingerprint(Long userId, ReportPeriodType periodType, LocalDate start, LocalDate end,
+                              String tone) {
+        Map<LocalDate, WeeklyReportDigestView> weeklyReports = isRollup(periodType)
+                ? reusableWeeklyReports(userId, start, end, normalizeTone(tone))
+                : Map.of();
+        return fingerprint(userId, periodType, start, end, tone, LocalDate.now(clock), weeklyReports);
+    }
+
+    private String fingerprint(Long userId, ReportPeriodType periodType, LocalDate start, LocalDate end,
+                               String tone, LocalDate today, Map<LocalDate, WeeklyReportDigestView> weeklyReports) {
+        List<EntityVersion> previousTasks = taskRepository.findVersionsByUserIdAndDateRange(
+                userId, previousStart(start, end), start.minusDays(1));
+        Integer previousReportCompletionRate = previousTasks.isEmpty()
+                ? previousReportCompletionRate(userId, periodType, start)
+                : null;
+        return ReportFingerprint.of(periodType, start, end, normalizeTone(tone), today, previousReportCompletionRate,
+                taskRepository.findVersionsByUserIdAndDateRange(userId, start, end),
+                previousTasks,
+                dailyNoteRepository.findVersionsByUserIdAndDateRange(userId, start, end),
+                weeklyReports.values().stream()
+                        .map(weekly -> new EntityVersion(weekly.getId(), weekly.getUpdatedAt()))
+                        .toList());
+    }
+
+    /**
+     * GENERATING 리포트 생성 (배치 사전 생성용, 이벤트 발행 없음)
+     *
+     * @return 생성된 리포트 ID
+     */
+    @Transactional
+    public Long createReport(Long userId, ReportPeriodType periodType, LocalDate start, LocalDate end,
+                             String tone) {
+        return createReport(userId, periodType, start, end, tone, fingerprint(userId, periodType, start, end, tone));
+    }
+
+    /**
+     * fingerprint를 이미 계산한 GENERATING 리포트 생성
+     * - 같은 기간/톤의 GENERATING 리포트가 이미 있으면 unique 위반 (DataIntegrityViolationException)
+     * - 트랜잭션 밖에서 호출 (insert만 짧은 트랜잭션으로 실행, 위반해도 호출 측이 rollback-only가 되지 않음)
+     *
+     * @return 생성된 리포트 ID
+     */
+    @Transactional
+    public Long createReport(Long userId, ReportPeriodType periodType, LocalDate start, LocalDate end,
+                             String tone, String fingerprint) {
+        AIReport report = AIReport.builder()
+                .user(userRepository.getReferenceById(userId))
+                .periodType(periodType)
+                .periodStart(start)
+                .periodEnd(end)
+                .tone(normalizeTone(tone))
+                .fingerprint(fingerprint)
+                .fingerprintDate(LocalDate.now(clock))
+                .build();
+        return aiReportRepository.saveAndFlush(report).getId();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LoadedReport> loadContext(Long reportId) {
+        return loadContext(reportId, true);
+    }
+
+    /**
+     * 분석 입력 데이터 로딩
+     * - 통계는 GROUP BY 집계 행으로 계산하고, 프롬프트용 Task/노트만 프로젝션으로 조회 (최대 promptTaskLimit개)
+     * - 월간 리포트는 Task/노트 대신 주간 리포트 요약을 조회 (monthlyRollupEnabled)
+     * - fingerprint는 로딩 시점의 버전으로 다시 계산
+     *
+     * @param fallbackAllowed false면 AI 호출 실패 시 대체 결과 없이 예외
+     * @return 리포트가 없거나 이미 GENERATING이 아니면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<LoadedReport> loadContext(Long reportId, boolean fallbackAllowed) {
+        Optional<AIReport> found = aiReportRepository.findById(reportId)
+                .filter(AIReport::isGenerating);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        AIReport report = found.get();
+        Long userId = report.getUser().getId();
+        LocalDate start = report.getPeriodStart();
+        LocalDate end = report.getPeriodEnd();
+        String tone = normalizeTone(report.getTone());
+
+        LocalDate today = LocalDate.now(clock);
+
+        // 현재/이전 기간 통계는 DB 집계 (Task 엔티티를 로딩하지 않음)
+        ReportStatistics statistics = ReportStatistics.of(
+                taskRepository.findStatisticsByUserIdAndDateRange(userId, start, end, today), today);
+        ReportStatistics previousStatistics = ReportStatistics.of(
+                taskRepository.findStatisticsByUserIdAndDateRange(
+                        userId, previousStart(start, end), start.minusDays(1), today),
+                today);
+
+        // 월간 리포트는 주간 리포트 요약으로 대체, 그 외는 프롬프트용 Task/노트를 필요한 컬럼만
+        boolean rollup = isRollup(report);
+        Map<LocalDate, WeeklyReportDigestView> weeklyReports = rollup
+                ? reusableWeeklyReports(userId, start, end, tone)
+                : Map.of();
+        List<AIAnalysisService.WeekDigest> weekDigests = rollup
+                ? weekDigests(start, end, statistics, today, weeklyReports)
+                : null;
+        List<TaskPromptView> tasks = rollup
+                ? List.of()
+                : taskRepository.findPromptTasksByUserIdAndDateRange(
+                        userId, start, end, Limit.of(Math.max(1, reportConfig.getPromptTaskLimit())));
+        List<DailyNoteContentView> dailyNotes = rollup
+                ? List.of()
+                : dailyNoteRepository.findContentsByUserIdAndDateRange(userId, start, end);
+
+        // 이전 기간 Task가 없으면 이전 리포트의 completionRate로 트렌드 비교
+        Integer previousReportCompletionRate = previousStatistics.isEmpty()
+                ? previousReportCompletionRate(userId, report.getPeriodType(), start)
+                : null;
+
+        AIAnalysisService.AnalysisContext context = AIAnalysisService.AnalysisContext.builder()
+                .userId(userId)
+                .statistics(statistics)
+                .previousStatistics(previousStatistics)
+                .tasks(tasks)
+                .dailyNotes(dailyNotes)
+                .periodType(report.getPeriodType())
+                .tone(tone)
+                .previousReportCompletionRate(previousReportCompletionRate)
+                .weekDigests(weekDigests)
+                .fallbackAllowed(fallbackAllowed)
+                .build();
+
+        String fingerprint = fingerprint(userId, report.getPeriodType(), start, end, tone, today, weeklyReports);
+
+        return Optional.of(new LoadedReport(context, fingerprint, today));
+    }
+
+    /**
+     * 월간 리포트 전에 먼저 생성할 주간 리포트
+     * - 월에 걸친 주(월~일) 중 이미 끝났고 Task가 있는데, 재사용할 주간 리포트가 없는 주
+     *
+     * @return 월간 리포트가 아니거나 이미 GENERATING이 아니면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<WeeklyRollupPlan> planWeeklyRollup(Long reportId) {
+        Optional<AIReport> found = aiReportRepository.findById(reportId)
+                .filter(AIReport::isGenerating)
+                .filter(this::isRollup);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        AIReport report = found.get();
+        Long userId = report.getUser().getId();
+        LocalDate today = LocalDate.now(clock);
+        List<LocalDate> weeks = calendarWeeks(report.getPeriodStart(), report.getPeriodEnd());
+
+        // 월 경계 밖 날짜까지 주 전체의 Task 수
+        ReportStatistics weekStatistics = ReportStatistics.of(taskRepository.findStatisticsByUserIdAndDateRange(
+                userId, weeks.get(0), weeks.get(weeks.size() - 1).plusDays(6), today), today);
+        Map<LocalDate, WeeklyReportDigestView> reusable = reusableWeeklyReports(
+                userId, report.getPeriodStart(), report.getPeriodEnd(), normalizeTone(report.getTone()));
+
+        List<LocalDate> missingWeeks = weeks.stream()
+                .filter(weekStart -> weekStart.plusDays(6).isBefore(today))
+                .filter(weekStart -> !reusable.containsKey(weekStart))
+                .filter(weekStart -> weekStatistics.totalBetween(weekStart, weekStart.plusDays(6)) > 0)
+                .toList();
+        return Optional.of(new WeeklyRollupPlan(userId, normalizeTone(report.getTone()), missingWeeks));
+    }
+
+    /**
+     * AI 분석 수행 (트랜잭션 없음, 스트리밍 없음)
+     * - 서킷 OPEN 등 일시적 사용 불가 처리는 Gemini 분석 서비스가 담당 (fallbackAllowed에 따라 대체 또는 예외)
+     */
+    public AIAnalysisService.AnalysisResult analyze(AIAnalysisService.AnalysisContext context) {
+        return geminiClient.isConfigured()
+                ? geminiAnalysisService.analyze(context)
+                : mockAnalysisService.analyze(context);
+    }
+
+    /**
+     * AI 분석 수행 (트랜잭션 없음)
+     * - 생성되는 필드 조각은 listener로 전달 (SSE 구독자에게 중계)
+     */
+    public AIAnalysisService.AnalysisResult analyze(AIAnalysisService.AnalysisContext context,
+                                                    AIAnalysisService.FragmentListener listener) {
+        if (geminiClient.isConfigured()) {
+            log.info("Using Gemini AI Analysis Service");
+            return geminiAnalysisService.analyze(context, listener);
+        }
+        log.info("Using Mock AI Analysis Service (Gemini not configured)");
+        return mockAnalysisService.analyze(context, listener);
+    }
+
+    /**
+     * 분석 결과 저장
+     * - 그 사이 삭제되었거나 시간 초과로 FAILED 처리된 리포트는 건너뜀
+     * - fingerprint는 계산에 쓴 기한초과 기준일과 함께 저장
+     * - 대체 결과(Gemini 미설정/오류/서킷 OPEN/예산 초과)는 fingerprint를 비워 캐시로 재사용되지 않게 함
+     *
+     * @return 저장했으면 true
+     */
+    @Transactional
+    public boolean complete(Long reportId, LoadedReport loaded, AIAnalysisService.AnalysisResult result) {
+        Optional<AIReport> found = aiReportRepository.findById(reportId)
+                .filter(AIReport::isGenerating);
+        found.ifPresent(report -> {
+            if (result.isFallback()) {
+                report.updateFingerprint(null, null);
+            } else {
+                report.updateFingerprint(loaded.fingerprint(), loaded.fingerprintDate());
+            }
+            report.complete(
+                    result.getTotalTasks(),
+                    result.getCompletedTasks(),
+                    result.getCompletionRate(),
+                    result.getTrend(),
+                    result.getSummary(),
+                    result.getInsights(),
+                    result.getRecommendations()
+            );
+        });
+        return found.isPresent();
+    }
+
+    /**
+     * 리포트 생성 실패 처리
+     */
+    @Transactional
+    public void fail(Long reportId, String errorMessage) {
+        aiReportRepository.findById(reportId)
+                .filter(AIReport::isGenerating)
+                .ifPresent(report -> report.fail(errorMessage));
+    }
+
+    /**
+     * 현재 상태 (리포트가 없으면 FAILED)
+     */
+    @Transactional(readOnly = true)
+    public ReportStatus currentStatus(Long reportId) {
+        return aiReportRepository.findStatusById(reportId).orElse(ReportStatus.FAILED);
+    }
+
+    /**
+     * 재시도 시작 표시 (failStale은 마지막 시도 시각부터 generatingTimeout을 셈)
+     */
+    @Transactional
+    public void touch(Long reportId) {
+        aiReportRepository.touchGenerating(reportId, LocalDateTime.now(clock));
+    }
+
+    /**
+     * 마지막 시도 이후 generatingTimeout이 지나도록 GENERATING인 리포트 FAILED 처리
+     *
+     * @return 실패 처리된 리포트 수
+     */
+    @Transactional
+    public int failStale() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return aiReportRepository.failStaleGenerating(
+                now.minus(reportConfig.getGeneratingTimeout()), STALE_MESSAGE, now);
+    }
+
+    public static String normalizeTone(String tone) {
+        return tone != null ? tone : "ENCOURAGING";
+    }
+
+    private Integer previousReportCompletionRate(Long userId, ReportPeriodType periodType, LocalDate start) {
+        return aiReportRepository.findLatestCompletedByUserAndType(userId, periodType, start)
+                .map(AIReport::getCompletionRate)
+                .orElse(null);
+    }
+
+    private boolean isRollup(AIReport report) {
+        return isRollup(report.getPeriodType());
+    }
+
+    private boolean isRollup(ReportPeriodType periodType) {
+        return periodType == ReportPeriodType.MONTHLY && reportConfig.isMonthlyRollupEnabled();
+    }
+
+    /**
+     * 주차별 요약
+     * - 통계는 월 범위 안의 날짜만 집계 (월 경계 주의 주간 리포트 통계는 이웃 달 날짜를 포함하므로 쓰지 않음)
+     * - 주간 리포트가 있으면 그 summary/insights를 함께 전달
+     */
+    private List<AIAnalysisService.WeekDigest> weekDigests(LocalDate start, LocalDate end,
+                                                           ReportStatistics statistics, LocalDate today,
+                                                           Map<LocalDate, WeeklyReportDigestView> weeklyReports) {
+        List<AIAnalysisService.WeekDigest> digests = new ArrayList<>();
+        for (LocalDate weekStart : calendarWeeks(start, end)) {
+            LocalDate from = weekStart.isBefore(start) ? start : weekStart;
+            LocalDate to = weekStart.plusDays(6).isAfter(end) ? end : weekStart.plusDays(6);
+            if (from.isAfter(today)) {
+                break;
+            }
+            int total = statistics.totalBetween(from, to);
+            int completed = statistics.completedBetween(from, to);
+            WeeklyReportDigestView weekly = weeklyReports.get(weekStart);
+            digests.add(new AIAnalysisService.WeekDigest(digests.size() + 1, from, to, total, completed,
+                    ReportStatistics.rate(completed, total),
+                    weekly != null ? weekly.getSummary() : null,
+                    weekly != null ? weekly.getInsights() : null));
+        }
+        return digests;
+    }
+
+    /**
+     * 주 시작일별 재사용할 주간 리포트
+     * - 주가 끝난 뒤 생성(갱신)된 것만 (주 중간에 만든 리포트는 일부 날짜만 반영)
+     * - 저장된 fingerprint가 그 주의 현재 입력으로 다시 계산한 값과 같은 것만 (이후 Task/노트가 바뀌었으면 제외)
+     *   기한초과 기준일은 저장된 fingerprint를 계산한 날짜로 맞춰 비교 (날짜가 지난 것만으로 매번 다시 생성하지 않도록)
+     * - 월간 리포트와 같은 톤을 우선, 같은 톤 안에서는 최근 것
+     */
+    private Map<LocalDate, WeeklyReportDigestView> reusableWeeklyReports(Long userId, LocalDate start,
+                                                                         LocalDate end, String tone) {
+        List<LocalDate> weeks = calendarWeeks(start, end);
+        List<WeeklyReportDigestView> candidates = new ArrayList<>(aiReportRepository.findCompletedWeeklyDigests(
+                userId, weeks.get(0), weeks.get(weeks.size() - 1).plusDays(6)));
+        // 최근 갱신순 조회 결과를 안정 정렬하여 같은 톤을 앞으로
+        candidates.sort(Comparator.comparing((WeeklyReportDigestView weekly) -> !tone.equals(weekly.getTone())));
+
+        Map<LocalDate, WeeklyReportDigestView> reports = new HashMap<>();
+        for (WeeklyReportDigestView weekly : candidates) {
+            LocalDate weekStart = weekly.getPeriodStart();
+            LocalDate weekEnd = weekStart.plusDays(6);
+            LocalDate fingerprintDate = weekly.getFingerprintDate();
+            if (reports.containsKey(weekStart)
+                    || !weekly.getPeriodEnd().equals(weekEnd)
+                    || !fingerprintDate.isAfter(weekEnd)) {
+                continue;
+            }
+            String current = fingerprint(userId, ReportPeriodType.WEEKLY, weekStart, weekEnd, weekly.getTone(),
+                    fingerprintDate, Map.of());
+            if (current.equals(weekly.getFingerprint())) {
+                reports.put(weekStart, weekly);
+            }
+        }
+        return reports;
+    }
+
+    // 기간에 걸친 주(월~일)의 시작일
+    private static List<LocalDate> calendarWeeks(LocalDate start, LocalDate end) {
+        List<LocalDate> weeks = new ArrayList<>();
+        for (LocalDate monday = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+             !monday.isAfter(end); monday = monday.plusWeeks(1)) {
+            weeks.add(monday);
+        }
+        return weeks;
+    }
+
+    // 이전 기간: 같은 길이만큼 바로 앞
+    private static LocalDate previousStart(LocalDate start, LocalDate end) {
+        return start.minusDays(ChronoUnit.DAYS.between(start, end) + 1);
+    }
+
+    /**
+     * 로딩한 분석 입력과 그 fingerprint (fingerprintDate: 계산에 쓴 기한초과 기준일)
+     */
+    public record LoadedReport(AIAnalysisService.AnalysisContext context, String fingerprint,
+                               LocalDate fingerprintDate) {
+    }
+
+    /**
+     * 월간 리포트 전에 생성할 주간 리포트 (주 시작일, 톤은 월간 리포트와 같게)
+     */
+    public record WeeklyRollupPlan(Long userId, String tone, List<LocalDate> missingWeeks) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.kanva.service.report;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * AI 리포트 Micrometer 지표 (/actuator/prometheus로 노출)
+ *
+ * - report.cache.lookups: 리포트 캐시 조회 수 (result=hit|miss), hit은 AI 호출 없이 기존 결과 재사용
+ * - report.stream.first_fragment: 생성 시작부터 첫 조각 전달까지 시간
+ * - report.pregeneration.results: 주간 리포트 야간 사전 생성 결과 수 (result=completed|failed)
+ *
+ * 캐시 적중률 예: sum(rate(report_cache_lookups_total{result="hit"}[1h])) / sum(rate(report_cache_lookups_total[1h]))
+ */
+@Component
+public class ReportMetrics {
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Timer firstFragment;
+    private final Counter preGenerationCompleted;
+    private final Counter preGenerationFailed;
+
+    public ReportMetrics(MeterRegistry registry) {
+        this.cacheHits = cacheLookupCounter(registry, "hit");
+        this.cacheMisses = cacheLookupCounter(registry, "miss");
+        this.firstFragment = Timer.builder("report.stream.first_fragment")
+                .description("Time from report generation start to the first streamed fragment")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.preGenerationCompleted = preGenerationCounter(registry, "completed");
+        this.preGenerationFailed = preGenerationCounter(registry, "failed");
+    }
+
+    public void recordCacheLookup(boolean hit) {
+        (hit ? cacheHits : cacheMisses).increment();
+    }
+
+    public void recordFirstFragment(Duration elapsed) {
+        firstFragment.record(elapsed);
+    }
+
+    public void recordPreGeneration(boolean completed) {
+        (completed ? preGenerationCompleted : preGenerationFailed).increment();
+    }
+
+    private static Counter preGenerationCounter(MeterRegistry registry, String result) {
+        return Counter.builder("report.pregeneration.results")
+                .description("Weekly report pre-generation results")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter cacheLookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder("report.cache.lookups")
+                .description("AI report cache lookups by fingerprint")
+                .tag("result", result)
+                .register(registry);
+    }
+}
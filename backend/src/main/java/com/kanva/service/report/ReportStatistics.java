@@ -0,0 +1,342 @@
+package com.kanva.service.report;
+
+import com.kanva.domain.task.Task;
+import com.kanva.domain.task.TaskCategory;
+import com.kanva.domain.task.TaskStatisticsView;
+import com.kanva.domain.task.TaskStatus;
+import com.kanva.domain.task.TaskType;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리포트 통계
+ * - 입력(DB 집계 행 또는 Task 목록)을 한 번 순회하며 전체/상태별/기한초과, 일자별, 주차별,
+ *   카테고리별, 유형별, 반복/단발 수를 집계
+ * - 카운터는 enum ordinal, 첫 날짜로부터의 일수로 인덱싱한 int 배열
+ * - 주차는 Task가 있는 가장 이른 날짜부터 7일 단위 (마지막 주는 가장 늦은 날짜까지)
+ *
+ * 불변 객체, 분석 컨텍스트당 한 번 계산해 Gemini/Mock 분석과 프롬프트 생성이 함께 사용
+ */
+public final class ReportStatistics {
+
+    private static final int CATEGORY_COUNT = TaskCategory.values().length;
+    private static final int TYPE_COUNT = TaskType.values().length;
+
+    @Getter
+    private final int totalTasks;
+    @Getter
+    private final int completedTasks;
+    @Getter
+    private final int inProgressTasks;
+    @Getter
+    private final int pendingTasks;
+    @Getter
+    private final int overdueTasks;
+    @Getter
+    private final int seriesTasks;
+    @Getter
+    private final int completedSeriesTasks;
+
+    private final long todayEpochDay;
+    private final int[] categoryTotals;
+    private final int[] categoryCompleted;
+    private final int[] typeTotals;
+    private final int[] typeCompleted;
+
+    // 일자별 (index = 첫 날짜로부터의 일수)
+    private final long firstEpochDay;
+    private final int[] dayTotals;
+    private final int[] dayCompleted;
+
+    private ReportStatistics(Accumulator accumulator) {
+        this.todayEpochDay = accumulator.todayEpochDay;
+        this.totalTasks = accumulator.total;
+        this.completedTasks = accumulator.completed;
+        this.inProgressTasks = accumulator.inProgress;
+        this.pendingTasks = accumulator.total - accumulator.completed - accumulator.inProgress;
+        this.overdueTasks = accumulator.overdue;
+        this.seriesTasks = accumulator.series;
+        this.completedSeriesTasks = accumulator.completedSeries;
+        this.categoryTotals = accumulator.categoryTotals;
+        this.categoryCompleted = accumulator.categoryCompleted;
+        this.typeTotals = accumulator.typeTotals;
+        this.typeCompleted = accumulator.typeCompleted;
+
+        // 날짜별 행을 첫 날짜 기준 배열로 모음
+        int size = accumulator.size;
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            first = Math.min(first, accumulator.epochDays[i]);
+            last = Math.max(last, accumulator.epochDays[i]);
+        }
+        int dayCount = size > 0 ? (int) (last - first + 1) : 0;
+        this.firstEpochDay = size > 0 ? first : todayEpochDay;
+        this.dayTotals = new int[dayCount];
+        this.dayCompleted = new int[dayCount];
+        for (int i = 0; i < size; i++) {
+            int day = (int) (accumulator.epochDays[i] - firstEpochDay);
+            dayTotals[day] += accumulator.counts[i];
+            dayCompleted[day] += accumulator.completedCounts[i];
+        }
+    }
+
+    /**
+     * DB 집계 행으로 계산 (overdueCount는 쿼리에서 today 기준으로 계산된 값)
+     */
+    public static ReportStatistics of(List<? extends TaskStatisticsView> rows, LocalDate today) {
+        Accumulator accumulator = new Accumulator(today, rows.size());
+        for (TaskStatisticsView row : rows) {
+            accumulator.add(row.getDate(), row.getCategory(), row.getType(), row.getStatus(), row.isSeries(),
+                    (int) row.getTaskCount(), (int) row.getOverdueCount());
+        }
+        return new ReportStatistics(accumulator);
+    }
+
+    /**
+     * Task 엔티티 목록으로 계산
+     *
+     * @param today 기한초과 판단 기준일 (Task가 날짜 정보 없이 들어오면 이 날짜로 집계)
+     */
+    public static ReportStatistics ofTasks(List<Task> tasks, LocalDate today) {
+        Accumulator accumulator = new Accumulator(today, tasks.size());
+        for (Task task : tasks) {
+            accumulator.add(dateOf(task, today), task.getCategory(), task.getType(), task.getStatus(),
+                    task.isSeriesTask(), 1, accumulator.isOverdue(task.getDueDate(), task.getStatus()) ? 1 : 0);
+        }
+        return new ReportStatistics(accumulator);
+    }
+
+    /**
+     * Task가 속한 날짜 (반복 Task는 taskDate, 일반 Task는 DailyNote 날짜)
+     */
+    public static LocalDate dateOf(Task task, LocalDate defaultDate) {
+        if (task.getTaskDate() != null) {
+            return task.getTaskDate();
+        }
+        if (task.getDailyNote() != null && task.getDailyNote().getDate() != null) {
+            return task.getDailyNote().getDate();
+        }
+        return defaultDate;
+    }
+
+    /**
+     * 완료율 (%, 반올림)
+     */
+    public static int rate(int completed, int total) {
+        return total > 0 ? (int) Math.round((double) completed / total * 100) : 0;
+    }
+
+    public boolean isEmpty() {
+        return totalTasks == 0;
+    }
+
+    public int getCompletionRate() {
+        return rate(completedTasks, totalTasks);
+    }
+
+    public int getOneOffTasks() {
+        return totalTasks - seriesTasks;
+    }
+
+    public int getCompletedOneOffTasks() {
+        return completedTasks - completedSeriesTasks;
+    }
+
+    public int categoryTotal(TaskCategory category) {
+        return categoryTotals[category.ordinal()];
+    }
+
+    public int categoryCompleted(TaskCategory category) {
+        return categoryCompleted[category.ordinal()];
+    }
+
+    public int typeTotal(TaskType type) {
+        return typeTotals[type.ordinal()];
+    }
+
+    public int typeCompleted(TaskType type) {
+        return typeCompleted[type.ordinal()];
+    }
+
+    /**
+     * 집계 기준일에 마감일이 지났고 완료되지 않았는지
+     */
+    public boolean isOverdue(LocalDate dueDate, TaskStatus status) {
+        return dueDate != null && dueDate.toEpochDay() < todayEpochDay && status != TaskStatus.COMPLETED;
+    }
+
+    /**
+     * Task가 있는 날짜 (오름차순)
+     */
+    public List<LocalDate> getDates() {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int day = 0; day < dayTotals.length; day++) {
+            if (dayTotals[day] > 0) {
+                dates.add(LocalDate.ofEpochDay(firstEpochDay + day));
+            }
+        }
+        return dates;
+    }
+
+    public boolean hasTasksOn(LocalDate date) {
+        return dayTotal(date) > 0;
+    }
+
+    public int dayTotal(LocalDate date) {
+        int day = dayIndex(date);
+        return day >= 0 ? dayTotals[day] : 0;
+    }
+
+    public int dayCompleted(LocalDate date) {
+        int day = dayIndex(date);
+        return day >= 0 ? dayCompleted[day] : 0;
+    }
+
+    /**
+     * 기간 [start, end]의 Task 수 (집계 범위 밖 날짜는 0)
+     */
+    public int totalBetween(LocalDate start, LocalDate end) {
+        return sumBetween(dayTotals, start, end);
+    }
+
+    public int completedBetween(LocalDate start, LocalDate end) {
+        return sumBetween(dayCompleted, start, end);
+    }
+
+    /**
+     * 주차별 통계 (가장 이른 날짜부터 7일 단위)
+     */
+    public List<WeekStatistics> getWeeks() {
+        List<WeekStatistics> weeks = new ArrayList<>();
+        for (int from = 0; from < dayTotals.length; from += 7) {
+            int to = Math.min(from + 7, dayTotals.length);
+            int total = 0;
+            int completed = 0;
+            for (int day = from; day < to; day++) {
+                total += dayTotals[day];
+                completed += dayCompleted[day];
+            }
+            weeks.add(new WeekStatistics(
+                    weeks.size() + 1,
+                    LocalDate.ofEpochDay(firstEpochDay + from),
+                    LocalDate.ofEpochDay(firstEpochDay + to - 1),
+                    total,
+                    completed));
+        }
+        return weeks;
+    }
+
+    /**
+     * 이전 대비 추세 (UP / DOWN / STABLE / NEW)
+     * - 이전 기간 Task가 있으면 그 완료율과, 없으면 이전 리포트 완료율과 비교 (±5%p 이내는 STABLE)
+     */
+    public String trendAgainst(ReportStatistics previous, Integer previousReportCompletionRate) {
+        if (previous != null && !previous.isEmpty()) {
+            return compareTrend(getCompletionRate(), previous.getCompletionRate());
+        }
+        if (previousReportCompletionRate != null) {
+            return compareTrend(getCompletionRate(), previousReportCompletionRate);
+        }
+        return "NEW";
+    }
+
+    private static String compareTrend(int currentRate, int prevRate) {
+        int diff = currentRate - prevRate;
+        if (diff > 5) {
+            return "UP";
+        } else if (diff < -5) {
+            return "DOWN";
+        } else {
+            return "STABLE";
+        }
+    }
+
+    private int sumBetween(int[] days, LocalDate start, LocalDate end) {
+        int from = (int) Math.max(0, start.toEpochDay() - firstEpochDay);
+        int to = (int) Math.min(days.length - 1, end.toEpochDay() - firstEpochDay);
+        int sum = 0;
+        for (int day = from; day <= to; day++) {
+            sum += days[day];
+        }
+        return sum;
+    }
+
+    private int dayIndex(LocalDate date) {
+        long day = date.toEpochDay() - firstEpochDay;
+        return day >= 0 && day < dayTotals.length ? (int) day : -1;
+    }
+
+    public record WeekStatistics(int weekNumber, LocalDate start, LocalDate end, int totalTasks, int completedTasks) {
+
+        public int completionRate() {
+            return rate(completedTasks, totalTasks);
+        }
+    }
+
+    /**
+     * 입력 행을 한 번 순회하며 카운터 누적 (날짜별 값은 배열에 적어 두고 생성자에서 일자 배열로 변환)
+     */
+    private static final class Accumulator {
+
+        private final long todayEpochDay;
+        private final int[] categoryTotals = new int[CATEGORY_COUNT];
+        private final int[] categoryCompleted = new int[CATEGORY_COUNT];
+        private final int[] typeTotals = new int[TYPE_COUNT];
+        private final int[] typeCompleted = new int[TYPE_COUNT];
+        private final long[] epochDays;
+        private final int[] counts;
+        private final int[] completedCounts;
+        private int size;
+
+        private int total;
+        private int completed;
+        private int inProgress;
+        private int overdue;
+        private int series;
+        private int completedSeries;
+
+        private Accumulator(LocalDate today, int capacity) {
+            this.todayEpochDay = today.toEpochDay();
+            this.epochDays = new long[capacity];
+            this.counts = new int[capacity];
+            this.completedCounts = new int[capacity];
+        }
+
+        private void add(LocalDate date, TaskCategory category, TaskType type, TaskStatus status,
+                         boolean isSeries, int count, int overdueCount) {
+            int completedCount = status == TaskStatus.COMPLETED ? count : 0;
+
+            total += count;
+            completed += completedCount;
+            if (status == TaskStatus.IN_PROGRESS) {
+                inProgress += count;
+            }
+            overdue += overdueCount;
+            if (category != null) {
+                categoryTotals[category.ordinal()] += count;
+                categoryCompleted[category.ordinal()] += completedCount;
+            }
+            if (type != null) {
+                typeTotals[type.ordinal()] += count;
+                typeCompleted[type.ordinal()] += completedCount;
+            }
+            if (isSeries) {
+                series += count;
+                completedSeries += completedCount;
+            }
+
+            epochDays[size] = date.toEpochDay();
+            counts[size] = count;
+            completedCounts[size] = completedCount;
+            size++;
+        }
+
+        private boolean isOverdue(LocalDate dueDate, TaskStatus status) {
+            return dueDate != null && dueDate.toEpochDay() < todayEpochDay && status != TaskStatus.COMPLETED;
+        }
+    }
+}
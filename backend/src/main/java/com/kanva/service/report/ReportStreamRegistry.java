@@ -0,0 +1,150 @@
+package com.kanva.service.report;
+
+import com.kanva.config.ReportConfig;
+import com.kanva.domain.report.ReportStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리포트 생성 SSE 중계
+ * - 워커가 만든 필드 조각을 리포트별 구독자에게 전달 (fragment 이벤트)
+ * - 늦게 구독해도 지금까지의 조각을 먼저 재전송
+ * - 생성이 끝나면 done 이벤트(status) 후 연결 종료
+ *
+ * 조각은 생성 중인 인스턴스의 메모리에만 있으므로 다른 인스턴스에 붙은 구독자는 done을 받지 못할 수 있음
+ * (클라이언트는 상세 조회 polling을 함께 사용)
+ */
+@Slf4j
+@Component
+public class ReportStreamRegistry {
+
+    private static final String FRAGMENT_EVENT = "fragment";
+    private static final String DONE_EVENT = "done";
+
+    private final Map<Long, ReportStream> streams = new ConcurrentHashMap<>();
+    private final ReportConfig reportConfig;
+
+    public ReportStreamRegistry(ReportConfig reportConfig) {
+        this.reportConfig = reportConfig;
+    }
+
+    /**
+     * 리포트 생성 스트림 구독
+     */
+    public SseEmitter subscribe(Long reportId) {
+        SseEmitter emitter = new SseEmitter(reportConfig.getStreamTimeout().toMillis());
+        Runnable remove = () -> unsubscribe(reportId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+
+        streams.computeIfAbsent(reportId, id -> new ReportStream()).subscribe(emitter);
+        return emitter;
+    }
+
+    /**
+     * 생성된 필드 조각 전달
+     */
+    public void publish(Long reportId, String field, String fragment) {
+        streams.computeIfAbsent(reportId, id -> new ReportStream()).publish(new Fragment(field, fragment));
+    }
+
+    /**
+     * 생성 종료: 모든 구독자에게 done 전송 후 연결 종료
+     */
+    public void finish(Long reportId, ReportStatus status) {
+        ReportStream stream = streams.remove(reportId);
+        if (stream != null) {
+            stream.finish(status);
+        }
+    }
+
+    /**
+     * 구독자 하나에게만 done 전송 (구독 시점에 이미 생성이 끝난 경우)
+     */
+    public void finish(Long reportId, SseEmitter emitter, ReportStatus status) {
+        ReportStream stream = streams.get(reportId);
+        if (stream != null) {
+            stream.remove(emitter);
+        }
+        sendDone(emitter, status);
+    }
+
+    private void unsubscribe(Long reportId, SseEmitter emitter) {
+        streams.computeIfPresent(reportId, (id, stream) -> {
+            stream.remove(emitter);
+            // 워커가 아직 시작하지 않았고 구독자도 없으면 정리
+            return stream.isIdle() ? null : stream;
+        });
+    }
+
+    private static void sendDone(SseEmitter emitter, ReportStatus status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(DONE_EVENT)
+                    .data(Map.of("status", status.name()), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 이미 끊긴 연결
+            emitter.completeWithError(e);
+        }
+    }
+
+    record Fragment(String field, String text) {
+    }
+
+    private static class ReportStream {
+
+        private final List<Fragment> fragments = new ArrayList<>();
+        private final List<SseEmitter> emitters = new ArrayList<>();
+
+        synchronized void subscribe(SseEmitter emitter) {
+            for (Fragment fragment : fragments) {
+                if (!send(emitter, fragment)) {
+                    return;
+                }
+            }
+            emitters.add(emitter);
+        }
+
+        synchronized void publish(Fragment fragment) {
+            fragments.add(fragment);
+            emitters.removeIf(emitter -> !send(emitter, fragment));
+        }
+
+        synchronized void finish(ReportStatus status) {
+            for (SseEmitter emitter : emitters) {
+                sendDone(emitter, status);
+            }
+            emitters.clear();
+        }
+
+        synchronized void remove(SseEmitter emitter) {
+            emitters.remove(emitter);
+        }
+
+        synchronized boolean isIdle() {
+            return emitters.isEmpty() && fragments.isEmpty();
+        }
+
+        private static boolean send(SseEmitter emitter, Fragment fragment) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(FRAGMENT_EVENT)
+                        .data(fragment, MediaType.APPLICATION_JSON));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Report stream subscriber disconnected: {}", e.getMessage());
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.kanva.service.report;
+
+import com.kanva.common.ratelimit.TokenBucket;
+import com.kanva.config.ReportConfig;
+import com.kanva.domain.report.ReportPeriodType;
+import com.kanva.domain.task.TaskRepository;
+import com.kanva.exception.AiBudgetExceededException;
+import com.kanva.service.gemini.GeminiClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주간 리포트 야간 사전 생성
+ * - 지난주(월~일)에 Task가 있고 아직 주간 리포트가 없는 사용자에게 리포트를 미리 생성
+ * - Gemini가 설정되지 않았으면 건너뜀 (Mock 결과로 리포트를 채우지 않음, 사용자가 조회할 때 생성)
+ * - 동시 생성 수는 preGenerateConcurrency, AI 호출 속도는 전체 preGenerateRatePerSecond로 제한
+ * - 실패 시 지수 백오프로 재시도하고, 끝내 실패하면 FAILED로 남김 (다음 실행 때 다시 대상)
+ *   재시도마다 시도 시각을 갱신하여 재시도 중에 시간 초과(failStale)로 정리되지 않음
+ * - 생성된 리포트는 COMPLETED 행으로 저장되어 히스토리 조회에 바로 노출
+ */
+@Slf4j
+@Service
+public class WeeklyReportPreGenerator {
+
+    private final TaskRepository taskRepository;
+    private final ReportJobService reportJobService;
+    private final GeminiClient geminiClient;
+    private final ReportMetrics reportMetrics;
+    private final ReportConfig reportConfig;
+    private final Clock clock;
+
+    public WeeklyReportPreGenerator(TaskRepository taskRepository, ReportJobService reportJobService,
+                                    GeminiClient geminiClient, ReportMetrics reportMetrics,
+                                    ReportConfig reportConfig, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.reportJobService = reportJobService;
+        this.geminiClient = geminiClient;
+        this.reportMetrics = reportMetrics;
+        this.reportConfig = reportConfig;
+        this.clock = clock;
+    }
+
+    /**
+     * 지난주 주간 리포트 사전 생성
+     *
+     * @return 생성 완료된 리포트 수
+     */
+    public int preGenerateLastWeek() {
+        if (!geminiClient.isConfigured()) {
+            log.info("Weekly report pre-generation skipped, Gemini not configured");
+            return 0;
+        }
+
+        LocalDate start = LocalDate.now(clock)
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .minusWeeks(1);
+        LocalDate end = start.plusDays(6);
+
+        TokenBucket rateBudget = new TokenBucket(reportConfig.getPreGenerateRatePerSecond(), 1);
+        Semaphore permits = new Semaphore(Math.max(1, reportConfig.getPreGenerateConcurrency()));
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        long afterUserId = 0L;
+        while (true) {
+            List<Long> userIds = taskRepository.findWeeklyReportTargetUserIds(
+                    start, end, afterUserId, Limit.of(reportConfig.getPreGeneratePageSize()));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (Long userId : userIds) {
+                    executor.submit(() -> {
+                        permits.acquireUninterruptibly();
+                        try {
+                            boolean ok = generate(userId, start, end, rateBudget);
+                            (ok ? completed : failed).incrementAndGet();
+                            reportMetrics.recordPreGeneration(ok);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+            }
+
+            afterUserId = userIds.get(userIds.size() - 1);
+        }
+
+        log.info("Weekly report pre-generation for {} ~ {}: {} completed, {} failed",
+                start, end, completed.get(), failed.get());
+        return completed.get();
+    }
+
+    /**
+     * 사용자 한 명의 리포트 생성 (재시도 포함)
+     *
+     * @return 완료 여부
+     */
+    private boolean generate(Long userId, LocalDate start, LocalDate end, TokenBucket rateBudget) {
+        Long reportId = null;
+        String lastError = null;
+        int maxAttempts = Math.max(1, reportConfig.getPreGenerateMaxAttempts());
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                rateBudget.acquire();
+                if (reportId == null) {
+                    reportId = reportJobService.createReport(userId, ReportPeriodType.WEEKLY, start, end, null);
+                } else {
+                    reportJobService.touch(reportId);
+                }
+
+                ReportJobService.LoadedReport loaded = reportJobService.loadContext(reportId, false).orElse(null);
+                if (loaded == null) {
+                    // 그 사이 삭제되었거나 다른 경로로 처리됨
+                    return false;
+                }
+                return reportJobService.complete(reportId, loaded,
+                        reportJobService.analyze(loaded.context()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                lastError = "interrupted";
+                break;
+            } catch (DataIntegrityViolationException e) {
+                // 사용자가 요청한 같은 주간 리포트가 이미 생성 중 (uk_ai_report_generating)
+                log.info("Weekly report pre-generation skipped, already generating: userId={}", userId);
+                return false;
+            } catch (AiBudgetExceededException e) {
+                // 오늘 예산 소진, 재시도하지 않음 (사용자가 조회할 때 다시 생성)
+                lastError = e.getMessage();
+                log.info("Weekly report pre-generation skipped, AI budget exceeded: userId={}", userId);
+                break;
+            } catch (Exception e) {
+                lastError = e.getMessage();
+                log.warn("Weekly report pre-generation failed: userId={}, attempt={}/{}: {}",
+                        userId, attempt, maxAttempts, e.getMessage());
+                if (attempt < maxAttempts && !sleepBackoff(attempt)) {
+                    break;
+                }
+            }
+        }
+
+        if (reportId != null) {
+            reportJobService.fail(reportId, lastError);
+        }
+        return false;
+    }
+
+    /**
+     * base * 2^(attempt-1)의 절반~전체 구간에서 무작위 대기
+     *
+     * @return 인터럽트 없이 대기했으면 true
+     */
+    private boolean sleepBackoff(int attempt) {
+        long exponential = reportConfig.getPreGenerateBaseBackoff().toMillis() << Math.min(attempt - 1, 10);
+        long half = Math.max(1, exponential / 2);
+        try {
+            TimeUnit.MILLISECONDS.sleep(half + ThreadLocalRandom.current().nextLong(half));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.kanva.service.scheduler;
+
+import com.kanva.domain.scheduler.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DB lease 기반 스케줄 작업 잠금
+ * - 모든 인스턴스의 cron이 동시에 실행되어도 lease를 획득한 한 인스턴스만 작업 수행
+ * - lease는 해제하지 않고 만료로만 풀림 (늦게 실행된 다른 인스턴스의 cron이 같은 슬롯을 다시 실행하지 않도록)
+ * - 계속 맡아야 하는 역할(알림 적재 등)은 holdLease로 주기적으로 연장, 보유 인스턴스가 멈추면 만료 후 다른 인스턴스가 이어받음
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final Clock clock;
+
+    // 같은 JVM에 컨텍스트가 여러 개여도 구분되도록 인스턴스마다 고유값 사용
+    private final String owner;
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository, Clock clock) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.clock = clock;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * lease 획득 시도
+     *
+     * @param name  작업 이름
+     * @param lease 보유 기간 (인스턴스 간 시계 오차보다 충분히 길어야 함)
+     * @return 획득 여부
+     */
+    public boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime lockedUntil = now.plus(lease);
+
+        if (schedulerLockRepository.acquireExpired(name, now, lockedUntil, owner) == 1) {
+            log.info("Scheduler lock acquired: name={}, until={}, owner={}", name, lockedUntil, owner);
+            return true;
+        }
+
+        try {
+            if (schedulerLockRepository.insertIfAbsent(name, now, lockedUntil, owner) == 1) {
+                log.info("Scheduler lock created: name={}, until={}, owner={}", name, lockedUntil, owner);
+                return true;
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 동시에 생성
+        }
+
+        log.info("Scheduler lock held by another instance: name={}", name);
+        return false;
+    }
+
+    /**
+     * 계속 보유하는 lease 연장 또는 획득
+     * - lease보다 자주 호출해야 보유가 유지됨
+     *
+     * @return RENEWED(이미 보유 중), ACQUIRED(새로 획득, 이전 보유자의 작업을 이어받아야 함), HELD_BY_OTHER
+     */
+    public LeaseStatus holdLease(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (schedulerLockRepository.renew(name, now, now.plus(lease), owner) == 1) {
+            return LeaseStatus.RENEWED;
+        }
+        return tryAcquire(name, lease) ? LeaseStatus.ACQUIRED : LeaseStatus.HELD_BY_OTHER;
+    }
+
+    public enum LeaseStatus {
+        RENEWED, ACQUIRED, HELD_BY_OTHER
+    }
+}
@@ -0,0 +1,14 @@
+-- ai_reports 입력 fingerprint 캐시 컬럼 추가
+-- 기간, 톤, 현재/이전 기간 Task와 DailyNote의 (id, updated_at)으로 계산한 SHA-256
+-- 같은 fingerprint의 COMPLETED 리포트가 있으면 AI 호출 없이 재사용
+
+ALTER TABLE ai_reports
+    ADD COLUMN tone VARCHAR(20),
+    ADD COLUMN fingerprint VARCHAR(64),
+    ADD COLUMN fingerprint_date DATE;
+
+CREATE INDEX idx_ai_report_user_fingerprint ON ai_reports (user_id, fingerprint);
+
+COMMENT ON COLUMN ai_reports.tone IS '리포트 톤 (ENCOURAGING, STRICT)';
+COMMENT ON COLUMN ai_reports.fingerprint IS '분석 입력 SHA-256 (리포트 캐시 키)';
+COMMENT ON COLUMN ai_reports.fingerprint_date IS 'fingerprint 계산에 쓴 기한초과 기준일';
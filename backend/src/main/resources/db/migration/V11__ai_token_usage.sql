@@ -0,0 +1,26 @@
+-- AI 토큰 사용량 집계 테이블
+-- Gemini 호출마다 사용자/날짜/기능/모델별 행에 누적 (INSERT ... ON CONFLICT DO UPDATE)
+-- 사용자별 하루 토큰 예산 확인에 사용
+
+CREATE TABLE ai_token_usage (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    usage_date DATE NOT NULL,
+    feature VARCHAR(20) NOT NULL,  -- REPORT, PARSE
+    model VARCHAR(50) NOT NULL,
+    call_count INTEGER NOT NULL DEFAULT 0,
+    prompt_tokens BIGINT NOT NULL DEFAULT 0,
+    cached_tokens BIGINT NOT NULL DEFAULT 0,
+    candidate_tokens BIGINT NOT NULL DEFAULT 0,
+    total_tokens BIGINT NOT NULL DEFAULT 0,
+    total_latency_ms BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_ai_token_usage_user_date_feature_model UNIQUE (user_id, usage_date, feature, model)
+);
+
+COMMENT ON TABLE ai_token_usage IS 'AI 호출 토큰 사용량 (사용자/날짜/기능/모델별 집계)';
+COMMENT ON COLUMN ai_token_usage.usage_date IS '사용 날짜 (Asia/Seoul)';
+COMMENT ON COLUMN ai_token_usage.feature IS '호출 기능 (REPORT: AI 리포트, PARSE: 노트 파싱)';
+COMMENT ON COLUMN ai_token_usage.cached_tokens IS 'Gemini usageMetadata.cachedContentTokenCount 합계 (prompt_tokens에 포함, 컨텍스트 캐시 절감 확인용)';
+COMMENT ON COLUMN ai_token_usage.total_tokens IS 'Gemini usageMetadata.totalTokenCount 합계 (일일 예산 비교 대상)';
+COMMENT ON COLUMN ai_token_usage.total_latency_ms IS '호출 시간 합계 (평균 = total_latency_ms / call_count)';
@@ -0,0 +1,32 @@
+-- 같은 기간/톤의 GENERATING 리포트를 사용자당 한 건으로 제한
+-- 동시 생성 요청이 모두 조회 후 insert 하여 AI 호출이 중복되는 것을 방지
+-- 충돌한 요청은 DataIntegrityViolationException을 받고 먼저 저장된 리포트를 반환
+-- tone이 NULL이면 unique 인덱스에서 서로 충돌하지 않으므로 기본 톤으로 채우고 NOT NULL로 변경
+
+UPDATE ai_reports
+SET tone = 'ENCOURAGING'
+WHERE tone IS NULL;
+
+ALTER TABLE ai_reports
+    ALTER COLUMN tone SET DEFAULT 'ENCOURAGING',
+    ALTER COLUMN tone SET NOT NULL;
+
+-- 기존 중복 GENERATING 리포트는 최신 한 건만 남기고 실패 처리
+UPDATE ai_reports r
+SET status = 'FAILED',
+    error_message = '중복 생성 요청으로 취소되었습니다.',
+    updated_at = NOW()
+WHERE r.status = 'GENERATING'
+  AND EXISTS (SELECT 1
+              FROM ai_reports o
+              WHERE o.status = 'GENERATING'
+                AND o.user_id = r.user_id
+                AND o.period_type = r.period_type
+                AND o.period_start = r.period_start
+                AND o.period_end = r.period_end
+                AND o.tone = r.tone
+                AND o.id > r.id);
+
+CREATE UNIQUE INDEX uk_ai_report_generating
+    ON ai_reports (user_id, period_type, period_start, period_end, tone)
+    WHERE status = 'GENERATING';
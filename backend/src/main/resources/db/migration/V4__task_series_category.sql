@@ -0,0 +1,8 @@
+-- TaskSeries 카테고리 컬럼 추가
+-- 시리즈 수정 시 미래 인스턴스에 제목/설명과 함께 카테고리를 일괄 반영하기 위함
+
+ALTER TABLE task_series
+    ADD COLUMN category VARCHAR(10);
+
+COMMENT ON COLUMN task_series.category IS '인스턴스 카테고리 (WORK, EXERCISE, OTHER / NULL이면 WORK)';
+
@@ -0,0 +1,7 @@
+-- SlackConnection DM 채널 ID 컬럼 추가
+-- 재시작/배포 후에도 conversations.open을 다시 호출하지 않도록 채널 ID를 저장
+
+ALTER TABLE slack_connections
+    ADD COLUMN dm_channel_id VARCHAR(30);
+
+COMMENT ON COLUMN slack_connections.dm_channel_id IS '봇-사용자 DM 채널 ID (channel_not_found 시 NULL로 초기화)';
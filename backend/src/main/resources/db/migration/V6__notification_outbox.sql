@@ -0,0 +1,31 @@
+-- Notification Outbox 테이블
+-- (user, slot, date)당 한 행, 워커가 FOR UPDATE SKIP LOCKED로 선점하여 발송/재시도
+-- 결과 반영은 선점 토큰(claim_token)이 같은 PROCESSING 행에만 적용
+
+CREATE TABLE notification_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    slot VARCHAR(20) NOT NULL,  -- MORNING, EVENING
+    notification_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,  -- PENDING, PROCESSING, SENT, FAILED
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP,
+    claim_token VARCHAR(36),
+    deadline_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_notification_outbox_user_slot_date UNIQUE (user_id, slot, notification_date)
+);
+
+-- 선점 조회 인덱스
+CREATE INDEX idx_notification_outbox_status_next_attempt
+    ON notification_outbox(status, next_attempt_at);
+
+COMMENT ON TABLE notification_outbox IS 'Slack 알림 발송 대기열';
+COMMENT ON COLUMN notification_outbox.status IS '처리 상태 (PENDING, PROCESSING, SENT, FAILED)';
+COMMENT ON COLUMN notification_outbox.next_attempt_at IS '다음 시도 가능 시각 (지수 백오프 + jitter, Retry-After 반영)';
+COMMENT ON COLUMN notification_outbox.locked_until IS '선점 lease 만료 시각 (만료된 PROCESSING 행은 다시 선점 가능)';
+COMMENT ON COLUMN notification_outbox.claim_token IS '마지막 선점 토큰 (결과 반영 시 선점 유지 여부 확인, 다시 선점된 행을 이전 워커가 완료 처리하지 않도록)';
+COMMENT ON COLUMN notification_outbox.deadline_at IS '이 시각 이후에는 발송하지 않음';
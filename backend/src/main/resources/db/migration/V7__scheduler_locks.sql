@@ -0,0 +1,13 @@
+-- Scheduler Lock 테이블
+-- 여러 인스턴스 중 lease를 획득한 한 곳만 스케줄 작업(알림 슬롯 발송)을 실행
+
+CREATE TABLE scheduler_locks (
+    name VARCHAR(100) PRIMARY KEY,
+    locked_until TIMESTAMP NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+);
+
+COMMENT ON TABLE scheduler_locks IS '스케줄 작업 lease';
+COMMENT ON COLUMN scheduler_locks.locked_until IS 'lease 만료 시각 (이후 다른 인스턴스가 획득 가능)';
+COMMENT ON COLUMN scheduler_locks.locked_by IS 'lease 보유 인스턴스';
@@ -0,0 +1,13 @@
+-- SlackConnection 알림 선호 시각/시간대 컬럼 추가
+-- 08:00 / 17:00 일괄 발송 대신 사용자별 현지 시각에 분산 발송
+
+ALTER TABLE slack_connections
+    ADD COLUMN morning_time TIME,
+    ADD COLUMN evening_time TIME,
+    ADD COLUMN time_zone VARCHAR(50),
+    ADD COLUMN jitter_minutes INTEGER;
+
+COMMENT ON COLUMN slack_connections.morning_time IS '오늘 할 일 알림 현지 시각 (NULL이면 08:00)';
+COMMENT ON COLUMN slack_connections.evening_time IS '미완료 리마인더 현지 시각 (NULL이면 17:00)';
+COMMENT ON COLUMN slack_connections.time_zone IS '알림 시간대 IANA ID (NULL이면 Asia/Seoul)';
+COMMENT ON COLUMN slack_connections.jitter_minutes IS '선호 시각 이후 분산 발송 범위(분) (NULL이면 0)';
@@ -0,0 +1,16 @@
+-- notification_outbox 사전 예약 컬럼 추가
+-- 야간에 다음 MORNING 메시지를 chat.scheduleMessage로 미리 예약 (notification.pre-schedule-enabled)
+-- status에 SCHEDULED 추가 (Slack에 예약 완료, Task 변경 시 PENDING으로 돌려 delete + schedule)
+-- 처리 중(PROCESSING)인 행에 변경이 들어오면 reschedule_requested로 표시해 두고, 결과 반영 시 다시 PENDING으로 돌림
+
+ALTER TABLE notification_outbox
+    ADD COLUMN post_at TIMESTAMP,
+    ADD COLUMN scheduled_message_id VARCHAR(50),
+    ADD COLUMN scheduled_channel_id VARCHAR(30),
+    ADD COLUMN reschedule_requested BOOLEAN NOT NULL DEFAULT FALSE;
+
+COMMENT ON COLUMN notification_outbox.post_at IS '사전 예약 게시 시각 (NULL이면 즉시 발송)';
+COMMENT ON COLUMN notification_outbox.scheduled_message_id IS 'chat.scheduleMessage 예약 메시지 ID';
+COMMENT ON COLUMN notification_outbox.scheduled_channel_id IS '예약 메시지 DM 채널 ID';
+COMMENT ON COLUMN notification_outbox.reschedule_requested IS '처리 중 재예약 요청 여부 (결과 반영 후 다시 예약)';
+COMMENT ON COLUMN notification_outbox.status IS '처리 상태 (PENDING, PROCESSING, SCHEDULED, SENT, FAILED)';
@@ -0,0 +1,109 @@
+package com.kanva.common.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * CLOSED → OPEN → HALF_OPEN → CLOSED/OPEN 상태 전이
+ * - OPEN 유지 시간은 System.nanoTime 기준이므로 OPEN 확인은 긴 시간, HALF_OPEN 전이는 0 또는 짧은 시간으로 확인
+ */
+class CircuitBreakerTest {
+
+    private static final Duration LONG_OPEN = Duration.ofHours(1);
+
+    @Test
+    void staysClosedUntilMinimumCalls() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 50, LONG_OPEN, 2);
+
+        fail(breaker, 3);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 50, LONG_OPEN, 2);
+
+        succeed(breaker, 2);
+        fail(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // 4번 중 2번 실패 = 50%
+        fail(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.isCallPermitted()).isFalse();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void evictsOldestOutcomeFromWindow() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 75, LONG_OPEN, 2);
+
+        succeed(breaker, 2);
+        fail(breaker, 2);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // 창 크기 4: 가장 오래된 성공이 빠져 실패 3/4 = 75% (전체 5번 기준이면 60%)
+        fail(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void halfOpenAllowsLimitedTrialCallsAndClosesOnSuccess() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 1, 50, Duration.ZERO, 2);
+        fail(breaker, 1);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.isCallPermitted()).isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void halfOpenReopensOnFailure() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(10, 1, 50, Duration.ofMillis(500), 2);
+        fail(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(600);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onFailure();
+
+        // 시험 호출이 하나라도 실패하면 openDuration 동안 다시 차단
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CircuitBreaker(0, 1, 50, LONG_OPEN, 1));
+    }
+
+    private static void fail(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.tryAcquirePermission();
+            breaker.onFailure();
+        }
+    }
+
+    private static void succeed(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.tryAcquirePermission();
+            breaker.onSuccess();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.kanva.common.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분/시 휠 배치, 정시 cascade, 지난 시각 항목, 24시간 범위 확인
+ */
+class HierarchicalTimingWheelTest {
+
+    // 정시 기준 (시 휠 cascade 시점을 계산하기 쉽게)
+    private static final Instant START = Instant.parse("2026-10-19T00:00:00Z");
+
+    @Test
+    void expiresItemsInTheirMinute() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(START);
+        wheel.add(START.plus(Duration.ofMinutes(5)).plusSeconds(30), "five");
+        wheel.add(START.plus(Duration.ofMinutes(10)), "ten");
+
+        assertThat(wheel.advanceTo(START.plus(Duration.ofMinutes(4)))).isEmpty();
+        assertThat(wheel.advanceTo(START.plus(Duration.ofMinutes(5)))).containsExactly("five");
+        assertThat(wheel.advanceTo(START.plus(Duration.ofMinutes(20)))).containsExactly("ten");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cascadesHourSlotIntoMinuteWheel() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(START);
+        Instant due = START.plus(Duration.ofHours(3)).plus(Duration.ofMinutes(15));
+        assertThat(wheel.add(due, "later")).isTrue();
+
+        // 정시에 분 휠로 내려오지만 15분이 되기 전에는 꺼내지 않음
+        assertThat(wheel.advanceTo(START.plus(Duration.ofHours(3)))).isEmpty();
+        assertThat(wheel.advanceTo(due.minus(Duration.ofMinutes(1)))).isEmpty();
+        assertThat(wheel.advanceTo(due)).containsExactly("later");
+    }
+
+    @Test
+    void cascadesWhenAdvancingPastSeveralHoursAtOnce() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(START);
+        wheel.add(START.plus(Duration.ofHours(2)).plus(Duration.ofMinutes(30)), "a");
+        wheel.add(START.plus(Duration.ofHours(5)), "b");
+
+        assertThat(wheel.advanceTo(START.plus(Duration.ofHours(6)))).containsExactly("a", "b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void returnsOverdueItemsOnNextAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(START.plus(Duration.ofMinutes(30)));
+        assertThat(wheel.add(START, "overdue")).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        assertThat(wheel.advanceTo(START.plus(Duration.ofMinutes(30)))).containsExactly("overdue");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void rejectsItemsBeyondTwentyFourHours() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(START);
+
+        assertThat(wheel.add(START.plus(Duration.ofHours(23)).plus(Duration.ofMinutes(59)), "last")).isTrue();
+        assertThat(wheel.add(START.plus(Duration.ofHours(24)), "tooFar")).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+}
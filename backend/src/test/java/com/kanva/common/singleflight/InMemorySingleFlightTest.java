@@ -0,0 +1,147 @@
+package com.kanva.common.singleflight;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 키 동시 호출 합치기, leader 예외 전달, 대기 시간 초과 시 직접 호출
+ * - follower가 leader를 기다리기 시작한 시점은 follower 지표로 확인
+ */
+class InMemorySingleFlightTest {
+
+    private static final TypeReference<String> STRING = new TypeReference<>() {
+    };
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void followerSharesLeaderResult() throws Exception {
+        InMemorySingleFlight singleFlight = new InMemorySingleFlight(registry, Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> call = () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "result";
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("test", "key", STRING, call));
+            awaitCount("leader", 1);
+            Future<String> follower = executor.submit(() -> singleFlight.execute("test", "key", STRING, call));
+            awaitCount("follower", 1);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void followerReceivesLeaderException() throws Exception {
+        InMemorySingleFlight singleFlight = new InMemorySingleFlight(registry, Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("leader failed");
+        Supplier<String> call = () -> {
+            await(release);
+            throw failure;
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("test", "key", STRING, call));
+            awaitCount("leader", 1);
+            Future<String> follower = executor.submit(() -> singleFlight.execute("test", "key", STRING, call));
+            awaitCount("follower", 1);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isSameAs(failure);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isSameAs(failure);
+        }
+    }
+
+    @Test
+    void followerCallsDirectlyAfterWaitTimeout() throws Exception {
+        InMemorySingleFlight singleFlight = new InMemorySingleFlight(registry, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("test", "key", STRING, () -> {
+                calls.incrementAndGet();
+                await(release);
+                return "leader";
+            }));
+            awaitCount("leader", 1);
+
+            String direct = singleFlight.execute("test", "key", STRING, () -> {
+                calls.incrementAndGet();
+                return "direct";
+            });
+            release.countDown();
+
+            assertThat(direct).isEqualTo("direct");
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+        }
+        assertThat(calls).hasValue(2);
+        assertThat(count("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void callsAgainAfterFlightEnds() {
+        InMemorySingleFlight singleFlight = new InMemorySingleFlight(registry, Duration.ofSeconds(10));
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("test", "key", STRING, () -> "first" + calls.incrementAndGet());
+        String second = singleFlight.execute("test", "key", STRING, () -> "second" + calls.incrementAndGet());
+
+        // 결과 캐시가 아니므로 끝난 호출의 결과를 재사용하지 않음
+        assertThat(second).isEqualTo("second2");
+        assertThat(count("leader")).isEqualTo(2);
+    }
+
+    private void awaitCount(String role, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(role) < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("single-flight " + role + " count did not reach " + expected);
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private double count(String role) {
+        Counter counter = registry.find("single_flight.calls").tag("role", role).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch not released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.kanva.service.gemini;
+
+import com.kanva.config.ClockConfig;
+import com.kanva.config.GeminiConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 캐시 생성/재사용과 인라인 전송 대체
+ * - 최소 토큰 수 미만은 생성하지 않고 기억, 생성 실패는 contextCacheRetryAfter 동안 인라인, 거절은 이번 요청만 인라인
+ * - HTTP 호출은 RestTemplate mock, 시간은 테스트 시계로 진행
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+class GeminiContextCacheTest {
+
+    private static final SystemInstruction INSTRUCTION = new SystemInstruction("report", "지시문");
+    private static final String COUNT_TOKENS = ":countTokens";
+    private static final String CREATE = "/cachedContents?";
+    private static final GeminiContextCache.CallGuard DIRECT = (method, call) -> call.get();
+    private static final GeminiContextCache.CallGuard REJECTING = (method, call) -> {
+        throw new GeminiUnavailableException("Too many concurrent Gemini calls");
+    };
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-19T00:00:00Z"), ClockConfig.SEOUL_ZONE);
+    private RestTemplate restTemplate;
+    private GeminiConfig geminiConfig;
+    private GeminiContextCache contextCache;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        geminiConfig = new GeminiConfig();
+        contextCache = new GeminiContextCache(restTemplate, geminiConfig, mock(GeminiMetrics.class), clock);
+    }
+
+    @Test
+    void createsCacheOnceAndReusesIt() {
+        stubCountTokens(2048);
+        stubCreate("cachedContents/report-1");
+
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isEqualTo("cachedContents/report-1");
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isEqualTo("cachedContents/report-1");
+
+        verify(restTemplate, times(1)).exchange(contains(CREATE), eq(HttpMethod.POST), any(HttpEntity.class),
+                eq(Map.class));
+    }
+
+    @Test
+    void sendsInlineBelowMinimumTokensAndRemembersIt() {
+        stubCountTokens(geminiConfig.getContextCacheMinTokens() - 1);
+
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isNull();
+        clock.advance(geminiConfig.getContextCacheRetryAfter().plusMinutes(1));
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isNull();
+
+        // 같은 모델/지시문은 다시 세거나 생성하지 않음
+        verify(restTemplate, times(1)).exchange(contains(COUNT_TOKENS), eq(HttpMethod.POST), any(HttpEntity.class),
+                eq(Map.class));
+        verify(restTemplate, never()).exchange(contains(CREATE), eq(HttpMethod.POST), any(HttpEntity.class),
+                eq(Map.class));
+    }
+
+    @Test
+    void remembersTooSmallWhenCreateRejectsIt() {
+        when(restTemplate.exchange(contains(COUNT_TOKENS), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenThrow(new ResourceAccessException("countTokens timed out"));
+        when(restTemplate.exchange(contains(CREATE), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", HttpHeaders.EMPTY,
+                        "{\"error\":{\"message\":\"Cached content is too small. total_token_count=12, min_total_token_count=1024\"}}"
+                                .getBytes(StandardCharsets.UTF_8),
+                        StandardCharsets.UTF_8));
+
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isNull();
+        clock.advance(geminiConfig.getContextCacheRetryAfter().plusMinutes(1));
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isNull();
+
+        verify(restTemplate, times(1)).exchange(contains(CREATE), eq(HttpMethod.POST), any(HttpEntity.class),
+                eq(Map.class));
+    }
+
+    @Test
+    void sendsInlineUntilRetryAfterWhenCreateFails() {
+        stubCountTokens(2048);
+        when(restTemplate.exchange(contains(CREATE), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenThrow(new ResourceAccessException("create timed out"))
+                .thenReturn(created("cachedContents/report-2"));
+
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isNull();
+        clock.advance(geminiConfig.getContextCacheRetryAfter().minusMinutes(1));
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isNull();
+
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isEqualTo("cachedContents/report-2");
+        verify(restTemplate, times(2)).exchange(contains(CREATE), eq(HttpMethod.POST), any(HttpEntity.class),
+                eq(Map.class));
+    }
+
+    @Test
+    void sendsOnlyThisRequestInlineWhenGuardRejects() {
+        stubCountTokens(2048);
+        stubCreate("cachedContents/report-3");
+
+        assertThat(contextCache.resolve(INSTRUCTION, REJECTING)).isNull();
+        // 거절은 실패로 기록하지 않으므로 다음 요청에서 바로 생성
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isEqualTo("cachedContents/report-3");
+    }
+
+    @Test
+    void recreatesAfterInvalidate() {
+        stubCountTokens(2048);
+        when(restTemplate.exchange(contains(CREATE), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(created("cachedContents/report-4"), created("cachedContents/report-5"));
+
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isEqualTo("cachedContents/report-4");
+        contextCache.invalidate(INSTRUCTION, "cachedContents/report-4");
+
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isEqualTo("cachedContents/report-5");
+    }
+
+    @Test
+    void sendsInlineWhenDisabled() {
+        geminiConfig.setContextCacheEnabled(false);
+
+        assertThat(contextCache.resolve(INSTRUCTION, DIRECT)).isNull();
+        verify(restTemplate, never()).exchange(any(String.class), any(HttpMethod.class), any(HttpEntity.class),
+                eq(Map.class));
+    }
+
+    private void stubCountTokens(int totalTokens) {
+        when(restTemplate.exchange(contains(COUNT_TOKENS), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(new ResponseEntity<Map>(Map.of("totalTokens", totalTokens), HttpStatus.OK));
+    }
+
+    private void stubCreate(String cacheName) {
+        when(restTemplate.exchange(contains(CREATE), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(created(cacheName));
+    }
+
+    private ResponseEntity<Map> created(String cacheName) {
+        Instant expireTime = clock.instant().plus(geminiConfig.getContextCacheTtl());
+        return new ResponseEntity<>(Map.of("name", cacheName, "expireTime", expireTime.toString()), HttpStatus.OK);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+        private final ZoneId zone;
+
+        private MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.kanva.service.gemini;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조각 경계가 어디에 오든 (이스케이프, 유니코드 이스케이프, 서로게이트 쌍 중간 포함) 같은 필드 값으로 조립되는지 확인
+ */
+class StreamingJsonFieldParserTest {
+
+    private static final String JSON = "{\"summary\":\"이번 주는 \\\"알찬\\\"\\n한 주 😀\", \"count\": 12, "
+            + "\"meta\":{\"k\":\"v\",\"arr\":[1,\"}\"]}, "
+            + "\"insights\":\"caf\\u00e9 \\uD83D\\uDE00 tab\\t\", \"k\\\"ey\":\"escaped key\"} trailing";
+
+    private static final Map<String, String> EXPECTED = Map.of(
+            "summary", "이번 주는 \"알찬\"\n한 주 😀",
+            "insights", "café 😀 tab\t",
+            "k\"ey", "escaped key");
+
+    @Test
+    void decodesStringFieldsInOneChunk() {
+        Collector collector = new Collector();
+        new StreamingJsonFieldParser(collector).feed(JSON);
+
+        assertThat(collector.values()).containsExactlyInAnyOrderEntriesOf(EXPECTED);
+        // 조각 하나면 필드당 한 번에 전달
+        assertThat(collector.fragments).hasSize(3);
+    }
+
+    @Test
+    void assemblesSameValuesForEverySplitPoint() {
+        for (int split = 0; split <= JSON.length(); split++) {
+            Collector collector = new Collector();
+            StreamingJsonFieldParser parser = new StreamingJsonFieldParser(collector);
+            parser.feed(JSON.substring(0, split));
+            parser.feed(JSON.substring(split));
+
+            assertThat(collector.values()).as("split at %d", split).containsExactlyInAnyOrderEntriesOf(EXPECTED);
+            collector.assertNoBrokenSurrogates();
+        }
+    }
+
+    @Test
+    void assemblesSameValuesCharByChar() {
+        Collector collector = new Collector();
+        StreamingJsonFieldParser parser = new StreamingJsonFieldParser(collector);
+        for (int i = 0; i < JSON.length(); i++) {
+            parser.feed(JSON.substring(i, i + 1));
+        }
+
+        assertThat(collector.values()).containsExactlyInAnyOrderEntriesOf(EXPECTED);
+        collector.assertNoBrokenSurrogates();
+    }
+
+    @Test
+    void skipsNonStringValuesAndNestedStrings() {
+        Collector collector = new Collector();
+        new StreamingJsonFieldParser(collector)
+                .feed("{\"count\":3,\"nested\":{\"a\":\"x\"},\"list\":[\"y\",{\"b\":\"z\"}],\"flag\":true,"
+                        + "\"summary\":\"ok\"}{\"after\":\"ignored\"}");
+
+        assertThat(collector.values()).containsExactlyEntriesOf(Map.of("summary", "ok"));
+    }
+
+    private static final class Collector implements StreamingJsonFieldParser.FieldListener {
+
+        private final List<String[]> fragments = new ArrayList<>();
+
+        @Override
+        public void onFragment(String field, String fragment) {
+            fragments.add(new String[]{field, fragment});
+        }
+
+        private Map<String, String> values() {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (String[] fragment : fragments) {
+                values.merge(fragment[0], fragment[1], String::concat);
+            }
+            return values;
+        }
+
+        // 상위/하위 서로게이트가 서로 다른 조각으로 나뉘어 전달되지 않음
+        private void assertNoBrokenSurrogates() {
+            for (String[] fragment : fragments) {
+                String text = fragment[1];
+                assertThat(Character.isHighSurrogate(text.charAt(text.length() - 1))).isFalse();
+                assertThat(Character.isLowSurrogate(text.charAt(0))).isFalse();
+            }
+        }
+    }
+}
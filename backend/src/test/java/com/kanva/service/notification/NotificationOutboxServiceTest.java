@@ -0,0 +1,258 @@
+package com.kanva.service.notification;
+
+import com.kanva.config.ClockConfig;
+import com.kanva.config.NotificationConfig;
+import com.kanva.domain.notification.NotificationOutbox;
+import com.kanva.domain.notification.NotificationOutboxRepository;
+import com.kanva.domain.notification.NotificationSlot;
+import com.kanva.domain.notification.OutboxStatus;
+import com.kanva.dto.notification.SlackSendResult;
+import com.kanva.dto.notification.SlackTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 발송 결과 반영 (재시도 대기 시간 범위, 선점을 잃은 행), 알림 설정 변경 시 사전 예약 재계산
+ * - 저장소는 mock, 시계는 고정 (Spring 컨텍스트 없음)
+ */
+class NotificationOutboxServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-19T00:00:00Z"), ClockConfig.SEOUL_ZONE);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    private static final String TOKEN = "claim-token";
+    // jitter가 무작위이므로 여러 번 반복해 범위 확인
+    private static final int REPEAT = 200;
+
+    private NotificationOutboxRepository outboxRepository;
+    private NotificationConfig notificationConfig;
+    private NotificationOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(NotificationOutboxRepository.class);
+        notificationConfig = new NotificationConfig();
+        outboxService = new NotificationOutboxService(
+                outboxRepository, mock(JdbcTemplate.class), notificationConfig, CLOCK);
+    }
+
+    @Test
+    void firstRetryWaitsHalfToFullBaseBackoff() {
+        // base 5초: 첫 재시도는 2.5초 이상 5초 미만
+        for (int i = 0; i < REPEAT; i++) {
+            NotificationOutbox row = completeWith(processingRow(1L, 0, NOW.plusHours(1)),
+                    SlackSendResult.fail("error", 0, true));
+
+            assertThat(row.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(row.getAttempts()).isEqualTo(1);
+            assertThat(row.getNextAttemptAt())
+                    .isAfterOrEqualTo(NOW.plus(Duration.ofMillis(2500)))
+                    .isBefore(NOW.plusSeconds(5));
+        }
+    }
+
+    @Test
+    void backoffDoublesPerAttempt() {
+        // 4번째 시도: 5초 * 2^3 = 40초의 절반~전체
+        for (int i = 0; i < REPEAT; i++) {
+            NotificationOutbox row = completeWith(processingRow(1L, 3, NOW.plusHours(1)),
+                    SlackSendResult.fail("error", 0, true));
+
+            assertThat(row.getNextAttemptAt())
+                    .isAfterOrEqualTo(NOW.plusSeconds(20))
+                    .isBefore(NOW.plusSeconds(40));
+        }
+    }
+
+    @Test
+    void backoffIsCappedAtMaxBackoff() {
+        notificationConfig.setOutboxMaxAttempts(20);
+        for (int i = 0; i < REPEAT; i++) {
+            NotificationOutbox row = completeWith(processingRow(1L, 15, NOW.plusHours(1)),
+                    SlackSendResult.fail("error", 0, true));
+
+            assertThat(row.getNextAttemptAt())
+                    .isAfterOrEqualTo(NOW.plus(notificationConfig.getOutboxMaxBackoff().dividedBy(2)))
+                    .isBefore(NOW.plus(notificationConfig.getOutboxMaxBackoff()));
+        }
+    }
+
+    @Test
+    void retryAfterTakesPrecedenceWithUpToOneSecondJitter() {
+        for (int i = 0; i < REPEAT; i++) {
+            NotificationOutbox row = completeWith(processingRow(1L, 0, NOW.plusHours(1)),
+                    SlackSendResult.rateLimited("ratelimited", Duration.ofSeconds(30)));
+
+            assertThat(row.getNextAttemptAt())
+                    .isAfterOrEqualTo(NOW.plusSeconds(30))
+                    .isBefore(NOW.plusSeconds(31));
+        }
+    }
+
+    @Test
+    void failsWhenRetryWouldPassDeadline() {
+        NotificationOutbox row = completeWith(processingRow(1L, 0, NOW.plusSeconds(1)),
+                SlackSendResult.fail("error", 0, true));
+
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.FAILED);
+    }
+
+    @Test
+    void failsWhenAttemptsAreExhausted() {
+        NotificationOutbox row = completeWith(
+                processingRow(1L, notificationConfig.getOutboxMaxAttempts() - 1, NOW.plusHours(1)),
+                SlackSendResult.fail("error", 0, true));
+
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.FAILED);
+    }
+
+    @Test
+    void ignoresResultsForRowsReclaimedByAnotherWorker() {
+        NotificationOutbox kept = processingRow(1L, 0, NOW.plusHours(1));
+        NotificationOutbox lost = processingRow(2L, 0, NOW.plusHours(1));
+        // 토큰이 같은 PROCESSING 행만 조회됨: 2번 행은 lease 만료 후 다른 워커가 다시 선점
+        when(outboxRepository.findClaimedForUpdate(anyCollection(), eq(TOKEN))).thenReturn(List.of(kept));
+
+        NotificationOutboxService.Completion completion = outboxService.complete(
+                List.of(claim(kept), claim(lost)),
+                Map.of(1L, SlackSendResult.success(), 2L, SlackSendResult.fail("error", 0, false)));
+
+        assertThat(completion.lostIds()).containsExactly(2L);
+        assertThat(completion.failedIds()).isEmpty();
+        assertThat(kept.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(lost.getStatus()).isEqualTo(OutboxStatus.PROCESSING);
+        assertThat(lost.getAttempts()).isZero();
+    }
+
+    @Test
+    void movesPreScheduledRowToNewPostAt() {
+        LocalDate tomorrow = NOW.toLocalDate().plusDays(1);
+        NotificationOutbox row = scheduledRow(1L, OutboxStatus.SCHEDULED, tomorrow.atTime(8, 0));
+        stubPreScheduled(row);
+
+        int requested = outboxService.reschedulePreScheduled(target(LocalTime.of(7, 30)));
+
+        assertThat(requested).isEqualTo(1);
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(row.getPostAt()).isEqualTo(tomorrow.atTime(7, 30));
+        assertThat(row.getDeadlineAt()).isEqualTo(tomorrow.atTime(7, 30).plus(notificationConfig.getSlotDeadline()));
+        // 다음 outbox 처리에서 기존 예약 삭제 후 새 시각으로 예약
+        assertThat(row.getNextAttemptAt()).isEqualTo(NOW);
+        assertThat(row.getScheduledMessageId()).isEqualTo("Q1");
+    }
+
+    @Test
+    void leavesRowsWithUnchangedPostAt() {
+        LocalDateTime postAt = NOW.toLocalDate().plusDays(1).atTime(8, 0);
+        NotificationOutbox row = scheduledRow(1L, OutboxStatus.SCHEDULED, postAt);
+        stubPreScheduled(row);
+
+        assertThat(outboxService.reschedulePreScheduled(target(LocalTime.of(8, 0)))).isZero();
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.SCHEDULED);
+        assertThat(row.getPostAt()).isEqualTo(postAt);
+    }
+
+    @Test
+    void releasesPreScheduleWhenNewTimeIsWithinMinLead() {
+        // 새 시각이 preScheduleMinLead(5분) 안이면 예약 대신 그 시각에 즉시 발송
+        NotificationOutbox row = scheduledRow(1L, OutboxStatus.SCHEDULED, NOW.plusMinutes(30));
+        stubPreScheduled(row);
+
+        outboxService.reschedulePreScheduled(target(NOW.toLocalTime().plusMinutes(3)));
+
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(row.getPostAt()).isNull();
+        assertThat(row.getNextAttemptAt()).isEqualTo(NOW.plusMinutes(3));
+    }
+
+    @Test
+    void reschedulesProcessingRowAfterItsResultIsApplied() {
+        LocalDate tomorrow = NOW.toLocalDate().plusDays(1);
+        NotificationOutbox row = scheduledRow(1L, OutboxStatus.PROCESSING, tomorrow.atTime(8, 0));
+        stubPreScheduled(row);
+
+        outboxService.reschedulePreScheduled(target(LocalTime.of(7, 30)));
+
+        // 처리 중에는 표시만 하고 상태는 유지
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.PROCESSING);
+        assertThat(row.isRescheduleRequested()).isTrue();
+
+        // 이전 시각으로 예약된 결과가 반영되면 다시 PENDING으로 돌려 새 시각으로 재예약
+        completeWith(row, SlackSendResult.scheduled("D1", "Q2"));
+        assertThat(row.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(row.isRescheduleRequested()).isFalse();
+        assertThat(row.getScheduledMessageId()).isEqualTo("Q2");
+        assertThat(row.getPostAt()).isEqualTo(tomorrow.atTime(7, 30));
+    }
+
+    private void stubPreScheduled(NotificationOutbox row) {
+        when(outboxRepository.findPreScheduledForUpdate(1L, NOW.plus(notificationConfig.getPreScheduleMinLead())))
+                .thenReturn(List.of(row));
+    }
+
+    private static SlackTarget target(LocalTime morningTime) {
+        return SlackTarget.builder()
+                .userId(1L)
+                .morningTime(morningTime)
+                .eveningTime(LocalTime.of(21, 0))
+                .zoneId(ClockConfig.SEOUL_ZONE)
+                .jitterMinutes(0)
+                .build();
+    }
+
+    private static NotificationOutbox scheduledRow(Long id, OutboxStatus status, LocalDateTime postAt) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .slot(NotificationSlot.MORNING)
+                .notificationDate(postAt.toLocalDate())
+                .status(status)
+                .nextAttemptAt(NOW)
+                .claimToken(TOKEN)
+                .deadlineAt(postAt.plus(Duration.ofMinutes(10)))
+                .postAt(postAt)
+                .scheduledMessageId("Q1")
+                .scheduledChannelId("D1")
+                .build();
+    }
+
+    private NotificationOutbox completeWith(NotificationOutbox row, SlackSendResult result) {
+        when(outboxRepository.findClaimedForUpdate(anyCollection(), eq(TOKEN))).thenReturn(List.of(row));
+        outboxService.complete(List.of(claim(row)), Map.of(row.getId(), result));
+        return row;
+    }
+
+    private static NotificationOutbox processingRow(Long id, int attempts, LocalDateTime deadlineAt) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .slot(NotificationSlot.MORNING)
+                .notificationDate(LocalDate.now(CLOCK))
+                .status(OutboxStatus.PROCESSING)
+                .attempts(attempts)
+                .nextAttemptAt(NOW)
+                .lockedUntil(NOW.plusMinutes(2))
+                .claimToken(TOKEN)
+                .deadlineAt(deadlineAt)
+                .build();
+    }
+
+    private static NotificationOutboxService.Claim claim(NotificationOutbox row) {
+        return new NotificationOutboxService.Claim(row.getId(), TOKEN, 1L, row.getSlot(), row.getNotificationDate(),
+                row.getAttempts(), row.getDeadlineAt(), row.getPostAt(), row.getScheduledMessageId(),
+                row.getScheduledChannelId());
+    }
+}
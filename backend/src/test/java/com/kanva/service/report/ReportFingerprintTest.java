@@ -0,0 +1,81 @@
+package com.kanva.service.report;
+
+import com.kanva.domain.EntityVersion;
+import com.kanva.domain.report.ReportPeriodType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 입력이면 조회 순서와 무관하게 같은 값, 입력이 하나라도 바뀌면 다른 값
+ */
+class ReportFingerprintTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 10, 12);
+    private static final LocalDate END = START.plusDays(6);
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 10, 18, 21, 0);
+
+    private static final EntityVersion TASK_1 = new EntityVersion(1L, UPDATED_AT);
+    private static final EntityVersion TASK_2 = new EntityVersion(2L, UPDATED_AT.plusMinutes(5));
+    private static final EntityVersion NOTE = new EntityVersion(10L, UPDATED_AT);
+
+    @Test
+    void isSha256Hex() {
+        assertThat(weekly("ENCOURAGING", TODAY, List.of(TASK_1, TASK_2), List.of(NOTE)))
+                .hasSize(64)
+                .matches("[0-9a-f]+");
+    }
+
+    @Test
+    void isStableAcrossCallsAndQueryOrder() {
+        String fingerprint = weekly("ENCOURAGING", TODAY, List.of(TASK_1, TASK_2), List.of(NOTE));
+
+        assertThat(weekly("ENCOURAGING", TODAY, List.of(TASK_1, TASK_2), List.of(NOTE))).isEqualTo(fingerprint);
+        assertThat(weekly("ENCOURAGING", TODAY, List.of(TASK_2, TASK_1), List.of(NOTE))).isEqualTo(fingerprint);
+    }
+
+    @Test
+    void changesWhenAnyInputChanges() {
+        String fingerprint = weekly("ENCOURAGING", TODAY, List.of(TASK_1, TASK_2), List.of(NOTE));
+        EntityVersion editedTask = new EntityVersion(2L, UPDATED_AT.plusMinutes(6));
+
+        assertThat(weekly("ENCOURAGING", TODAY, List.of(TASK_1, editedTask), List.of(NOTE)))
+                .isNotEqualTo(fingerprint);
+        assertThat(weekly("ENCOURAGING", TODAY, List.of(TASK_1), List.of(NOTE))).isNotEqualTo(fingerprint);
+        assertThat(weekly("STRICT", TODAY, List.of(TASK_1, TASK_2), List.of(NOTE))).isNotEqualTo(fingerprint);
+        // 기한초과 기준일이 바뀌면 통계가 달라질 수 있음
+        assertThat(weekly("ENCOURAGING", TODAY.plusDays(1), List.of(TASK_1, TASK_2), List.of(NOTE)))
+                .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void distinguishesSections() {
+        // 같은 버전이라도 Task인지 DailyNote인지에 따라 다른 값
+        String asTask = weekly("ENCOURAGING", TODAY, List.of(NOTE), List.of());
+        String asNote = weekly("ENCOURAGING", TODAY, List.of(), List.of(NOTE));
+
+        assertThat(asTask).isNotEqualTo(asNote);
+    }
+
+    @Test
+    void includesPreviousReportCompletionRate() {
+        String withoutRate = ReportFingerprint.of(ReportPeriodType.WEEKLY, START, END, "ENCOURAGING", TODAY, null,
+                List.of(TASK_1), List.of(), List.of(), List.of());
+        String withRate = ReportFingerprint.of(ReportPeriodType.WEEKLY, START, END, "ENCOURAGING", TODAY, 80,
+                List.of(TASK_1), List.of(), List.of(), List.of());
+
+        assertThat(withRate).isNotEqualTo(withoutRate);
+    }
+
+    private static String weekly(String tone, LocalDate today, Collection<EntityVersion> tasks,
+                                 Collection<EntityVersion> notes) {
+        return ReportFingerprint.of(ReportPeriodType.WEEKLY, START, END, tone, today, null,
+                tasks, List.of(), notes, List.of());
+    }
+}
@@ -0,0 +1,160 @@
+package com.kanva.service.report;
+
+import com.kanva.domain.task.TaskCategory;
+import com.kanva.domain.task.TaskStatisticsView;
+import com.kanva.domain.task.TaskStatus;
+import com.kanva.domain.task.TaskType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB 집계 행을 한 번 순회해 계산한 전체/상태별/카테고리별/유형별/일자별/주차별 수
+ */
+class ReportStatisticsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 12);
+
+    private static final List<Row> ROWS = List.of(
+            new Row(MONDAY, TaskCategory.WORK, TaskType.WORK, TaskStatus.COMPLETED, false, 2, 0),
+            new Row(MONDAY, TaskCategory.EXERCISE, TaskType.SCHEDULE, TaskStatus.PENDING, true, 1, 1),
+            new Row(MONDAY.plusDays(2), TaskCategory.WORK, TaskType.WORK, TaskStatus.IN_PROGRESS, false, 3, 0),
+            new Row(TODAY, TaskCategory.OTHER, TaskType.WORK, TaskStatus.COMPLETED, true, 1, 0));
+
+    @Test
+    void countsTotalsByStatusInOnePass() {
+        ReportStatistics statistics = ReportStatistics.of(ROWS, TODAY);
+
+        assertThat(statistics.getTotalTasks()).isEqualTo(7);
+        assertThat(statistics.getCompletedTasks()).isEqualTo(3);
+        assertThat(statistics.getInProgressTasks()).isEqualTo(3);
+        assertThat(statistics.getPendingTasks()).isEqualTo(1);
+        assertThat(statistics.getOverdueTasks()).isEqualTo(1);
+        assertThat(statistics.getCompletionRate()).isEqualTo(43);
+    }
+
+    @Test
+    void countsSeriesCategoriesAndTypes() {
+        ReportStatistics statistics = ReportStatistics.of(ROWS, TODAY);
+
+        assertThat(statistics.getSeriesTasks()).isEqualTo(2);
+        assertThat(statistics.getCompletedSeriesTasks()).isEqualTo(1);
+        assertThat(statistics.getOneOffTasks()).isEqualTo(5);
+        assertThat(statistics.getCompletedOneOffTasks()).isEqualTo(2);
+
+        assertThat(statistics.categoryTotal(TaskCategory.WORK)).isEqualTo(5);
+        assertThat(statistics.categoryCompleted(TaskCategory.WORK)).isEqualTo(2);
+        assertThat(statistics.categoryTotal(TaskCategory.EXERCISE)).isEqualTo(1);
+        assertThat(statistics.categoryCompleted(TaskCategory.OTHER)).isEqualTo(1);
+
+        assertThat(statistics.typeTotal(TaskType.WORK)).isEqualTo(6);
+        assertThat(statistics.typeCompleted(TaskType.WORK)).isEqualTo(3);
+        assertThat(statistics.typeTotal(TaskType.SCHEDULE)).isEqualTo(1);
+        assertThat(statistics.typeCompleted(TaskType.SCHEDULE)).isZero();
+    }
+
+    @Test
+    void countsPerDayAndRange() {
+        ReportStatistics statistics = ReportStatistics.of(ROWS, TODAY);
+
+        assertThat(statistics.getDates()).containsExactly(MONDAY, MONDAY.plusDays(2), TODAY);
+        assertThat(statistics.dayTotal(MONDAY)).isEqualTo(3);
+        assertThat(statistics.dayCompleted(MONDAY)).isEqualTo(2);
+        assertThat(statistics.hasTasksOn(MONDAY.plusDays(1))).isFalse();
+        // 집계 범위 밖 날짜
+        assertThat(statistics.dayTotal(MONDAY.minusDays(1))).isZero();
+        assertThat(statistics.dayTotal(TODAY.plusDays(1))).isZero();
+
+        assertThat(statistics.totalBetween(MONDAY, MONDAY.plusDays(6))).isEqualTo(6);
+        assertThat(statistics.completedBetween(MONDAY, MONDAY.plusDays(6))).isEqualTo(2);
+        assertThat(statistics.totalBetween(MONDAY.minusDays(30), TODAY.plusDays(30))).isEqualTo(7);
+    }
+
+    @Test
+    void splitsWeeksFromEarliestDate() {
+        List<ReportStatistics.WeekStatistics> weeks = ReportStatistics.of(ROWS, TODAY).getWeeks();
+
+        assertThat(weeks).containsExactly(
+                new ReportStatistics.WeekStatistics(1, MONDAY, MONDAY.plusDays(6), 6, 2),
+                new ReportStatistics.WeekStatistics(2, TODAY, TODAY, 1, 1));
+    }
+
+    @Test
+    void handlesEmptyInput() {
+        ReportStatistics statistics = ReportStatistics.of(List.<Row>of(), TODAY);
+
+        assertThat(statistics.isEmpty()).isTrue();
+        assertThat(statistics.getCompletionRate()).isZero();
+        assertThat(statistics.getDates()).isEmpty();
+        assertThat(statistics.getWeeks()).isEmpty();
+        assertThat(statistics.totalBetween(MONDAY, TODAY)).isZero();
+    }
+
+    @Test
+    void comparesTrendWithPreviousPeriodOrReport() {
+        ReportStatistics statistics = ReportStatistics.of(ROWS, TODAY);
+        ReportStatistics allCompleted = ReportStatistics.of(List.of(
+                new Row(MONDAY.minusDays(7), TaskCategory.WORK, TaskType.WORK, TaskStatus.COMPLETED, false, 1, 0)),
+                TODAY);
+        ReportStatistics empty = ReportStatistics.of(List.<Row>of(), TODAY);
+
+        assertThat(statistics.trendAgainst(allCompleted, null)).isEqualTo("DOWN");
+        // 이전 기간 Task가 없으면 이전 리포트 완료율과 비교 (±5%p 이내는 STABLE)
+        assertThat(statistics.trendAgainst(empty, 40)).isEqualTo("STABLE");
+        assertThat(statistics.trendAgainst(empty, 30)).isEqualTo("UP");
+        assertThat(statistics.trendAgainst(empty, null)).isEqualTo("NEW");
+    }
+
+    @Test
+    void overdueIsBeforeTodayAndNotCompleted() {
+        ReportStatistics statistics = ReportStatistics.of(ROWS, TODAY);
+
+        assertThat(statistics.isOverdue(TODAY.minusDays(1), TaskStatus.PENDING)).isTrue();
+        assertThat(statistics.isOverdue(TODAY.minusDays(1), TaskStatus.COMPLETED)).isFalse();
+        assertThat(statistics.isOverdue(TODAY, TaskStatus.PENDING)).isFalse();
+        assertThat(statistics.isOverdue(null, TaskStatus.PENDING)).isFalse();
+    }
+
+    private record Row(LocalDate date, TaskCategory category, TaskType type, TaskStatus status, boolean series,
+                       long taskCount, long overdueCount) implements TaskStatisticsView {
+
+        @Override
+        public LocalDate getDate() {
+            return date;
+        }
+
+        @Override
+        public TaskCategory getCategory() {
+            return category;
+        }
+
+        @Override
+        public TaskType getType() {
+            return type;
+        }
+
+        @Override
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public boolean isSeries() {
+            return series;
+        }
+
+        @Override
+        public long getTaskCount() {
+            return taskCount;
+        }
+
+        @Override
+        public long getOverdueCount() {
+            return overdueCount;
+        }
+    }
+}
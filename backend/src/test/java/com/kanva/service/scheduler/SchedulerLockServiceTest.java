@@ -0,0 +1,179 @@
+package com.kanva.service.scheduler;
+
+import com.kanva.KanvaApplication;
+import com.kanva.config.ClockConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 애플리케이션 컨텍스트(= 두 인스턴스)가 같은 DB의 lease를 두고 경쟁
+ * - 두 컨텍스트가 같은 테스트 시계를 공유하므로 lease 만료는 sleep 없이 시계를 앞으로 돌려 확인
+ * - 스케줄 작업은 등록하지 않음 (lease 확인 외에는 DB를 건드리지 않도록)
+ */
+class SchedulerLockServiceTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:scheduler-lock-test;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+    // JwtTokenProvider가 base64로 디코딩 (256비트 이상)
+    private static final String JWT_SECRET = "c2NoZWR1bGVyLWxvY2stdGVzdC1zZWNyZXQta2V5LW5vdC1mb3ItcHJvZHVjdGlvbi11c2U=";
+
+    private static final MutableClock CLOCK = new MutableClock(Instant.now(), ClockConfig.SEOUL_ZONE);
+
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+
+    @BeforeAll
+    static void startInstances() {
+        first = start("create-drop");
+        second = start("none");
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        if (second != null) {
+            second.close();
+        }
+        if (first != null) {
+            first.close();
+        }
+    }
+
+    @Test
+    void onlyOneInstanceAcquiresConcurrently() throws Exception {
+        SchedulerLockService firstLock = first.getBean(SchedulerLockService.class);
+        SchedulerLockService secondLock = second.getBean(SchedulerLockService.class);
+        CountDownLatch ready = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Boolean> firstResult = executor.submit(() -> {
+                ready.await();
+                return firstLock.tryAcquire("test:CONCURRENT", Duration.ofMinutes(5));
+            });
+            Future<Boolean> secondResult = executor.submit(() -> {
+                ready.await();
+                return secondLock.tryAcquire("test:CONCURRENT", Duration.ofMinutes(5));
+            });
+            ready.countDown();
+
+            assertThat(List.of(firstResult.get(), secondResult.get())).containsExactlyInAnyOrder(true, false);
+        }
+    }
+
+    @Test
+    void leaseIsHeldUntilExpiry() {
+        SchedulerLockService firstLock = first.getBean(SchedulerLockService.class);
+        SchedulerLockService secondLock = second.getBean(SchedulerLockService.class);
+
+        assertThat(firstLock.tryAcquire("test:HELD", Duration.ofMinutes(5))).isTrue();
+        assertThat(secondLock.tryAcquire("test:HELD", Duration.ofMinutes(5))).isFalse();
+        // 해제하지 않으므로 획득한 인스턴스도 다시 실행하지 않음
+        assertThat(firstLock.tryAcquire("test:HELD", Duration.ofMinutes(5))).isFalse();
+    }
+
+    @Test
+    void otherInstanceAcquiresAfterExpiry() {
+        SchedulerLockService firstLock = first.getBean(SchedulerLockService.class);
+        SchedulerLockService secondLock = second.getBean(SchedulerLockService.class);
+
+        assertThat(firstLock.tryAcquire("test:EXPIRY", Duration.ofMinutes(1))).isTrue();
+        assertThat(secondLock.tryAcquire("test:EXPIRY", Duration.ofMinutes(5))).isFalse();
+
+        CLOCK.advance(Duration.ofMinutes(1).plusSeconds(1));
+
+        assertThat(secondLock.tryAcquire("test:EXPIRY", Duration.ofMinutes(5))).isTrue();
+        assertThat(firstLock.tryAcquire("test:EXPIRY", Duration.ofMinutes(5))).isFalse();
+    }
+
+    @Test
+    void heldLeaseIsRenewedUntilHolderStops() {
+        SchedulerLockService firstLock = first.getBean(SchedulerLockService.class);
+        SchedulerLockService secondLock = second.getBean(SchedulerLockService.class);
+
+        assertThat(firstLock.holdLease("test:HOLD", Duration.ofMinutes(3)))
+                .isEqualTo(SchedulerLockService.LeaseStatus.ACQUIRED);
+        CLOCK.advance(Duration.ofMinutes(2));
+        assertThat(firstLock.holdLease("test:HOLD", Duration.ofMinutes(3)))
+                .isEqualTo(SchedulerLockService.LeaseStatus.RENEWED);
+        CLOCK.advance(Duration.ofMinutes(2));
+        // 처음 획득 기준으로는 만료됐지만 연장되어 아직 보유 중
+        assertThat(secondLock.holdLease("test:HOLD", Duration.ofMinutes(3)))
+                .isEqualTo(SchedulerLockService.LeaseStatus.HELD_BY_OTHER);
+
+        // 보유 인스턴스가 연장을 멈추면 다른 인스턴스가 이어받음
+        CLOCK.advance(Duration.ofMinutes(2));
+        assertThat(secondLock.holdLease("test:HOLD", Duration.ofMinutes(3)))
+                .isEqualTo(SchedulerLockService.LeaseStatus.ACQUIRED);
+        assertThat(firstLock.holdLease("test:HOLD", Duration.ofMinutes(3)))
+                .isEqualTo(SchedulerLockService.LeaseStatus.HELD_BY_OTHER);
+    }
+
+    private static ConfigurableApplicationContext start(String ddlAuto) {
+        return new SpringApplicationBuilder(KanvaApplication.class)
+                .web(WebApplicationType.NONE)
+                // ClockConfig의 시스템 시계 대신 공유 테스트 시계 주입
+                .initializers(context -> ((GenericApplicationContext) context).registerBean(
+                        "testClock", Clock.class, () -> CLOCK, definition -> definition.setPrimary(true)))
+                .run("--spring.datasource.url=" + DB_URL,
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--spring.jpa.open-in-view=false",
+                        "--jwt.secret=" + JWT_SECRET,
+                        "--jwt.access-token-expiration=3600000",
+                        "--jwt.refresh-token-expiration=1209600000",
+                        // 정기 작업이 같은 테이블을 두고 경쟁하지 않도록 스케줄러 비활성화
+                        "--scheduling.enabled=false",
+                        "--logging.level.com.kanva=WARN");
+    }
+
+    /**
+     * 테스트에서 직접 앞으로 돌리는 시계
+     */
+    private static final class MutableClock extends Clock {
+
+        private final ZoneId zone;
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
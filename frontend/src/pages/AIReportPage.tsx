@@ -12,6 +12,7 @@ import type {
   ReportFeedback,
   AIReport,
   AIReportDetail,
+  ReportStreamDraft,
 } from '../types/report';
 
 function formatDate(dateStr: string): string {
@@ -58,6 +59,25 @@ function getToday(): string {
   return new Date().toISOString().split('T')[0];
 }
 
+// 리포트 생성은 비동기로 처리되므로 완료될 때까지 상세 조회로 상태 확인
+const REPORT_POLL_INTERVAL_MS = 1000;
+const REPORT_POLL_MAX_ATTEMPTS = 120;
+
+function sleep(ms: number): Promise<void> {
+  return new Promise((resolve) => setTimeout(resolve, ms));
+}
+
+async function waitForReport(reportId: number): Promise<AIReportDetail | null> {
+  for (let attempt = 0; attempt < REPORT_POLL_MAX_ATTEMPTS; attempt++) {
+    await sleep(REPORT_POLL_INTERVAL_MS);
+    const response = await reportApi.getDetail(reportId);
+    if (response.success && response.data.status !== 'GENERATING') {
+      return response.data;
+    }
+  }
+  return null;
+}
+
 export default function AIReportPage() {
   useAuth();
   const [startDate, setStartDate] = useState(getDefaultStartDate);
@@ -67,6 +87,7 @@ export default function AIReportPage() {
   const [currentReport, setCurrentReport] = useState<AIReportDetail | null>(null);
   const [isLoading, setIsLoading] = useState(true);
   const [isGenerating, setIsGenerating] = useState(false);
+  const [streamingDraft, setStreamingDraft] = useState<ReportStreamDraft | null>(null);
   const [historyLoading, setHistoryLoading] = useState(true);
 
   const loadReportHistory = useCallback(async () => {
@@ -107,6 +128,31 @@ export default function AIReportPage() {
     loadReportHistory();
   }, [loadReportHistory]);
 
+  // 생성 중 조각을 받아 초안으로 보여주고, 완료 여부는 상세 조회 polling으로 확정
+  const waitForReportWithStream = async (reportId: number) => {
+    const controller = new AbortController();
+    setStreamingDraft({});
+    reportApi
+      .stream(
+        reportId,
+        (fragment) =>
+          setStreamingDraft((prev) => ({
+            ...prev,
+            [fragment.field]: (prev?.[fragment.field] ?? '') + fragment.text,
+          })),
+        controller.signal
+      )
+      .catch(() => {
+        // 스트림이 끊겨도 polling으로 결과 확인
+      });
+    try {
+      return await waitForReport(reportId);
+    } finally {
+      controller.abort();
+      setStreamingDraft(null);
+    }
+  };
+
   const handleGenerateReport = async () => {
     setIsGenerating(true);
     try {
@@ -117,10 +163,20 @@ export default function AIReportPage() {
         tone: selectedTone,
       });
       if (response.success) {
+        // 같은 입력의 리포트가 있으면 바로 완료 상태로 반환됨, 아니면 생성 완료(또는 실패)까지 대기
+        const report =
+          response.data.status === 'GENERATING'
+            ? await waitForReportWithStream(response.data.id)
+            : (await reportApi.getDetail(response.data.id)).data;
+        if (report?.status === 'FAILED') {
+          console.error('Failed to generate report:', report.errorMessage);
+          return;
+        }
         // 히스토리 다시 로드
         await loadReportHistory();
-        // 새로 생성된 리포트 상세 조회
-        loadReportDetail(response.data.id);
+        if (report) {
+          setCurrentReport(report);
+        }
       }
     } catch (error) {
       console.error('Failed to generate report:', error);
@@ -163,6 +219,39 @@ export default function AIReportPage() {
   };
 
   const renderReportContent = () => {
+    if (streamingDraft) {
+      return (
+        <div className="flex flex-col gap-4">
+          <div className="flex items-center gap-2 pb-3 border-b border-border">
+            <span className="btn-spinner" />
+            <h2 className="text-base font-semibold text-text m-0">리포트 작성 중...</h2>
+          </div>
+          {streamingDraft.summary && (
+            <div className="flex flex-col gap-1.5">
+              <h3 className="text-[13px] font-semibold text-text m-0">요약</h3>
+              <p className="text-[13px] text-text-secondary leading-relaxed m-0">{streamingDraft.summary}</p>
+            </div>
+          )}
+          {streamingDraft.insights && (
+            <div className="flex flex-col gap-1.5">
+              <h3 className="text-[13px] font-semibold text-text m-0">인사이트</h3>
+              <p className="text-[13px] text-text-secondary leading-relaxed m-0 whitespace-pre-line">
+                {streamingDraft.insights}
+              </p>
+            </div>
+          )}
+          {streamingDraft.recommendations && (
+            <div className="flex flex-col gap-1.5">
+              <h3 className="text-[13px] font-semibold text-text m-0">AI 추천</h3>
+              <p className="text-[13px] text-text-secondary leading-relaxed m-0 whitespace-pre-line">
+                {streamingDraft.recommendations}
+              </p>
+            </div>
+          )}
+        </div>
+      );
+    }
+
     if (isLoading) {
       return (
         <div className="flex flex-col items-center justify-center py-16 gap-3 text-text-secondary">
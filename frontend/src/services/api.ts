@@ -18,6 +18,7 @@ import type {
   AIReport,
   AIReportDetail,
   AIReportRequest,
+  ReportStreamFragment,
   ReportFeedbackRequest,
   PageResponse,
 } from '../types/report';
@@ -248,6 +249,53 @@ export const reportApi = {
     return fetchWithAuth(`/reports/${reportId}`);
   },
 
+  // 생성 중인 리포트 조각 수신 (SSE, Authorization 헤더가 필요해 EventSource 대신 fetch 사용)
+  stream: async (
+    reportId: number,
+    onFragment: (fragment: ReportStreamFragment) => void,
+    signal: AbortSignal
+  ): Promise<void> => {
+    const token = getToken();
+    const response = await fetch(`${API_BASE_URL}/reports/${reportId}/stream`, {
+      headers: {
+        Accept: 'text/event-stream',
+        ...(token ? { Authorization: `Bearer ${token}` } : {}),
+      },
+      signal,
+    });
+    if (!response.ok || !response.body) {
+      return;
+    }
+
+    const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = '';
+    for (;;) {
+      const { value, done } = await reader.read();
+      if (done) return;
+      buffer += value;
+
+      // 이벤트는 빈 줄로 구분
+      let boundary = buffer.search(/\r?\n\r?\n/);
+      while (boundary >= 0) {
+        const rawEvent = buffer.slice(0, boundary);
+        buffer = buffer.slice(boundary).replace(/^\r?\n\r?\n/, '');
+
+        let event = 'message';
+        const data: string[] = [];
+        for (const line of rawEvent.split(/\r?\n/)) {
+          if (line.startsWith('event:')) event = line.slice(6).trim();
+          else if (line.startsWith('data:')) data.push(line.slice(5).replace(/^ /, ''));
+        }
+        if (event === 'fragment' && data.length > 0) {
+          onFragment(JSON.parse(data.join('\n')) as ReportStreamFragment);
+        } else if (event === 'done') {
+          return;
+        }
+        boundary = buffer.search(/\r?\n\r?\n/);
+      }
+    }
+  },
+
   getHistory: async (page: number = 0, size: number = 10): Promise<ApiResponse<PageResponse<AIReport>>> => {
     return fetchWithAuth(`/reports?page=${page}&size=${size}`);
   },
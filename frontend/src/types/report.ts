@@ -32,6 +32,16 @@ export interface AIReportRequest {
   tone?: ReportTone;
 }
 
+// 리포트 생성 SSE 이벤트
+export type ReportStreamField = 'summary' | 'insights' | 'recommendations';
+
+export interface ReportStreamFragment {
+  field: ReportStreamField;
+  text: string;
+}
+
+export type ReportStreamDraft = Partial<Record<ReportStreamField, string>>;
+
 export interface ReportFeedbackRequest {
   feedback: ReportFeedback;
 }